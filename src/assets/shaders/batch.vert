@@ -0,0 +1,14 @@
+#version 330 core
+
+layout(location = 0) in vec4 pos;
+layout(location = 1) in vec4 tex;
+layout(location = 2) in vec4 color;
+
+out vec4 vTex;
+out vec4 vColor;
+
+void main(){
+	gl_Position = pos;
+	vTex = tex;
+	vColor = color;
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+#version 330 core
+
+layout(location = 0) in vec4 pos;
+layout(location = 2) in vec4 color;
+layout(location = 3) in mat4 transform;
+
+out vec4 vColor;
+
+void main(){
+	gl_Position = transform * pos;
+	vColor = color;
+}
\ No newline at end of file
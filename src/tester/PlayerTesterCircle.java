@@ -28,6 +28,6 @@ public class PlayerTesterCircle extends PlayerTester implements CircleHitBox{
 	@Override
 	public void render(Game game, Renderer r){
 		r.setColor(1, 0, 0);
-		r.drawCircle(this.centerX(), this.centerY(), this.radius);
+		r.drawCircle(this.getRenderX() + this.radius, this.getRenderY() + this.radius, this.radius);
 	}
 }
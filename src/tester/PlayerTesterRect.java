@@ -20,6 +20,6 @@ public class PlayerTesterRect extends PlayerTester implements RectangleHitBox{
 	@Override
 	public void render(Game game, Renderer r){
 		r.setColor(1, 0, 0);
-		r.drawRectangle(this.getX(), this.getY(), this.getWidth(), this.getHeight());
+		r.drawRectangle(this.getRenderBounds());
 	}
 }
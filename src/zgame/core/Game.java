@@ -2,7 +2,11 @@ package zgame.core;
 
 import static org.lwjgl.opengl.GL30.*;
 
+import com.google.gson.JsonObject;
+
+import zgame.core.file.AutoSaver;
 import zgame.core.file.Saveable;
+import zgame.core.file.ZBinaryFile;
 import zgame.core.file.ZJsonFile;
 import zgame.core.graphics.Destroyable;
 import zgame.core.graphics.Renderer;
@@ -24,9 +28,11 @@ import zgame.core.state.DefaultState;
 import zgame.core.state.GameState;
 import zgame.core.state.PlayState;
 import zgame.core.type.RenderStyle;
+import zgame.core.utils.UuidGenerator;
 import zgame.core.utils.ZConfig;
 import zgame.core.window.GlfwWindow;
 import zgame.core.window.GameWindow;
+import zgame.core.window.HeadlessWindow;
 import zgame.settings.*;
 import zgame.stat.DefaultStatType;
 import zgame.world.Room;
@@ -35,6 +41,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * The central class used to create a game. Create an extension of this class to begin making a game
@@ -97,6 +104,16 @@ public class Game implements Saveable, Destroyable{
 	private double gameSpeed;
 	/** The approximate total amount of time, in seconds, which the game has been ticked */
 	private double totalTickTime;
+	/** The {@link AutoSaver} which saves this {@link Game} in the background at the end of a tick. Saves nothing until given a path */
+	private final AutoSaver autoSaver;
+	
+	/**
+	 * true if this {@link Game} has no window, OpenGL context, or sound, and only simulates ticks, false otherwise. A headless game uses a {@link HeadlessWindow},
+	 * never renders, and runs its ticks on the thread which calls {@link #start()}, or as fast as possible with {@link #simulate(int)}
+	 */
+	private final boolean headless;
+	/** true if {@link #destroy()} has been called, false otherwise */
+	private boolean destroyed;
 	
 	/** The {@link GameLooper} which regularly updates the sound */
 	private final GameLooper soundLooper;
@@ -205,11 +222,36 @@ public class Game implements Saveable, Destroyable{
 	 * @param printTps true to, every second, print the number of ticks that occurred in that last second, false otherwise
 	 */
 	public Game(String title, int winWidth, int winHeight, int screenWidth, int screenHeight, int maxFps, boolean useVsync, boolean enterFullScreen, boolean stretchToFill, boolean printFps, int tps, boolean printTps){
+		this(title, winWidth, winHeight, screenWidth, screenHeight, maxFps, useVsync, enterFullScreen, stretchToFill, printFps, tps, printTps, false);
+	}
+	
+	/**
+	 * Create a {@link Game} with the given parameters. Unless the game is headless, this also handles all of the setup for LWJGL, including OpenGL and OpenAL
+	 *
+	 * @param title The title of the game to be displayed on the window
+	 * @param winWidth See The current width of the window in pixels, this does not include decorators such as the minimize button
+	 * @param winHeight The current height of the window in pixels, this does not include decorators such as the minimize button
+	 * @param screenWidth The width, in pixels, of the internal buffer to draw to
+	 * @param screenHeight The height, in pixels, of the internal buffer to draw to
+	 * @param maxFps The maximum frames per second the game can draw, use 0 for unlimited FPS, does nothing if useVsync is true
+	 * @param useVsync true to lock the framerate to the display refresh rate, false otherwise
+	 * @param enterFullScreen True to immediately enter fullscreen
+	 * @param stretchToFill true if, when drawing the final Renderer image to the screen, the image should stretch to fill up the entire screen, false to draw the image in
+	 * 		the center of the screen leave black bars in areas that the image doesn't fill up
+	 * @param printFps true to, every second, print the number of frames rendered in that last second, false otherwise
+	 * @param tps The number of ticks per second
+	 * @param printTps true to, every second, print the number of ticks that occurred in that last second, false otherwise
+	 * @param headless See {@link #headless}. If true, only title, screenWidth, screenHeight, tps, and printTps are used
+	 */
+	public Game(String title, int winWidth, int winHeight, int screenWidth, int screenHeight, int maxFps, boolean useVsync, boolean enterFullScreen, boolean stretchToFill, boolean printFps, int tps, boolean printTps, boolean headless){
+		this.headless = headless;
+		this.destroyed = false;
 		this.nextLoopFuncs = new ArrayList<>();
 		
 		// Init misc values
 		this.gameSpeed = 1;
 		this.totalTickTime = 0;
+		this.autoSaver = new AutoSaver(this::saveData, 0);
 		
 		this.focusedRender = false;
 		this.focusedUpdate = false;
@@ -240,7 +282,8 @@ public class Game implements Saveable, Destroyable{
 		this.setInitSoundOnStart(true);
 		
 		// Init window
-		this.window = new GlfwWindow(title, winWidth, winHeight, screenWidth, screenHeight, maxFps, useVsync, stretchToFill, printFps, tps, printTps);
+		if(headless) this.window = new HeadlessWindow(title, screenWidth, screenHeight);
+		else this.window = new GlfwWindow(title, winWidth, winHeight, screenWidth, screenHeight, maxFps, useVsync, stretchToFill, printFps, tps, printTps);
 		this.window.setGame(this);
 		this.focusedMenuThing = null;
 		
@@ -248,9 +291,9 @@ public class Game implements Saveable, Destroyable{
 		this.images = new ImageManager();
 		
 		// Init fonts and set the default font
-		this.fonts = new FontManager();
+		this.fonts = new FontManager(headless);
 		this.fonts.add("zfont");
-		this.getWindow().getRenderer().setFont(this.getFont("zfont"));
+		if(!headless) this.getWindow().getRenderer().setFont(this.getFont("zfont"));
 		
 		// Init camera
 		this.camera = new GameCamera();
@@ -267,15 +310,16 @@ public class Game implements Saveable, Destroyable{
 		// Create the main loop
 		this.renderLooper = new GameLooper(maxFps, this::loopFunction, this::shouldRender, this::keepRenderLoopFunction, this::renderLoopWaitFunction, "FPS", printFps);
 		
-		// Create the tick loop
+		// Create the tick loop, using fixed steps so that ticks catch up when they fall behind
 		this.tickLooper = new GameLooper(tps, this::tickLoopFunction, this::shouldTick, this::keepTickLoopFunction, this::tickLoopWaitFunction, "TPS", printTps);
+		this.tickLooper.setFixedStep(true);
 		
 		// Create the sound loop
 		this.soundLooper = new GameLooper(DEFAULT_SOUND_UPDATES, this::updateSounds, this::shouldUpdateSound, this::keepSoundLoopFunction, this::soundLoopWaitFunction,
 				"Audio", false);
 		
 		// Go to fullscreen if applicable
-		this.window.setInFullScreenNow(enterFullScreen);
+		if(!headless) this.window.setInFullScreenNow(enterFullScreen);
 		
 		// Init the type
 		this.make2D();
@@ -287,6 +331,13 @@ public class Game implements Saveable, Destroyable{
 	 * thread, a second thread will run, which runs the game tick loop, and a third thread will run which updates the sounds
 	 */
 	public void start(){
+		// Without a window, there is nothing to render or play, so only run the tick loop, on this thread
+		if(this.isHeadless()){
+			this.tickLooper.loop();
+			this.end();
+			return;
+		}
+		
 		// Run the tick loop on its own thread first
 		this.tickTask = new TickLoopTask();
 		this.tickThread = new Thread(this.tickTask);
@@ -301,8 +352,9 @@ public class Game implements Saveable, Destroyable{
 		this.end();
 	}
 	
-	/** Call all necessary methods for initializing sound processes */
+	/** Call all necessary methods for initializing sound processes. Does nothing if the game is {@link #headless} */
 	public void initSound(){
+		if(this.isHeadless()) return;
 		if(this.sounds != null) {
 			this.sounds.scanDevices();
 			return;
@@ -338,10 +390,16 @@ public class Game implements Saveable, Destroyable{
 	
 	@Override
 	public void destroy(){
+		if(this.destroyed) return;
+		this.destroyed = true;
+		
 		// End the loopers
 		this.renderLooper.end();
 		this.tickLooper.end();
 		
+		// Write any autosave which is waiting
+		this.autoSaver.destroy();
+		
 		// Free memory / destroy callbacks
 		this.getWindow().destroy();
 		
@@ -420,10 +478,7 @@ public class Game implements Saveable, Destroyable{
 			this.updateCurrentState();
 			
 			// Run any functions that need to be run on the next OpenGL loop
-			if(!this.nextLoopFuncs.isEmpty()){
-				for(var f : this.nextLoopFuncs) f.run();
-				this.nextLoopFuncs.clear();
-			}
+			this.runNextLoopFuncs();
 			
 			// Update the window
 			boolean focused = this.getWindow().isFocused();
@@ -532,11 +587,25 @@ public class Game implements Saveable, Destroyable{
 		return !this.getWindow().usesVsync();
 	}
 	
+	/** Run, and then remove, every function given to {@link #onNextLoop(Runnable)} */
+	private void runNextLoopFuncs(){
+		if(this.nextLoopFuncs.isEmpty()) return;
+		for(var f : this.nextLoopFuncs) f.run();
+		this.nextLoopFuncs.clear();
+	}
+	
 	/**
 	 * The function run by the tick GameLooper as its main loop
 	 */
 	private void tickLoopFunction(){
 		try{
+			// Without a render loop, the state and next loop functions are updated before each tick
+			if(this.isHeadless()){
+				this.simulationStep(this.getTickLooper().getRateTime() * this.getGameSpeed());
+				return;
+			}
+			// Input is taken even while paused, so that it does not pile up
+			this.pollInput();
 			boolean focused = this.getWindow().isFocused();
 			boolean minimized = this.getWindow().isMinimized();
 			// If the game should pause when unfocused or minimized, then do nothing
@@ -548,6 +617,12 @@ public class Game implements Saveable, Destroyable{
 		}
 	}
 	
+	/** Apply every key and mouse button action which happened since the last tick. Called once at the start of each tick, on the thread which runs ticks */
+	private void pollInput(){
+		this.getKeyInput().poll();
+		this.getMouseInput().poll();
+	}
+	
 	/**
 	 * Called each time a tick occurs. A tick is a game update, i.e. some amount of time passing
 	 *
@@ -556,10 +631,43 @@ public class Game implements Saveable, Destroyable{
 	protected void tick(double dt){
 		this.totalTickTime += dt;
 		this.getCurrentState().tick(this, dt);
+		// Everything has moved for this tick, so sounds can follow
+		var sounds = this.getSounds();
+		if(sounds != null) sounds.gatherAttachedSources();
+		// Nothing else changes the game during this tick, so it can be captured for an autosave
+		this.autoSaver.tick(dt);
+	}
+	
+	/**
+	 * Advance a {@link #headless} game by the given number of ticks as fast as possible on the current thread, each tick as long as one tick of the tick loop.
+	 * Used to run batches of simulation. Must not be called while the tick loop is running
+	 *
+	 * @param ticks The number of ticks
+	 */
+	public void simulate(int ticks){
+		if(!this.isHeadless()){
+			ZConfig.error("Cannot simulate ticks of a game with a window, the tick loop runs them");
+			return;
+		}
+		double dt = this.getTickLooper().getRateTime() * this.getGameSpeed();
+		for(int i = 0; i < ticks; i++) this.simulationStep(dt);
+	}
+	
+	/**
+	 * Perform one tick of a {@link #headless} game, including what the render loop would otherwise do, i.e. updating the current state
+	 *
+	 * @param dt The amount of time, in seconds, which passes in this tick
+	 */
+	private void simulationStep(double dt){
+		this.updateCurrentState();
+		this.runNextLoopFuncs();
+		this.pollInput();
+		this.tick(dt);
 	}
 	
 	/**
-	 * The function used to determine if the tick loop should update each loop iteration regardless of time
+	 * The function used to determine if the tick loop should update each loop iteration regardless of time.
+	 * Not used while the tick loop is in fixed step mode, see {@link GameLooper#isFixedStep()}
 	 *
 	 * @return Usually false, unless this method is overwritten with different behavior
 	 */
@@ -697,13 +805,16 @@ public class Game implements Saveable, Destroyable{
 	}
 	
 	/**
-	 * Load the necessary contents of this {@link Game} from a json file at the given path
+	 * Load the necessary contents of this {@link Game} from a json file, or a binary file made by {@link ZBinaryFile}, at the given path
 	 *
 	 * @param path The path to load from, including file extension
 	 * @return true if the load was successful, false otherwise
 	 */
 	public boolean loadGame(String path){
-		return ZJsonFile.loadJsonFile(path, data -> {
+		Function<JsonObject, Boolean> load = data -> {
+			// Uuids saved in this file have nothing to do with uuids loaded from any file before
+			UuidGenerator.clearLoaded();
+			
 			// First load the global settings
 			this.loadGlobalSettings();
 			
@@ -717,25 +828,40 @@ public class Game implements Saveable, Destroyable{
 			success &= this.load(data);
 			if(success) this.saveLoaded = true;
 			return success;
-		});
+		};
+		if(ZBinaryFile.isBinary(path)) return ZBinaryFile.loadBinaryFile(path, load);
+		return ZJsonFile.loadJsonFile(path, load);
 	}
 	
 	/**
-	 * Save the necessary contents of this {@link Game} to a json file at the given path
+	 * Save the necessary contents of this {@link Game} to a file at the given path. The file is binary if the path ends with {@link ZBinaryFile#EXTENSION},
+	 * or json otherwise. Binary files are compressed if {@link BooleanTypeSetting#COMPRESS_SAVES} is enabled.
+	 * The file is written by {@link #autoSaver} after any autosave still waiting to be written, and this method waits for it to finish
 	 *
 	 * @param path The path to save to, including file extension
 	 * @return true if the save was successful, false otherwise
 	 */
 	public boolean saveGame(String path){
-		return ZJsonFile.saveJsonFile(path, data -> {
-			var success = this.localSettings.save(data);
-			success &= this.save(data);
-			return success;
-		});
+		return this.autoSaver.save(path, this.get(BooleanTypeSetting.COMPRESS_SAVES));
+	}
+	
+	/**
+	 * Save the necessary contents of this {@link Game} to the given object, used by {@link #saveGame(String)} and {@link #autoSaver}
+	 *
+	 * @param data The object to save to
+	 * @return true if the save was successful, false otherwise
+	 */
+	private boolean saveData(JsonObject data){
+		var success = this.localSettings.save(data);
+		success &= this.save(data);
+		return success;
 	}
 	
 	/** Call this method to unload the current save file */
 	public void unloadGame(){
+		// Capture any requested autosave while the game being unloaded still exists
+		this.autoSaver.flush();
+		this.autoSaver.setPath(null);
 		this.settings.setDefaults();
 		this.settings.setNonDefault(this.globalSettings, true);
 		this.saveLoaded = false;
@@ -782,8 +908,9 @@ public class Game implements Saveable, Destroyable{
 		return ZJsonFile.saveJsonFile(this.getGlobalSettingsFilePath(), this.globalSettings::save);
 	}
 	
-	/** @return See {@link #sounds} */
+	/** @return See {@link #sounds}, or null if the game is {@link #headless} */
 	public SoundManager getSounds(){
+		if(this.isHeadless()) return null;
 		// Ensure sounds are initialized if they don't exist yet
 		if(this.sounds == null) this.initSound();
 		return this.sounds;
@@ -806,7 +933,8 @@ public class Game implements Saveable, Destroyable{
 	 * @param name The name of the sound to play
 	 */
 	public void playEffect(SoundSource source, String name){
-		this.getSounds().playEffect(source, name);
+		var sounds = this.getSounds();
+		if(sounds != null) sounds.playEffect(source, name);
 	}
 	
 	/**
@@ -815,7 +943,8 @@ public class Game implements Saveable, Destroyable{
 	 * @param name The name of the music to play
 	 */
 	public void playMusic(String name){
-		this.getSounds().playMusic(name);
+		var sounds = this.getSounds();
+		if(sounds != null) sounds.playMusic(name);
 	}
 	
 	/** @return See {@link #images} */
@@ -910,6 +1039,14 @@ public class Game implements Saveable, Destroyable{
 		return this.tickLooper;
 	}
 	
+	/**
+	 * @return How far the current time is between the last tick and the next tick, in the range [0, 1). Can be used while rendering to interpolate between the states of
+	 * 		the last two ticks. See {@link GameLooper#getInterpolation()}
+	 */
+	public double getTickInterpolation(){
+		return this.tickLooper.getInterpolation();
+	}
+	
 	/** @return true if the fps should be printed once each second, false otherwise */
 	public boolean isPrintFps(){
 		return this.getRenderLooper().willPrintRate();
@@ -946,6 +1083,16 @@ public class Game implements Saveable, Destroyable{
 		return this.totalTickTime;
 	}
 	
+	/** @return See {@link #autoSaver} */
+	public AutoSaver getAutoSaver(){
+		return this.autoSaver;
+	}
+	
+	/** @return See {@link #headless} */
+	public boolean isHeadless(){
+		return this.headless;
+	}
+	
 	/** @return true if the tps should be printed once each second, false otherwise */
 	public boolean isPrintTps(){
 		return this.tickLooper.willPrintRate();
@@ -1312,7 +1459,7 @@ public class Game implements Saveable, Destroyable{
 	/** @param renderStyle See {@link #renderStyle} */
 	public void setRenderStyle(RenderStyle renderStyle){
 		this.renderStyle = renderStyle;
-		this.renderStyle.setupCore(this, this.getWindow().getRenderer());
+		if(!this.isHeadless()) this.renderStyle.setupCore(this, this.getWindow().getRenderer());
 	}
 	
 	/** Assign this game as a 2D game */
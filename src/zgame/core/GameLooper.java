@@ -1,19 +1,31 @@
 package zgame.core;
 
-import zgame.core.utils.ZConfig;
 import zgame.core.utils.ZLambda;
 import zgame.core.utils.ZStringUtils;
 import zgame.core.utils.ZLambda.EmptyFunc;
 import zgame.core.utils.ZLambda.BooleanFunc;
 
+import java.util.concurrent.locks.LockSupport;
+
 /**
- * A class that handles running a loop at a consistent interval, primarily the main OpenGL loop and the tick loop for updating the game
+ * A class that handles running a loop at a consistent interval, primarily the main OpenGL loop and the tick loop for updating the game.
+ * By default, the loop runs its function whenever enough time has passed since the last call. In fixed step mode, see {@link #fixedStep}, the loop instead keeps track of
+ * all the time which has passed, and runs its function once for each full step of time, catching up when it falls behind
  */
 public class GameLooper{
 	
 	/** The number of nanoseconds in a second */
 	public static final long NANO_SECOND = (long)1E9;
 	
+	/** The default value for {@link #maxStepsPerLoop} */
+	public static final int DEFAULT_MAX_STEPS_PER_LOOP = 5;
+	
+	/**
+	 * When waiting between loops, the number of nanoseconds before the next loop where the looper stops parking the thread and instead spins until it is time to run,
+	 * as parking can wake up late
+	 */
+	private static final long SPIN_NANOS = 200_000;
+	
 	/** The number of times per second which this loop will activate. Use zero to run as many times per second as possible */
 	private int rate;
 	/** The amount of time, in seconds, which each loop iteration is expected to take */
@@ -22,6 +34,8 @@ public class GameLooper{
 	private long rateTimeNano;
 	/** The timestamp, in nanoseconds, of the last time the loop activated */
 	private long lastFunCall;
+	/** The timestamp, in nanoseconds, of the last time the rate of this loop was calculated */
+	private long lastRateTime;
 	/** The number of function calls in the last second */
 	private int lastFuncCalls;
 	
@@ -60,6 +74,31 @@ public class GameLooper{
 	 */
 	private BooleanFunc waitBetweenLoopsFunc;
 	
+	/**
+	 * true to run in fixed step mode, false otherwise. In fixed step mode, the time which passes is added up, and {@link #runFunc} is run once for every {@link #rateTime}
+	 * which has passed, up to {@link #maxStepsPerLoop} times per loop iteration. {@link #shouldRunFunc} is not used in fixed step mode.
+	 * Does nothing if {@link #rate} is 0. Changes only take effect the next time {@link #loop()} is called
+	 */
+	private boolean fixedStep;
+	
+	/**
+	 * In fixed step mode, the maximum number of times {@link #runFunc} can run in one loop iteration to catch up. If the loop is still behind after this many steps,
+	 * the time it is behind by is dropped, rather than trying to catch up on it, which would only cause it to fall further behind
+	 */
+	private int maxStepsPerLoop;
+	
+	/** In fixed step mode, the number of nanoseconds which have passed that have not yet been used by a step */
+	private long accumulator;
+	
+	/**
+	 * In fixed step mode, how far into the next step the time currently is, in the range [0, 1), i.e. {@link #accumulator} as a fraction of {@link #rateTimeNano}.
+	 * Updated after each loop iteration, and can be used by other threads to interpolate between the last two steps
+	 */
+	private volatile double interpolation;
+	
+	/** In fixed step mode, the total number of steps which were skipped because the loop fell too far behind */
+	private long droppedSteps;
+	
 	/** true if this looper should end on the next iteration */
 	private boolean forceEnd;
 	
@@ -92,6 +131,12 @@ public class GameLooper{
 		this.nsPerLoop = 0;
 		this.setPrintNsPerLoop(true);
 		
+		this.fixedStep = false;
+		this.setMaxStepsPerLoop(DEFAULT_MAX_STEPS_PER_LOOP);
+		this.accumulator = 0;
+		this.interpolation = 0;
+		this.droppedSteps = 0;
+		
 		this.forceEnd = false;
 		this.running = false;
 	}
@@ -110,55 +155,114 @@ public class GameLooper{
 	
 	/** Begin the loop */
 	public void loop(){
+		this.running = true;
+		if(this.isFixedStep() && this.getRate() != 0) this.loopFixedStep();
+		else this.loopVariableStep();
+		this.running = false;
+	}
+	
+	/** Run the loop, calling {@link #runFunc} whenever enough time has passed since the last call */
+	private void loopVariableStep(){
 		this.lastFunCall = System.nanoTime();
+		this.lastRateTime = this.lastFunCall;
 		long thisTime;
-		long lastTime = System.nanoTime();
 		
-		// Keep track of the amount of time the last loop took to run
-		long timeTaken = 0;
-		
-		this.running = true;
 		while(this.getKeepRunningFunc().check() && !this.forceEnd){
 			// If the rate is zero, or if the loop should run regardless, or enough time has passed since the last loop, run the loop again
 			thisTime = System.nanoTime();
 			if(this.getRate() == 0 || this.getShouldRunFunc().check() || thisTime - this.lastFunCall >= this.getRateTime() * NANO_SECOND){
 				this.getRunFunc().run();
 				this.funcCalls++;
-				timeTaken = thisTime - this.lastFunCall;
 				this.lastFunCall = System.nanoTime();
 				
 				// Keep track of the amount of time spent in the function calls
 				this.timeProcessing += this.lastFunCall - thisTime;
 			}
-			// Print the rate once a second
-			if(thisTime - lastTime >= NANO_SECOND){
-				this.nsPerLoop = this.timeProcessing / this.funcCalls;
-				if(this.willPrintRate()){
-					if(this.isPrintNsPerLoop()){
-						ZStringUtils.print(ZStringUtils.pad(ZStringUtils.concat(this.getName(), ": ", this.getFuncCalls()), 10), " |\t",
-								ZStringUtils.pad(ZStringUtils.concat("ns/loop", ": ", this.getNsPerLoop()), 30), "\t",
-								ZStringUtils.pad(ZStringUtils.concat("ns total", ": ", this.timeProcessing), 30), " |\t",
-								ZStringUtils.pad(ZStringUtils.concat("ms/loop", ": ", this.getMsPerLoop()), 10), "\t",
-								ZStringUtils.pad(ZStringUtils.concat("ms total", ": ", (long)(this.timeProcessing * 1E-6)), 10));
-					}
-					else ZStringUtils.print(this.getName(), ": ", this.getFuncCalls());
-					this.timeProcessing = 0;
-				}
-				this.lastFuncCalls = this.funcCalls;
-				this.funcCalls = 0;
-				lastTime = System.nanoTime();
-			}
+			this.updateRate(thisTime);
+			
 			// Wait between loops to avoid wasting resources
-			if(rate != 0 && this.getWaitBetweenLoopsFunc().check()){
-				try{
-					Thread.sleep(Math.max(0, (long)((this.getRateTimeNano() - timeTaken) / 1E5)));
-				}catch(Exception e){
-					ZConfig.error(e, "Error in waiting for a thread in GameLooper.loop");
-				}
+			if(rate != 0 && this.getWaitBetweenLoopsFunc().check()) this.waitUntil(this.lastFunCall + this.rateTimeNano);
+		}
+	}
+	
+	/** Run the loop in fixed step mode, see {@link #fixedStep} */
+	private void loopFixedStep(){
+		long previousTime = System.nanoTime();
+		this.lastFunCall = previousTime;
+		this.lastRateTime = previousTime;
+		this.accumulator = 0;
+		this.interpolation = 0;
+		
+		while(this.getKeepRunningFunc().check() && !this.forceEnd){
+			long thisTime = System.nanoTime();
+			this.accumulator += thisTime - previousTime;
+			previousTime = thisTime;
+			
+			// Run one step for each full step of time which has passed, up to the budget for one loop
+			long step = this.rateTimeNano;
+			int steps = 0;
+			while(this.accumulator >= step && steps < this.maxStepsPerLoop){
+				long startTime = System.nanoTime();
+				this.getRunFunc().run();
+				this.funcCalls++;
+				this.lastFunCall = System.nanoTime();
+				this.timeProcessing += this.lastFunCall - startTime;
+				this.accumulator -= step;
+				steps++;
 			}
+			
+			// If the loop could not catch up within the budget, drop the whole steps it is behind by, keeping only the partial step
+			if(this.accumulator >= step){
+				long dropped = this.accumulator / step;
+				this.droppedSteps += dropped;
+				this.accumulator -= dropped * step;
+			}
+			this.interpolation = (double)this.accumulator / step;
+			this.updateRate(thisTime);
+			
+			// Wait until the next step is due
+			if(this.getWaitBetweenLoopsFunc().check()) this.waitUntil(previousTime + step - this.accumulator);
 		}
-		this.running = false;
+	}
+	
+	/**
+	 * Update the calculated rate of this loop if a second has passed since the last update, and print it if applicable
+	 *
+	 * @param thisTime The current time in nanoseconds
+	 */
+	private void updateRate(long thisTime){
+		if(thisTime - this.lastRateTime < NANO_SECOND) return;
 		
+		this.nsPerLoop = this.funcCalls == 0 ? 0 : this.timeProcessing / this.funcCalls;
+		if(this.willPrintRate()){
+			if(this.isPrintNsPerLoop()){
+				ZStringUtils.print(ZStringUtils.pad(ZStringUtils.concat(this.getName(), ": ", this.getFuncCalls()), 10), " |\t",
+						ZStringUtils.pad(ZStringUtils.concat("ns/loop", ": ", this.getNsPerLoop()), 30), "\t",
+						ZStringUtils.pad(ZStringUtils.concat("ns total", ": ", this.timeProcessing), 30), " |\t",
+						ZStringUtils.pad(ZStringUtils.concat("ms/loop", ": ", this.getMsPerLoop()), 10), "\t",
+						ZStringUtils.pad(ZStringUtils.concat("ms total", ": ", (long)(this.timeProcessing * 1E-6)), 10));
+			}
+			else ZStringUtils.print(this.getName(), ": ", this.getFuncCalls());
+		}
+		this.timeProcessing = 0;
+		this.lastFuncCalls = this.funcCalls;
+		this.funcCalls = 0;
+		this.lastRateTime = System.nanoTime();
+	}
+	
+	/**
+	 * Wait on the current thread until the given time. Parks the thread for most of the time, then spins for the last moment to be more precise.
+	 * Stops waiting early if this looper is ended or the thread is interrupted
+	 *
+	 * @param time The time to wait until, in nanoseconds, relative to {@link System#nanoTime()}
+	 */
+	private void waitUntil(long time){
+		while(!this.forceEnd && !Thread.currentThread().isInterrupted()){
+			long remaining = time - System.nanoTime();
+			if(remaining <= 0) return;
+			if(remaining > SPIN_NANOS) LockSupport.parkNanos(remaining - SPIN_NANOS);
+			else Thread.onSpinWait();
+		}
 	}
 	
 	/** Force this loop to stop */
@@ -218,6 +322,36 @@ public class GameLooper{
 		return (long)(this.getNsPerLoop() * 1E-6);
 	}
 	
+	/** @return See {@link #fixedStep} */
+	public boolean isFixedStep(){
+		return this.fixedStep;
+	}
+	
+	/** @param fixedStep See {@link #fixedStep} */
+	public void setFixedStep(boolean fixedStep){
+		this.fixedStep = fixedStep;
+	}
+	
+	/** @return See {@link #maxStepsPerLoop} */
+	public int getMaxStepsPerLoop(){
+		return this.maxStepsPerLoop;
+	}
+	
+	/** @param maxStepsPerLoop See {@link #maxStepsPerLoop}. Must be at least 1 */
+	public void setMaxStepsPerLoop(int maxStepsPerLoop){
+		this.maxStepsPerLoop = Math.max(1, maxStepsPerLoop);
+	}
+	
+	/** @return See {@link #interpolation} */
+	public double getInterpolation(){
+		return this.interpolation;
+	}
+	
+	/** @return See {@link #droppedSteps} */
+	public long getDroppedSteps(){
+		return this.droppedSteps;
+	}
+	
 	/** @return See {@link #printNsPerLoop} */
 	public boolean isPrintNsPerLoop(){
 		return this.printNsPerLoop;
@@ -0,0 +1,375 @@
+package zgame.core.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import com.google.gson.JsonObject;
+
+import zgame.core.graphics.Destroyable;
+import zgame.core.utils.ZConfig;
+
+/**
+ * Saves a game in the background without stopping the game. At a tick boundary, {@link #tick(double)} captures a snapshot of the game by saving it to a new
+ * {@link JsonObject}, which holds no references to the objects of the game. A separate thread then writes the snapshot to a temporary file and moves it over the save
+ * file, so a save file is never left partly written. Snapshots equal to the last written snapshot are not written again. If snapshots are captured faster than they can
+ * be written, only the newest waiting snapshot is written. Saves asked for directly with {@link #save(String, boolean)} use the same thread, so they are written after every
+ * snapshot captured before them, and an older snapshot can never replace them.
+ * Capturing still saves the whole game to json on the thread which ticks, so the tick is paused for as long as that takes, only converting and writing the file is moved off
+ * of the tick.
+ * Files are binary if the path ends with {@link ZBinaryFile#EXTENSION}, or json otherwise
+ */
+public class AutoSaver implements Destroyable{
+	
+	/** The extension added to the path of a save file while it is being written */
+	public static final String TEMP_EXTENSION = ".tmp";
+	
+	/** A snapshot waiting to be written */
+	private record Snapshot(String path, JsonObject data, boolean compressed){}
+	
+	/** The function which saves the game to a new object. Only called on the thread which calls {@link #tick(double)} */
+	private final Function<JsonObject, Boolean> save;
+	
+	/** The thread which writes snapshots */
+	private final ExecutorService writer;
+	
+	/** The newest snapshot which has been captured but not yet written, or null if there is none */
+	private final AtomicReference<Snapshot> pending;
+	
+	/** true if a snapshot should be captured on the next tick, regardless of {@link #interval} */
+	private final AtomicBoolean requested;
+	
+	/** The path of the file to save to, or null to not save */
+	private volatile String path;
+	
+	/** The number of seconds of game time between each automatic save, or 0 to only save when requested */
+	private volatile double interval;
+	/** The number of seconds of game time since the last save */
+	private double sinceSave;
+	
+	/** The last snapshot written, and the path it was written to. Only used by {@link #writer}, or after it has stopped */
+	private Snapshot lastWritten;
+	
+	/** true if the game should be saved as a compressed file, when saving to a binary file */
+	private volatile boolean compressed;
+	
+	/** The number of snapshots written to a file */
+	private volatile long saves;
+	/** The number of snapshots not written because nothing changed since the last written snapshot */
+	private volatile long skipped;
+	/** The number of snapshots which failed to be written, or which failed to be captured */
+	private final AtomicLong failed;
+	/** The number of nanoseconds the game was stopped to capture the last snapshot */
+	private volatile long lastCaptureNanos;
+	/** The number of nanoseconds the last written snapshot took to write */
+	private volatile long lastWriteNanos;
+	/** The number of bytes in the last written file */
+	private volatile long lastBytes;
+	
+	/**
+	 * Create a new {@link AutoSaver} which saves nothing until {@link #path} is set
+	 *
+	 * @param save See {@link #save}
+	 * @param interval See {@link #interval}
+	 */
+	public AutoSaver(Function<JsonObject, Boolean> save, double interval){
+		this.save = save;
+		this.interval = interval;
+		this.sinceSave = 0;
+		this.path = null;
+		this.compressed = false;
+		this.pending = new AtomicReference<>();
+		this.requested = new AtomicBoolean(false);
+		this.lastWritten = null;
+		this.failed = new AtomicLong();
+		this.writer = Executors.newSingleThreadExecutor(r -> {
+			var t = new Thread(r, "AutoSave");
+			t.setDaemon(true);
+			t.setPriority(Thread.MIN_PRIORITY);
+			return t;
+		});
+	}
+	
+	/**
+	 * Called at the end of each game tick. Captures a snapshot if one was requested, or if {@link #interval} has passed
+	 *
+	 * @param dt The amount of time, in seconds, which passed in this tick
+	 */
+	public void tick(double dt){
+		if(this.path == null) return;
+		this.sinceSave += dt;
+		double interval = this.interval;
+		boolean timed = interval > 0 && this.sinceSave >= interval;
+		if(!this.requested.getAndSet(false) && !timed) return;
+		this.capture();
+	}
+	
+	/** Capture a snapshot on the next tick, then write it in the background. Can be called from any thread */
+	public void request(){
+		this.requested.set(true);
+	}
+	
+	/**
+	 * If a snapshot was requested, capture it now instead of on the next tick, then write it in the background. Call before changing {@link #path} or the game being saved,
+	 * so that a requested snapshot is not lost. Same thread conditions as {@link #capture()}
+	 *
+	 * @return true if a snapshot was captured, false if none was requested, or it failed to be captured
+	 */
+	public boolean flush(){
+		if(!this.requested.getAndSet(false)) return false;
+		return this.capture();
+	}
+	
+	/**
+	 * Immediately capture a snapshot on the current thread, then write it in the background. Must only be called when the game is not being ticked on a different thread
+	 *
+	 * @return true if the snapshot was captured, false otherwise
+	 */
+	public boolean capture(){
+		var path = this.path;
+		if(path == null) return false;
+		var data = this.captureData(path);
+		if(data == null) return false;
+		
+		// Only submit a new write if no write is waiting, otherwise the waiting write will write this newer snapshot
+		if(this.pending.getAndSet(new Snapshot(path, data, this.compressed)) == null) this.writer.execute(this::writePending);
+		return true;
+	}
+	
+	/**
+	 * Immediately capture a snapshot on the current thread, write it after every snapshot captured before it, and wait for it to be written. Used for saves asked for by
+	 * the player, so that an autosave which is still waiting to be written cannot replace it. Same thread conditions as {@link #capture()}
+	 *
+	 * @param path The path of the file to save to
+	 * @param compressed true to compress the file if it is binary, false otherwise
+	 * @return true if the snapshot was captured and written, false otherwise
+	 */
+	public boolean save(String path, boolean compressed){
+		if(path == null) return false;
+		var data = this.captureData(path);
+		if(data == null) return false;
+		
+		var snapshot = new Snapshot(path, data, compressed);
+		try{
+			return this.writer.submit(() -> this.writeSnapshot(snapshot, true)).get();
+		}catch(RejectedExecutionException e){
+			// The writing thread is stopped, so nothing else can be writing
+			return this.writeSnapshot(snapshot, true);
+		}catch(InterruptedException | ExecutionException e){
+			ZConfig.error(e, "Failed to wait for a save to be written to ", path);
+			return false;
+		}
+	}
+	
+	/**
+	 * Save the game to a new object on the current thread
+	 *
+	 * @param path The path the data will be saved to, only used for errors
+	 * @return The saved data, or null if saving failed
+	 */
+	private JsonObject captureData(String path){
+		this.sinceSave = 0;
+		
+		long start = System.nanoTime();
+		var data = new JsonObject();
+		boolean success;
+		try{
+			success = this.save.apply(data);
+		}catch(Exception e){
+			ZConfig.error(e, "Failed to capture a save for ", path);
+			success = false;
+		}
+		this.lastCaptureNanos = System.nanoTime() - start;
+		if(!success){
+			this.failed.incrementAndGet();
+			return null;
+		}
+		return data;
+	}
+	
+	/** Write the newest snapshot which is waiting to be written. Only called by {@link #writer} */
+	private void writePending(){
+		var snapshot = this.pending.getAndSet(null);
+		if(snapshot == null) return;
+		this.writeSnapshot(snapshot, false);
+	}
+	
+	/**
+	 * Write a snapshot to its file. Only called by {@link #writer}, or after it has stopped
+	 *
+	 * @param snapshot The snapshot
+	 * @param force true to write the snapshot even if it is the same as the last written snapshot, false to skip it
+	 * @return true if the snapshot was written or skipped, false if it failed to be written
+	 */
+	private boolean writeSnapshot(Snapshot snapshot, boolean force){
+		if(!force && snapshot.equals(this.lastWritten)){
+			this.skipped++;
+			return true;
+		}
+		long start = System.nanoTime();
+		if(!write(snapshot.path(), snapshot.data(), snapshot.compressed())){
+			this.failed.incrementAndGet();
+			return false;
+		}
+		this.lastWriteNanos = System.nanoTime() - start;
+		this.lastBytes = new File(snapshot.path()).length();
+		this.lastWritten = snapshot;
+		this.saves++;
+		return true;
+	}
+	
+	/**
+	 * Write data to a temporary file next to the given path, then move it to the path
+	 *
+	 * @param path The path of the save file
+	 * @param data The data to save
+	 * @param compressed true to compress the file if it is binary, false otherwise
+	 * @return true if the file was written, false otherwise
+	 */
+	public static boolean write(String path, JsonObject data, boolean compressed){
+		var target = Path.of(path);
+		var temp = Path.of(path + TEMP_EXTENSION);
+		try{
+			var parent = target.toAbsolutePath().getParent();
+			if(parent != null) Files.createDirectories(parent);
+		}catch(IOException e){
+			ZConfig.error(e, "Couldn't make directories. Failed to autosave file at path: ", path);
+			return false;
+		}
+		
+		boolean success;
+		if(path.endsWith(ZBinaryFile.EXTENSION)){
+			var file = new ZBinaryFile(temp.toString(), compressed);
+			file.setData(data);
+			success = file.save();
+		}
+		else{
+			var file = new ZJsonFile(temp.toString());
+			file.setData(data);
+			success = file.save();
+		}
+		if(!success) return false;
+		
+		try{
+			try{
+				Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			}catch(AtomicMoveNotSupportedException e){
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}catch(IOException e){
+			ZConfig.error(e, "Failed to move autosave file to path: ", path);
+			return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * Wait for every captured snapshot to be written
+	 *
+	 * @param timeout The maximum number of milliseconds to wait
+	 * @return true if every snapshot was written, false if the time ran out
+	 */
+	public boolean await(long timeout){
+		var done = this.writer.submit(() -> {});
+		try{
+			done.get(timeout, TimeUnit.MILLISECONDS);
+			return true;
+		}catch(Exception e){
+			return false;
+		}
+	}
+	
+	/** Capture a snapshot if one was requested, then write every waiting snapshot and stop the writing thread. Must only be called after the game stops ticking */
+	@Override
+	public void destroy(){
+		this.flush();
+		this.writer.shutdown();
+		try{
+			if(!this.writer.awaitTermination(10, TimeUnit.SECONDS)) ZConfig.error("Timed out waiting for an autosave to finish writing");
+		}catch(InterruptedException e){
+			ZConfig.error(e);
+		}
+	}
+	
+	/** @return See {@link #path} */
+	public String getPath(){
+		return this.path;
+	}
+	
+	/**
+	 * Change the file which is saved to. If the path changes, any requested snapshot which was not captured is dropped, and the time until the next automatic save
+	 * starts over, so nothing carries over from the old file, see {@link #flush()}. Must only be called by the thread which calls {@link #tick(double)}
+	 *
+	 * @param path See {@link #path}
+	 */
+	public void setPath(String path){
+		if(Objects.equals(this.path, path)) return;
+		this.requested.set(false);
+		this.sinceSave = 0;
+		this.path = path;
+	}
+	
+	/** @return See {@link #interval} */
+	public double getInterval(){
+		return this.interval;
+	}
+	
+	/** @param interval See {@link #interval} */
+	public void setInterval(double interval){
+		this.interval = Math.max(0, interval);
+	}
+	
+	/** @return See {@link #compressed} */
+	public boolean isCompressed(){
+		return this.compressed;
+	}
+	
+	/** @param compressed See {@link #compressed} */
+	public void setCompressed(boolean compressed){
+		this.compressed = compressed;
+	}
+	
+	/** @return See {@link #saves} */
+	public long getSaves(){
+		return this.saves;
+	}
+	
+	/** @return See {@link #skipped} */
+	public long getSkipped(){
+		return this.skipped;
+	}
+	
+	/** @return See {@link #failed} */
+	public long getFailed(){
+		return this.failed.get();
+	}
+	
+	/** @return See {@link #lastCaptureNanos} */
+	public long getLastCaptureNanos(){
+		return this.lastCaptureNanos;
+	}
+	
+	/** @return See {@link #lastWriteNanos} */
+	public long getLastWriteNanos(){
+		return this.lastWriteNanos;
+	}
+	
+	/** @return See {@link #lastBytes} */
+	public long getLastBytes(){
+		return this.lastBytes;
+	}
+	
+}
@@ -0,0 +1,296 @@
+package zgame.core.file;
+
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Converts the {@link JsonElement} data made by {@link Saveable} objects to and from a compact binary encoding. Every element starts with a one byte tag giving its type.
+ * Numbers are kept as fixed size primitives rather than text, and the lengths of strings, arrays, and objects are variable length integers.
+ * A codec reuses one buffer for encoding, so one codec should only be used by one thread at a time
+ */
+public class BinarySaveCodec{
+	
+	/** The tag for a json null */
+	public static final byte NULL = 0;
+	/** The tag for the boolean false */
+	public static final byte FALSE = 1;
+	/** The tag for the boolean true */
+	public static final byte TRUE = 2;
+	/** The tag for a number which fits in an int, followed by 4 bytes */
+	public static final byte INT = 3;
+	/** The tag for a number which fits in a long, followed by 8 bytes */
+	public static final byte LONG = 4;
+	/** The tag for a number with a decimal, followed by the 8 bytes of a double */
+	public static final byte DOUBLE = 5;
+	/** The tag for a number too large for a long, followed by the number as a string */
+	public static final byte BIG_NUMBER = 6;
+	/** The tag for a string, followed by its length in UTF-8 bytes, then the bytes */
+	public static final byte STRING = 7;
+	/** The tag for an array, followed by the number of elements, then each element */
+	public static final byte ARRAY = 8;
+	/** The tag for an object, followed by the number of members, then the name and element of each member */
+	public static final byte OBJECT = 9;
+	
+	/** The number of bytes {@link #buff} starts with */
+	private static final int INITIAL_CAPACITY = 1 << 16;
+	
+	/** The buffer which encoded data is written to, replaced with a larger buffer when it runs out of space */
+	private ByteBuffer buff;
+	
+	/** Create a new codec with an empty buffer */
+	public BinarySaveCodec(){
+		this.buff = ByteBuffer.allocate(INITIAL_CAPACITY);
+	}
+	
+	/**
+	 * Encode the given element
+	 *
+	 * @param e The element to encode
+	 * @return A buffer holding the encoded bytes, from its position to its limit. The buffer is reused by the next call to this method
+	 */
+	public ByteBuffer encode(JsonElement e){
+		this.buff.clear();
+		this.writeElement(e);
+		return this.buff.flip();
+	}
+	
+	/**
+	 * Ensure {@link #buff} has space for the given number of bytes, replacing it with a larger buffer if it does not
+	 *
+	 * @param bytes The number of bytes which will be written
+	 */
+	private void ensure(int bytes){
+		if(this.buff.remaining() >= bytes) return;
+		int capacity = this.buff.capacity();
+		while(capacity - this.buff.position() < bytes) capacity <<= 1;
+		var newBuff = ByteBuffer.allocate(capacity);
+		newBuff.put(this.buff.flip());
+		this.buff = newBuff;
+	}
+	
+	/**
+	 * Write one element and everything it holds
+	 *
+	 * @param e The element, null is written as a json null
+	 */
+	private void writeElement(JsonElement e){
+		if(e == null || e.isJsonNull()){
+			this.ensure(1);
+			this.buff.put(NULL);
+		}
+		else if(e.isJsonObject()){
+			var members = e.getAsJsonObject().entrySet();
+			this.ensure(6);
+			this.buff.put(OBJECT);
+			this.writeLength(members.size());
+			for(var m : members){
+				this.writeString(m.getKey());
+				this.writeElement(m.getValue());
+			}
+		}
+		else if(e.isJsonArray()){
+			var arr = e.getAsJsonArray();
+			this.ensure(6);
+			this.buff.put(ARRAY);
+			this.writeLength(arr.size());
+			for(var a : arr) this.writeElement(a);
+		}
+		else this.writePrimitive(e.getAsJsonPrimitive());
+	}
+	
+	/**
+	 * Write a single value
+	 *
+	 * @param p The value
+	 */
+	private void writePrimitive(JsonPrimitive p){
+		if(p.isBoolean()){
+			this.ensure(1);
+			this.buff.put(p.getAsBoolean() ? TRUE : FALSE);
+		}
+		else if(p.isNumber()) this.writeNumber(p.getAsNumber());
+		else{
+			this.ensure(1);
+			this.buff.put(STRING);
+			this.writeString(p.getAsString());
+		}
+	}
+	
+	/**
+	 * Write a number using the smallest primitive which keeps its value. Numbers parsed from json text have no type, so they are found from their text
+	 *
+	 * @param n The number
+	 */
+	private void writeNumber(Number n){
+		if(n instanceof Integer || n instanceof Short || n instanceof Byte) this.writeLong(n.intValue());
+		else if(n instanceof Long) this.writeLong(n.longValue());
+		else if(n instanceof Double || n instanceof Float) this.writeDouble(n.doubleValue());
+		else{
+			var text = n.toString();
+			boolean integral = text.indexOf('.') < 0 && text.indexOf('e') < 0 && text.indexOf('E') < 0;
+			if(!integral) this.writeDouble(Double.parseDouble(text));
+			else{
+				try{
+					this.writeLong(Long.parseLong(text));
+				}catch(NumberFormatException err){
+					this.ensure(1);
+					this.buff.put(BIG_NUMBER);
+					this.writeString(text);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Write an integer number, as an int if it fits, or a long otherwise
+	 *
+	 * @param value The number
+	 */
+	private void writeLong(long value){
+		this.ensure(9);
+		if(value == (int)value) this.buff.put(INT).putInt((int)value);
+		else this.buff.put(LONG).putLong(value);
+	}
+	
+	/**
+	 * Write a number with a decimal
+	 *
+	 * @param value The number
+	 */
+	private void writeDouble(double value){
+		this.ensure(9);
+		this.buff.put(DOUBLE).putDouble(value);
+	}
+	
+	/**
+	 * Write a string as its length in UTF-8 bytes, followed by the bytes, without a tag
+	 *
+	 * @param s The string
+	 */
+	private void writeString(String s){
+		var bytes = s.getBytes(StandardCharsets.UTF_8);
+		this.ensure(bytes.length + 5);
+		this.writeLength(bytes.length);
+		this.buff.put(bytes);
+	}
+	
+	/**
+	 * Write a non negative int using 7 bits per byte, the high bit of each byte is set if another byte follows. The caller must ensure 5 bytes are available
+	 *
+	 * @param length The value
+	 */
+	private void writeLength(int length){
+		while((length & ~0x7F) != 0){
+			this.buff.put((byte)((length & 0x7F) | 0x80));
+			length >>>= 7;
+		}
+		this.buff.put((byte)length);
+	}
+	
+	/**
+	 * Decode one element from the given buffer, starting at its position. The position of the buffer is moved past the element
+	 *
+	 * @param b The buffer
+	 * @return The element
+	 * @throws IllegalStateException If the buffer does not hold a valid element
+	 */
+	public JsonElement decode(ByteBuffer b) throws IllegalStateException{
+		try{
+			return readElement(b);
+		}catch(BufferUnderflowException | NumberFormatException err){
+			throw new IllegalStateException("Binary save data ended early or had an invalid number", err);
+		}
+	}
+	
+	/**
+	 * Read one element and everything it holds
+	 *
+	 * @param b The buffer to read from
+	 * @return The element
+	 */
+	private static JsonElement readElement(ByteBuffer b){
+		byte tag = b.get();
+		return switch(tag){
+			case NULL -> JsonNull.INSTANCE;
+			case FALSE -> new JsonPrimitive(false);
+			case TRUE -> new JsonPrimitive(true);
+			case INT -> new JsonPrimitive(b.getInt());
+			case LONG -> new JsonPrimitive(b.getLong());
+			case DOUBLE -> new JsonPrimitive(b.getDouble());
+			case BIG_NUMBER -> new JsonPrimitive(readBigNumber(readString(b)));
+			case STRING -> new JsonPrimitive(readString(b));
+			case ARRAY -> {
+				int size = readLength(b);
+				var arr = new JsonArray(size);
+				for(int i = 0; i < size; i++) arr.add(readElement(b));
+				yield arr;
+			}
+			case OBJECT -> {
+				int size = readLength(b);
+				var obj = new JsonObject();
+				for(int i = 0; i < size; i++){
+					var key = readString(b);
+					obj.add(key, readElement(b));
+				}
+				yield obj;
+			}
+			default -> throw new IllegalStateException("Unknown binary save tag " + tag + " at byte " + (b.position() - 1));
+		};
+	}
+	
+	/**
+	 * @param text The text of a number too large for a long
+	 * @return The number
+	 */
+	private static Number readBigNumber(String text){
+		return new BigInteger(text);
+	}
+	
+	/**
+	 * Read a string written by {@link #writeString(String)}
+	 *
+	 * @param b The buffer to read from
+	 * @return The string
+	 */
+	private static String readString(ByteBuffer b){
+		int length = readLength(b);
+		if(length > b.remaining()) throw new BufferUnderflowException();
+		String s;
+		if(b.hasArray()) s = new String(b.array(), b.arrayOffset() + b.position(), length, StandardCharsets.UTF_8);
+		else{
+			var bytes = new byte[length];
+			b.get(b.position(), bytes);
+			s = new String(bytes, StandardCharsets.UTF_8);
+		}
+		b.position(b.position() + length);
+		return s;
+	}
+	
+	/**
+	 * Read an int written by {@link #writeLength(int)}
+	 *
+	 * @param b The buffer to read from
+	 * @return The value
+	 */
+	private static int readLength(ByteBuffer b){
+		int value = 0;
+		for(int shift = 0; shift < 32; shift += 7){
+			byte next = b.get();
+			value |= (next & 0x7F) << shift;
+			if((next & 0x80) == 0){
+				if(value < 0) break;
+				return value;
+			}
+		}
+		throw new IllegalStateException("Invalid length in binary save data at byte " + b.position());
+	}
+	
+}
@@ -0,0 +1,101 @@
+package zgame.core.file;
+
+import zgame.core.utils.ZConfig;
+
+/**
+ * A tool for converting save files between json, read and written with {@link ZJsonFile}, and binary, read and written with {@link ZBinaryFile}.
+ * Run from the command line with the path of the file to convert. The direction of the conversion is found from the file itself
+ */
+public final class SaveMigration{
+	
+	/** Cannot instantiate {@link SaveMigration} */
+	private SaveMigration(){
+	}
+	
+	/**
+	 * Convert a json save file to a binary save file
+	 *
+	 * @param jsonPath The path of the json file to read
+	 * @param binaryPath The path of the binary file to write
+	 * @param compressed true to compress the binary file, false otherwise
+	 * @return true if the conversion succeeded, false otherwise
+	 */
+	public static boolean toBinary(String jsonPath, String binaryPath, boolean compressed){
+		var data = new ZJsonFile(jsonPath).load();
+		if(data == null) return false;
+		var file = new ZBinaryFile(binaryPath, compressed);
+		file.setData(data);
+		return file.save();
+	}
+	
+	/**
+	 * Convert a binary save file to a json save file
+	 *
+	 * @param binaryPath The path of the binary file to read
+	 * @param jsonPath The path of the json file to write
+	 * @return true if the conversion succeeded, false otherwise
+	 */
+	public static boolean toJson(String binaryPath, String jsonPath){
+		var data = new ZBinaryFile(binaryPath).load();
+		if(data == null) return false;
+		var file = new ZJsonFile(jsonPath);
+		file.setData(data);
+		return file.save();
+	}
+	
+	/**
+	 * Convert a save file to the other format, choosing the direction based on if the file is a binary save file
+	 *
+	 * @param input The path of the file to convert
+	 * @param output The path of the file to write, or null to use input with its extension changed
+	 * @param compressed true to compress the binary file when converting to binary, false otherwise. Unused when converting to json
+	 * @return true if the conversion succeeded, false otherwise
+	 */
+	public static boolean migrate(String input, String output, boolean compressed){
+		boolean binary = ZBinaryFile.isBinary(input);
+		if(output == null) output = replaceExtension(input, binary ? ".json" : ZBinaryFile.EXTENSION);
+		if(input.equals(output)){
+			ZConfig.error("Cannot convert save file ", input, " to itself");
+			return false;
+		}
+		boolean success = binary ? toJson(input, output) : toBinary(input, output, compressed);
+		if(success) ZConfig.success("Converted ", input, " to ", output);
+		else ZConfig.error("Failed to convert ", input, " to ", output);
+		return success;
+	}
+	
+	/**
+	 * @param path A file path
+	 * @param extension The new extension, including the dot
+	 * @return path, with everything after the last dot of its file name replaced with extension
+	 */
+	private static String replaceExtension(String path, String extension){
+		int slash = Math.max(path.lastIndexOf('/'), path.lastIndexOf('\\'));
+		int dot = path.lastIndexOf('.');
+		if(dot <= slash) return path + extension;
+		return path.substring(0, dot) + extension;
+	}
+	
+	/**
+	 * Convert save files from the command line. Arguments are the path of the file to convert, optionally the path to write to,
+	 * and optionally --compress to compress a binary file
+	 *
+	 * @param args The arguments
+	 */
+	public static void main(String[] args){
+		String input = null;
+		String output = null;
+		boolean compressed = false;
+		for(var a : args){
+			if(a.equals("--compress")) compressed = true;
+			else if(input == null) input = a;
+			else output = a;
+		}
+		if(input == null){
+			System.out.println("Usage: SaveMigration <input> [output] [--compress]");
+			return;
+		}
+		if(!migrate(input, output, compressed)) System.exit(1);
+	}
+	
+}
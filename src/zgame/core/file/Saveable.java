@@ -142,6 +142,18 @@ public interface Saveable{
 		return load(Double.class, key, e, d);
 	}
 	
+	/**
+	 * Load a long from the given json object
+	 *
+	 * @param key The name of the field in the json object
+	 * @param e The json element
+	 * @param d The default value to use if the value fails to load
+	 * @return The loaded value
+	 */
+	static long l(String key, JsonElement e, long d){
+		return load(Long.class, key, e, d);
+	}
+	
 	/**
 	 * Load an integer from the given json object
 	 *
@@ -215,7 +227,7 @@ public interface Saveable{
 	 */
 	static <T extends Saveable> T obj(String key, JsonElement e, Class<T> clazz, Supplier<T> d){
 		try{
-			var cons = clazz.getConstructor(JsonElement.class);
+			var cons = SaveableConstructors.get(clazz);
 			return cons.newInstance(e.getAsJsonObject().get(key));
 		}catch(NoSuchMethodException | InvocationTargetException | InstantiationException | IllegalAccessException err){
 			if(ZConfig.printErrors()){
@@ -277,7 +289,7 @@ public interface Saveable{
 		var clazz = type.getClazz();
 		try{
 			// Load the object using the json constructor
-			var cons = clazz.getConstructor(JsonElement.class);
+			var cons = SaveableConstructors.get(clazz);
 			return cons.newInstance(obj);
 		}catch(NoSuchMethodException | InvocationTargetException | InstantiationException | IllegalAccessException err){
 			ZConfig.error("Cannot load object of type ", type, ". enum type: ", typeClass, ". The object must implement a public constructor which accepts a single JsonElement");
@@ -0,0 +1,41 @@
+package zgame.core.file;
+
+import java.lang.reflect.Constructor;
+
+import com.google.gson.JsonElement;
+
+/** Keeps the constructor which accepts one {@link JsonElement} of each class loaded by {@link Saveable}, so each class is only searched once */
+final class SaveableConstructors{
+	
+	/** The constructor of each class, or null if the class has no such public constructor */
+	private static final ClassValue<Constructor<?>> CONSTRUCTORS = new ClassValue<>(){
+		@Override
+		protected Constructor<?> computeValue(Class<?> clazz){
+			try{
+				return clazz.getConstructor(JsonElement.class);
+			}catch(NoSuchMethodException | SecurityException e){
+				return null;
+			}
+		}
+	};
+	
+	/** Cannot instantiate {@link SaveableConstructors} */
+	private SaveableConstructors(){
+	}
+	
+	/**
+	 * Get the public constructor of the given class which accepts one {@link JsonElement}
+	 *
+	 * @param clazz The class
+	 * @return The constructor
+	 * @param <T> The type of clazz
+	 * @throws NoSuchMethodException If clazz has no such constructor
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> Constructor<T> get(Class<T> clazz) throws NoSuchMethodException{
+		var cons = CONSTRUCTORS.get(clazz);
+		if(cons == null) throw new NoSuchMethodException(clazz.getName() + ".<init>(" + JsonElement.class.getName() + ")");
+		return (Constructor<T>)cons;
+	}
+	
+}
@@ -0,0 +1,337 @@
+package zgame.core.file;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Function;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import com.google.gson.JsonObject;
+
+import zgame.core.utils.ZConfig;
+
+/**
+ * A representation of a binary file used for saving and loading games, holding the same data as a {@link ZJsonFile} in a smaller form which is faster to read and write.
+ * The file starts with a header: the bytes of {@link #MAGIC}, the int {@link #VERSION} of the format, and a byte of flags. After the header, optionally compressed,
+ * is the number of sections, then each section. Every member of the top level object of the data is one section: the length and UTF-8 bytes of its name, the length
+ * of its data, then its data encoded with a {@link BinarySaveCodec}. Files are read and written through NIO channels, one section at a time
+ */
+public class ZBinaryFile{
+	
+	/** The bytes every binary save file starts with */
+	public static final byte[] MAGIC = {'Z', 'S', 'A', 'V'};
+	/** The version of the format written by this class. Files with a higher version cannot be loaded */
+	public static final int VERSION = 1;
+	/** The flag set in the header when everything after the header is compressed with deflate */
+	public static final byte FLAG_COMPRESSED = 1;
+	/** The file extension used for binary save files */
+	public static final String EXTENSION = ".zsav";
+	
+	/** The number of bytes in the header */
+	private static final int HEADER_LENGTH = MAGIC.length + Integer.BYTES + 1;
+	/** The number of bytes buffered when compressing or decompressing */
+	private static final int STREAM_BUFFER = 1 << 16;
+	/** The most bytes which deflate can decompress from one compressed byte, used to find the most data a compressed file can hold */
+	private static final long MAX_INFLATE_RATIO = 1032;
+	
+	/** The path leading to the location of this file. Should include {@link #EXTENSION} */
+	private String path;
+	
+	/** The data associated with this file */
+	private JsonObject data;
+	
+	/** true if the data of this file is compressed when it is saved, false otherwise. Loading a file sets this to match the file */
+	private boolean compressed;
+	
+	/** Create a new uncompressed {@link ZBinaryFile} with the given {@link #path} */
+	public ZBinaryFile(String path){
+		this(path, false);
+	}
+	
+	/**
+	 * Create a new {@link ZBinaryFile}
+	 *
+	 * @param path See {@link #path}
+	 * @param compressed See {@link #compressed}
+	 */
+	public ZBinaryFile(String path, boolean compressed){
+		this.path = path;
+		this.data = new JsonObject();
+		this.compressed = compressed;
+	}
+	
+	/**
+	 * Load this {@link ZBinaryFile} from {@link #path}, set it in {@link #data},
+	 *
+	 * @return {@link #data}, or null if the load failed
+	 */
+	public JsonObject load(){
+		File file = this.getFile();
+		if(file == null) return null;
+		var inflater = new Inflater();
+		try(var channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)){
+			// Check the header
+			var header = ByteBuffer.allocate(HEADER_LENGTH);
+			readFully(channel, header);
+			header.flip();
+			for(byte b : MAGIC){
+				if(header.get() == b) continue;
+				ZConfig.error("File at path ", this.getPath(), " is not a binary save file");
+				return null;
+			}
+			int version = header.getInt();
+			if(version > VERSION){
+				ZConfig.error("Binary save file at path ", this.getPath(), " has version ", version, " but only versions up to ", VERSION, " can be loaded");
+				return null;
+			}
+			this.compressed = (header.get() & FLAG_COMPRESSED) != 0;
+			ReadableByteChannel body = channel;
+			if(this.compressed) body = Channels.newChannel(new InflaterInputStream(Channels.newInputStream(channel), inflater, STREAM_BUFFER));
+			
+			// The most bytes the rest of the file can hold, so that a corrupt length is found before trying to read or allocate it
+			long remaining = channel.size() - HEADER_LENGTH;
+			if(this.compressed) remaining *= MAX_INFLATE_RATIO;
+			
+			// Read each section into the data
+			var codec = new BinarySaveCodec();
+			var data = new JsonObject();
+			int sections = readInt(body);
+			remaining -= Integer.BYTES;
+			ByteBuffer sectionBuff = ByteBuffer.allocate(STREAM_BUFFER);
+			for(int i = 0; i < sections; i++){
+				int nameLength = readLength(body, remaining - Integer.BYTES);
+				var name = new String(readBytes(body, nameLength), StandardCharsets.UTF_8);
+				remaining -= Integer.BYTES + nameLength;
+				int length = readLength(body, remaining - Integer.BYTES);
+				remaining -= Integer.BYTES + length;
+				if(length > sectionBuff.capacity()) sectionBuff = ByteBuffer.allocate(length);
+				sectionBuff.clear().limit(length);
+				readFully(body, sectionBuff);
+				sectionBuff.flip();
+				data.add(name, codec.decode(sectionBuff));
+				if(sectionBuff.hasRemaining()) throw new IllegalStateException("Section " + name + " has " + sectionBuff.remaining() + " bytes which were not read");
+			}
+			this.data = data;
+		}catch(IOException | IllegalStateException e){
+			ZConfig.error(e, "Failed to load binary file at path ", this.getPath());
+			return null;
+		}finally{
+			inflater.end();
+		}
+		return this.data;
+	}
+	
+	/**
+	 * Save this {@link ZBinaryFile} to {@link #path}
+	 *
+	 * @return true if the save succeeded, false otherwise
+	 */
+	public boolean save(){
+		File file = this.getFile();
+		if(file == null) return false;
+		var deflater = new Deflater(Deflater.BEST_SPEED);
+		try(var channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)){
+			var header = ByteBuffer.allocate(HEADER_LENGTH);
+			header.put(MAGIC).putInt(VERSION).put(this.isCompressed() ? FLAG_COMPRESSED : 0);
+			writeFully(channel, header.flip());
+			
+			WritableByteChannel body = channel;
+			if(this.isCompressed()) body = Channels.newChannel(new DeflaterOutputStream(Channels.newOutputStream(channel), deflater, STREAM_BUFFER));
+			
+			// Write each section
+			var codec = new BinarySaveCodec();
+			var members = this.data.entrySet();
+			var sectionHeader = ByteBuffer.allocate(Integer.BYTES);
+			writeFully(body, sectionHeader.clear().putInt(members.size()).flip());
+			for(var m : members){
+				var name = m.getKey().getBytes(StandardCharsets.UTF_8);
+				var nameHeader = ByteBuffer.allocate(Integer.BYTES + name.length);
+				writeFully(body, nameHeader.putInt(name.length).put(name).flip());
+				var section = codec.encode(m.getValue());
+				writeFully(body, sectionHeader.clear().putInt(section.remaining()).flip());
+				writeFully(body, section);
+			}
+			// Closing the compressed channel finishes the compressed data
+			if(body != channel) body.close();
+		}catch(IOException e){
+			ZConfig.error(e, "Failed to save binary file to path ", this.getPath());
+			return false;
+		}finally{
+			deflater.end();
+		}
+		return true;
+	}
+	
+	/**
+	 * Read from a channel until the given buffer is full
+	 *
+	 * @param channel The channel to read from
+	 * @param b The buffer to fill, from its position to its limit
+	 * @throws IOException If the channel fails to read, or ends before the buffer is full
+	 */
+	private static void readFully(ReadableByteChannel channel, ByteBuffer b) throws IOException{
+		while(b.hasRemaining()){
+			if(channel.read(b) < 0) throw new EOFException("Binary save file ended early");
+		}
+	}
+	
+	/**
+	 * Read a number of bytes from a channel
+	 *
+	 * @param channel The channel to read from
+	 * @param length The number of bytes to read
+	 * @return The bytes
+	 * @throws IOException If the channel fails to read, or ends early
+	 */
+	private static byte[] readBytes(ReadableByteChannel channel, int length) throws IOException{
+		if(length < 0) throw new IOException("Invalid length " + length + " in binary save file");
+		var bytes = new byte[length];
+		readFully(channel, ByteBuffer.wrap(bytes));
+		return bytes;
+	}
+	
+	/**
+	 * Read the length of some data from a channel, checking that it is a length which the rest of the file can hold
+	 *
+	 * @param channel The channel to read from
+	 * @param max The most bytes which the rest of the file can hold, after the length
+	 * @return The length
+	 * @throws IOException If the channel fails to read, or ends early, or the length is negative or more than max
+	 */
+	private static int readLength(ReadableByteChannel channel, long max) throws IOException{
+		int length = readInt(channel);
+		if(length < 0 || length > max) throw new IOException("Invalid length " + length + " in binary save file, at most " + Math.max(0, max) + " bytes remain");
+		return length;
+	}
+	
+	/**
+	 * Read an int from a channel
+	 *
+	 * @param channel The channel to read from
+	 * @return The int
+	 * @throws IOException If the channel fails to read, or ends early
+	 */
+	private static int readInt(ReadableByteChannel channel) throws IOException{
+		var b = ByteBuffer.allocate(Integer.BYTES);
+		readFully(channel, b);
+		return b.getInt(0);
+	}
+	
+	/**
+	 * Write all of the given buffer to a channel
+	 *
+	 * @param channel The channel to write to
+	 * @param b The buffer to write, from its position to its limit
+	 * @throws IOException If the channel fails to write
+	 */
+	private static void writeFully(WritableByteChannel channel, ByteBuffer b) throws IOException{
+		while(b.hasRemaining()) channel.write(b);
+	}
+	
+	/**
+	 * Determine if the file at the given path is a binary save file, by checking if it starts with {@link #MAGIC}
+	 *
+	 * @param path The path to the file
+	 * @return true if the file is a binary save file, false if it is not, or cannot be read
+	 */
+	public static boolean isBinary(String path){
+		if(path == null) return false;
+		var file = new File(path);
+		if(!file.isFile()) return false;
+		try(var channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)){
+			var b = ByteBuffer.allocate(MAGIC.length);
+			readFully(channel, b);
+			for(int i = 0; i < MAGIC.length; i++) if(b.get(i) != MAGIC[i]) return false;
+			return true;
+		}catch(IOException e){
+			return false;
+		}
+	}
+	
+	/** @return A {@link File} representing the location at {@link #path}, or null if the file could not be found */
+	public File getFile(){
+		if(this.getPath() == null) return null;
+		return new File(this.getPath());
+	}
+	
+	/** @return See {@link #path} */
+	public String getPath(){
+		return this.path;
+	}
+	
+	/** @param path See {@link #path} */
+	public void setPath(String path){
+		this.path = path;
+	}
+	
+	/** @return See {@link #data} */
+	public JsonObject getData(){
+		return this.data;
+	}
+	
+	/** @param data See {@link #data} */
+	public void setData(JsonObject data){
+		this.data = data;
+	}
+	
+	/** @return See {@link #compressed} */
+	public boolean isCompressed(){
+		return this.compressed;
+	}
+	
+	/** @param compressed See {@link #compressed} */
+	public void setCompressed(boolean compressed){
+		this.compressed = compressed;
+	}
+	
+	/**
+	 * Save a data to a binary file
+	 * @param path The path to save the file to
+	 * @param compressed See {@link #compressed}
+	 * @param fun A function that accepts the data for a save file, and then saves it, and returns true on success, false otherwise
+	 * @return true if the save was successful, false otherwise
+	 */
+	public static boolean saveBinaryFile(String path, boolean compressed, Function<JsonObject, Boolean> fun){
+		if(path == null) return false;
+		try{
+			var file = new ZBinaryFile(path, compressed);
+			var data = file.getData();
+			var success = fun.apply(data);
+			file.setData(data);
+			return success && file.save();
+		}catch(Exception e){
+			e.printStackTrace();
+			return false;
+		}
+	}
+	
+	/**
+	 * Load data from a binary file
+	 * @param path The path to load the file from
+	 * @param fun A function that accepts the data of the file, and then loads it, and returns true on success, false otherwise
+	 * @return true if the load was successful, false otherwise
+	 */
+	public static boolean loadBinaryFile(String path, Function<JsonObject, Boolean> fun){
+		if(path == null) return false;
+		ZBinaryFile file = new ZBinaryFile(path);
+		JsonObject data = file.load();
+		if(data == null) return false;
+		try{
+			return fun.apply(data);
+		}catch(ClassCastException | IllegalStateException | NullPointerException e){
+			ZConfig.error(e, "Failed to load a binary object because it had invalid formatting. Object data:\n", data);
+		}
+		return false;
+	}
+	
+}
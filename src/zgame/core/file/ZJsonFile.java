@@ -1,13 +1,16 @@
 package zgame.core.file;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.PrintWriter;
-import java.util.Scanner;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
 import java.util.function.Function;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
 
 import zgame.core.utils.ZConfig;
@@ -34,14 +37,11 @@ public class ZJsonFile{
 	 */
 	public JsonObject load(){
 		File file = this.getFile();
-		try(Scanner read = new Scanner(file)){
-			// Read in every line from the file
-			StringBuilder sb = new StringBuilder();
-			while(read.hasNextLine()) sb.append(read.nextLine());
-			String jsonText = sb.toString();
+		// Parse directly from the file, rather than reading the whole file into a string first
+		try(BufferedReader read = new BufferedReader(new FileReader(file))){
 			Gson gson = new Gson();
-			this.data = gson.fromJson(jsonText, JsonObject.class);
-		}catch(FileNotFoundException e){
+			this.data = gson.fromJson(read, JsonObject.class);
+		}catch(IOException | JsonIOException e){
 			ZConfig.error(e, "Failed to open JSON file at path", this.getPath());
 			return null;
 		}
@@ -55,11 +55,11 @@ public class ZJsonFile{
 	 */
 	public boolean save(){
 		File file = this.getFile();
-		try(PrintWriter write = new PrintWriter(file)){
+		// Write directly to the file, rather than making the whole file as a string first
+		try(BufferedWriter write = new BufferedWriter(new FileWriter(file))){
 			Gson gson = new GsonBuilder().setPrettyPrinting().create();
-			String jsonText = gson.toJson(this.data);
-			write.write(jsonText);
-		}catch(FileNotFoundException e){
+			gson.toJson(this.data, write);
+		}catch(IOException | JsonIOException e){
 			ZConfig.error(e, "Failed to save JSON file to path", this.getPath());
 			return false;
 		}catch(UnsupportedOperationException | NullPointerException | ClassCastException | IllegalStateException e){
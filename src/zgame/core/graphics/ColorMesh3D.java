@@ -0,0 +1,116 @@
+package zgame.core.graphics;
+
+import zgame.core.graphics.buffer.VertexArray;
+import zgame.core.graphics.buffer.VertexBuffer;
+
+import static org.lwjgl.opengl.GL30.*;
+
+/**
+ * A mesh of solid colored quads in 3D, where each vertex has its own position and color.
+ * The data of the mesh is kept on the CPU as primitive float arrays, and is only sent to the GPU the next time the mesh is drawn after it changes,
+ * so a mesh can be built and inspected without OpenGL
+ */
+public class ColorMesh3D implements Destroyable{
+	
+	/** The number of values in the position of one vertex */
+	public static final int POSITION_LENGTH = 3;
+	/** The number of values in the color of one vertex */
+	public static final int COLOR_LENGTH = 4;
+	/** The number of vertices in one quad */
+	public static final int QUAD_VERTICES = 4;
+	
+	/** The positions of every vertex, {@link #POSITION_LENGTH} values per vertex */
+	private float[] positions;
+	
+	/** The colors of every vertex, {@link #COLOR_LENGTH} values per vertex */
+	private float[] colors;
+	
+	/** The number of quads in this mesh */
+	private int quads;
+	
+	/** true if the data of this mesh has changed since it was last sent to the GPU, false otherwise */
+	private boolean changed;
+	
+	/** The buffer holding {@link #positions} on the GPU, or null if it has not been created */
+	private VertexBuffer positionBuff;
+	
+	/** The buffer holding {@link #colors} on the GPU, or null if it has not been created */
+	private VertexBuffer colorBuff;
+	
+	/** The vertex array using {@link #positionBuff} and {@link #colorBuff}, or null if it has not been created */
+	private VertexArray vertexArray;
+	
+	/** Create a new mesh with no quads */
+	public ColorMesh3D(){
+		this.set(new float[0], new float[0]);
+	}
+	
+	/**
+	 * Replace the data of this mesh. The given arrays are used directly, not copied, and must hold exactly the same number of vertices, which must be a multiple of
+	 * {@link #QUAD_VERTICES}
+	 *
+	 * @param positions See {@link #positions}
+	 * @param colors See {@link #colors}
+	 */
+	public void set(float[] positions, float[] colors){
+		this.positions = positions;
+		this.colors = colors;
+		this.quads = positions.length / (POSITION_LENGTH * QUAD_VERTICES);
+		this.changed = true;
+	}
+	
+	/** @return See {@link #positions} */
+	public float[] getPositions(){
+		return this.positions;
+	}
+	
+	/** @return See {@link #colors} */
+	public float[] getColors(){
+		return this.colors;
+	}
+	
+	/** @return See {@link #quads} */
+	public int getQuads(){
+		return this.quads;
+	}
+	
+	/** @return The number of vertices in this mesh */
+	public int getVertexCount(){
+		return this.quads * QUAD_VERTICES;
+	}
+	
+	/** @return true if this mesh has nothing to draw, false otherwise */
+	public boolean isEmpty(){
+		return this.quads == 0;
+	}
+	
+	/**
+	 * Get the vertex array for drawing this mesh, sending the data of this mesh to the GPU if it changed since the last call.
+	 * Must only be called on the thread with the OpenGL context. Calling this method can change the currently bound vertex array
+	 *
+	 * @return The vertex array
+	 */
+	public VertexArray getVertexArray(){
+		if(this.changed || this.vertexArray == null){
+			this.changed = false;
+			this.destroy();
+			// The buffers on the GPU have a fixed size, so new ones are made whenever the data changes
+			this.positionBuff = new VertexBuffer(Renderer.VERTEX_POS_INDEX, POSITION_LENGTH, GL_STATIC_DRAW, this.positions);
+			this.colorBuff = new VertexBuffer(Renderer.VERTEX_COLOR_INDEX, COLOR_LENGTH, GL_STATIC_DRAW, this.colors);
+			this.vertexArray = new VertexArray(this.positionBuff, this.colorBuff);
+		}
+		return this.vertexArray;
+	}
+	
+	/** Free the resources used by this mesh on the GPU. The data on the CPU is kept, and will be sent again the next time the mesh is drawn */
+	@Override
+	public void destroy(){
+		if(this.vertexArray != null) this.vertexArray.destroy();
+		if(this.positionBuff != null) this.positionBuff.destroy();
+		if(this.colorBuff != null) this.colorBuff.destroy();
+		this.vertexArray = null;
+		this.positionBuff = null;
+		this.colorBuff = null;
+	}
+	
+}
@@ -0,0 +1,178 @@
+package zgame.core.graphics;
+
+import org.joml.Matrix4f;
+
+import zgame.core.graphics.buffer.VertexArray;
+import zgame.core.graphics.buffer.VertexBuffer;
+
+import static org.lwjgl.opengl.GL30.*;
+
+/**
+ * A collection of instances of one 3D primitive, i.e. spheres, which can all be drawn with one instanced OpenGL draw call.
+ * Each instance is only a transformation matrix and a color, so the vertices of the primitive are sent to the GPU once, rather than once for every time it is drawn.
+ * The matrix of each instance already includes the model view it was added with, so instances added with different model views can be drawn together.
+ * Like {@link QuadBatch}, the data of the batch is kept on the CPU as primitive arrays which grow as needed, and is only sent to the GPU by
+ * {@link #getVertexArray(VertexBuffer)}, so a batch can be built and inspected without OpenGL
+ */
+public class InstanceBatch implements Destroyable{
+	
+	/** The shapes which can be drawn with instances */
+	public enum Primitive{
+		/** A rectangular prism, where every face has the same color */
+		RECT_PRISM,
+		/** A sphere */
+		SPHERE,
+		/** A finite plane */
+		PLANE
+	}
+	
+	/** The number of values in the transformation matrix of one instance */
+	public static final int TRANSFORM_LENGTH = 16;
+	/** The number of values in the color of one instance */
+	public static final int COLOR_LENGTH = 4;
+	
+	/** The number of instances a batch can hold before it needs to grow */
+	private static final int INITIAL_INSTANCES = 64;
+	
+	/** The transformation matrix of every instance, in column major order, {@link #TRANSFORM_LENGTH} values per instance */
+	private float[] transforms;
+	
+	/** The color of every instance, {@link #COLOR_LENGTH} values per instance */
+	private float[] colors;
+	
+	/** The number of instances in this batch */
+	private int instances;
+	
+	/** The number of instances the buffers on the GPU can hold, or 0 if they have not been created */
+	private int gpuInstances;
+	
+	/** The buffer holding {@link #transforms} on the GPU, or null if it has not been created */
+	private VertexBuffer transformBuff;
+	
+	/** The buffer holding {@link #colors} on the GPU, or null if it has not been created */
+	private VertexBuffer colorBuff;
+	
+	/** The buffer holding the vertices of the primitive, used by {@link #vertexArray}. Not owned by this batch */
+	private VertexBuffer mesh;
+	
+	/** The vertex array using {@link #mesh}, {@link #colorBuff}, and {@link #transformBuff}, or null if it has not been created */
+	private VertexArray vertexArray;
+	
+	/** Create a new empty batch */
+	public InstanceBatch(){
+		this.transforms = new float[INITIAL_INSTANCES * TRANSFORM_LENGTH];
+		this.colors = new float[INITIAL_INSTANCES * COLOR_LENGTH];
+		this.instances = 0;
+		this.gpuInstances = 0;
+	}
+	
+	/**
+	 * Add an instance to this batch
+	 *
+	 * @param m The matrix which transforms the vertices of the primitive to where this instance is drawn. Its values are copied
+	 * @param c The color of the instance
+	 */
+	public void add(Matrix4f m, ZColor c){
+		if(this.instances == this.getCapacity()){
+			int capacity = this.getCapacity() << 1;
+			this.transforms = this.grow(this.transforms, capacity * TRANSFORM_LENGTH, this.instances * TRANSFORM_LENGTH);
+			this.colors = this.grow(this.colors, capacity * COLOR_LENGTH, this.instances * COLOR_LENGTH);
+		}
+		m.get(this.transforms, this.instances * TRANSFORM_LENGTH);
+		
+		int col = this.instances * COLOR_LENGTH;
+		this.colors[col] = (float)c.red();
+		this.colors[col + 1] = (float)c.green();
+		this.colors[col + 2] = (float)c.blue();
+		this.colors[col + 3] = (float)c.alpha();
+		
+		this.instances++;
+	}
+	
+	/**
+	 * Make a larger copy of the given array
+	 *
+	 * @param array The array to copy
+	 * @param length The length of the new array
+	 * @param used The number of values to copy from the start of array
+	 * @return The new array
+	 */
+	private float[] grow(float[] array, int length, int used){
+		var grown = new float[length];
+		System.arraycopy(array, 0, grown, 0, used);
+		return grown;
+	}
+	
+	/** Remove every instance from this batch. The arrays of this batch keep their size, so that filling it again does not allocate */
+	public void clear(){
+		this.instances = 0;
+	}
+	
+	/** @return true if this batch has nothing to draw, false otherwise */
+	public boolean isEmpty(){
+		return this.instances == 0;
+	}
+	
+	/** @return See {@link #instances} */
+	public int getInstanceCount(){
+		return this.instances;
+	}
+	
+	/** @return The number of instances this batch can hold before it needs to grow */
+	public int getCapacity(){
+		return this.colors.length / COLOR_LENGTH;
+	}
+	
+	/** @return See {@link #transforms}. Only the values of the first {@link #getInstanceCount()} instances are in this batch */
+	public float[] getTransforms(){
+		return this.transforms;
+	}
+	
+	/** @return See {@link #colors}. Only the values of the first {@link #getInstanceCount()} instances are in this batch */
+	public float[] getColors(){
+		return this.colors;
+	}
+	
+	/**
+	 * Get the vertex array for drawing this batch, sending the instances of this batch to the GPU.
+	 * Must only be called on the thread with the OpenGL context. Calling this method can change the currently bound vertex array
+	 *
+	 * @param mesh The buffer holding the positions of the vertices of the primitive
+	 * @return The vertex array
+	 */
+	public VertexArray getVertexArray(VertexBuffer mesh){
+		if(this.vertexArray == null || this.gpuInstances != this.getCapacity() || this.mesh != mesh){
+			this.destroy();
+			// The buffers on the GPU have a fixed size, so new ones are only made when the arrays of the batch grow
+			this.gpuInstances = this.getCapacity();
+			this.mesh = mesh;
+			this.colorBuff = new VertexBuffer(Renderer.VERTEX_COLOR_INDEX, COLOR_LENGTH, GL_STREAM_DRAW, this.colors);
+			// Each column of a matrix is its own vertex attribute
+			this.transformBuff = new VertexBuffer(Renderer.VERTEX_TRANSFORM_INDEX, TRANSFORM_LENGTH / 4, GL_STREAM_DRAW, this.transforms);
+			this.vertexArray = new VertexArray(mesh);
+			this.colorBuff.bind();
+			this.colorBuff.applyToVertexArrayInstanced(1);
+			this.transformBuff.bind();
+			this.transformBuff.applyToVertexArrayInstanced(4);
+		}
+		else{
+			this.colorBuff.updateData(this.colors, this.instances * COLOR_LENGTH);
+			this.transformBuff.updateData(this.transforms, this.instances * TRANSFORM_LENGTH);
+		}
+		return this.vertexArray;
+	}
+	
+	/** Free the resources used by this batch on the GPU. The data on the CPU is kept, and the buffer of the primitive is not freed */
+	@Override
+	public void destroy(){
+		if(this.vertexArray != null) this.vertexArray.destroy();
+		if(this.colorBuff != null) this.colorBuff.destroy();
+		if(this.transformBuff != null) this.transformBuff.destroy();
+		this.vertexArray = null;
+		this.colorBuff = null;
+		this.transformBuff = null;
+		this.mesh = null;
+		this.gpuInstances = 0;
+	}
+	
+}
@@ -0,0 +1,63 @@
+package zgame.core.graphics;
+
+import org.joml.Matrix4f;
+
+import zgame.core.utils.LimitedStack;
+
+/**
+ * A {@link LimitedStack} of transformation matrices which never allocates while pushing and popping, once the stack has reached its deepest depth.
+ * The matrices are kept in the storage of the {@link LimitedStack}, and popped matrices stay there, so each depth of the stack has its own {@link Matrix4f}, made the first
+ * time the stack reaches that depth, and pushing copies the values of the top matrix into the matrix of the next depth.
+ * Because the matrices are reused, a matrix returned by this stack must not be kept after it is popped
+ */
+public class MatrixStack extends LimitedStack<Matrix4f>{
+	
+	/** Create a new stack holding only the identity matrix */
+	public MatrixStack(){
+		super(new Matrix4f());
+		// The bottom of the stack is changed directly, so it must be a different matrix from the default item
+		super.replaceTop(new Matrix4f());
+	}
+	
+	/**
+	 * Copy the top of the stack onto the stack, so that it can be changed without changing the copied matrix
+	 *
+	 * @return The new top of the stack
+	 */
+	@Override
+	public Matrix4f push(){
+		return this.push(this.peek());
+	}
+	
+	/**
+	 * Copy the values of the given matrix onto the top of the stack
+	 *
+	 * @param item The matrix to copy, it is not added to the stack itself
+	 * @return The new top of the stack
+	 */
+	@Override
+	public Matrix4f push(Matrix4f item){
+		var next = this.spare();
+		if(next == null) next = new Matrix4f();
+		return super.push(next.set(item));
+	}
+	
+	/**
+	 * Copy the values of the given matrix into the top of the stack
+	 *
+	 * @param item The matrix to copy, it is not added to the stack itself
+	 * @return The top of the stack, now holding the values of item, or null if the top couldn't be replaced
+	 */
+	@Override
+	public Matrix4f replaceTop(Matrix4f item){
+		if(!this.isReplaceFirst() && this.size() <= 1) return null;
+		return this.peek().set(item);
+	}
+	
+	/** @return true, popped matrices are reused by the next push */
+	@Override
+	protected boolean keepPopped(){
+		return true;
+	}
+	
+}
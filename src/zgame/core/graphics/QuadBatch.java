@@ -0,0 +1,354 @@
+package zgame.core.graphics;
+
+import java.nio.IntBuffer;
+
+import org.joml.Matrix4f;
+import org.lwjgl.BufferUtils;
+
+import zgame.core.graphics.buffer.VertexArray;
+import zgame.core.graphics.buffer.VertexBuffer;
+
+import static org.lwjgl.opengl.GL30.*;
+
+/**
+ * A collection of colored and textured quads in 2D, which can all be drawn with one OpenGL draw call.
+ * Every vertex is transformed by the matrix it was added with, so quads with different transformations and colors can be drawn together, as long as they use the same
+ * {@link Mode}, texture, and {@link AlphaMode}. The data of the batch is kept on the CPU as primitive arrays which grow as needed, and is only sent to the GPU by
+ * {@link #getVertexArray()}, so a batch can be built and inspected without OpenGL
+ */
+public class QuadBatch implements Destroyable{
+	
+	/** The way the quads of a batch are colored */
+	public enum Mode{
+		/** For solid colored shapes, the color of each vertex is used directly */
+		SHAPE,
+		/** For images and buffers, the color of the texture is used, with the alpha of each vertex */
+		TEXTURE,
+		/** For text, the color of each vertex is used, with the alpha of the texture */
+		FONT
+	}
+	
+	/** The number of values in the position of one vertex, the transformed x, y, z, and w */
+	public static final int POSITION_LENGTH = 4;
+	/** The number of values in the texture coordinates of one vertex */
+	public static final int TEX_LENGTH = 2;
+	/** The number of values in the color of one vertex */
+	public static final int COLOR_LENGTH = 4;
+	/** The number of vertices in one quad */
+	public static final int QUAD_VERTICES = 4;
+	/** The number of indexes in one quad, two triangles */
+	public static final int QUAD_INDEXES = 6;
+	
+	/** The number of vertices a batch can hold before it needs to grow */
+	private static final int INITIAL_VERTICES = 256;
+	
+	/** The positions of every vertex, {@link #POSITION_LENGTH} values per vertex */
+	private float[] positions;
+	
+	/** The texture coordinates of every vertex, {@link #TEX_LENGTH} values per vertex */
+	private float[] texCoords;
+	
+	/** The colors of every vertex, {@link #COLOR_LENGTH} values per vertex */
+	private float[] colors;
+	
+	/** The indexes of the vertices of every triangle in this batch, three per triangle */
+	private int[] indexes;
+	
+	/** The number of vertices in this batch */
+	private int vertices;
+	
+	/** The number of values used in {@link #indexes} */
+	private int indexCount;
+	
+	/** The mode of every quad in this batch */
+	private Mode mode;
+	
+	/** The OpenGL id of the texture used by every quad in this batch, unused if {@link #mode} is {@link Mode#SHAPE} */
+	private int texture;
+	
+	/** The alpha mode used by every quad in this batch */
+	private AlphaMode alphaMode;
+	
+	/** The number of vertices the buffers on the GPU can hold, or 0 if they have not been created */
+	private int gpuVertices;
+	
+	/** The buffer holding {@link #positions} on the GPU, or null if it has not been created */
+	private VertexBuffer positionBuff;
+	
+	/** The buffer holding {@link #texCoords} on the GPU, or null if it has not been created */
+	private VertexBuffer texCoordBuff;
+	
+	/** The buffer holding {@link #colors} on the GPU, or null if it has not been created */
+	private VertexBuffer colorBuff;
+	
+	/** The vertex array using {@link #positionBuff}, {@link #texCoordBuff}, and {@link #colorBuff}, or null if it has not been created */
+	private VertexArray vertexArray;
+	
+	/** The values of {@link #indexes} in a buffer which OpenGL can draw from, or null if it has not been created */
+	private IntBuffer indexBuff;
+	
+	/** Create a new empty batch */
+	public QuadBatch(){
+		this.positions = new float[INITIAL_VERTICES * POSITION_LENGTH];
+		this.texCoords = new float[INITIAL_VERTICES * TEX_LENGTH];
+		this.colors = new float[INITIAL_VERTICES * COLOR_LENGTH];
+		this.indexes = new int[INITIAL_VERTICES / QUAD_VERTICES * QUAD_INDEXES];
+		this.vertices = 0;
+		this.indexCount = 0;
+		this.mode = Mode.SHAPE;
+		this.texture = 0;
+		this.alphaMode = AlphaMode.NORMAL;
+		this.gpuVertices = 0;
+	}
+	
+	/**
+	 * Prepare to add quads which use the given state. An empty batch always takes the given state
+	 *
+	 * @param mode The mode of the quads
+	 * @param texture The OpenGL id of the texture of the quads, ignored for {@link Mode#SHAPE}
+	 * @param alphaMode The alpha mode of the quads
+	 * @return true if quads using the given state can be added to this batch, false if this batch holds quads with a different state, and must be drawn and cleared first
+	 */
+	public boolean begin(Mode mode, int texture, AlphaMode alphaMode){
+		if(mode == Mode.SHAPE) texture = 0;
+		if(this.isEmpty()){
+			this.mode = mode;
+			this.texture = texture;
+			this.alphaMode = alphaMode;
+			return true;
+		}
+		return this.mode == mode && this.texture == texture && this.alphaMode == alphaMode;
+	}
+	
+	/**
+	 * Add a quad to this batch. The corners are given in the space before transformation, and are added in the order lower left, lower right, upper right, upper left
+	 *
+	 * @param m The matrix to transform the corners by
+	 * @param x0 The x coordinate of the left side
+	 * @param y0 The y coordinate of the bottom side
+	 * @param x1 The x coordinate of the right side
+	 * @param y1 The y coordinate of the top side
+	 * @param s0 The texture x coordinate of the left side
+	 * @param t0 The texture y coordinate of the bottom side
+	 * @param s1 The texture x coordinate of the right side
+	 * @param t1 The texture y coordinate of the top side
+	 * @param c The color of the quad
+	 */
+	public void addQuad(Matrix4f m, float x0, float y0, float x1, float y1, float s0, float t0, float s1, float t1, ZColor c){
+		this.ensureCapacity(QUAD_VERTICES, QUAD_INDEXES);
+		int first = this.vertices;
+		this.addVertex(m, x0, y0, s0, t0, c);
+		this.addVertex(m, x1, y0, s1, t0, c);
+		this.addVertex(m, x1, y1, s1, t1, c);
+		this.addVertex(m, x0, y1, s0, t1, c);
+		this.addTriangle(first, first + 1, first + 2);
+		this.addTriangle(first, first + 3, first + 2);
+	}
+	
+	/**
+	 * Add a convex polygon to this batch, made of triangles which all share the first point
+	 *
+	 * @param m The matrix to transform the points by
+	 * @param points The x and y coordinate of each point of the polygon, in order around the polygon, packed one after the other, in the space before transformation
+	 * @param c The color of the polygon
+	 */
+	public void addFan(Matrix4f m, float[] points, ZColor c){
+		int count = points.length / 2;
+		if(count < 3) return;
+		this.ensureCapacity(count, (count - 2) * 3);
+		int first = this.vertices;
+		for(int i = 0; i < count; i++) this.addVertex(m, points[i * 2], points[i * 2 + 1], 0, 0, c);
+		for(int i = 1; i < count - 1; i++) this.addTriangle(first, first + i, first + i + 1);
+	}
+	
+	/**
+	 * Add one vertex to the arrays of this batch, which must already have space for it
+	 *
+	 * @param m The matrix to transform the vertex by
+	 * @param x The x coordinate, before transformation
+	 * @param y The y coordinate, before transformation
+	 * @param s The texture x coordinate
+	 * @param t The texture y coordinate
+	 * @param c The color
+	 */
+	private void addVertex(Matrix4f m, float x, float y, float s, float t, ZColor c){
+		int p = this.vertices * POSITION_LENGTH;
+		// The same as multiplying the matrix by the vector (x, y, 0, 1)
+		this.positions[p] = m.m00() * x + m.m10() * y + m.m30();
+		this.positions[p + 1] = m.m01() * x + m.m11() * y + m.m31();
+		this.positions[p + 2] = m.m02() * x + m.m12() * y + m.m32();
+		this.positions[p + 3] = m.m03() * x + m.m13() * y + m.m33();
+		
+		int tex = this.vertices * TEX_LENGTH;
+		this.texCoords[tex] = s;
+		this.texCoords[tex + 1] = t;
+		
+		int col = this.vertices * COLOR_LENGTH;
+		this.colors[col] = (float)c.red();
+		this.colors[col + 1] = (float)c.green();
+		this.colors[col + 2] = (float)c.blue();
+		this.colors[col + 3] = (float)c.alpha();
+		
+		this.vertices++;
+	}
+	
+	/**
+	 * Add one triangle to the indexes of this batch, which must already have space for it
+	 *
+	 * @param a The index of the first vertex
+	 * @param b The index of the second vertex
+	 * @param c The index of the third vertex
+	 */
+	private void addTriangle(int a, int b, int c){
+		this.indexes[this.indexCount++] = a;
+		this.indexes[this.indexCount++] = b;
+		this.indexes[this.indexCount++] = c;
+	}
+	
+	/**
+	 * Grow the arrays of this batch, if needed, so that they can hold the given number of additional vertices and indexes
+	 *
+	 * @param newVertices The number of vertices which will be added
+	 * @param newIndexes The number of indexes which will be added
+	 */
+	private void ensureCapacity(int newVertices, int newIndexes){
+		int neededVertices = this.vertices + newVertices;
+		int capacity = this.getCapacity();
+		if(neededVertices > capacity){
+			while(capacity < neededVertices) capacity <<= 1;
+			this.positions = this.grow(this.positions, capacity * POSITION_LENGTH, this.vertices * POSITION_LENGTH);
+			this.texCoords = this.grow(this.texCoords, capacity * TEX_LENGTH, this.vertices * TEX_LENGTH);
+			this.colors = this.grow(this.colors, capacity * COLOR_LENGTH, this.vertices * COLOR_LENGTH);
+		}
+		int neededIndexes = this.indexCount + newIndexes;
+		if(neededIndexes > this.indexes.length){
+			int length = this.indexes.length;
+			while(length < neededIndexes) length <<= 1;
+			var grown = new int[length];
+			System.arraycopy(this.indexes, 0, grown, 0, this.indexCount);
+			this.indexes = grown;
+		}
+	}
+	
+	/**
+	 * Make a larger copy of the given array
+	 *
+	 * @param array The array to copy
+	 * @param length The length of the new array
+	 * @param used The number of values to copy from the start of array
+	 * @return The new array
+	 */
+	private float[] grow(float[] array, int length, int used){
+		var grown = new float[length];
+		System.arraycopy(array, 0, grown, 0, used);
+		return grown;
+	}
+	
+	/** Remove every quad from this batch. The arrays of this batch keep their size, so that filling it again does not allocate */
+	public void clear(){
+		this.vertices = 0;
+		this.indexCount = 0;
+	}
+	
+	/** @return true if this batch has nothing to draw, false otherwise */
+	public boolean isEmpty(){
+		return this.indexCount == 0;
+	}
+	
+	/** @return See {@link #vertices} */
+	public int getVertexCount(){
+		return this.vertices;
+	}
+	
+	/** @return See {@link #indexCount} */
+	public int getIndexCount(){
+		return this.indexCount;
+	}
+	
+	/** @return The number of vertices this batch can hold before it needs to grow */
+	public int getCapacity(){
+		return this.positions.length / POSITION_LENGTH;
+	}
+	
+	/** @return See {@link #positions}. Only the values of the first {@link #getVertexCount()} vertices are in this batch */
+	public float[] getPositions(){
+		return this.positions;
+	}
+	
+	/** @return See {@link #texCoords}. Only the values of the first {@link #getVertexCount()} vertices are in this batch */
+	public float[] getTexCoords(){
+		return this.texCoords;
+	}
+	
+	/** @return See {@link #colors}. Only the values of the first {@link #getVertexCount()} vertices are in this batch */
+	public float[] getColors(){
+		return this.colors;
+	}
+	
+	/** @return See {@link #indexes}. Only the first {@link #getIndexCount()} values are in this batch */
+	public int[] getIndexes(){
+		return this.indexes;
+	}
+	
+	/** @return See {@link #mode} */
+	public Mode getMode(){
+		return this.mode;
+	}
+	
+	/** @return See {@link #texture} */
+	public int getTexture(){
+		return this.texture;
+	}
+	
+	/** @return See {@link #alphaMode} */
+	public AlphaMode getAlphaMode(){
+		return this.alphaMode;
+	}
+	
+	/**
+	 * Get the vertex array for drawing this batch, sending the vertices of this batch to the GPU.
+	 * Must only be called on the thread with the OpenGL context. Calling this method can change the currently bound vertex array
+	 *
+	 * @return The vertex array
+	 */
+	public VertexArray getVertexArray(){
+		if(this.vertexArray == null || this.gpuVertices != this.getCapacity()){
+			this.destroy();
+			// The buffers on the GPU have a fixed size, so new ones are only made when the arrays of the batch grow
+			this.gpuVertices = this.getCapacity();
+			this.positionBuff = new VertexBuffer(Renderer.VERTEX_POS_INDEX, POSITION_LENGTH, GL_STREAM_DRAW, this.positions);
+			this.texCoordBuff = new VertexBuffer(Renderer.VERTEX_TEX_INDEX, TEX_LENGTH, GL_STREAM_DRAW, this.texCoords);
+			this.colorBuff = new VertexBuffer(Renderer.VERTEX_COLOR_INDEX, COLOR_LENGTH, GL_STREAM_DRAW, this.colors);
+			this.vertexArray = new VertexArray(this.positionBuff, this.texCoordBuff, this.colorBuff);
+		}
+		else{
+			this.positionBuff.updateData(this.positions, this.vertices * POSITION_LENGTH);
+			this.texCoordBuff.updateData(this.texCoords, this.vertices * TEX_LENGTH);
+			this.colorBuff.updateData(this.colors, this.vertices * COLOR_LENGTH);
+		}
+		return this.vertexArray;
+	}
+	
+	/** @return The indexes of this batch, in a buffer for drawing with OpenGL. Only valid until this batch is changed */
+	public IntBuffer getIndexBuffer(){
+		if(this.indexBuff == null || this.indexBuff.capacity() < this.indexCount) this.indexBuff = BufferUtils.createIntBuffer(this.indexes.length);
+		this.indexBuff.clear();
+		this.indexBuff.put(this.indexes, 0, this.indexCount).flip();
+		return this.indexBuff;
+	}
+	
+	/** Free the resources used by this batch on the GPU. The data on the CPU is kept */
+	@Override
+	public void destroy(){
+		if(this.vertexArray != null) this.vertexArray.destroy();
+		if(this.positionBuff != null) this.positionBuff.destroy();
+		if(this.texCoordBuff != null) this.texCoordBuff.destroy();
+		if(this.colorBuff != null) this.colorBuff.destroy();
+		this.vertexArray = null;
+		this.positionBuff = null;
+		this.texCoordBuff = null;
+		this.colorBuff = null;
+		this.gpuVertices = 0;
+	}
+	
+}
@@ -1,21 +1,23 @@
 package zgame.core.graphics;
 
 import static org.lwjgl.opengl.GL30.*;
+import static org.lwjgl.opengl.GL31.glDrawElementsInstanced;
 
 import org.joml.Matrix4f;
 import org.joml.Quaternionf;
-import org.joml.Vector4d;
 import org.lwjgl.BufferUtils;
-import org.lwjgl.stb.STBTTAlignedQuad;
 
 import zgame.core.graphics.buffer.*;
 import zgame.core.graphics.camera.GameCamera3D;
 import zgame.core.graphics.camera.GameCamera;
+import zgame.core.graphics.camera.ViewFrustum;
 import zgame.core.graphics.font.GameFont;
 import zgame.core.graphics.font.TextBuffer;
+import zgame.core.graphics.font.TextLayout;
 import zgame.core.graphics.image.GameImage;
 import zgame.core.graphics.shader.ShaderProgram;
 import zgame.core.utils.LimitedStack;
+import zgame.core.utils.ZFilePaths;
 import zgame.core.utils.ZMath;
 import zgame.core.utils.ZRect2D;
 import zgame.core.utils.ZStringUtils;
@@ -63,13 +65,13 @@ public class Renderer implements Destroyable{
 	public static final int VERTEX_TEX_INDEX = 1;
 	/** The vertex buffer index for color coordinates */
 	public static final int VERTEX_COLOR_INDEX = 2;
+	/** The first of the four vertex buffer indexes for the columns of the transformation matrix of an instance, see {@link InstanceBatch} */
+	public static final int VERTEX_TRANSFORM_INDEX = 3;
 	
-	/** The buffer for the x coordinate when rendering text */
-	private final FloatBuffer xTextBuff;
-	/** The buffer for the y coordinate when rendering text */
-	private final FloatBuffer yTextBuff;
-	/** The STBTTAlignedQuad buffer for the quad for rendering */
-	private final STBTTAlignedQuad textQuad;
+	/** The positions of the corners of one character when rendering text without batching, reused for every character */
+	private final float[] textPosData;
+	/** The texture coordinates of the corners of one character when rendering text without batching, reused for every character */
+	private final float[] textTexData;
 	
 	/** The shader used to draw basic shapes, i.e. solid colors */
 	private final ShaderProgram shapeShader;
@@ -81,9 +83,22 @@ public class Renderer implements Destroyable{
 	private final ShaderProgram framebufferShader;
 	/** The shader used to draw 3D rectangles with colors */
 	private final ShaderProgram rect3DShader;
+	/** The shader used to draw a {@link QuadBatch} of each {@link QuadBatch.Mode}, indexed by the ordinal of the mode */
+	private final ShaderProgram[] batchShaders;
+	/** The shader used to draw an {@link InstanceBatch} of any {@link InstanceBatch.Primitive} */
+	private final ShaderProgram instanceShader;
 	/** The shader which is currently used */
 	private ShaderProgram shader;
 	
+	/** The 2D shapes, images, and text which have been drawn, but not yet sent to OpenGL, see {@link #flushBatch()} */
+	private final QuadBatch batch;
+	/** true if 2D shapes, images, and text are collected in {@link #batch} and drawn together, false to draw each one as soon as it is drawn */
+	private boolean batching;
+	/** The instances of each {@link InstanceBatch.Primitive} which have been added, but not yet drawn, indexed by the ordinal of the primitive, see {@link #flushInstances()} */
+	private final InstanceBatch[] instanceBatches;
+	/** The colors of each vertex of a rectangular prism, reused each time a prism is drawn without instances */
+	private final float[] rect3DColorData;
+	
 	/** The {@link VertexArray} for drawing plain rectangles */
 	private VertexArray rectVertArr;
 	/** A {@link VertexBuffer} which represents positional values that fill the entire OpenGL screen from (-1, -1) to (1, 1) */
@@ -97,6 +112,8 @@ public class Renderer implements Destroyable{
 	private VertexArray ellipseVertArr;
 	/** The {@link VertexBuffer} which represents positional values that generate an ellipse */
 	private VertexBuffer ellipsePosBuff;
+	/** The x and y coordinate of each point of an ellipse, packed one after the other, the same values held by {@link #ellipsePosBuff} */
+	private float[] ellipsePoints;
 	/** The index buffer that tracks the indexes for drawing an ellipse */
 	private IndexByteBuffer ellipseIndexBuff;
 	
@@ -162,18 +179,30 @@ public class Renderer implements Destroyable{
 	private final ArrayList<LimitedStack<?>> attributeStacks;
 	
 	/** The stack used to keep track of transformations. The last element is always the current model view matrix */
-	private final LimitedStack<Matrix4f> modelViewStack;
+	private final MatrixStack modelViewStack;
 	/** The buffer used to track {@link #modelView} */
 	private final FloatBuffer modelViewBuff;
-	/** The current bounds of the renderer, transformed based on {@link #modelView()}, or null if it needs to be recalculated */
+	/**
+	 * The bounds of everything which can appear on the current buffer, in the coordinates given to the drawing methods, i.e. the bounds of the buffer and of
+	 * {@link #scissorBounds}, transformed by the inverse of {@link #modelView()}. null if the bounds cannot be found, i.e. when {@link #modelView()} uses a 3D perspective
+	 */
 	private ZRect2D transformedRenderBounds;
+	/** true if {@link #transformedRenderBounds} must be recalculated before it is used, false otherwise */
+	private boolean renderBoundsChanged;
+	/** The bounds, in pixels on the current buffer, which the scissor test limits drawing to, or null if drawing is not limited. See {@link #limitedBoundsStack} */
+	private ZRect2D scissorBounds;
 	/** true if {@link #modelView()} has changed since last being sent to the current shader, and must be resent before any rendering operations take place, false otherwise */
 	private boolean sendModelView;
 	/** true if {@link #getColor()} has changed since last being sent to the current shader */
 	private boolean sendColor;
 	
+	/** The planes bounding what the 3D camera can see in the current frame, used to skip drawing things which are not on the screen */
+	private final ViewFrustum frustum;
+	
 	/** The last used mode for rendering alpha values */
 	private AlphaMode alphaMode;
+	/** The mode for rendering alpha values which OpenGL is currently using. Can be different from {@link #alphaMode} while {@link #batch} has not been drawn */
+	private AlphaMode usedAlphaMode;
 	
 	/** The stack keeping track of the current color used by this {@link Renderer} */
 	private final LimitedStack<ZColor> colorStack;
@@ -228,6 +257,14 @@ public class Renderer implements Destroyable{
 	 */
 	public Renderer(int width, int height){
 		this.alphaMode = AlphaMode.NORMAL;
+		this.usedAlphaMode = AlphaMode.NORMAL;
+		
+		// Batching
+		this.batch = new QuadBatch();
+		this.batching = true;
+		this.instanceBatches = new InstanceBatch[InstanceBatch.Primitive.values().length];
+		for(int i = 0; i < this.instanceBatches.length; i++) this.instanceBatches[i] = new InstanceBatch();
+		this.rect3DColorData = new float[6 * 4 * 4];
 		
 		// Initialize stack list
 		this.stacks = new ArrayList<>();
@@ -247,10 +284,13 @@ public class Renderer implements Destroyable{
 		// The matrix is 4x4, so 16 floats
 		this.modelViewBuff = BufferUtils.createFloatBuffer(16);
 		// Model view stack
-		this.modelViewStack = new LimitedStack<>(new Matrix4f());
+		this.modelViewStack = new MatrixStack();
 		this.stacks.add(this.modelViewStack);
 		this.transformedRenderBounds = null;
+		this.renderBoundsChanged = true;
+		this.scissorBounds = null;
 		this.sendModelView = true;
+		this.frustum = new ViewFrustum();
 		
 		// Font stack
 		this.fontStack = new LimitedStack<>(DEFAULT_FONT);
@@ -280,9 +320,8 @@ public class Renderer implements Destroyable{
 		this.updateLimitedBounds();
 		
 		// Text rendering buffers
-		this.xTextBuff = BufferUtils.createFloatBuffer(1);
-		this.yTextBuff = BufferUtils.createFloatBuffer(1);
-		this.textQuad = STBTTAlignedQuad.create();
+		this.textPosData = new float[8];
+		this.textTexData = new float[8];
 		
 		// Load shaders
 		this.shapeShader = new ShaderProgram("default");
@@ -290,6 +329,12 @@ public class Renderer implements Destroyable{
 		this.fontShader = new ShaderProgram("font");
 		this.framebufferShader = new ShaderProgram("framebuffer");
 		this.rect3DShader = new ShaderProgram("default3D");
+		var batchVert = ZStringUtils.concat(ZFilePaths.SHADERS, "batch.vert");
+		this.batchShaders = new ShaderProgram[QuadBatch.Mode.values().length];
+		this.batchShaders[QuadBatch.Mode.SHAPE.ordinal()] = new ShaderProgram(batchVert, ZStringUtils.concat(ZFilePaths.SHADERS, "batchShape.frag"));
+		this.batchShaders[QuadBatch.Mode.TEXTURE.ordinal()] = new ShaderProgram(batchVert, ZStringUtils.concat(ZFilePaths.SHADERS, "batchTexture.frag"));
+		this.batchShaders[QuadBatch.Mode.FONT.ordinal()] = new ShaderProgram(batchVert, ZStringUtils.concat(ZFilePaths.SHADERS, "batchFont.frag"));
+		this.instanceShader = new ShaderProgram(ZStringUtils.concat(ZFilePaths.SHADERS, "instance3D.vert"), ZStringUtils.concat(ZFilePaths.SHADERS, "default3D.frag"));
 		this.renderModeImage();
 		
 		// Vertex arrays and vertex buffers
@@ -452,6 +497,7 @@ public class Renderer implements Destroyable{
 			ellipsePoints[i * 2 + 1] = (float)y;
 		}
 		this.ellipsePosBuff = new VertexBuffer(VERTEX_POS_INDEX, 2, GL_STATIC_DRAW, ellipsePoints);
+		this.ellipsePoints = ellipsePoints;
 		
 		//////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 		// 3D vertex buffers
@@ -658,6 +704,9 @@ public class Renderer implements Destroyable{
 		
 		this.rect3DTexVertArr.destroy();
 		this.rect3DTexCoordBuff.destroy();
+		
+		this.batch.destroy();
+		for(var b : this.instanceBatches) b.destroy();
 	}
 	
 	/**
@@ -721,6 +770,7 @@ public class Renderer implements Destroyable{
 	 * Clear all rendered contents of this renderer. Calling this method will leave this Renderer's GameBuffer's Framebuffer as the bound framebuffer
 	 */
 	public void clear(){
+		this.flushBatch();
 		glBindFramebuffer(GL_FRAMEBUFFER, this.getBuffer().getFrameID());
 		glClear(GL_COLOR_BUFFER_BIT | GL_DEPTH_BUFFER_BIT);
 		if(this.isDepthTestEnabled()) glClearDepth(1);
@@ -731,8 +781,9 @@ public class Renderer implements Destroyable{
 		return this.modelViewStack.peek();
 	}
 	
+	/** @return See {@link #transformedRenderBounds} */
 	public ZRect2D getTransformedRenderBounds(){
-		if(this.transformedRenderBounds == null) this.recalculateRenderBounds();
+		if(this.renderBoundsChanged) this.recalculateRenderBounds();
 		return this.transformedRenderBounds;
 	}
 	
@@ -763,40 +814,56 @@ public class Renderer implements Destroyable{
 		if(loc != -1) glUniform4fv(loc, c);
 	}
 	
-	/** Recalculate the value of {@link #transformedRenderBounds} based on the current value of {@link #modelView()} */
+	/** Recalculate the value of {@link #transformedRenderBounds} based on the current value of {@link #modelView()}, the current buffer, and {@link #scissorBounds} */
 	private void recalculateRenderBounds(){
-		// Don't recalculate the bounds if it doesn't need to be recalculated
-		if(this.transformedRenderBounds != null) return;
+		this.renderBoundsChanged = false;
 		
-		// This assumes only scaling and translation transformations have occurred
-		
-		ZRect2D renderBounds = this.getBounds();
-		
-		// issue#6 Transform the render bounds by the current model view matrix so that it aligns with the given draw bounds, figure out where this math is going wrong
-		
-		// Form the matrices that represent the upper left hand and lower right hand corners of the draw bounds
-		Vector4d upper = new Vector4d(renderBounds.getX(), renderBounds.getY(), 1, 1);
-		Vector4d lower = new Vector4d(renderBounds.getX() + renderBounds.getWidth(), renderBounds.getY() + renderBounds.getHeight(), 1, 1);
-		
-		// Grab the current modelView matrix
-		Matrix4f transform = this.modelView();
+		// Only a 2D transformation can be reversed to find the bounds, so with a perspective, nothing is culled
+		Matrix4f m = this.modelView();
+		if(!m.isAffine()){
+			this.transformedRenderBounds = null;
+			return;
+		}
 		
-		// Transform the corners by the current matrix
-		upper.mul(transform);
-		lower.mul(transform);
+		// Find the pixels of the buffer which can be drawn to
+		GameBuffer b = this.getBuffer();
+		double bw = b.getWidth();
+		double bh = b.getHeight();
+		double left = 0;
+		double top = 0;
+		double right = bw;
+		double bottom = bh;
+		var scissor = this.scissorBounds;
+		if(scissor != null){
+			left = Math.max(left, scissor.getX());
+			top = Math.max(top, scissor.getY());
+			right = Math.min(right, scissor.getMaxX());
+			bottom = Math.min(bottom, scissor.getMaxY());
+		}
+		double det = (double)m.m00() * m.m11() - (double)m.m01() * m.m10();
+		if(right <= left || bottom <= top || det == 0){
+			this.transformedRenderBounds = new ZRect2D();
+			return;
+		}
 		
-		// Set the current transformed bounds based on the calculated corners
-		this.transformedRenderBounds = new ZRect2D(upper.x, upper.y, lower.x - upper.x, lower.y - upper.y);
+		// Convert the pixels to OpenGL coordinates, undo the model view, then convert back to the coordinates used by positionObject
+		double minX = Double.POSITIVE_INFINITY;
+		double minY = Double.POSITIVE_INFINITY;
+		double maxX = Double.NEGATIVE_INFINITY;
+		double maxY = Double.NEGATIVE_INFINITY;
+		for(int c = 0; c < 4; c++){
+			double nx = -1 + 2 * (c % 2 == 0 ? left : right) / bw - m.m30();
+			double ny = 1 - 2 * (c < 2 ? top : bottom) / bh - m.m31();
+			double x = ((m.m11() * nx - m.m10() * ny) / det + 1) * bw * 0.5;
+			double y = (1 - (m.m00() * ny - m.m01() * nx) / det) * bh * 0.5;
+			minX = Math.min(minX, x);
+			minY = Math.min(minY, y);
+			maxX = Math.max(maxX, x);
+			maxY = Math.max(maxY, y);
+		}
+		this.transformedRenderBounds = new ZRect2D(minX, minY, maxX - minX, maxY - minY);
 	}
 	
-	// issue#6 remove, this is a testing method. If working correctly, it should always draw a transparent rectangle on top of the entire canvas, regardless of any kind of
-	// transformations
-	// public void renderWeird(){
-	// this.recalculateRenderBounds();
-	// this.setColor(0, 1, 1, .5);
-	// this.drawRectangle(transformedRenderBounds);
-	// }
-	
 	/** Tell all of the values in this {@link Renderer} that they need to be resent to the gpu */
 	public void markGpuSend(){
 		this.sendModelView = true;
@@ -807,7 +874,7 @@ public class Renderer implements Destroyable{
 	/**
 	 * Set the transformation matrix used for rendering
 	 *
-	 * @param matrix The matrix to use
+	 * @param matrix The matrix to use, its values are copied, so changing it afterwards does not change the transformation
 	 */
 	public void setMatrix(Matrix4f matrix){
 		this.modelViewStack.replaceTop(matrix);
@@ -817,21 +884,22 @@ public class Renderer implements Destroyable{
 	/** Tell this {@link Renderer} that {@link #modelView()} has changed, and its dependent values will need to be recalculated before they can be used */
 	private void markModelViewChanged(){
 		this.sendModelView = true;
-		this.transformedRenderBounds = null;
+		this.renderBoundsChanged = true;
 	}
 	
 	/** Set the modelView matrix to the identity matrix */
 	public void identityMatrix(){
-		this.setMatrix(new Matrix4f());
+		this.modelView().identity();
+		this.markModelViewChanged();
 	}
 	
 	/** Push the current state of the transformation matrix onto the matrix stack, i.e. save the current state of the transformations */
 	public void pushMatrix(){
-		this.modelViewStack.push(new Matrix4f(this.modelView()));
+		this.modelViewStack.push();
 	}
 	
 	/** @return The stack keeping track of the model view matrix */
-	public LimitedStack<Matrix4f> getMatrixStack(){
+	public MatrixStack getMatrixStack(){
 		return this.modelViewStack;
 	}
 	
@@ -912,7 +980,9 @@ public class Renderer implements Destroyable{
 	 * @param roll The roll to rotate
 	 */
 	public void rotate(double yaw, double pitch, double roll){
-		this.rotate(new Quaternionf().rotateY((float)yaw).rotateX((float)pitch).rotateZ((float)roll));
+		// The same as rotating by a quaternion rotated by the yaw, then pitch, then roll, without making the quaternion
+		this.modelView().rotateY((float)yaw).rotateX((float)pitch).rotateZ((float)roll);
+		this.markModelViewChanged();
 	}
 	
 	/**
@@ -941,15 +1011,13 @@ public class Renderer implements Destroyable{
 		double x = offsetVec.getX();
 		double y = offsetVec.getY();
 		double z = offsetVec.getZ();
-		this.setMatrix(new Matrix4f()
+		this.modelView().identity()
 				.perspective((float)camera.getFov(), (float)this.getBuffer().getRatioWH(), (float)camera.getNearZ(), (float)camera.getFarZ())
-				.rotate(new Quaternionf()
-						.rotateZ((float)camera.getRoll())
-						.rotateX((float)camera.getPitch())
-						.rotateY((float)camera.getYaw())
-				)
-				.translate((float)(x - camera.getX()), (float)(y - camera.getY()), (float)(z - camera.getZ()))
-		);
+				.rotateZ((float)camera.getRoll())
+				.rotateX((float)camera.getPitch())
+				.rotateY((float)camera.getYaw())
+				.translate((float)(x - camera.getX()), (float)(y - camera.getY()), (float)(z - camera.getZ()));
+		this.markModelViewChanged();
 	}
 	
 	/** @return The top of {@link #positioningEnabledStack} */
@@ -998,12 +1066,111 @@ public class Renderer implements Destroyable{
 	 * @param shader The shader to use.
 	 */
 	private void setShader(ShaderProgram shader){
+		// Anything waiting in the batch must be drawn before anything is drawn without it
+		this.flushBatch();
+		this.useShader(shader);
+	}
+	
+	/**
+	 * Give the given shader to OpenGL, without drawing {@link #batch}
+	 *
+	 * @param shader The shader to use.
+	 */
+	private void useShader(ShaderProgram shader){
 		if(this.shader == shader) return;
 		this.markGpuSend();
 		shader.use();
 		this.shader = shader;
 	}
 	
+	/** @return See {@link #batching} */
+	public boolean isBatching(){
+		return this.batching;
+	}
+	
+	/**
+	 * Set whether 2D shapes, images, and text should be drawn together. Draws anything already collected when turned off
+	 *
+	 * @param batching See {@link #batching}
+	 */
+	public void setBatching(boolean batching){
+		if(!batching) this.flushBatch();
+		this.batching = batching;
+	}
+	
+	/** @return See {@link #batch} */
+	public QuadBatch getBatch(){
+		return this.batch;
+	}
+	
+	/**
+	 * Prepare {@link #batch} to have quads of the given state added to it, drawing what it already holds if it uses a different state
+	 *
+	 * @param mode The mode of the quads
+	 * @param texture The OpenGL id of the texture of the quads
+	 * @param alphaMode The alpha mode of the quads
+	 */
+	private void beginBatch(QuadBatch.Mode mode, int texture, AlphaMode alphaMode){
+		if(this.batch.begin(mode, texture, alphaMode)) return;
+		this.flushBatch();
+		this.batch.begin(mode, texture, alphaMode);
+	}
+	
+	/**
+	 * Draw everything collected in {@link #batch} with one OpenGL draw call, then empty it.
+	 * This must happen before anything else changes the state of OpenGL that the collected quads rely on, i.e. the shader, the buffer, or the limited bounds.
+	 * Also makes OpenGL use {@link #alphaMode}, so that anything drawn afterwards uses the last requested mode
+	 */
+	public void flushBatch(){
+		if(!this.batch.isEmpty()){
+			var mode = this.batch.getMode();
+			this.useShader(this.batchShaders[mode.ordinal()]);
+			if(mode != QuadBatch.Mode.SHAPE) glBindTexture(GL_TEXTURE_2D, this.batch.getTexture());
+			this.useAlphaMode(this.batch.getAlphaMode());
+			// The positions in the batch are already transformed, so the model view is not used
+			this.bindVertexArray(this.batch.getVertexArray());
+			glDrawElements(GL_TRIANGLES, this.batch.getIndexBuffer());
+			this.batch.clear();
+		}
+		this.useAlphaMode(this.alphaMode);
+	}
+	
+	/**
+	 * Draw every instance added to {@link #instanceBatches} with one instanced OpenGL draw call for each {@link InstanceBatch.Primitive}, then empty them.
+	 * This must happen before anything changes the state of OpenGL that the instances rely on, i.e. the buffer, the limited bounds, or the depth test
+	 */
+	public void flushInstances(){
+		for(var primitive : InstanceBatch.Primitive.values()){
+			var b = this.instanceBatches[primitive.ordinal()];
+			if(b.isEmpty()) continue;
+			this.setShader(this.instanceShader);
+			// The transformations of the instances already include the model view, so the model view is not used
+			switch(primitive){
+				case RECT_PRISM -> {
+					this.bindVertexArray(b.getVertexArray(this.rect3DCoordBuff));
+					glDrawElementsInstanced(GL_QUADS, this.rect3DIndexBuff.getBuff(), b.getInstanceCount());
+				}
+				case SPHERE -> {
+					this.bindVertexArray(b.getVertexArray(this.sphereCoordBuff));
+					glDrawElementsInstanced(GL_TRIANGLES, this.sphereIndexBuff.getBuff(), b.getInstanceCount());
+				}
+				case PLANE -> {
+					this.bindVertexArray(b.getVertexArray(this.planeCoordBuff));
+					glDrawElementsInstanced(GL_QUADS, this.planeIndexBuff.getBuff(), b.getInstanceCount());
+				}
+			}
+			b.clear();
+		}
+	}
+	
+	/**
+	 * @param primitive The primitive of the batch
+	 * @return The batch holding the instances of the given primitive which have not yet been drawn
+	 */
+	public InstanceBatch getInstanceBatch(InstanceBatch.Primitive primitive){
+		return this.instanceBatches[primitive.ordinal()];
+	}
+	
 	/**
 	 * Make all rendering operations draw to this Renderer and set up this {@link Renderer} to be ready for drawing
 	 */
@@ -1026,9 +1193,13 @@ public class Renderer implements Destroyable{
 	 * @param window The window to draw to
 	 */
 	public void drawToWindow(GameWindow window){
+		// Anything not yet drawn must be on the buffer before it is drawn
+		this.flushInstances();
+		
 		// Set the current shader for drawing a frame buffer
 		this.renderModeBuffer();
-		AlphaMode.NORMAL.use();
+		this.updateAlphaMode(AlphaMode.NORMAL);
+		this.useAlphaMode(AlphaMode.NORMAL);
 		this.pushColor(this.getColor().solid());
 		this.pushMatrix();
 		this.identityMatrix();
@@ -1147,6 +1318,12 @@ public class Renderer implements Destroyable{
 	
 	/** Update the current state of the limited bounds via calls to glScissor */
 	private void updateLimitedBounds(){
+		// The bounds apply to anything not yet drawn, so draw the batch and the instances with the old bounds
+		this.flushBatch();
+		this.flushInstances();
+		this.scissorBounds = null;
+		this.renderBoundsChanged = true;
+		
 		if(DISABLE_LIMITING_BOUNDS){
 			glDisable(GL_SCISSOR_TEST);
 			return;
@@ -1171,11 +1348,16 @@ public class Renderer implements Destroyable{
 		}
 		glEnable(GL_SCISSOR_TEST);
 		glScissor((int)Math.round(x), (int)Math.round(this.getHeight() - y), (int)Math.round(w), (int)Math.round(h));
+		// Pad by a pixel to account for rounding
+		this.scissorBounds = new ZRect2D(x, y - h, w, h, 1);
 	}
 	
 	/** @param depthTestEnabled See {@link #depthTestEnabled} */
 	public void setDepthTestEnabled(boolean depthTestEnabled){
+		// Instances are drawn at the end of drawing in 3D, which is always before the depth test changes
+		this.flushInstances();
 		if(this.depthTestEnabled == depthTestEnabled) return;
+		this.flushBatch();
 		this.depthTestEnabled = depthTestEnabled;
 		if(depthTestEnabled) glEnable(GL_DEPTH_TEST);
 		else glDisable(GL_DEPTH_TEST);
@@ -1327,6 +1509,15 @@ public class Renderer implements Destroyable{
 	public boolean drawRectangle(double x, double y, double w, double h){
 		if(!this.shouldDraw(x, y, w, h)) return false;
 		
+		if(this.isBatching()){
+			this.beginBatch(QuadBatch.Mode.SHAPE, 0, this.alphaMode);
+			this.pushMatrix();
+			this.positionObject(x, y, w, h);
+			this.batch.addQuad(this.modelView(), -1, -1, 1, 1, 0, 0, 1, 1, this.getColor());
+			this.popMatrix();
+			return true;
+		}
+		
 		// Use the shape shader and the rectangle vertex array
 		this.renderModeShapes();
 		this.bindVertexArray(rectVertArr);
@@ -1381,6 +1572,15 @@ public class Renderer implements Destroyable{
 	public boolean drawEllipse(double x, double y, double w, double h){
 		if(!this.shouldDraw(x, y, w, h)) return false;
 		
+		if(this.isBatching()){
+			this.beginBatch(QuadBatch.Mode.SHAPE, 0, this.alphaMode);
+			this.pushMatrix();
+			this.positionObject(x, y, w, h);
+			this.batch.addFan(this.modelView(), this.ellipsePoints, this.getColor());
+			this.popMatrix();
+			return true;
+		}
+		
 		// Use the shape shader and the rectangle vertex array
 		this.renderModeShapes();
 		this.bindVertexArray(ellipseVertArr);
@@ -1398,12 +1598,18 @@ public class Renderer implements Destroyable{
 		return true;
 	}
 	
-	/** @param mode The new mode to use */
+	/** @param mode The new mode to use, which is given to OpenGL immediately if {@link #batching} is off, or when {@link #batch} is drawn */
 	private void updateAlphaMode(AlphaMode mode){
 		if(mode == null) mode = AlphaMode.NORMAL;
-		if(mode == this.alphaMode) return;
 		this.alphaMode = mode;
-		this.alphaMode.use();
+		if(!this.isBatching()) this.useAlphaMode(mode);
+	}
+	
+	/** @param mode The mode to give to OpenGL, does nothing if OpenGL is already using it */
+	private void useAlphaMode(AlphaMode mode){
+		if(mode == this.usedAlphaMode) return;
+		this.usedAlphaMode = mode;
+		mode.use();
 	}
 	
 	/**
@@ -1435,8 +1641,7 @@ public class Renderer implements Destroyable{
 	 */
 	public boolean drawBuffer(double x, double y, double w, double h, GameBuffer b, AlphaMode mode){
 		if(!this.shouldDraw(x, y, w, h)) return false;
-		this.renderModeBuffer();
-		return this.drawTexture(x, y, w, h, b.getTextureID(), mode);
+		return this.drawTexture(x, y, w, h, b.getTextureID(), mode, this.framebufferShader);
 	}
 	
 	/**
@@ -1469,8 +1674,7 @@ public class Renderer implements Destroyable{
 	 */
 	public boolean drawImage(double x, double y, double w, double h, GameImage img, AlphaMode mode){
 		if(!this.shouldDraw(x, y, w, h)) return false;
-		this.renderModeImage();
-		return this.drawTexture(x, y, w, h, img.getId(), mode);
+		return this.drawTexture(x, y, w, h, img.getId(), mode, this.textureShader);
 	}
 	
 	/**
@@ -1478,7 +1682,7 @@ public class Renderer implements Destroyable{
 	 * Draw a rectangular texture at the specified location on the given buffer
 	 * If the given dimensions have a different aspect ratio that those of the given texture, then the texture will stretch to fit the given dimensions
 	 * Coordinate types depend on {@link #positioningEnabledStack}
-	 * This method does not set the shader to use, and it does not check if the bounds should be rendered
+	 * This method does not check if the bounds should be rendered
 	 *
 	 * @param x The x coordinate of the upper left hand corner of the texture
 	 * @param y The y coordinate of the upper left hand corner of the texture
@@ -1486,9 +1690,21 @@ public class Renderer implements Destroyable{
 	 * @param h The height of the texture
 	 * @param img The OpenGL id of the texture to draw
 	 * @param mode The way to draw the texture for transparency, or null to default to {@link AlphaMode#NORMAL}
+	 * @param shader The shader to use if the texture is not batched
 	 * @return true if the object was drawn, false otherwise
 	 */
-	private boolean drawTexture(double x, double y, double w, double h, int img, AlphaMode mode){
+	private boolean drawTexture(double x, double y, double w, double h, int img, AlphaMode mode, ShaderProgram shader){
+		if(this.isBatching()){
+			this.updateAlphaMode(mode);
+			this.beginBatch(QuadBatch.Mode.TEXTURE, img, this.alphaMode);
+			this.pushMatrix();
+			this.positionObject(x, y, w, h);
+			this.batch.addQuad(this.modelView(), -1, -1, 1, 1, 0, 0, 1, 1, this.getColor());
+			this.popMatrix();
+			return true;
+		}
+		
+		this.setShader(shader);
 		this.bindVertexArray(imgVertArr);
 		glBindTexture(GL_TEXTURE_2D, img);
 		updateAlphaMode(mode);
@@ -1665,27 +1881,29 @@ public class Renderer implements Destroyable{
 		if(f == null) return false;
 		
 		var fa = f.getAsset();
+		if(fa == null) return false;
 		
-		var sb = new StringBuilder();
-		for(var op : options) sb.append(op.getText());
-		var fullText = sb.toString();
+		// Find the layout of the full text, only laying it out if it was not recently drawn or measured
+		String fullText;
+		if(options.size() == 1) fullText = options.get(0).getText();
+		else{
+			var sb = new StringBuilder();
+			for(var op : options) sb.append(op.getText());
+			fullText = sb.toString();
+		}
+		if(fullText == null || fullText.isEmpty()) return false;
+		var layout = f.layout(fullText);
 		
 		// Bounds check for if the text should be drawn
-		var rects = f.stringBounds(x, y, fullText, 1, true);
-		if(!this.shouldDraw(rects[fullText.length()])) return false;
-		
-		// Mark the drawing bounds
-		// Use the font shaders
-		this.renderModeFont();
-		// Use the font vertex array
-		this.bindVertexArray(textVertArr);
-		
-		// Use the font's bitmap
-		glBindTexture(GL_TEXTURE_2D, fa.getBitmapID());
-		
-		// Set up for text position and size
-		this.xTextBuff.put(0, 0.0f);
-		this.yTextBuff.put(0, 0.0f);
+		if(!this.shouldDraw(layout.bounds(x, y, 1))) return false;
+		
+		// Text is either added to the batch, or drawn one character at a time with the font shader and the font's bitmap
+		boolean batched = this.isBatching();
+		if(!batched){
+			this.renderModeFont();
+			this.bindVertexArray(textVertArr);
+			glBindTexture(GL_TEXTURE_2D, fa.getBitmapID());
+		}
 		
 		// Find the size for positioning the object
 		double posSize = f.fontScalar();
@@ -1698,45 +1916,63 @@ public class Renderer implements Destroyable{
 		// Need to use posSize for the width and height to keep it scaled appropriately to OpenGL coordinates
 		this.positionObject(x, this.getHeight() - y, posSize, posSize);
 		
-		// Draw every character of the text
+		// Draw every glyph of the text, each option drawing the glyphs of its own characters
+		var pos = layout.getPositions();
+		var tex = layout.getTexCoords();
+		int glyph = 0;
+		int end = 0;
 		for(var op : options){
 			var text = op.getText();
 			if(text == null || text.isEmpty()) continue;
-			for(int i = 0; i < text.length(); i++){
-				char c = text.charAt(i);
-				
-				// Find the vertices and texture coordinates of the character to draw
-				// Must do this regardless of if the character will render to ensure the text moves to the next location
-				f.bounds(c, this.xTextBuff, this.yTextBuff, this.textQuad);
+			end += text.length();
+			
+			// Every character of an option uses the same alpha mode and color
+			this.updateAlphaMode(op.getAlpha());
+			var opC = op.getColor();
+			if(opC != null) this.setColor(opC);
+			if(batched) this.beginBatch(QuadBatch.Mode.FONT, fa.getBitmapID(), this.alphaMode);
+			
+			for(; glyph < layout.getGlyphs() && layout.getCharacter(glyph) < end; glyph++){
+				int p = glyph * TextLayout.POSITION_LENGTH;
+				int t = glyph * TextLayout.TEX_LENGTH;
+				float x0 = pos[p];
+				float y0 = pos[p + 1];
+				float x1 = pos[p + 2];
+				float y1 = pos[p + 3];
+				float s0 = tex[t];
+				float t0 = tex[t + 1];
+				float s1 = tex[t + 2];
+				float t1 = tex[t + 3];
 				
-				// Only draw the character if it will be in the bounds of the buffer
-				if(!this.shouldDraw(rects[i])) continue;
+				if(batched){
+					this.batch.addQuad(this.modelView(), x0, y0, x1, y1, s0, t0, s1, t1, this.getColor());
+					continue;
+				}
 				
 				// Buffer the new data
-				this.posBuff2D.updateData(new float[]{
-						//////////////////////////////////////
-						this.textQuad.x0(), this.textQuad.y0(),
-						//////////////////////////////////////
-						this.textQuad.x1(), this.textQuad.y0(),
-						//////////////////////////////////////
-						this.textQuad.x1(), this.textQuad.y1(),
-						//////////////////////////////////////
-						this.textQuad.x0(), this.textQuad.y1()});
+				var posData = this.textPosData;
+				posData[0] = x0;
+				posData[1] = y0;
+				posData[2] = x1;
+				posData[3] = y0;
+				posData[4] = x1;
+				posData[5] = y1;
+				posData[6] = x0;
+				posData[7] = y1;
+				this.posBuff2D.updateData(posData);
 				
-				this.changeTexCoordBuff.updateData(new float[]{
-						//////////////////////////////////////
-						this.textQuad.s0(), this.textQuad.t0(),
-						//////////////////////////////////////
-						this.textQuad.s1(), this.textQuad.t0(),
-						//////////////////////////////////////
-						this.textQuad.s1(), this.textQuad.t1(),
-						//////////////////////////////////////
-						this.textQuad.s0(), this.textQuad.t1()});
+				var texData = this.textTexData;
+				texData[0] = s0;
+				texData[1] = t0;
+				texData[2] = s1;
+				texData[3] = t0;
+				texData[4] = s1;
+				texData[5] = t1;
+				texData[6] = s0;
+				texData[7] = t1;
+				this.changeTexCoordBuff.updateData(texData);
 				
 				// Ensure the gpu has the current modelView and color
-				this.updateAlphaMode(op.getAlpha());
-				var opC = op.getColor();
-				if(opC != null) this.setColor(opC);
 				this.updateGpuColor();
 				this.updateGpuModelView();
 				
@@ -1761,7 +1997,15 @@ public class Renderer implements Destroyable{
 	 * @return true if the bounds should be drawn, false otherwise
 	 */
 	public boolean shouldDraw(double x, double y, double w, double h){
-		return shouldDraw(new ZRect2D(x, y, w, h));
+		// Without positioning, the given bounds are not where anything is drawn, so nothing can be culled
+		if(!this.isRenderOnlyInside() || !this.isPositioningEnabled()) return true;
+		ZRect2D b = this.getTransformedRenderBounds();
+		if(b == null) return true;
+		
+		// The size can be negative when drawing flipped
+		double x2 = x + w;
+		double y2 = y + h;
+		return Math.min(x, x2) < b.getMaxX() && Math.max(x, x2) > b.getX() && Math.min(y, y2) < b.getMaxY() && Math.max(y, y2) > b.getY();
 	}
 	
 	/**
@@ -1773,23 +2017,7 @@ public class Renderer implements Destroyable{
 	 * @return true if the bounds should be drawn, false otherwise
 	 */
 	public boolean shouldDraw(ZRect2D drawBounds){
-		// If rendering only inside is not enabled, immediately return true
-		
-		// issue#6 put this method back. Render checking is currently broken. This method is here to improve performance, i.e., only render things that will appear on the screen
-		// By always returning true, the render check is just skipped, and everything attempts to render no matter what
-		return true;
-		
-		// issue#6 may also need to account for how this interacts with using a buffer. Probably need to recalculate transformedRenderBounds when the buffer changes
-		
-		// if(!this.isRenderOnlyInside()) return true;
-		// ZRect renderBounds = this.getTransformedRenderBounds();
-		// ZRect limited = this.getLimitedBounds();
-		
-		// // Determine if the bounds for the rendering intersects the bounds to draw
-		// boolean yes = renderBounds.intersects(drawBounds);
-		// // If there is a limited space for the rendering, make sure that also intersects the bounds to draw
-		// if(limited != null) yes &= limited.intersects(drawBounds);
-		// return yes;
+		return this.shouldDraw(drawBounds.getX(), drawBounds.getY(), drawBounds.getWidth(), drawBounds.getHeight());
 	}
 	
 	/** Fill the screen with the current color, regardless of camera position */
@@ -1832,19 +2060,14 @@ public class Renderer implements Destroyable{
 		
 		// Update the color on the cube
 		// 6 faces, 4 vertices per face, 4 color channels per color
-		var colorVertices = new float[6 * 4 * 4];
 		// issue#35 Make transparent colors work with multiple transparent faces happening at once, all transparent shapes must be added to a list that gets sorted by distance to the camera, and those are rendered last
-		var cubeColors = new ZColor[]{front, back, left, right, top, bot};
-		var i = 0;
-		for(int f = 0; f < 6; f++){
-			for(int v = 0; v < 4; v++){
-				colorVertices[i++] = (float)cubeColors[f].red();
-				colorVertices[i++] = (float)cubeColors[f].green();
-				colorVertices[i++] = (float)cubeColors[f].blue();
-				colorVertices[i++] = (float)cubeColors[f].alpha();
-			}
-		}
-		rect3DColorBuff.updateData(colorVertices);
+		this.putFaceColor(0, front);
+		this.putFaceColor(1, back);
+		this.putFaceColor(2, left);
+		this.putFaceColor(3, right);
+		this.putFaceColor(4, top);
+		this.putFaceColor(5, bot);
+		rect3DColorBuff.updateData(this.rect3DColorData);
 		
 		// Ensure the gpu has the current modelView
 		this.updateGpuModelView();
@@ -1856,6 +2079,26 @@ public class Renderer implements Destroyable{
 		return true;
 	}
 	
+	/**
+	 * Set the color of every vertex of one face in {@link #rect3DColorData}
+	 *
+	 * @param face The index of the face, in the order front, back, left, right, top, bottom
+	 * @param c The color of the face
+	 */
+	private void putFaceColor(int face, ZColor c){
+		var data = this.rect3DColorData;
+		float red = (float)c.red();
+		float green = (float)c.green();
+		float blue = (float)c.blue();
+		float alpha = (float)c.alpha();
+		for(int i = face * 16; i < face * 16 + 16; i += 4){
+			data[i] = red;
+			data[i + 1] = green;
+			data[i + 2] = blue;
+			data[i + 3] = alpha;
+		}
+	}
+	
 	/**
 	 * Draw a rectangular prism based on the given values
 	 *
@@ -1885,6 +2128,28 @@ public class Renderer implements Destroyable{
 		return true;
 	}
 	
+	/**
+	 * Draw every quad of the given mesh, where the positions of the mesh are in game coordinates, transformed only by the current model view
+	 *
+	 * @param mesh The mesh to draw
+	 * @return true if the mesh was drawn, false otherwise, i.e. the mesh was empty
+	 */
+	public boolean drawColorMesh(ColorMesh3D mesh){
+		if(mesh.isEmpty()) return false;
+		
+		// Use the 3D color shader and the vertex array of the mesh
+		this.renderModeRect3D();
+		this.bindVertexArray(mesh.getVertexArray());
+		
+		// Ensure the gpu has the current modelView
+		this.updateGpuModelView();
+		
+		// Draw the mesh
+		glDrawArrays(GL_QUADS, 0, mesh.getVertexCount());
+		
+		return true;
+	}
+	
 	/**
 	 * Draw a sphere of the current color
 	 *
@@ -2055,6 +2320,89 @@ public class Renderer implements Destroyable{
 		return true;
 	}
 	
+	/**
+	 * Add a rectangular prism, where every face is the given color, to be drawn the next time {@link #flushInstances()} is called.
+	 * Use this in place of {@link #drawRectPrism(RectRender3D, ZColor, ZColor, ZColor, ZColor, ZColor, ZColor)} when drawing many prisms in one frame
+	 *
+	 * @param r The position, scaling, and rotation information for rendering
+	 * @param c The color of the rect
+	 */
+	public void addRectPrismInstance(RectRender3D r, ZColor c){
+		this.pushMatrix();
+		this.positionObject(r);
+		this.getInstanceBatch(InstanceBatch.Primitive.RECT_PRISM).add(this.modelView(), c);
+		this.popMatrix();
+	}
+	
+	/**
+	 * Add a sphere of the current color to be drawn the next time {@link #flushInstances()} is called.
+	 * Use this in place of {@link #drawSphere(double, double, double, double)} when drawing many spheres in one frame
+	 *
+	 * @param x The center x coordinate of the sphere
+	 * @param y The center y coordinate of the sphere
+	 * @param z The center z coordinate of the sphere
+	 * @param radius The radius of the sphere
+	 */
+	public void addSphereInstance(double x, double y, double z, double radius){
+		this.pushMatrix();
+		this.positionObject(x, y, z, radius, radius, radius, 0, 0, 0, 0, 0, 0, true);
+		this.getInstanceBatch(InstanceBatch.Primitive.SPHERE).add(this.modelView(), this.getColor());
+		this.popMatrix();
+	}
+	
+	/**
+	 * Add a plane aligned to the x axis of the current color to be drawn the next time {@link #flushInstances()} is called.
+	 * See {@link #drawSidePlaneX(double, double, double, double, double, double)}
+	 *
+	 * @param x The x coordinate of the center bottom of the plane
+	 * @param y The y coordinate of the center bottom of the plane
+	 * @param z The z coordinate of the center bottom of the plane
+	 * @param s The size of the plane side to side
+	 * @param h The height of the plane
+	 * @param angle The rotation on the y axis
+	 */
+	public void addSidePlaneXInstance(double x, double y, double z, double s, double h, double angle){
+		this.addPlaneInstance(x, y + h * 0.5, z, s, h, Math.PI * 0.5, 0, angle, 0, 0, 0);
+	}
+	
+	/**
+	 * Add a plane aligned to the z axis of the current color to be drawn the next time {@link #flushInstances()} is called.
+	 * See {@link #drawSidePlaneZ(double, double, double, double, double, double)}
+	 *
+	 * @param x The x coordinate of the center bottom of the plane
+	 * @param y The y coordinate of the center bottom of the plane
+	 * @param z The z coordinate of the center bottom of the plane
+	 * @param s The size of the plane side to side
+	 * @param h The height of the plane
+	 * @param angle The rotation on the y axis
+	 */
+	public void addSidePlaneZInstance(double x, double y, double z, double s, double h, double angle){
+		this.addPlaneInstance(x, y + s * 0.5, z, s, h, 0, angle, Math.PI * 0.5, 0, 0, 0);
+	}
+	
+	/**
+	 * Add a plane of the current color to be drawn the next time {@link #flushInstances()} is called.
+	 * Use this in place of {@link #drawPlane(double, double, double, double, double, double, double, double, double, double, double)} when drawing many planes in one frame
+	 *
+	 * @param x The x coordinate center of the initially horizontal plane
+	 * @param y The y coordinate of the initially horizontal plane
+	 * @param z The z coordinate center of the initially horizontal plane
+	 * @param w The width of the plane
+	 * @param l The length of the plane
+	 * @param xRot The rotation on the x axis
+	 * @param yRot The rotation on the y axis
+	 * @param zRot The rotation on the z axis
+	 * @param xA The point, relative to the point to position this object, to rotate on the x axis
+	 * @param yA The point, relative to the point to position this object, to rotate on the y axis
+	 * @param zA The point, relative to the point to position this object, to rotate on the z axis
+	 */
+	public void addPlaneInstance(double x, double y, double z, double w, double l, double xRot, double yRot, double zRot, double xA, double yA, double zA){
+		this.pushMatrix();
+		this.positionObject(x, y, z, w, 1, l, xRot, yRot, zRot, xA, yA, zA, true);
+		this.getInstanceBatch(InstanceBatch.Primitive.PLANE).add(this.modelView(), this.getColor());
+		this.popMatrix();
+	}
+	
 	/**
 	 * Draw a plane with a buffer on it based on the given values
 	 *
@@ -2130,12 +2478,18 @@ public class Renderer implements Destroyable{
 	// issue#44 implement interpolation
 	
 	/**
-	 * Update the OpenGL frustum to the given camera
+	 * Update the OpenGL frustum to the given camera, and update {@link #frustum} to what the camera can see on the current buffer
 	 *
 	 * @param camera The camera to use
 	 */
 	public void updateFrustum(GameCamera3D camera){
 		glFrustum(camera.getLeftClip(), camera.getRightClip(), camera.getBottomClip(), camera.getTopClip(), camera.getNearClip(), camera.getFarClip());
+		this.frustum.update(camera, this.getBuffer().getRatioWH());
+	}
+	
+	/** @return See {@link #frustum} */
+	public ViewFrustum getFrustum(){
+		return this.frustum;
 	}
 	
 	/** @return The top of {@link #colorStack} */
@@ -2360,6 +2714,9 @@ public class Renderer implements Destroyable{
 	
 	/** Update the current state of OpenGL to use the buffer at the top of {@link #bufferStack} for rendering */
 	private void updateBuffer(){
+		// Anything in the batch or the instances was drawn for the old buffer
+		this.flushBatch();
+		this.flushInstances();
 		GameBuffer b = this.getBuffer();
 		b.drawWithBuffer();
 		b.setViewport();
@@ -13,6 +13,7 @@ import zgame.core.graphics.Renderer;
 import zgame.core.graphics.image.GameImage;
 import zgame.core.utils.ZConfig;
 import zgame.core.utils.ZRect2D;
+import zgame.core.window.GameWindow;
 
 /**
  * A class that manages an OpenGL Framebuffer for a Renderer to draw to.
@@ -91,6 +92,9 @@ public class GameBuffer implements Destroyable{
 		
 		this.setSize(width, height);
 		
+		// Without an OpenGL context on this thread, i.e. in a headless game, only the size is kept
+		if(!GameWindow.hasContext()) return false;
+		
 		// Create the texture
 		this.textureID = glGenTextures();
 		glBindTexture(GL_TEXTURE_2D, this.textureID);
@@ -7,6 +7,7 @@ import org.lwjgl.BufferUtils;
 import zgame.core.graphics.Destroyable;
 
 import static org.lwjgl.opengl.GL30.*;
+import static org.lwjgl.opengl.GL33.glVertexAttribDivisor;
 
 /** A class that handles tracking a single OpenGL vertex buffer, i.e. a block of data on the GPU */
 public class VertexBuffer implements Destroyable{
@@ -95,12 +96,41 @@ public class VertexBuffer implements Destroyable{
 		glBufferSubData(GL_ARRAY_BUFFER, 0, this.buff);
 	}
 	
+	/**
+	 * Update only the start of the data on the GPU, leaving the rest as it was
+	 *
+	 * @param data See {@link #data}, must be no longer than the data this {@link VertexBuffer} was created with
+	 * @param length The number of values at the start of data to send
+	 */
+	public void updateData(float[] data, int length){
+		this.data = data;
+		this.bind();
+		this.buff.clear();
+		this.buff.put(this.data, 0, length).flip();
+		glBufferSubData(GL_ARRAY_BUFFER, 0, this.buff);
+	}
+	
 	/** Put this {@link VertexBuffer} into the currently bound vertex array */
 	public void applyToVertexArray(){
 		glVertexAttribPointer(index, this.vertexLength, GL_FLOAT, false, this.vertexLength * Float.BYTES, 0);
 		glEnableVertexAttribArray(index);
 	}
 	
+	/**
+	 * Put this {@link VertexBuffer} into the currently bound vertex array, as data which changes once per instance when drawing instances, rather than once per vertex
+	 *
+	 * @param attributes The number of indexes, starting with {@link #index}, used by the data of one instance, each holding {@link #vertexLength} values.
+	 * 		i.e. a 4x4 matrix uses 4 indexes of 4 values
+	 */
+	public void applyToVertexArrayInstanced(int attributes){
+		int stride = this.vertexLength * attributes * Float.BYTES;
+		for(int i = 0; i < attributes; i++){
+			glVertexAttribPointer(this.index + i, this.vertexLength, GL_FLOAT, false, stride, (long)i * this.vertexLength * Float.BYTES);
+			glEnableVertexAttribArray(this.index + i);
+			glVertexAttribDivisor(this.index + i, 1);
+		}
+	}
+	
 	/** Use this {@link VertexBuffer} for related operations */
 	public void bind(){
 		glBindBuffer(GL_ARRAY_BUFFER, this.id);
@@ -0,0 +1,248 @@
+package zgame.core.graphics.camera;
+
+import zgame.core.utils.ZMath;
+import zgame.physics.ZVector3D;
+
+/**
+ * The six planes bounding everything a {@link GameCamera3D} can see, used to skip drawing things which cannot appear on the screen. The planes are found from the same
+ * projection and view matrix which {@link zgame.core.graphics.Renderer#camera3DPerspective(GameCamera3D)} sends to the GPU, so anything this frustum excludes would
+ * have been clipped anyway. Until {@link #update(GameCamera3D, double)} is called, nothing is excluded
+ */
+public class ViewFrustum{
+	
+	/** The number of planes in a frustum */
+	public static final int PLANES = 6;
+	
+	/**
+	 * The planes of this frustum, in the order left, right, bottom, top, near, far. Each plane is 4 values, a, b, c, and d, where a point (x, y, z) is on the inside of the
+	 * plane when a * x + b * y + c * z + d >= 0. The values are normalized so that a * x + b * y + c * z + d is the distance from the plane
+	 */
+	private final double[] planes;
+	
+	/** The combined projection and view matrix, in column major order, reused each time the planes are updated */
+	private final double[] matrix;
+	
+	/** true if the planes have been found at least once, false otherwise */
+	private boolean active;
+	
+	/** The number of things tested against this frustum since it was last updated */
+	private int tested;
+	/** The number of things found outside this frustum since it was last updated */
+	private int culled;
+	/** The value of {@link #tested} when this frustum was last updated, i.e. the number of things tested in the last frame */
+	private int lastTested;
+	/** The value of {@link #culled} when this frustum was last updated, i.e. the number of things culled in the last frame */
+	private int lastCulled;
+	
+	/** Create a new {@link ViewFrustum} which excludes nothing */
+	public ViewFrustum(){
+		this.planes = new double[PLANES * 4];
+		this.matrix = new double[16];
+		this.active = false;
+		this.tested = 0;
+		this.culled = 0;
+		this.lastTested = 0;
+		this.lastCulled = 0;
+	}
+	
+	/**
+	 * Find the planes of this frustum from the given camera. Should be called once per frame before anything is tested
+	 *
+	 * @param camera The camera to find the planes of
+	 * @param ratioWH The ratio of the width to the height of the space being drawn to
+	 */
+	public void update(GameCamera3D camera, double ratioWH){
+		// Build the same matrix as Renderer.camera3DPerspective
+		var offsetVec = new ZVector3D(camera.getYaw() + ZMath.PI_BY_2, camera.getPitch(), camera.getPositionOffset(), false);
+		this.perspective(camera.getFov(), ratioWH, camera.getNearZ(), camera.getFarZ());
+		this.rotate(0, 1, camera.getRoll());
+		this.rotate(1, 2, camera.getPitch());
+		this.rotate(2, 0, camera.getYaw());
+		this.translate(offsetVec.getX() - camera.getX(), offsetVec.getY() - camera.getY(), offsetVec.getZ() - camera.getZ());
+		this.update(this.matrix);
+	}
+	
+	/**
+	 * Find the planes of this frustum from a combined projection and view matrix. Should be called once per frame before anything is tested
+	 *
+	 * @param m The 16 values of the matrix, in column major order
+	 */
+	public void update(double[] m){
+		// Each plane is the sum or difference of the last row of the matrix with one of the other rows
+		for(int p = 0; p < PLANES; p++){
+			int row = p / 2;
+			double sign = p % 2 == 0 ? 1 : -1;
+			double a = m[3] + sign * m[row];
+			double b = m[7] + sign * m[4 + row];
+			double c = m[11] + sign * m[8 + row];
+			double d = m[15] + sign * m[12 + row];
+			double length = Math.sqrt(a * a + b * b + c * c);
+			if(length != 0){
+				a /= length;
+				b /= length;
+				c /= length;
+				d /= length;
+			}
+			int i = p * 4;
+			this.planes[i] = a;
+			this.planes[i + 1] = b;
+			this.planes[i + 2] = c;
+			this.planes[i + 3] = d;
+		}
+		this.active = true;
+		this.lastTested = this.tested;
+		this.lastCulled = this.culled;
+		this.tested = 0;
+		this.culled = 0;
+	}
+	
+	/**
+	 * Set {@link #matrix} to a perspective projection, in the same way as {@link org.joml.Matrix4f#perspective(float, float, float, float)}
+	 *
+	 * @param fov The vertical field of view, in radians
+	 * @param ratioWH The ratio of the width to the height
+	 * @param near The distance to the near plane
+	 * @param far The distance to the far plane
+	 */
+	private void perspective(double fov, double ratioWH, double near, double far){
+		var m = this.matrix;
+		double h = Math.tan(fov * 0.5);
+		for(int i = 0; i < 16; i++) m[i] = 0;
+		m[0] = 1.0 / (h * ratioWH);
+		m[5] = 1.0 / h;
+		m[10] = (far + near) / (near - far);
+		m[11] = -1;
+		m[14] = 2 * far * near / (near - far);
+	}
+	
+	/**
+	 * Multiply {@link #matrix} by a rotation between two of its columns, i.e. rotating about the axis not given
+	 *
+	 * @param first The index of the first column
+	 * @param second The index of the second column
+	 * @param angle The angle to rotate by, in radians
+	 */
+	private void rotate(int first, int second, double angle){
+		var m = this.matrix;
+		double cos = Math.cos(angle);
+		double sin = Math.sin(angle);
+		int f = first * 4;
+		int s = second * 4;
+		for(int r = 0; r < 4; r++){
+			double a = m[f + r];
+			double b = m[s + r];
+			m[f + r] = cos * a + sin * b;
+			m[s + r] = cos * b - sin * a;
+		}
+	}
+	
+	/**
+	 * Multiply {@link #matrix} by a translation
+	 *
+	 * @param x The amount to move on the x axis
+	 * @param y The amount to move on the y axis
+	 * @param z The amount to move on the z axis
+	 */
+	private void translate(double x, double y, double z){
+		var m = this.matrix;
+		for(int r = 0; r < 4; r++) m[12 + r] += m[r] * x + m[4 + r] * y + m[8 + r] * z;
+	}
+	
+	/**
+	 * Determine if any part of the given axis aligned box is inside this frustum. Boxes near the corners of the frustum may be counted as inside when they are not
+	 *
+	 * @param minX The minimum x coordinate of the box
+	 * @param minY The minimum y coordinate of the box
+	 * @param minZ The minimum z coordinate of the box
+	 * @param maxX The maximum x coordinate of the box
+	 * @param maxY The maximum y coordinate of the box
+	 * @param maxZ The maximum z coordinate of the box
+	 * @return true if the box may be visible, false if it is entirely outside
+	 */
+	public boolean intersectsBox(double minX, double minY, double minZ, double maxX, double maxY, double maxZ){
+		if(!this.active) return true;
+		this.tested++;
+		var p = this.planes;
+		for(int i = 0; i < PLANES * 4; i += 4){
+			// Only the corner furthest along the normal of the plane needs to be checked
+			double a = p[i];
+			double b = p[i + 1];
+			double c = p[i + 2];
+			if(a * (a > 0 ? maxX : minX) + b * (b > 0 ? maxY : minY) + c * (c > 0 ? maxZ : minZ) + p[i + 3] < 0){
+				this.culled++;
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Determine if any part of the given rectangular prism is inside this frustum, see {@link #intersectsBox(double, double, double, double, double, double)}
+	 *
+	 * @param x The bottom center x coordinate of the rectangular prism
+	 * @param y The bottom center y coordinate of the rectangular prism
+	 * @param z The bottom center z coordinate of the rectangular prism
+	 * @param width The total width of the rectangular prism
+	 * @param height The total height of the rectangular prism
+	 * @param length The total length of the rectangular prism
+	 * @return true if the prism may be visible, false if it is entirely outside
+	 */
+	public boolean intersectsRect(double x, double y, double z, double width, double height, double length){
+		double w = width * 0.5;
+		double l = length * 0.5;
+		return this.intersectsBox(x - w, y, z - l, x + w, y + height, z + l);
+	}
+	
+	/**
+	 * Determine if any part of the given sphere is inside this frustum. Spheres near the corners of the frustum may be counted as inside when they are not
+	 *
+	 * @param x The center x coordinate of the sphere
+	 * @param y The center y coordinate of the sphere
+	 * @param z The center z coordinate of the sphere
+	 * @param radius The radius of the sphere
+	 * @return true if the sphere may be visible, false if it is entirely outside
+	 */
+	public boolean intersectsSphere(double x, double y, double z, double radius){
+		if(!this.active) return true;
+		this.tested++;
+		var p = this.planes;
+		for(int i = 0; i < PLANES * 4; i += 4){
+			if(p[i] * x + p[i + 1] * y + p[i + 2] * z + p[i + 3] < -radius){
+				this.culled++;
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/** @return See {@link #active} */
+	public boolean isActive(){
+		return this.active;
+	}
+	
+	/** Stop excluding anything until the next time this frustum is updated */
+	public void reset(){
+		this.active = false;
+	}
+	
+	/** @return See {@link #tested} */
+	public int getTested(){
+		return this.tested;
+	}
+	
+	/** @return See {@link #culled} */
+	public int getCulled(){
+		return this.culled;
+	}
+	
+	/** @return See {@link #lastTested} */
+	public int getLastTested(){
+		return this.lastTested;
+	}
+	
+	/** @return See {@link #lastCulled} */
+	public int getLastCulled(){
+		return this.lastCulled;
+	}
+	
+}
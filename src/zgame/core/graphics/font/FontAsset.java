@@ -32,9 +32,12 @@ public class FontAsset extends Asset{
 	/** The number of int buffers available in {@link #floatBuffers} */
 	public static final int FLOAT_BUFFERS = 2;
 	
-	/** The ID of the bitmap of the image holding the font */
+	/** The ID of the bitmap of the image holding the font, or 0 if this font is {@link #headless} */
 	private int bitmapID;
 	
+	/** true if this font is only used to measure text, by a headless game, so no OpenGL texture is made for it, false otherwise */
+	private final boolean headless;
+	
 	/** The buffer holding the raw data for the font */
 	private ByteBuffer data;
 	/** The data used by stb_truetype to represent a font */
@@ -70,14 +73,13 @@ public class FontAsset extends Asset{
 	private int lineGap;
 	
 	/**
-	 * A map, mapped by font size, whose values are maps containing the width of every character used by this font, computed dynamically as the width of characters is
-	 * requested
+	 * The distance, in pixels at {@link #resolution}, the position of the text moves after each baked character, indexed by {@link #charIndex(char)}.
+	 * Baked characters have no kerning, so this is the full spacing between two characters
 	 */
-	private final Map<Double, Map<Character, Double>> widthMap;
-	/** A map, mapped by font size, mapping the maximum height, in pixels, a character can take up, computed when a height is requested */
-	private final Map<Double, Double> maxHeightMap;
-	/** A map, mapped by font size, mapping the ratio returned by stbtt_ScaleForPixelHeight */
-	private final Map<Double, Float> pixelRatioMap;
+	private final float[] advances;
+	
+	/** A map, mapped by font size, of the {@link GlyphMetrics} for each size, computed the first time a size is used */
+	private final Map<Double, GlyphMetrics> metricsMap;
 	
 	/** Buffers used internally by stb true type methods */
 	private final IntBuffer[] intBuffers;
@@ -126,7 +128,22 @@ public class FontAsset extends Asset{
 	 * 		Increase this value if more characters from the bitmap need to be loaded
 	 */
 	public FontAsset(String path, int resolution, int loadChars, int sizeRatio){
+		this(path, resolution, loadChars, sizeRatio, false);
+	}
+	
+	/**
+	 * Load a font from the given file path
+	 *
+	 * @param path See {@link #path}
+	 * @param resolution See {@link #resolution}
+	 * @param loadChars See {@link #loadChars}
+	 * @param sizeRatio This value is multiplied by the resolution to determine the width and height of the bitmap.
+	 * 		Increase this value if more characters from the bitmap need to be loaded
+	 * @param headless See {@link #headless}
+	 */
+	public FontAsset(String path, int resolution, int loadChars, int sizeRatio, boolean headless){
 		super(path);
+		this.headless = headless;
 		this.firstChar = 32;
 		this.resolution = resolution;
 		this.resolutionInverse = 1.0 / this.resolution;
@@ -135,9 +152,8 @@ public class FontAsset extends Asset{
 		this.height = sizeRatio * this.resolution;
 		this.loadChars = loadChars;
 		
-		this.widthMap = new HashMap<>();
-		this.maxHeightMap = new HashMap<>();
-		this.pixelRatioMap = new HashMap<>();
+		this.advances = new float[this.loadChars];
+		this.metricsMap = new HashMap<>();
 		
 		this.intBuffers = new IntBuffer[INT_BUFFERS];
 		this.floatBuffers = new FloatBuffer[FLOAT_BUFFERS];
@@ -175,18 +191,21 @@ public class FontAsset extends Asset{
 		if(numChars > 0) ZConfig.success("    First unused row: ", numChars);
 		else if(numChars < 0) ZConfig.success("    Characters which fit: ", -numChars);
 		else ZConfig.success("    No Characters fit: ");
-		// Create a texture for the font bitmap
-		this.bitmapID = glGenTextures();
-		glBindTexture(GL_TEXTURE_2D, this.bitmapID);
-		GameImage.setPixelSettings();
-		glTexImage2D(GL_TEXTURE_2D, 0, GL_ALPHA, this.width, this.height, 0, GL_ALPHA, GL_UNSIGNED_BYTE, pixels);
+		for(int i = 0; i < this.loadChars; i++) this.advances[i] = this.charData.get(i).xadvance();
+		// Create a texture for the font bitmap, only when there is an OpenGL context to draw with, the measurements do not need it
+		if(!this.headless){
+			this.bitmapID = glGenTextures();
+			glBindTexture(GL_TEXTURE_2D, this.bitmapID);
+			GameImage.setPixelSettings();
+			glTexImage2D(GL_TEXTURE_2D, 0, GL_ALPHA, this.width, this.height, 0, GL_ALPHA, GL_UNSIGNED_BYTE, pixels);
+			
+			// Unbind the texture
+			glBindTexture(GL_TEXTURE_2D, 0);
+		}
 		
 		// Free the data
 		stbi_image_free(pixels);
 		
-		// Unbind the texture
-		glBindTexture(GL_TEXTURE_2D, 0);
-		
 		// Find metrics
 		IntBuffer a = BufferUtils.createIntBuffer(1);
 		IntBuffer d = BufferUtils.createIntBuffer(1);
@@ -202,12 +221,23 @@ public class FontAsset extends Asset{
 	}
 	
 	/**
-	 * Determine the maximum height of a character and store it in {@link #maxHeightMap}
+	 * Get the measurements of every character of this asset at the given size, computing them the first time the size is used
 	 *
-	 * @param size The size of the font to compute the height for
+	 * @param size The size of the font
+	 * @return The metrics
 	 */
-	private synchronized void computeMaxHeight(double size){
-		this.maxHeightMap.put(size, (this.getAscent() - this.getDescent()) * this.pixelRatio(size));
+	public synchronized GlyphMetrics metrics(double size){
+		var m = this.metricsMap.get(size);
+		if(m != null) return m;
+		
+		// Must account for the resolution
+		double scale = size * this.getResolutionInverse();
+		var widths = new float[this.advances.length];
+		for(int i = 0; i < widths.length; i++) widths[i] = (float)(Math.abs(this.advances[i]) * scale);
+		double pixelRatio = stbtt_ScaleForPixelHeight(this.getInfo(), (float)size);
+		m = new GlyphMetrics(size, widths, pixelRatio, (this.getAscent() - this.getDescent()) * pixelRatio);
+		this.metricsMap.put(size, m);
+		return m;
 	}
 	
 	/**
@@ -217,38 +247,28 @@ public class FontAsset extends Asset{
 	 * @return The maximum height
 	 */
 	public double getMaxHeight(double size){
-		if(!this.maxHeightMap.containsKey(size)) this.computeMaxHeight(size);
-		return this.maxHeightMap.get(size);
+		return this.metrics(size).getMaxHeight();
 	}
 	
 	/**
-	 * Compute the width of a character and store it in {@link #widthMap}
+	 * Get the width a character using this asset takes up
 	 *
+	 * @param size The size of the font
 	 * @param c The character
+	 * @return The width
 	 */
-	private synchronized void computeWidth(double size, char c){
-		if(!this.widthMap.containsKey(size)) this.widthMap.put(size, new HashMap<>());
-		Map<Character, Double> cMap = this.widthMap.get(size);
-		
-		FloatBuffer xb = this.getFloatBuffer(0);
-		xb.put(0, 0f);
-		stbtt_GetBakedQuad(this.getCharData(), this.getWidth(), this.getHeight(), this.charIndex(c), xb, this.getFloatBuffer(1), this.getQuadBuffer(), true);
-		// Must account for the resolution
-		cMap.put(c, (double)Math.abs(xb.get(0)) * size * this.getResolutionInverse());
+	public double getCharWidth(double size, char c){
+		return this.metrics(size).getWidth(this.charIndex(c));
 	}
 	
 	/**
-	 * Get the width a character using this asset takes up
+	 * Get the distance the position of the text moves after drawing a character, in pixels at {@link #resolution}
 	 *
-	 * @param size The size of the font
 	 * @param c The character
-	 * @return The width
+	 * @return The distance
 	 */
-	public double getCharWidth(double size, char c){
-		if(!this.widthMap.containsKey(size)) this.computeWidth(size, c);
-		Map<Character, Double> cMap = this.widthMap.get(size);
-		if(!cMap.containsKey(c)) this.computeWidth(size, c);
-		return cMap.get(c);
+	public double getAdvance(char c){
+		return this.advances[this.charIndex(c)];
 	}
 	
 	/**
@@ -299,7 +319,7 @@ public class FontAsset extends Asset{
 	 */
 	public int charIndex(char c){
 		int charIndex = c - this.getFirstChar();
-		if(c >= this.getLoadChars()) charIndex = 0;
+		if(charIndex < 0 || c >= this.getLoadChars()) charIndex = 0;
 		return charIndex;
 	}
 	
@@ -311,8 +331,7 @@ public class FontAsset extends Asset{
 	 * @return The ratio
 	 */
 	public double pixelRatio(double size){
-		if(!this.pixelRatioMap.containsKey(size)) this.pixelRatioMap.put(size, stbtt_ScaleForPixelHeight(this.getInfo(), (float)size));
-		return this.pixelRatioMap.get(size);
+		return this.metrics(size).getPixelRatio();
 	}
 	
 	/** @return See {@link #bitmapID} */
@@ -320,6 +339,11 @@ public class FontAsset extends Asset{
 		return this.bitmapID;
 	}
 	
+	/** @return See {@link #headless} */
+	public boolean isHeadless(){
+		return this.headless;
+	}
+	
 	/** @return See {@link #charData} */
 	public STBTTBakedChar.Buffer getCharData(){
 		return this.charData;
@@ -387,7 +411,18 @@ public class FontAsset extends Asset{
 	 * @return The new font
 	 */
 	public static FontAsset create(String name){
-		return new FontAsset(ZStringUtils.concat(ZFilePaths.FONTS, name));
+		return create(name, false);
+	}
+	
+	/**
+	 * A convenience method which creates a {@link FontAsset} with a file of the given name, assuming the file is located in {@link ZFilePaths#FONTS}
+	 *
+	 * @param name The name of the file, including file extension
+	 * @param headless See {@link #headless}
+	 * @return The new font
+	 */
+	public static FontAsset create(String name, boolean headless){
+		return new FontAsset(ZStringUtils.concat(ZFilePaths.FONTS, name), 64, 128, 8, headless);
 	}
 	
 }
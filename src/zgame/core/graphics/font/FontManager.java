@@ -6,13 +6,26 @@ import zgame.core.utils.ZFilePaths;
 /** A class that keeps track of individual fonts to be used */
 public class FontManager extends AssetManager<FontAsset>{
 	
+	/** true if the fonts of this manager are only used to measure text, by a headless game, see {@link FontAsset#isHeadless()} */
+	private final boolean headless;
+	
 	/** Create a new empty {@link FontManager} */
 	public FontManager(){
+		this(false);
+	}
+	
+	/**
+	 * Create a new empty {@link FontManager}
+	 *
+	 * @param headless See {@link #headless}
+	 */
+	public FontManager(boolean headless){
 		super(ZFilePaths.FONTS, "ttf");
+		this.headless = headless;
 	}
 	
 	@Override
 	public FontAsset create(String path){
-		return FontAsset.create(path);
+		return FontAsset.create(path, this.headless);
 	}
 }
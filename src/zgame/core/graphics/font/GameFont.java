@@ -9,6 +9,9 @@ import zgame.core.utils.ZRect2D;
 /** An object which represents a font to be used for rendering, i.e. a {@link FontAsset} and information like font size */
 public class GameFont{
 	
+	/** The layouts of text drawn with every font, shared so that text measured while updating the game can be drawn without being laid out again */
+	private static final TextLayoutCache LAYOUTS = new TextLayoutCache();
+	
 	/** The font itself to use for rendering */
 	private final FontAsset asset;
 	
@@ -27,6 +30,9 @@ public class GameFont{
 	/** The inverse of {@link #resolutionRatio} */
 	private final double resolutionRatioInverse;
 	
+	/** The measurements of the characters of {@link #asset} at {@link #size}, found once so that measuring text only needs array lookups */
+	private final GlyphMetrics metrics;
+	
 	/**
 	 * Create a new font object with default values. After the font is created, the values of this object cannot be modified
 	 *
@@ -51,6 +57,7 @@ public class GameFont{
 		this.charSpace = charSpace;
 		this.resolutionRatio = this.getSize() * this.asset.getResolutionInverse();
 		this.resolutionRatioInverse = 1.0 / this.getResolutionRatio();
+		this.metrics = this.asset.metrics(this.size);
 	}
 	
 	/**
@@ -81,6 +88,21 @@ public class GameFont{
 		return newLine;
 	}
 	
+	/**
+	 * Get the position and texture coordinates of every character of the given text drawn with this font, laying it out only if it was not recently used
+	 *
+	 * @param text The text, must not be null
+	 * @return The layout
+	 */
+	public TextLayout layout(String text){
+		return LAYOUTS.get(this, text);
+	}
+	
+	/** @return The cache holding the layouts of text for every font */
+	public static TextLayoutCache getLayoutCache(){
+		return LAYOUTS;
+	}
+	
 	/**
 	 * Determine the width of a character, in pixels
 	 *
@@ -88,7 +110,7 @@ public class GameFont{
 	 * @return The width
 	 */
 	public double charWidth(char c){
-		return this.getAsset().getCharWidth(this.getSize(), c);
+		return this.metrics.getWidth(this.getAsset().charIndex(c));
 	}
 	
 	/**
@@ -140,7 +162,8 @@ public class GameFont{
 	}
 	
 	/**
-	 * Find the maximum bounds of a string drawn with this font. This does not guarantee a pixel perfect bounding box
+	 * Find the maximum bounds of a string drawn with this font. This does not guarantee a pixel perfect bounding box.
+	 * The bounds come from the {@link TextLayout} of the string, so measuring the same string again does not need to find the width of every character
 	 *
 	 * @param text The text to find the bounds of
 	 * @param x The x coordinate where the string is drawn, in screen coordinates
@@ -149,8 +172,8 @@ public class GameFont{
 	 * @return A rectangle with the bounds in screen coordinates
 	 */
 	public ZRect2D stringBounds(double x, double y, String text, double padding){
-		if(text == null || text.isEmpty()) return new ZRect2D();
-		return this.stringBounds(x, y, text, padding, false)[text.length()];
+		if(this.getAsset() == null || text == null || text.isEmpty()) return new ZRect2D();
+		return this.layout(text).bounds(x, y, padding);
 	}
 	
 	/**
@@ -189,7 +212,7 @@ public class GameFont{
 		if(a == null || text == null || text.isEmpty()) return new ZRect2D[]{new ZRect2D()};
 		
 		// Set up buffers
-		double pixelRatio = a.pixelRatio(this.getSize());
+		double pixelRatio = this.metrics.getPixelRatio();
 		double w = 0;
 		double h = (a.getAscent() - a.getDescent()) * pixelRatio;
 		y -= a.getAscent() * pixelRatio;
@@ -303,9 +326,14 @@ public class GameFont{
 		return this.resolutionRatioInverse;
 	}
 	
+	/** @return See {@link #metrics} */
+	public GlyphMetrics getMetrics(){
+		return this.metrics;
+	}
+	
 	/** @return See {@link FontAsset#getMaxHeight(double)} */
 	public double getMaxHeight(){
-		return this.getAsset().getMaxHeight(this.getSize());
+		return this.metrics.getMaxHeight();
 	}
 	
 }
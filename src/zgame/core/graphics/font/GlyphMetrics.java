@@ -0,0 +1,64 @@
+package zgame.core.graphics.font;
+
+/**
+ * The measurements of every character of a {@link FontAsset} at one font size, kept in a primitive array indexed by {@link FontAsset#charIndex(char)}.
+ * Made once per size by {@link FontAsset#metrics(double)}, and cannot be modified after it is made
+ */
+public class GlyphMetrics{
+	
+	/** The font size these metrics are for */
+	private final double size;
+	
+	/** The width, in pixels, of every character loaded by the font, indexed by {@link FontAsset#charIndex(char)} */
+	private final float[] widths;
+	
+	/** The ratio returned by stbtt_ScaleForPixelHeight for {@link #size} */
+	private final double pixelRatio;
+	
+	/** The maximum height, in pixels, a character can take up */
+	private final double maxHeight;
+	
+	/**
+	 * Create new metrics. The given array is used directly, not copied
+	 *
+	 * @param size See {@link #size}
+	 * @param widths See {@link #widths}
+	 * @param pixelRatio See {@link #pixelRatio}
+	 * @param maxHeight See {@link #maxHeight}
+	 */
+	public GlyphMetrics(double size, float[] widths, double pixelRatio, double maxHeight){
+		this.size = size;
+		this.widths = widths;
+		this.pixelRatio = pixelRatio;
+		this.maxHeight = maxHeight;
+	}
+	
+	/** @return See {@link #size} */
+	public double getSize(){
+		return this.size;
+	}
+	
+	/**
+	 * @param charIndex The index of the character, as given by {@link FontAsset#charIndex(char)}
+	 * @return The width, in pixels, of the character
+	 */
+	public double getWidth(int charIndex){
+		return this.widths[charIndex];
+	}
+	
+	/** @return The number of characters with a width in these metrics */
+	public int getCharacters(){
+		return this.widths.length;
+	}
+	
+	/** @return See {@link #pixelRatio} */
+	public double getPixelRatio(){
+		return this.pixelRatio;
+	}
+	
+	/** @return See {@link #maxHeight} */
+	public double getMaxHeight(){
+		return this.maxHeight;
+	}
+	
+}
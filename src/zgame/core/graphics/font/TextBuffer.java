@@ -91,6 +91,8 @@ public class TextBuffer extends DrawableBuffer{
 	/** @return The raw string value displayed by this thing, ignoring all other values in {@link TextBuffer#options} */
 	public String getText(){
 		if(this.options == null) return "";
+		// A single option is the common case, using its string directly keeps its cached hash for finding its layout
+		if(this.options.size() == 1) return this.options.get(0).getText();
 		var sb = new StringBuilder();
 		for(var op : this.options) sb.append(op.getText());
 		return sb.toString();
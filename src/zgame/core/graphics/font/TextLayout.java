@@ -0,0 +1,105 @@
+package zgame.core.graphics.font;
+
+import zgame.core.utils.ZRect2D;
+
+/**
+ * The position and texture coordinates of every character of a string drawn with a {@link GameFont}, found once and kept in primitive arrays so the string can be drawn
+ * again without laying it out again. Positions are in the space of the font, as given by {@link GameFont#bounds(char, java.nio.FloatBuffer, java.nio.FloatBuffer,
+ * org.lwjgl.stb.STBTTAlignedQuad)}, with the text starting at (0, 0). Characters which are not drawn, like new lines, have no glyph.
+ * Layouts are made and kept by a {@link TextLayoutCache}
+ */
+public class TextLayout{
+	
+	/** The number of values in the position of one glyph, the left, top, right, and bottom */
+	public static final int POSITION_LENGTH = 4;
+	/** The number of values in the texture coordinates of one glyph, the left, top, right, and bottom */
+	public static final int TEX_LENGTH = 4;
+	
+	/** The text which was laid out */
+	private final String text;
+	
+	/** The number of glyphs in this layout */
+	private final int glyphs;
+	
+	/** The position of each glyph, {@link #POSITION_LENGTH} values per glyph */
+	private final float[] positions;
+	
+	/** The texture coordinates of each glyph, {@link #TEX_LENGTH} values per glyph */
+	private final float[] texCoords;
+	
+	/** The index in {@link #text} of the character drawn by each glyph */
+	private final int[] characters;
+	
+	/** The bounds of the whole text, in screen coordinates, when it is drawn at (0, 0), without padding */
+	private final ZRect2D bounds;
+	
+	/**
+	 * Create a new layout. The given arrays are used directly, not copied
+	 *
+	 * @param text See {@link #text}
+	 * @param glyphs See {@link #glyphs}
+	 * @param positions See {@link #positions}
+	 * @param texCoords See {@link #texCoords}
+	 * @param characters See {@link #characters}
+	 * @param bounds See {@link #bounds}
+	 */
+	public TextLayout(String text, int glyphs, float[] positions, float[] texCoords, int[] characters, ZRect2D bounds){
+		this.text = text;
+		this.glyphs = glyphs;
+		this.positions = positions;
+		this.texCoords = texCoords;
+		this.characters = characters;
+		this.bounds = bounds;
+	}
+	
+	/** @return See {@link #text} */
+	public String getText(){
+		return this.text;
+	}
+	
+	/** @return See {@link #glyphs} */
+	public int getGlyphs(){
+		return this.glyphs;
+	}
+	
+	/** @return See {@link #positions}. Must not be modified */
+	public float[] getPositions(){
+		return this.positions;
+	}
+	
+	/** @return See {@link #texCoords}. Must not be modified */
+	public float[] getTexCoords(){
+		return this.texCoords;
+	}
+	
+	/**
+	 * @param glyph The index of a glyph
+	 * @return The index in {@link #text} of the character drawn by the glyph
+	 */
+	public int getCharacter(int glyph){
+		return this.characters[glyph];
+	}
+	
+	/** @return The width of the whole text, in screen coordinates */
+	public double getWidth(){
+		return this.bounds.getWidth();
+	}
+	
+	/** @return The height of the whole text, in screen coordinates */
+	public double getHeight(){
+		return this.bounds.getHeight();
+	}
+	
+	/**
+	 * Find the bounds of the text of this layout, drawn at the given position. See {@link GameFont#stringBounds(double, double, String, double)}
+	 *
+	 * @param x The x coordinate where the text is drawn, in screen coordinates
+	 * @param y The y coordinate where the text is drawn, in screen coordinates
+	 * @param padding The amount of distance to add around the bounds, 0 for no padding
+	 * @return A new rectangle with the bounds in screen coordinates
+	 */
+	public ZRect2D bounds(double x, double y, double padding){
+		return new ZRect2D(this.bounds.getX() + x, this.bounds.getY() + y, this.bounds.getWidth(), this.bounds.getHeight(), padding);
+	}
+	
+}
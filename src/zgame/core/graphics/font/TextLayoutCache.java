@@ -0,0 +1,221 @@
+package zgame.core.graphics.font;
+
+import java.nio.FloatBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.lwjgl.BufferUtils;
+import org.lwjgl.stb.STBTTAlignedQuad;
+
+import zgame.core.utils.ZRect2D;
+
+/**
+ * Keeps the {@link TextLayout} of recently used text, so that text which is drawn or measured every frame is only laid out once.
+ * Layouts are mapped by the font asset, size, line spacing, character spacing, and text, and the least recently used layout is removed when more than
+ * {@link #capacity} layouts are kept. Every method is synchronized, so one cache can be shared by the threads which update and render the game
+ */
+public class TextLayoutCache{
+	
+	/** The number of layouts a cache keeps if no other value is given */
+	public static final int DEFAULT_CAPACITY = 1024;
+	
+	/** Everything which determines the layout of a piece of text */
+	private static final class Key{
+		private FontAsset asset;
+		private double size;
+		private double lineSpace;
+		private double charSpace;
+		private String text;
+		private int hash;
+		
+		/**
+		 * Set the values of this key
+		 *
+		 * @param f The font of the text
+		 * @param text The text
+		 * @return This key
+		 */
+		private Key set(GameFont f, String text){
+			this.asset = f.getAsset();
+			this.size = f.getSize();
+			this.lineSpace = f.getLineSpace();
+			this.charSpace = f.getCharSpace();
+			this.text = text;
+			int h = System.identityHashCode(this.asset);
+			h = 31 * h + Double.hashCode(this.size);
+			h = 31 * h + Double.hashCode(this.lineSpace);
+			h = 31 * h + Double.hashCode(this.charSpace);
+			this.hash = 31 * h + text.hashCode();
+			return this;
+		}
+		
+		/** @return A new key with the same values as this key */
+		private Key copy(){
+			var k = new Key();
+			k.asset = this.asset;
+			k.size = this.size;
+			k.lineSpace = this.lineSpace;
+			k.charSpace = this.charSpace;
+			k.text = this.text;
+			k.hash = this.hash;
+			return k;
+		}
+		
+		@Override
+		public boolean equals(Object obj){
+			if(!(obj instanceof Key k)) return false;
+			return this.asset == k.asset && this.size == k.size && this.lineSpace == k.lineSpace && this.charSpace == k.charSpace && Objects.equals(this.text, k.text);
+		}
+		
+		@Override
+		public int hashCode(){
+			return this.hash;
+		}
+	}
+	
+	/** The layouts in this cache, in order from least to most recently used */
+	private final LinkedHashMap<Key, TextLayout> layouts;
+	
+	/** The key used to look up layouts, reused so that finding a layout in this cache does not allocate */
+	private final Key lookup;
+	
+	/** The maximum number of layouts this cache keeps */
+	private int capacity;
+	
+	/** The x coordinate used while laying out text */
+	private final FloatBuffer xBuff;
+	/** The y coordinate used while laying out text */
+	private final FloatBuffer yBuff;
+	/** The position and texture coordinates of each character while laying out text */
+	private final STBTTAlignedQuad quad;
+	
+	/** The number of times a layout was found in this cache */
+	private long hits;
+	/** The number of times a layout had to be made */
+	private long misses;
+	
+	/** Create a new empty cache with {@link #DEFAULT_CAPACITY} */
+	public TextLayoutCache(){
+		this(DEFAULT_CAPACITY);
+	}
+	
+	/**
+	 * Create a new empty cache
+	 *
+	 * @param capacity See {@link #capacity}
+	 */
+	public TextLayoutCache(int capacity){
+		this.capacity = capacity;
+		this.layouts = new LinkedHashMap<>(16, 0.75f, true){
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, TextLayout> eldest){
+				return this.size() > TextLayoutCache.this.capacity;
+			}
+		};
+		this.lookup = new Key();
+		this.xBuff = BufferUtils.createFloatBuffer(1);
+		this.yBuff = BufferUtils.createFloatBuffer(1);
+		this.quad = STBTTAlignedQuad.create();
+		this.hits = 0;
+		this.misses = 0;
+	}
+	
+	/**
+	 * Get the layout of the given text drawn with the given font, laying it out if it is not in this cache
+	 *
+	 * @param f The font, must have an asset
+	 * @param text The text, must not be null
+	 * @return The layout
+	 */
+	public synchronized TextLayout get(GameFont f, String text){
+		var layout = this.layouts.get(this.lookup.set(f, text));
+		if(layout != null){
+			this.hits++;
+			return layout;
+		}
+		this.misses++;
+		layout = this.layout(f, text);
+		if(this.capacity > 0) this.layouts.put(this.lookup.copy(), layout);
+		return layout;
+	}
+	
+	/**
+	 * Find the position and texture coordinates of every character of the given text
+	 *
+	 * @param f The font
+	 * @param text The text
+	 * @return The new layout
+	 */
+	private TextLayout layout(GameFont f, String text){
+		int length = text.length();
+		var positions = new float[length * TextLayout.POSITION_LENGTH];
+		var texCoords = new float[length * TextLayout.TEX_LENGTH];
+		var characters = new int[length];
+		int glyphs = 0;
+		
+		this.xBuff.put(0, 0.0f);
+		this.yBuff.put(0, 0.0f);
+		var q = this.quad;
+		for(int i = 0; i < length; i++){
+			// A new line only moves the position of the next character
+			if(f.bounds(text.charAt(i), this.xBuff, this.yBuff, q)) continue;
+			
+			int p = glyphs * TextLayout.POSITION_LENGTH;
+			positions[p] = q.x0();
+			positions[p + 1] = q.y0();
+			positions[p + 2] = q.x1();
+			positions[p + 3] = q.y1();
+			int t = glyphs * TextLayout.TEX_LENGTH;
+			texCoords[t] = q.s0();
+			texCoords[t + 1] = q.t0();
+			texCoords[t + 2] = q.s1();
+			texCoords[t + 3] = q.t1();
+			characters[glyphs] = i;
+			glyphs++;
+		}
+		
+		ZRect2D bounds = length == 0 ? new ZRect2D() : f.stringBounds(0, 0, text, 0, false)[length];
+		return new TextLayout(text, glyphs, positions, texCoords, characters, bounds);
+	}
+	
+	/** Remove every layout from this cache */
+	public synchronized void clear(){
+		this.layouts.clear();
+	}
+	
+	/** @return The number of layouts in this cache */
+	public synchronized int size(){
+		return this.layouts.size();
+	}
+	
+	/** @return See {@link #capacity} */
+	public synchronized int getCapacity(){
+		return this.capacity;
+	}
+	
+	/**
+	 * Set the number of layouts this cache can keep, removing the least recently used layouts if it holds more
+	 *
+	 * @param capacity See {@link #capacity}
+	 */
+	public synchronized void setCapacity(int capacity){
+		this.capacity = capacity;
+		var it = this.layouts.entrySet().iterator();
+		while(this.layouts.size() > capacity && it.hasNext()){
+			it.next();
+			it.remove();
+		}
+	}
+	
+	/** @return See {@link #hits} */
+	public synchronized long getHits(){
+		return this.hits;
+	}
+	
+	/** @return See {@link #misses} */
+	public synchronized long getMisses(){
+		return this.misses;
+	}
+	
+}
@@ -46,6 +46,18 @@ public final class GLFWModUtils{
 		return (mods & bit) != 0;
 	}
 	
+	/**
+	 * Combine the given modifiers into a mods value, in the same way as the mods value of GLFW callback functions
+	 *
+	 * @param shift true if shift is held, false otherwise
+	 * @param alt true if alt is held, false otherwise
+	 * @param ctrl true if ctrl is held, false otherwise
+	 * @return The mods value
+	 */
+	public static int toMods(boolean shift, boolean alt, boolean ctrl){
+		return (shift ? GLFW_MOD_SHIFT : 0) | (alt ? GLFW_MOD_ALT : 0) | (ctrl ? GLFW_MOD_CONTROL : 0);
+	}
+	
 	/** Cannot instantiate {@link GLFWModUtils} */
 	private GLFWModUtils(){
 	}
@@ -0,0 +1,148 @@
+package zgame.core.input;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A fixed size queue of button input events, added by exactly one thread, i.e. the thread receiving GLFW callbacks, and taken by exactly one other thread, i.e. the thread
+ * running game ticks. Each event is only primitive values, stored in reused arrays, so adding an event never allocates, and no locks are used.
+ * If the queue is full, new events are dropped rather than waiting for space, as a missed event is better than stalling the thread receiving input
+ */
+public class InputEventRing{
+	
+	/** The number of events a ring can hold if no size is given */
+	public static final int DEFAULT_CAPACITY = 256;
+	
+	/** The type of an event for a button being released */
+	public static final int RELEASE = 0;
+	/** The type of an event for a button being pressed */
+	public static final int PRESS = 1;
+	/** The type of an event for every button being released at once, the code and mods of the event are not used */
+	public static final int CLEAR = 2;
+	
+	/** A function which is given each event taken from a ring */
+	@FunctionalInterface
+	public interface Handler{
+		/**
+		 * Handle one event
+		 *
+		 * @param type The type of the event, one of {@link #RELEASE}, {@link #PRESS}, or {@link #CLEAR}
+		 * @param code The id of the button of the event
+		 * @param mods The GLFW modifier bits held during the event, see {@link GLFWModUtils}
+		 * @param time The value of {@link System#nanoTime()} when the event happened
+		 */
+		void accept(int type, int code, int mods, long time);
+	}
+	
+	/** The type of each event in the ring */
+	private final int[] types;
+	/** The button id of each event in the ring */
+	private final int[] codes;
+	/** The modifier bits of each event in the ring */
+	private final int[] mods;
+	/** The time of each event in the ring */
+	private final long[] times;
+	
+	/** The value used to find the index in the arrays of a position, the capacity minus one */
+	private final int mask;
+	
+	/** The position where the next event will be added. Only changed by the thread adding events, writing it makes the added events visible to the thread taking them */
+	private final AtomicLong tail;
+	
+	/** The position of the next event to take. Only changed by the thread taking events, writing it frees the taken slots for the thread adding events */
+	private final AtomicLong head;
+	
+	/** The last value of {@link #head} seen by the thread adding events, so that it only needs to read {@link #head} when the ring looks full */
+	private long knownHead;
+	
+	/** The total number of events which were dropped because the ring was full */
+	private final AtomicLong dropped;
+	
+	/** Create a ring of {@link #DEFAULT_CAPACITY} */
+	public InputEventRing(){
+		this(DEFAULT_CAPACITY);
+	}
+	
+	/**
+	 * Create a new empty ring
+	 *
+	 * @param capacity The maximum number of events which can wait in the ring, rounded up to a power of 2
+	 */
+	public InputEventRing(int capacity){
+		int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+		this.types = new int[size];
+		this.codes = new int[size];
+		this.mods = new int[size];
+		this.times = new long[size];
+		this.mask = size - 1;
+		this.tail = new AtomicLong(0);
+		this.head = new AtomicLong(0);
+		this.knownHead = 0;
+		this.dropped = new AtomicLong(0);
+	}
+	
+	/**
+	 * Add an event to this ring. Must only be called by the one thread which adds events
+	 *
+	 * @param type See {@link Handler#accept(int, int, int, long)}
+	 * @param code See {@link Handler#accept(int, int, int, long)}
+	 * @param mods See {@link Handler#accept(int, int, int, long)}
+	 * @param time See {@link Handler#accept(int, int, int, long)}
+	 * @return true if the event was added, false if the ring was full and the event was dropped
+	 */
+	public boolean add(int type, int code, int mods, long time){
+		long pos = this.tail.getPlain();
+		if(pos - this.knownHead > this.mask){
+			this.knownHead = this.head.getAcquire();
+			if(pos - this.knownHead > this.mask){
+				this.dropped.incrementAndGet();
+				return false;
+			}
+		}
+		int i = (int)(pos & this.mask);
+		this.types[i] = type;
+		this.codes[i] = code;
+		this.mods[i] = mods;
+		this.times[i] = time;
+		// Writing the tail after the event makes the event visible to the thread taking events
+		this.tail.setRelease(pos + 1);
+		return true;
+	}
+	
+	/**
+	 * Take every event in this ring, in the order they were added, and give them to the given function. Must only be called by the one thread which takes events
+	 *
+	 * @param handler The function to give each event to
+	 * @return The number of events which were taken
+	 */
+	public int drain(Handler handler){
+		long pos = this.head.getPlain();
+		long end = this.tail.getAcquire();
+		int count = (int)(end - pos);
+		try{
+			while(pos < end){
+				int i = (int)(pos++ & this.mask);
+				handler.accept(this.types[i], this.codes[i], this.mods[i], this.times[i]);
+			}
+		}finally{
+			// Free the taken slots, even if handling an event failed, so that the ring cannot get stuck
+			this.head.setRelease(pos);
+		}
+		return count;
+	}
+	
+	/** @return true if there are no events waiting to be taken, false otherwise */
+	public boolean isEmpty(){
+		return this.head.get() == this.tail.get();
+	}
+	
+	/** @return The maximum number of events which can wait in this ring */
+	public int getCapacity(){
+		return this.types.length;
+	}
+	
+	/** @return See {@link #dropped} */
+	public long getDropped(){
+		return this.dropped.get();
+	}
+	
+}
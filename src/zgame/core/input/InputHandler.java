@@ -11,6 +11,8 @@ public class InputHandler{
 	private boolean pressed;
 	/** The type of device to get input from */
 	private InputType type;
+	/** The value of {@link ZButtonInput#getPolls()} the last time {@link #tick(Game)} was called, so that the presses and releases of one poll are only used once */
+	private long lastPoll;
 	
 	/**
 	 * Create a new input handler
@@ -21,27 +23,29 @@ public class InputHandler{
 	public InputHandler(InputType type, int inputKey){
 		this.type = type;
 		this.inputKey = inputKey;
+		this.lastPoll = -1;
 	}
 	
 	/**
-	 * Update the state of this handler based on the input devices of the given game
+	 * Update the state of this handler based on the input devices of the given game. Should be called at most once per tick
 	 * @param game The game
 	 * @return true if this tick represents an input press, and the control should perform its action, false otherwise
 	 */
 	public boolean tick(Game game){
-		boolean nowPressed;
+		ZButtonInput<?> input;
 		switch(this.type){
-			case KEYBOARD -> nowPressed = game.getKeyInput().pressed(this.inputKey);
-			case MOUSE_BUTTONS -> nowPressed = game.getMouseInput().buttonDown(this.inputKey);
+			case KEYBOARD -> input = game.getKeyInput();
+			case MOUSE_BUTTONS -> input = game.getMouseInput();
 			default -> {return false;}
 		}
 		
-		if(this.pressed && !nowPressed){
-			this.pressed = false;
-			return true;
-		}
-		if(nowPressed) this.pressed = true;
-		return false;
+		// The button can be pressed and released between two ticks, so also use the presses and releases of the last poll, but only the first time it is seen
+		boolean newPoll = this.lastPoll != input.getPolls();
+		this.lastPoll = input.getPolls();
+		boolean wasPressed = this.pressed || newPoll && input.buttonPressed(this.inputKey);
+		boolean nowPressed = input.buttonDown(this.inputKey);
+		this.pressed = nowPressed;
+		return wasPressed && (!nowPressed || newPoll && input.buttonReleased(this.inputKey));
 	}
 	
 	/** @return See {@link #type} */
@@ -1,12 +1,11 @@
 package zgame.core.input;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import zgame.core.window.GameWindow;
 
 /**
- * A class designed for input devices which use buttons that can either be pressed or not pressed
+ * A class designed for input devices which use buttons that can either be pressed or not pressed.
+ * Button actions are not applied as they happen, they are added to {@link #events} by the thread receiving input, then applied all at once by {@link #poll()} at the start
+ * of each tick, so the state of the buttons only changes between ticks, and a button pressed and released between two ticks is still seen by the next tick
  *
  * @param <B> The {@link ZButtonInputEvent} which will represent events performed by this input object
  */
@@ -15,22 +14,65 @@ public abstract class ZButtonInput<B extends ZButtonInputEvent>{
 	/** The {@link GameWindow} using this {@link ZButtonInput} */
 	private final GameWindow window;
 	
-	/** The {@link Map} storing the state of every button and its associated actions */
-	private final Map<Integer, B> buttonsDown;
+	/** The button actions which have happened, but have not yet been applied by {@link #poll()} */
+	private final InputEventRing events;
+	
+	/** The function given each event taken from {@link #events}, kept so that polling does not allocate */
+	private final InputEventRing.Handler handler;
+	
+	/** true for each button which is pressed down, indexed by the id of the button */
+	private final boolean[] down;
+	
+	/** The number of times each button was pressed in the last call to {@link #poll()}, indexed by the id of the button */
+	private final int[] presses;
+	
+	/** The number of times each button was released in the last call to {@link #poll()}, indexed by the id of the button */
+	private final int[] releases;
+	
+	/** The GLFW modifier bits held during the last event of each button, or -1 if the button has had no events, indexed by the id of the button */
+	private final int[] mods;
+	
+	/** The value of {@link System#nanoTime()} when the last event of each button happened, indexed by the id of the button */
+	private final long[] times;
 	
-	/** Create a simple {@link ZButtonInput} and initialize every value */
-	public ZButtonInput(GameWindow window){
+	/** The ids of the buttons with a nonzero value in {@link #presses} or {@link #releases}, so that only those need to be reset on the next poll */
+	private final int[] changed;
+	
+	/** The number of ids in {@link #changed} */
+	private int changedCount;
+	
+	/** The number of times {@link #poll()} has been called */
+	private long polls;
+	
+	/**
+	 * Create a simple {@link ZButtonInput} and initialize every value
+	 *
+	 * @param window See {@link #window}
+	 * @param buttons The number of buttons, every button id must be at least 0 and less than this number. Events for any other id are ignored
+	 */
+	public ZButtonInput(GameWindow window, int buttons){
 		this.window = window;
-		this.buttonsDown = new HashMap<>();
+		this.events = new InputEventRing();
+		this.handler = this::handleEvent;
+		this.down = new boolean[buttons];
+		this.presses = new int[buttons];
+		this.releases = new int[buttons];
+		this.mods = new int[buttons];
+		this.times = new long[buttons];
+		this.changed = new int[buttons];
+		this.changedCount = 0;
+		this.polls = 0;
+		for(int i = 0; i < buttons; i++) this.mods[i] = -1;
 	}
 	
-	/** Set all buttons to be not pressed */
+	/** Set all buttons to be not pressed, the next time {@link #poll()} is called. Must only be called by the thread which receives input */
 	public void clear(){
-		this.buttonsDown.clear();
+		this.events.add(InputEventRing.CLEAR, 0, 0, System.nanoTime());
 	}
 	
 	/**
-	 * The method called when a button has an action performed on it
+	 * The method called when a button has an action performed on it. The action is applied the next time {@link #poll()} is called.
+	 * Must only be called by the thread which receives input
 	 *
 	 * @param button The mouse button which was pressed
 	 * @param press true if the button was pressed, false for released
@@ -39,7 +81,48 @@ public abstract class ZButtonInput<B extends ZButtonInputEvent>{
 	 * @param ctrl true if ctrl is pressed, false otherwise
 	 */
 	public void buttonAction(int button, boolean press, boolean shift, boolean alt, boolean ctrl){
-		this.buttonsDown.put(button, this.createEvent(button, shift, alt, ctrl, press));
+		this.events.add(press ? InputEventRing.PRESS : InputEventRing.RELEASE, button, GLFWModUtils.toMods(shift, alt, ctrl), System.nanoTime());
+	}
+	
+	/**
+	 * Apply every button action which has happened since the last call to this method. Must only be called by the thread which runs ticks, once at the start of each tick
+	 *
+	 * @return The number of events which were applied
+	 */
+	public int poll(){
+		// The presses and releases only count for one poll
+		for(int i = 0; i < this.changedCount; i++){
+			int b = this.changed[i];
+			this.presses[b] = 0;
+			this.releases[b] = 0;
+		}
+		this.changedCount = 0;
+		this.polls++;
+		return this.events.drain(this.handler);
+	}
+	
+	/**
+	 * Apply one event taken from {@link #events}. Only called by {@link #poll()}
+	 *
+	 * @param type See {@link InputEventRing.Handler#accept(int, int, int, long)}
+	 * @param button See {@link InputEventRing.Handler#accept(int, int, int, long)}
+	 * @param mods See {@link InputEventRing.Handler#accept(int, int, int, long)}
+	 * @param time See {@link InputEventRing.Handler#accept(int, int, int, long)}
+	 */
+	protected void handleEvent(int type, int button, int mods, long time){
+		if(type == InputEventRing.CLEAR){
+			for(int i = 0; i < this.down.length; i++) this.down[i] = false;
+			return;
+		}
+		if(!this.valid(button)) return;
+		
+		if(this.presses[button] == 0 && this.releases[button] == 0) this.changed[this.changedCount++] = button;
+		boolean press = type == InputEventRing.PRESS;
+		if(press) this.presses[button]++;
+		else this.releases[button]++;
+		this.down[button] = press;
+		this.mods[button] = mods;
+		this.times[button] = time;
 	}
 	
 	/**
@@ -59,14 +142,36 @@ public abstract class ZButtonInput<B extends ZButtonInputEvent>{
 		return this.window;
 	}
 	
+	/** @return See {@link #events} */
+	public InputEventRing getEvents(){
+		return this.events;
+	}
+	
+	/** @return See {@link #polls} */
+	public long getPolls(){
+		return this.polls;
+	}
+	
 	/**
-	 * Get a {@link ZButtonInputEvent} containing information about the desired button
+	 * Determine if the given id is a button of this input
+	 *
+	 * @param button The ID of the button
+	 * @return true if the button is valid, false otherwise
+	 */
+	private boolean valid(int button){
+		return button >= 0 && button < this.down.length;
+	}
+	
+	/**
+	 * Get a {@link ZButtonInputEvent} containing information about the last event of the desired button. A new event is created each time this method is called
 	 *
 	 * @param button The ID of the button
 	 * @return The event, or null if no such event exists
 	 */
 	public B buttonEvent(int button){
-		return this.buttonsDown.get(button);
+		if(!this.valid(button) || this.mods[button] < 0) return null;
+		int m = this.mods[button];
+		return this.createEvent(button, GLFWModUtils.isShift(m), GLFWModUtils.isAlt(m), GLFWModUtils.isCtrl(m), this.down[button]);
 	}
 	
 	/**
@@ -76,9 +181,7 @@ public abstract class ZButtonInput<B extends ZButtonInputEvent>{
 	 * @return true if the button is pressed, false otherwise. Will also return false if button represents an invalid button
 	 */
 	public boolean buttonDown(int button){
-		B e = this.buttonEvent(button);
-		if(e == null) return false;
-		return e.isPress();
+		return this.valid(button) && this.down[button];
 	}
 	
 	/**
@@ -91,4 +194,32 @@ public abstract class ZButtonInput<B extends ZButtonInputEvent>{
 		return !this.buttonDown(button);
 	}
 	
+	/**
+	 * Determine if a particular button was pressed since the tick before the current tick, even if it was released again before this tick
+	 *
+	 * @param button The button to check, same conditions as {@link #buttonEvent(int)}
+	 * @return true if the button was pressed at least once in the last call to {@link #poll()}, false otherwise
+	 */
+	public boolean buttonPressed(int button){
+		return this.valid(button) && this.presses[button] > 0;
+	}
+	
+	/**
+	 * Determine if a particular button was released since the tick before the current tick, even if it was pressed again before this tick
+	 *
+	 * @param button The button to check, same conditions as {@link #buttonEvent(int)}
+	 * @return true if the button was released at least once in the last call to {@link #poll()}, false otherwise
+	 */
+	public boolean buttonReleased(int button){
+		return this.valid(button) && this.releases[button] > 0;
+	}
+	
+	/**
+	 * @param button The button to check, same conditions as {@link #buttonEvent(int)}
+	 * @return The value of {@link System#nanoTime()} when the last event of the button happened, or 0 if it has had no events
+	 */
+	public long buttonTime(int button){
+		return this.valid(button) ? this.times[button] : 0;
+	}
+	
 }
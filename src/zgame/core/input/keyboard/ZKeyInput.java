@@ -3,15 +3,17 @@ package zgame.core.input.keyboard;
 import zgame.core.input.ZButtonInput;
 import zgame.core.window.GameWindow;
 
+import static org.lwjgl.glfw.GLFW.GLFW_KEY_LAST;
+
 /** An implementation of {@link ZButtonInput} designed for keyboard input */
 public abstract class ZKeyInput extends ZButtonInput<ZKeyEvent>{
 	
-	/** true if a shift key is down, false otherwise */
-	private boolean shiftDown;
+	/** true if a shift key is down, false otherwise. Written by the thread receiving input, and can be read from any thread */
+	private volatile boolean shiftDown;
 	/** true if an alt key is down, false otherwise */
-	private boolean altDown;
+	private volatile boolean altDown;
 	/** true if a ctrl key is down, false otherwise */
-	private boolean ctrlDown;
+	private volatile boolean ctrlDown;
 	
 	/**
 	 * Create a default {@link ZKeyInput} object
@@ -19,12 +21,16 @@ public abstract class ZKeyInput extends ZButtonInput<ZKeyEvent>{
 	 * @param window The {@link GameWindow} which uses this input object
 	 */
 	public ZKeyInput(GameWindow window){
-		super(window);
+		super(window, GLFW_KEY_LAST + 1);
 		this.shiftDown = false;
 		this.altDown = false;
 		this.ctrlDown = false;
 	}
 	
+	/**
+	 * Queue the action for the next tick, see {@link ZButtonInput#buttonAction(int, boolean, boolean, boolean, boolean)}.
+	 * The modifier keys are updated immediately, so that other callbacks, i.e. clicking a button, see the modifiers held during the click, rather than during the last tick
+	 */
 	@Override
 	public void buttonAction(int button, boolean press, boolean shift, boolean alt, boolean ctrl){
 		super.buttonAction(button, press, shift, alt, ctrl);
@@ -3,6 +3,8 @@ package zgame.core.input.mouse;
 import zgame.core.input.ZButtonInput;
 import zgame.core.window.GameWindow;
 
+import static org.lwjgl.glfw.GLFW.GLFW_MOUSE_BUTTON_LAST;
+
 /**
  * A class that handles tracking mouse input for a {@link GameWindow} Coordinates are tracked as (0, 0) being the upper left hand corner of the rendered screen of the
  * {@link GameWindow}, then x represents the number of rendered pixels to the right of that corner, and y represents the number of rendered pixels below that corner. This
@@ -31,7 +33,7 @@ public abstract class ZMouseInput extends ZButtonInput<ZMouseEvent>{
 	 * @param window The {@link GameWindow} which uses this input object
 	 */
 	public ZMouseInput(GameWindow window){
-		super(window);
+		super(window, GLFW_MOUSE_BUTTON_LAST + 1);
 		this.currentX = 0;
 		this.currentY = 0;
 		this.lastX = 0;
@@ -0,0 +1,90 @@
+package zgame.core.sound;
+
+import static org.lwjgl.openal.AL11.*;
+
+/** A {@link VoiceBackend} using OpenAL sources as voices */
+public class ALVoiceBackend implements VoiceBackend{
+	
+	/** Create a new backend. An OpenAL context must be current before creating voices */
+	public ALVoiceBackend(){
+	}
+	
+	@Override
+	public int create(){
+		// Clear any old error, so that a failure here is found only by creating this source
+		alGetError();
+		int id = alGenSources();
+		if(alGetError() != AL_NO_ERROR) return NO_VOICE;
+		return id;
+	}
+	
+	@Override
+	public void delete(int voice){
+		alDeleteSources(voice);
+	}
+	
+	@Override
+	public void position(int voice, double x, double y, double z){
+		alSource3f(voice, AL_POSITION, (float)x, (float)y, (float)z);
+	}
+	
+	@Override
+	public void direction(int voice, double x, double y, double z){
+		alSource3f(voice, AL_DIRECTION, (float)x, (float)y, (float)z);
+		// issue#61 these values need a better way of being set up
+		alSourcef(voice, AL_CONE_INNER_ANGLE, 1);
+		alSourcef(voice, AL_CONE_OUTER_ANGLE, 1);
+		alSourcef(voice, AL_CONE_OUTER_GAIN, 0.2f);
+	}
+	
+	@Override
+	public void gain(int voice, double gain){
+		alSourcef(voice, AL_GAIN, (float)gain);
+	}
+	
+	@Override
+	public void pitch(int voice, double pitch){
+		alSourcef(voice, AL_PITCH, (float)pitch);
+	}
+	
+	@Override
+	public void buffer(int voice, int buffer){
+		alSourcei(voice, AL_BUFFER, buffer);
+	}
+	
+	@Override
+	public void play(int voice){
+		alSourcePlay(voice);
+	}
+	
+	@Override
+	public void pause(int voice){
+		alSourcePause(voice);
+	}
+	
+	@Override
+	public void stop(int voice){
+		alSourceStop(voice);
+	}
+	
+	@Override
+	public void rewind(int voice){
+		alSourceRewind(voice);
+	}
+	
+	@Override
+	public float getSampleOffset(int voice){
+		return alGetSourcef(voice, AL_SAMPLE_OFFSET);
+	}
+	
+	@Override
+	public void setSampleOffset(int voice, float offset){
+		alSourcef(voice, AL_SAMPLE_OFFSET, offset);
+	}
+	
+	@Override
+	public boolean isStopped(int voice){
+		return alGetSourcei(voice, AL_SOURCE_STATE) == AL_STOPPED;
+	}
+	
+}
@@ -0,0 +1,212 @@
+package zgame.core.sound;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+
+import zgame.core.utils.TripleBuffer;
+import zgame.things.type.Position3D;
+
+/**
+ * Keeps {@link SoundSource} objects at the position of the things they are attached to. Rather than each thing moving its source every tick, at the end of each tick the
+ * positions of every attached thing are gathered into one packed array, see {@link #gather(double)}, and the thread which updates sounds moves the sources in one pass, see
+ * {@link #apply()}. Only sources which moved far enough to be heard are moved, and a source which is not playing only has its stored position changed, so it
+ * starts any sound it plays at the position of its thing.
+ * The gathered positions are passed between threads with a {@link TripleBuffer}, so neither thread ever waits on the other
+ */
+public class AttachedSources{
+	
+	/** The distance a source must move, in OpenAL coordinates, before its position is updated, if no other value is given */
+	public static final double DEFAULT_MOVE_THRESHOLD = 0.01;
+	
+	/** The positions of every attached source, gathered on one tick */
+	private static class Frame{
+		
+		/** The attached sources, in the same order as {@link #positions} */
+		private SoundSource[] sources;
+		
+		/** The x, y, and z coordinate of each source in {@link #sources}, packed one after the other, in OpenAL coordinates */
+		private float[] positions;
+		
+		/** The number of sources in this frame */
+		private int count;
+		
+		/** Create an empty frame */
+		private Frame(){
+			this.sources = new SoundSource[16];
+			this.positions = new float[this.sources.length * 3];
+			this.count = 0;
+		}
+		
+		/**
+		 * Add a position to this frame, growing it if needed
+		 *
+		 * @param s The source
+		 * @param x The x coordinate
+		 * @param y The y coordinate
+		 * @param z The z coordinate
+		 */
+		private void add(SoundSource s, float x, float y, float z){
+			if(this.count == this.sources.length){
+				var grown = new SoundSource[this.sources.length << 1];
+				System.arraycopy(this.sources, 0, grown, 0, this.count);
+				this.sources = grown;
+				var grownPositions = new float[grown.length * 3];
+				System.arraycopy(this.positions, 0, grownPositions, 0, this.count * 3);
+				this.positions = grownPositions;
+			}
+			int i = this.count * 3;
+			this.sources[this.count] = s;
+			this.positions[i] = x;
+			this.positions[i + 1] = y;
+			this.positions[i + 2] = z;
+			this.count++;
+		}
+		
+		/** Remove every source from this frame, so that none of them are kept from being garbage collected */
+		private void clear(){
+			for(int i = 0; i < this.count; i++) this.sources[i] = null;
+			this.count = 0;
+		}
+	}
+	
+	/** Every attached source, in the same order as {@link #attachedTo}. Only used by the thread which ticks the game */
+	private final ArrayList<SoundSource> attached;
+	
+	/**
+	 * The thing which each source in {@link #attached} follows. Only used by the thread which ticks the game.
+	 * The things are weakly referenced, so that a thing which is thrown away without detaching its source, i.e. one in a room which was unloaded, is not kept in memory,
+	 * and its source is detached the next time positions are gathered
+	 */
+	private final ArrayList<Reference<? extends Position3D>> attachedTo;
+	
+	/** The frames filled by {@link #gather(double)} and taken by {@link #apply()} */
+	private final TripleBuffer<Frame> frames;
+	
+	/** The distance a source must move, in OpenAL coordinates, before its position is updated */
+	private double moveThreshold;
+	
+	/** Create a new object with no attached sources */
+	public AttachedSources(){
+		this.attached = new ArrayList<>();
+		this.attachedTo = new ArrayList<>();
+		this.frames = new TripleBuffer<>(Frame::new);
+		this.moveThreshold = DEFAULT_MOVE_THRESHOLD;
+	}
+	
+	/**
+	 * Make the given source follow the given thing. Must only be called by the thread which ticks the game
+	 *
+	 * @param s The source
+	 * @param p The thing to follow. If the source is already attached, it follows this thing instead
+	 */
+	public void attach(SoundSource s, Position3D p){
+		this.attach(s, new WeakReference<>(p));
+	}
+	
+	/**
+	 * Make the given source follow the thing held by the given reference. Must only be called by the thread which ticks the game
+	 *
+	 * @param s The source
+	 * @param p The reference to the thing to follow. Once it is cleared, the source is detached the next time positions are gathered.
+	 * 		If the source is already attached, it follows this thing instead
+	 */
+	public void attach(SoundSource s, Reference<? extends Position3D> p){
+		if(s.getAttachment() >= 0){
+			this.attachedTo.set(s.getAttachment(), p);
+			return;
+		}
+		s.setAttachment(this.attached.size());
+		this.attached.add(s);
+		this.attachedTo.add(p);
+	}
+	
+	/**
+	 * Stop the given source from following the thing it was attached to. Must only be called by the thread which ticks the game
+	 *
+	 * @param s The source, does nothing if it is not attached
+	 */
+	public void detach(SoundSource s){
+		int i = s.getAttachment();
+		if(i < 0 || i >= this.attached.size() || this.attached.get(i) != s) return;
+		
+		// Move the last source into the removed position so that nothing has to shift
+		int last = this.attached.size() - 1;
+		var moved = this.attached.remove(last);
+		var movedTo = this.attachedTo.remove(last);
+		if(i != last){
+			this.attached.set(i, moved);
+			this.attachedTo.set(i, movedTo);
+			moved.setAttachment(i);
+		}
+		s.setAttachment(-1);
+	}
+	
+	/**
+	 * Find the position of every attached thing, and make them available to the thread which updates sounds. Should be called at the end of each tick, by the thread which
+	 * ticks the game
+	 *
+	 * @param scalar The value to multiply each coordinate by, to turn game coordinates into OpenAL coordinates
+	 */
+	public void gather(double scalar){
+		var frame = this.frames.getWriteBuffer();
+		frame.clear();
+		// Go backwards so that detaching a source only moves a source which was already gathered
+		for(int i = this.attached.size() - 1; i >= 0; i--){
+			var p = this.attachedTo.get(i).get();
+			if(p == null){
+				this.detach(this.attached.get(i));
+				continue;
+			}
+			frame.add(this.attached.get(i), (float)(p.getX() * scalar), (float)(p.getY() * scalar), (float)(p.getZ() * scalar));
+		}
+		this.frames.publish();
+	}
+	
+	/**
+	 * Move every attached source to the position most recently found by {@link #gather(double)}. Sources which moved less than {@link #moveThreshold} are not moved.
+	 * Must only be called by the thread which updates sounds
+	 *
+	 * @return The number of sources which were moved
+	 */
+	public int apply(){
+		// Nothing has moved since the last frame was applied
+		if(!this.frames.hasNew()) return 0;
+		var frame = this.frames.acquire();
+		
+		double threshold = this.moveThreshold * this.moveThreshold;
+		var sources = frame.sources;
+		var positions = frame.positions;
+		int moved = 0;
+		for(int i = 0; i < frame.count; i++){
+			var s = sources[i];
+			int p = i * 3;
+			double x = positions[p];
+			double y = positions[p + 1];
+			double z = positions[p + 2];
+			double dx = x - s.getX();
+			double dy = y - s.getY();
+			double dz = z - s.getZ();
+			if(dx * dx + dy * dy + dz * dz < threshold) continue;
+			s.updatePosition(x, y, z);
+			moved++;
+		}
+		return moved;
+	}
+	
+	/** @return The number of attached sources */
+	public int size(){
+		return this.attached.size();
+	}
+	
+	/** @return See {@link #moveThreshold} */
+	public double getMoveThreshold(){
+		return this.moveThreshold;
+	}
+	
+	/** @param moveThreshold See {@link #moveThreshold} */
+	public void setMoveThreshold(double moveThreshold){
+		this.moveThreshold = moveThreshold;
+	}
+	
+}
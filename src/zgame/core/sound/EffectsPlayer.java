@@ -1,7 +1,5 @@
 package zgame.core.sound;
 
-import static org.lwjgl.openal.AL11.*;
-
 import java.util.HashMap;
 import java.util.Map;
 
@@ -13,10 +11,19 @@ public class EffectsPlayer extends SoundPlayer<EffectSound>{
 	/** A {@link Map} containing every {@link SoundMap} of each type of playing sounds */
 	private final Map<String, SoundMap> effects;
 	
-	/** Create an empty {@link EffectsPlayer} with no currently playing sounds */
-	public EffectsPlayer(){
-		super();
+	/** The pool which gives voices to the sources playing effects */
+	private final VoicePool voices;
+	
+	/**
+	 * Create an empty {@link EffectsPlayer} with no currently playing sounds
+	 *
+	 * @param commands The queue which sounds to play are added to
+	 * @param voices See {@link #voices}
+	 */
+	public EffectsPlayer(SoundCommandQueue commands, VoicePool voices){
+		super(commands);
 		this.effects = new HashMap<>();
+		this.voices = voices;
 	}
 	
 	@Override
@@ -24,10 +31,8 @@ public class EffectsPlayer extends SoundPlayer<EffectSound>{
 		// Add the sound to the map of separate maps
 		this.addEffect(source, sound.getType());
 		
-		// Play the sound
-		int sourceID = source.getId();
-		alSourcei(sourceID, AL_BUFFER, sound.getId());
-		alSourcePlay(sourceID);
+		// Play the sound, with a voice if it can be heard
+		this.voices.play(source);
 	}
 	
 	/**
@@ -86,4 +91,9 @@ public class EffectsPlayer extends SoundPlayer<EffectSound>{
 		return super.removeFinishedSounds() || found;
 	}
 	
+	/** @return See {@link #voices} */
+	public VoicePool getVoices(){
+		return this.voices;
+	}
+	
 }
@@ -2,9 +2,6 @@ package zgame.core.sound;
 
 import static org.lwjgl.openal.AL11.*;
 
-import java.nio.IntBuffer;
-
-import org.lwjgl.BufferUtils;
 import zgame.core.utils.ZConfig;
 
 /**
@@ -18,18 +15,23 @@ public class MusicPlayer extends SoundPlayer<MusicSound>{
 	/** true to play the currently playing music again after it ends, false otherwise */
 	private boolean loop;
 	
-	/** Create an empty {@link MusicPlayer} with no currently playing sounds */
-	public MusicPlayer(){
-		this(false);
+	/**
+	 * Create an empty {@link MusicPlayer} with no currently playing sounds
+	 *
+	 * @param commands The queue which sounds to play are added to
+	 */
+	public MusicPlayer(SoundCommandQueue commands){
+		this(commands, false);
 	}
 	
 	/**
 	 * Create an empty {@link MusicPlayer} with no currently playing sounds
 	 *
+	 * @param commands The queue which sounds to play are added to
 	 * @param loop See {@link #loop}
 	 */
-	public MusicPlayer(boolean loop){
-		super();
+	public MusicPlayer(SoundCommandQueue commands, boolean loop){
+		super(commands);
 		this.loop = loop;
 		this.currentSong = null;
 	}
@@ -70,10 +72,8 @@ public class MusicPlayer extends SoundPlayer<MusicSound>{
 			
 			// Unqueue all finished buffers and load the next set of data
 			while(processed > 0){
-				IntBuffer idBuff = BufferUtils.createIntBuffer(1);
-				alSourceUnqueueBuffers(sourceID, idBuff);
+				int id = alSourceUnqueueBuffers(sourceID);
 				processed--;
-				int id = idBuff.get(0);
 				this.currentSong.getSound().bufferDataChunk(id);
 				alSourceQueueBuffers(sourceID, id);
 			}
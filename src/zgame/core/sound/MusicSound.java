@@ -1,17 +1,18 @@
 package zgame.core.sound;
 
+import zgame.core.utils.ZAssetUtils;
+import zgame.core.utils.ZConfig;
 import zgame.core.utils.ZFilePaths;
 import zgame.core.utils.ZPointerBuffer;
 import zgame.core.utils.ZStringUtils;
 
 import static org.lwjgl.openal.AL11.*;
 
-import java.nio.ShortBuffer;
-import java.util.Arrays;
-
 /**
  * A {@link Sound} which uses multiple buffers to play long music files. Instances of this class cannot be used on multiple sources at the same time without interfering with
  * one another.
+ * The music is never decoded all at once, each buffer is filled by decoding the next part of the file with an {@link OggStream}, so the memory used does not depend on
+ * the length of the music
  */
 public class MusicSound extends Sound{
 	
@@ -24,10 +25,8 @@ public class MusicSound extends Sound{
 	/** The number of samples in each buffer */
 	private final int bufferSize;
 	
-	/** The pointer pointing to the data for this {@link MusicSound} */
-	private ZPointerBuffer pointer;
-	/** The position in the pointer where the next selection of samples should be loaded from */
-	private int pointerOffset;
+	/** The stream which decodes the data for this {@link MusicSound}, or null if it has not been loaded */
+	private OggStream stream;
 	
 	/**
 	 * Create a {@link MusicSound} with generic buffer sizes
@@ -50,65 +49,69 @@ public class MusicSound extends Sound{
 		this.numBuffers = numBuffers;
 		this.bufferSize = bufferSize;
 		this.ids = new int[this.getNumBuffers()];
-		this.reset();
+		this.stream = null;
 		alGenBuffers(this.ids);
 	}
 	
-	/** Reset the state of the pointer in this {@link MusicSound} to load data from the beginning of the sound */
+	/**
+	 * Open this {@link MusicSound} for streaming. Nothing is decoded until the data is buffered
+	 *
+	 * @param freePointer Unused, music never keeps a pointer to decoded data
+	 * @return Always null, as music never keeps a pointer to decoded data
+	 */
+	@Override
+	public ZPointerBuffer load(boolean freePointer){
+		var stream = OggStream.open(ZAssetUtils.getJarBytes(this.getPath()), this.getBufferSize(), this.getNumBuffers());
+		if(stream == null){
+			ZConfig.error("Music '", this.getPath(), "' failed to open for streaming via stb");
+			return null;
+		}
+		if(this.stream != null) this.stream.destroy();
+		this.stream = stream;
+		this.setInfo(stream.getChannels(), stream.getSampleRate(), stream.getSamples());
+		ZConfig.success("Music '", this.getPath(), "' opened successfully in ", (this.isMono() ? "mono" : "stereo"), ", with sample rate: ", this.getSampleRate(), ", ",
+				this.getSamples(), " samples, and ids: ", this.getIdString());
+		return null;
+	}
+	
+	/** Reset the state of the stream in this {@link MusicSound} to load data from the beginning of the sound */
 	public void reset(){
-		this.pointerOffset = 0;
+		if(this.stream != null) this.stream.rewind();
 	}
 	
 	@Override
 	public void destroy(){
-		this.pointer.free();
+		if(this.stream != null) this.stream.destroy();
 		super.destroy();
 	}
 	
-	/**
-	 * Buffer data from the currently stored buffer in {@link #pointer}
-	 */
+	/** Buffer the next data for every buffer of this {@link MusicSound} */
 	protected void bufferData(){
 		this.bufferData(null);
 	}
 	
 	/**
-	 * @param p The pointer to use for buffering the data, use null to use the pointer stored in this {@link MusicSound}
+	 * @param p Unused, the data always comes from {@link #stream}
 	 */
 	@Override
 	protected void bufferData(ZPointerBuffer p){
-		if(p == null) p = this.pointer;
-		if(this.pointer == null) this.pointer = p;
 		int numBuffs = this.getNumBuffers();
-		
 		for(int i = 0; i < numBuffs; i++) this.bufferDataChunk(this.getIds()[i]);
 	}
 	
 	/**
-	 * Buffer the next chunk of data available in {@link #pointer}. Does nothing if there is no data left to buffer
+	 * Decode and buffer the next chunk of data available in {@link #stream}. If there is no data left to buffer, the buffer is given zero samples
 	 *
 	 * @param id The buffer id to place the data
 	 */
 	protected void bufferDataChunk(int id){
-		// Find the total number of samples in the buffer of this sound
-		int totalSize = this.getTotalSize();
-		
-		// Get the format, i.e. mono or stereo
-		int format = this.getFormat();
-		
-		// Get either the size of the buffer for the next buffer allocation, or the remaining size of the buffer
-		int size = Math.min(this.getBufferSize(), totalSize - this.pointerOffset);
-		// If there are no more samples, use zero samples
-		if(size < 0) size = 0;
-		
-		// Buffer the chunk of data
-		short[] data = new short[totalSize];
-		ShortBuffer buff = this.pointer.getBuffer().getShortBuffer(0, totalSize);
-		buff.get(data, 0, totalSize);
-		alBufferData(id, format, Arrays.copyOfRange(data, this.pointerOffset, this.pointerOffset + size), this.getSampleRate());
-		
-		// Keep track of the change
-		this.pointerOffset += size;
+		if(this.stream == null) return;
+		alBufferData(id, this.getFormat(), this.stream.next(), this.getSampleRate());
+	}
+	
+	/** @return See {@link #stream} */
+	public OggStream getStream(){
+		return this.stream;
 	}
 	
 	/** @return See {@link #numBuffers} */
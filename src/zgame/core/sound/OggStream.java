@@ -0,0 +1,177 @@
+package zgame.core.sound;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+
+import org.lwjgl.BufferUtils;
+import org.lwjgl.stb.STBVorbisInfo;
+
+import static org.lwjgl.stb.STBVorbis.*;
+import static org.lwjgl.system.MemoryUtil.NULL;
+
+import zgame.core.graphics.Destroyable;
+import zgame.core.utils.ZConfig;
+
+/**
+ * A decoder for an ogg vorbis file which decodes a small piece at a time, rather than the entire file at once.
+ * Decoded samples are placed in a fixed number of reusable buffers, used one after the other, so the memory used for decoded samples is the same regardless of the length
+ * of the file. This class does not use OpenAL, so it can be used without an audio device
+ */
+public class OggStream implements Destroyable{
+	
+	/** The encoded bytes of the file. stb reads directly from this memory while decoding, so it must be kept until the stream is closed */
+	private final ByteBuffer encoded;
+	
+	/** The handle stb uses to track the decoder, or {@link org.lwjgl.system.MemoryUtil#NULL} if the stream is closed */
+	private long handle;
+	
+	/** The number of channels in the file */
+	private final int channels;
+	/** The sample rate of the file, i.e. number of samples per second */
+	private final int sampleRate;
+	/** The number of samples in the file, for one channel */
+	private final int samples;
+	
+	/** The buffers which decoded samples are placed in, reused in order */
+	private final ShortBuffer[] ring;
+	/** The index in {@link #ring} of the buffer which will be used by the next call to {@link #next()} */
+	private int ringIndex;
+	
+	/** The number of samples, for one channel, decoded since the stream was opened or last rewound */
+	private int decoded;
+	
+	/**
+	 * Create a new stream from an already opened decoder. Use {@link #open(ByteBuffer, int, int)} to create a stream
+	 *
+	 * @param encoded See {@link #encoded}
+	 * @param handle See {@link #handle}
+	 * @param channels See {@link #channels}
+	 * @param sampleRate See {@link #sampleRate}
+	 * @param bufferSize The number of values in each buffer, across all channels
+	 * @param numBuffers The number of buffers in {@link #ring}
+	 */
+	private OggStream(ByteBuffer encoded, long handle, int channels, int sampleRate, int bufferSize, int numBuffers){
+		this.encoded = encoded;
+		this.handle = handle;
+		this.channels = channels;
+		this.sampleRate = sampleRate;
+		this.samples = stb_vorbis_stream_length_in_samples(handle);
+		
+		// Each buffer must hold a whole number of samples for every channel
+		int size = Math.max(channels, bufferSize - bufferSize % channels);
+		this.ring = new ShortBuffer[Math.max(1, numBuffers)];
+		for(int i = 0; i < this.ring.length; i++) this.ring[i] = BufferUtils.createShortBuffer(size);
+		this.ringIndex = 0;
+		this.decoded = 0;
+	}
+	
+	/**
+	 * Open a stream for decoding the given ogg vorbis data
+	 *
+	 * @param encoded The bytes of the file, must be a direct buffer. The buffer is used directly, not copied
+	 * @param bufferSize The number of values in each buffer returned by {@link #next()}, across all channels
+	 * @param numBuffers The number of buffers to reuse, see {@link #next()}
+	 * @return The stream, or null if the data could not be opened
+	 */
+	public static OggStream open(ByteBuffer encoded, int bufferSize, int numBuffers){
+		if(encoded == null) return null;
+		IntBuffer error = BufferUtils.createIntBuffer(1);
+		long handle = stb_vorbis_open_memory(encoded, error, null);
+		if(handle == NULL){
+			ZConfig.error("Failed to open ogg stream via stb, error code: ", error.get(0));
+			return null;
+		}
+		
+		int channels;
+		int sampleRate;
+		try(var info = STBVorbisInfo.malloc()){
+			stb_vorbis_get_info(handle, info);
+			channels = info.channels();
+			sampleRate = info.sample_rate();
+		}
+		return new OggStream(encoded, handle, channels, sampleRate, bufferSize, numBuffers);
+	}
+	
+	/**
+	 * Decode the next piece of the file. Does not allocate any memory
+	 *
+	 * @return A buffer holding the decoded samples, interleaved by channel, from its position to its limit. The buffer has no remaining values if the end of the file
+	 * 		was reached. The returned buffer is reused, and will be overwritten after this method is called the number of times as there are buffers in the stream
+	 */
+	public ShortBuffer next(){
+		var buff = this.ring[this.ringIndex];
+		this.ringIndex = (this.ringIndex + 1) % this.ring.length;
+		buff.clear();
+		if(this.isClosed()){
+			buff.limit(0);
+			return buff;
+		}
+		
+		int read = stb_vorbis_get_samples_short_interleaved(this.handle, this.channels, buff);
+		buff.limit(read * this.channels);
+		this.decoded += read;
+		return buff;
+	}
+	
+	/** Bring this stream back to the beginning of the file, so that the next call to {@link #next()} decodes the first samples again */
+	public void rewind(){
+		if(this.isClosed()) return;
+		stb_vorbis_seek_start(this.handle);
+		this.decoded = 0;
+	}
+	
+	/** @return true if every sample of the file has been decoded, false otherwise */
+	public boolean isFinished(){
+		return this.isClosed() || this.decoded >= this.samples;
+	}
+	
+	/** @return true if {@link #destroy()} was called and this stream can no longer decode, false otherwise */
+	public boolean isClosed(){
+		return this.handle == NULL;
+	}
+	
+	/** @return See {@link #channels} */
+	public int getChannels(){
+		return this.channels;
+	}
+	
+	/** @return See {@link #sampleRate} */
+	public int getSampleRate(){
+		return this.sampleRate;
+	}
+	
+	/** @return See {@link #samples} */
+	public int getSamples(){
+		return this.samples;
+	}
+	
+	/** @return See {@link #decoded} */
+	public int getDecoded(){
+		return this.decoded;
+	}
+	
+	/** @return The number of buffers which are reused by {@link #next()} */
+	public int getNumBuffers(){
+		return this.ring.length;
+	}
+	
+	/** @return The number of values each buffer returned by {@link #next()} can hold, across all channels */
+	public int getBufferSize(){
+		return this.ring[0].capacity();
+	}
+	
+	/** @return See {@link #encoded} */
+	public ByteBuffer getEncoded(){
+		return this.encoded;
+	}
+	
+	/** Free the decoder used by this stream. After calling this method, {@link #next()} only returns empty buffers */
+	@Override
+	public void destroy(){
+		if(this.isClosed()) return;
+		stb_vorbis_close(this.handle);
+		this.handle = NULL;
+	}
+	
+}
@@ -90,6 +90,19 @@ public abstract class Sound extends Asset{
 		return pointer;
 	}
 	
+	/**
+	 * Set the metadata of this sound, for sounds which do not load their data through {@link #load(boolean)}
+	 *
+	 * @param channels The number of channels, 2 for stereo, anything else for mono
+	 * @param sampleRate See {@link #sampleRate}
+	 * @param samples See {@link #samples}
+	 */
+	protected void setInfo(int channels, int sampleRate, int samples){
+		this.mono = channels != 2;
+		this.sampleRate = sampleRate;
+		this.samples = samples;
+	}
+	
 	/** Free any resources used by this {@link Sound} After calling this method, this sound cannot be played */
 	public void destroy(){
 		for(int i : this.getIds()) alDeleteBuffers(i);
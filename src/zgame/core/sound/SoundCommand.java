@@ -0,0 +1,151 @@
+package zgame.core.sound;
+
+/**
+ * One operation on the sound system, created on any thread and run on the thread which updates sounds, see {@link SoundCommandQueue}.
+ * Commands are owned by their queue and reused, so a command must not be kept after it has been run
+ */
+public class SoundCommand{
+	
+	/** The types of operations a {@link SoundCommand} can perform */
+	public enum Type{
+		/** Play {@link #sound} at {@link #source} using {@link #player} */
+		PLAY,
+		/** Move {@link #location} to ({@link #x}, {@link #y}, {@link #z}) */
+		POSITION,
+		/** Point {@link #location} in the direction ({@link #x}, {@link #y}, {@link #z}) */
+		DIRECTION,
+		/** Set the base volume of {@link #source} to {@link #value} */
+		SOURCE_VOLUME,
+		/** Set the volume of {@link #player} to {@link #value} */
+		PLAYER_VOLUME,
+		/** Set {@link #player} to be paused if {@link #flag} is true, or unpaused otherwise */
+		PLAYER_PAUSED,
+		/** Set {@link #player} to be muted if {@link #flag} is true, or unmuted otherwise */
+		PLAYER_MUTED
+	}
+	
+	/** The type of operation of this command, or null if this command has not been filled */
+	private Type type;
+	
+	/** The player used by this command, or null if it does not use one */
+	private SoundPlayer<?> player;
+	/** The source used by this command, or null if it does not use one */
+	private SoundSource source;
+	/** The location moved or pointed by this command, or null if it does not use one */
+	private SoundLocation location;
+	/** The sound used by this command, or null if it does not use one */
+	private Sound sound;
+	
+	/** The x value used by this command */
+	private double x;
+	/** The y value used by this command */
+	private double y;
+	/** The z value used by this command */
+	private double z;
+	/** The single number used by this command */
+	private double value;
+	/** The single flag used by this command */
+	private boolean flag;
+	
+	/** Create an empty command. Only {@link SoundCommandQueue} should make commands */
+	SoundCommand(){
+		this.clear();
+	}
+	
+	/**
+	 * Fill every value of this command
+	 *
+	 * @param type See {@link #type}
+	 * @param player See {@link #player}
+	 * @param source See {@link #source}
+	 * @param location See {@link #location}
+	 * @param sound See {@link #sound}
+	 * @param x See {@link #x}
+	 * @param y See {@link #y}
+	 * @param z See {@link #z}
+	 * @param value See {@link #value}
+	 * @param flag See {@link #flag}
+	 */
+	void set(Type type, SoundPlayer<?> player, SoundSource source, SoundLocation location, Sound sound, double x, double y, double z, double value, boolean flag){
+		this.type = type;
+		this.player = player;
+		this.source = source;
+		this.location = location;
+		this.sound = sound;
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		this.value = value;
+		this.flag = flag;
+	}
+	
+	/** Remove all references from this command, so that it does not keep anything from being garbage collected while unused */
+	void clear(){
+		this.set(null, null, null, null, null, 0, 0, 0, 0, false);
+	}
+	
+	/** Perform the operation of this command. Must only be called by the thread which updates sounds */
+	public void run(){
+		if(this.type == null) return;
+		switch(this.type){
+			case PLAY -> this.player.playQueued(this.source, this.sound);
+			case POSITION -> this.location.updatePosition(this.x, this.y, this.z);
+			case DIRECTION -> this.location.updateDirection(this.x, this.y, this.z);
+			case SOURCE_VOLUME -> this.source.setBaseVolume(this.value);
+			case PLAYER_VOLUME -> this.player.setVolume(this.value);
+			case PLAYER_PAUSED -> this.player.setPaused(this.flag);
+			case PLAYER_MUTED -> this.player.setMuted(this.flag);
+		}
+	}
+	
+	/** @return See {@link #type} */
+	public Type getType(){
+		return this.type;
+	}
+	
+	/** @return See {@link #player} */
+	public SoundPlayer<?> getPlayer(){
+		return this.player;
+	}
+	
+	/** @return See {@link #source} */
+	public SoundSource getSource(){
+		return this.source;
+	}
+	
+	/** @return See {@link #location} */
+	public SoundLocation getLocation(){
+		return this.location;
+	}
+	
+	/** @return See {@link #sound} */
+	public Sound getSound(){
+		return this.sound;
+	}
+	
+	/** @return See {@link #x} */
+	public double getX(){
+		return this.x;
+	}
+	
+	/** @return See {@link #y} */
+	public double getY(){
+		return this.y;
+	}
+	
+	/** @return See {@link #z} */
+	public double getZ(){
+		return this.z;
+	}
+	
+	/** @return See {@link #value} */
+	public double getValue(){
+		return this.value;
+	}
+	
+	/** @return See {@link #flag} */
+	public boolean getFlag(){
+		return this.flag;
+	}
+	
+}
@@ -0,0 +1,235 @@
+package zgame.core.sound;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * A fixed size queue of {@link SoundCommand} objects which any number of threads can add to, and one thread, the one which updates sounds, takes from.
+ * No locks are used, and adding a command never allocates, every command is a reused slot of the queue.
+ * If the queue is full, new commands are dropped rather than waiting for space, as a missed sound is better than stalling a game tick
+ */
+public class SoundCommandQueue{
+	
+	/** The number of commands a queue can hold if no size is given */
+	public static final int DEFAULT_CAPACITY = 4096;
+	
+	/** Every command in the queue, used in a ring */
+	private final SoundCommand[] commands;
+	
+	/**
+	 * The sequence number of each slot of {@link #commands}. A slot can be filled by the thread adding the command at position p when its sequence is p,
+	 * and can be run once its sequence is p + 1. After running, its sequence becomes p + capacity, so that it can be filled again on the next pass through the ring
+	 */
+	private final AtomicLongArray sequences;
+	
+	/** The value used to find the index in {@link #commands} of a position, the capacity minus one */
+	private final int mask;
+	
+	/** The position where the next command will be added. Shared between all threads adding commands */
+	private final AtomicLong tail;
+	
+	/** The position of the next command to run. Only used by the thread taking commands */
+	private long head;
+	
+	/** The total number of commands which were dropped because the queue was full */
+	private final AtomicLong dropped;
+	
+	/** Create a queue of {@link #DEFAULT_CAPACITY} */
+	public SoundCommandQueue(){
+		this(DEFAULT_CAPACITY);
+	}
+	
+	/**
+	 * Create a new empty queue
+	 *
+	 * @param capacity The maximum number of commands which can wait in the queue, rounded up to a power of 2
+	 */
+	public SoundCommandQueue(int capacity){
+		int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+		this.commands = new SoundCommand[size];
+		this.sequences = new AtomicLongArray(size);
+		for(int i = 0; i < size; i++){
+			this.commands[i] = new SoundCommand();
+			this.sequences.set(i, i);
+		}
+		this.mask = size - 1;
+		this.tail = new AtomicLong(0);
+		this.head = 0;
+		this.dropped = new AtomicLong(0);
+	}
+	
+	/**
+	 * Add a command to this queue. Can be called from any thread
+	 *
+	 * @param type See {@link SoundCommand#getType()}
+	 * @param player See {@link SoundCommand#getPlayer()}
+	 * @param source See {@link SoundCommand#getSource()}
+	 * @param location See {@link SoundCommand#getLocation()}
+	 * @param sound See {@link SoundCommand#getSound()}
+	 * @param x See {@link SoundCommand#getX()}
+	 * @param y See {@link SoundCommand#getY()}
+	 * @param z See {@link SoundCommand#getZ()}
+	 * @param value See {@link SoundCommand#getValue()}
+	 * @param flag See {@link SoundCommand#getFlag()}
+	 * @return true if the command was added, false if the queue was full and the command was dropped
+	 */
+	private boolean add(SoundCommand.Type type, SoundPlayer<?> player, SoundSource source, SoundLocation location, Sound sound, double x, double y, double z, double value, boolean flag){
+		long pos = this.tail.get();
+		while(true){
+			int i = (int)(pos & this.mask);
+			long diff = this.sequences.get(i) - pos;
+			if(diff == 0){
+				// The slot is free, claim it, or try again at the new tail if another thread claimed it first
+				if(this.tail.compareAndSet(pos, pos + 1)){
+					this.commands[i].set(type, player, source, location, sound, x, y, z, value, flag);
+					// Writing the sequence after the command makes the command visible to the thread taking commands
+					this.sequences.lazySet(i, pos + 1);
+					return true;
+				}
+				pos = this.tail.get();
+			}
+			else if(diff < 0){
+				// The slot still holds a command from the previous pass through the ring, so the queue is full
+				this.dropped.incrementAndGet();
+				return false;
+			}
+			else pos = this.tail.get();
+		}
+	}
+	
+	/**
+	 * Queue a sound to play
+	 *
+	 * @param player The player which will play the sound
+	 * @param source The source which will play the sound
+	 * @param sound The sound to play
+	 * @return true if the command was added, false if the queue was full
+	 */
+	public boolean play(SoundPlayer<?> player, SoundSource source, Sound sound){
+		return this.add(SoundCommand.Type.PLAY, player, source, null, sound, 0, 0, 0, 0, false);
+	}
+	
+	/**
+	 * Queue moving a source or listener
+	 *
+	 * @param location The source or listener to move
+	 * @param x The new x coordinate, in OpenAL coordinates
+	 * @param y The new y coordinate, in OpenAL coordinates
+	 * @param z The new z coordinate, in OpenAL coordinates
+	 * @return true if the command was added, false if the queue was full
+	 */
+	public boolean position(SoundLocation location, double x, double y, double z){
+		return this.add(SoundCommand.Type.POSITION, null, null, location, null, x, y, z, 0, false);
+	}
+	
+	/**
+	 * Queue changing the direction of a source or listener
+	 *
+	 * @param location The source or listener to change
+	 * @param x The x vector direction component
+	 * @param y The y vector direction component
+	 * @param z The z vector direction component
+	 * @return true if the command was added, false if the queue was full
+	 */
+	public boolean direction(SoundLocation location, double x, double y, double z){
+		return this.add(SoundCommand.Type.DIRECTION, null, null, location, null, x, y, z, 0, false);
+	}
+	
+	/**
+	 * Queue setting the base volume of a source
+	 *
+	 * @param source The source to change
+	 * @param volume The new base volume
+	 * @return true if the command was added, false if the queue was full
+	 */
+	public boolean sourceVolume(SoundSource source, double volume){
+		return this.add(SoundCommand.Type.SOURCE_VOLUME, null, source, null, null, 0, 0, 0, volume, false);
+	}
+	
+	/**
+	 * Queue setting the volume of a player
+	 *
+	 * @param player The player to change
+	 * @param volume The new volume
+	 * @return true if the command was added, false if the queue was full
+	 */
+	public boolean playerVolume(SoundPlayer<?> player, double volume){
+		return this.add(SoundCommand.Type.PLAYER_VOLUME, player, null, null, null, 0, 0, 0, volume, false);
+	}
+	
+	/**
+	 * Queue pausing or unpausing a player
+	 *
+	 * @param player The player to change
+	 * @param paused true to pause, false to unpause
+	 * @return true if the command was added, false if the queue was full
+	 */
+	public boolean playerPaused(SoundPlayer<?> player, boolean paused){
+		return this.add(SoundCommand.Type.PLAYER_PAUSED, player, null, null, null, 0, 0, 0, 0, paused);
+	}
+	
+	/**
+	 * Queue muting or unmuting a player
+	 *
+	 * @param player The player to change
+	 * @param muted true to mute, false to unmute
+	 * @return true if the command was added, false if the queue was full
+	 */
+	public boolean playerMuted(SoundPlayer<?> player, boolean muted){
+		return this.add(SoundCommand.Type.PLAYER_MUTED, player, null, null, null, 0, 0, 0, 0, muted);
+	}
+	
+	/**
+	 * Run the commands in this queue, in the order they were added. Must only be called by the thread which updates sounds
+	 *
+	 * @param max The maximum number of commands to run
+	 * @return The number of commands which were run
+	 */
+	public int drain(int max){
+		return this.drain(max, SoundCommand::run);
+	}
+	
+	/**
+	 * Take the commands in this queue, in the order they were added, and give them to the given function. Must only be called by one thread at a time
+	 *
+	 * @param max The maximum number of commands to take
+	 * @param handler The function to give each command to. The command is reused after the function returns, so it must not be kept
+	 * @return The number of commands which were taken
+	 */
+	public int drain(int max, Consumer<SoundCommand> handler){
+		int count = 0;
+		while(count < max){
+			long pos = this.head;
+			int i = (int)(pos & this.mask);
+			if(this.sequences.get(i) != pos + 1) break;
+			var command = this.commands[i];
+			try{
+				handler.accept(command);
+			}finally{
+				// Free the slot for the next pass, even if running the command failed, so that the queue cannot get stuck
+				command.clear();
+				this.sequences.lazySet(i, pos + this.commands.length);
+				this.head = pos + 1;
+			}
+			count++;
+		}
+		return count;
+	}
+	
+	/** @return true if there are no commands waiting to be taken, false otherwise */
+	public boolean isEmpty(){
+		return this.sequences.get((int)(this.head & this.mask)) != this.head + 1;
+	}
+	
+	/** @return The maximum number of commands which can wait in this queue */
+	public int getCapacity(){
+		return this.commands.length;
+	}
+	
+	/** @return See {@link #dropped} */
+	public long getDropped(){
+		return this.dropped.get();
+	}
+	
+}
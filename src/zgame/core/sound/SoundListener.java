@@ -8,17 +8,27 @@ import static org.lwjgl.openal.AL11.*;
  */
 public class SoundListener extends SoundLocation{
 	
+	/** The x coordinate of this listener, in OpenAL coordinates */
+	private double x;
+	/** The y coordinate of this listener, in OpenAL coordinates */
+	private double y;
+	/** The z coordinate of this listener, in OpenAL coordinates */
+	private double z;
+	
 	/**
 	 * Create a new empty {@link SoundListener}
 	 */
 	public SoundListener(){
 		super();
-		alListener3f(AL_POSITION, 0, 0, 0);
+		this.updatePosition(0, 0, 0);
 		alListener3f(AL_VELOCITY, 0, 0, 0);
 	}
 	
 	@Override
 	public void updatePosition(double x, double y, double z){
+		this.x = x;
+		this.y = y;
+		this.z = z;
 		alListener3f(AL_POSITION, (float)x, (float)y, (float)z);
 	}
 	
@@ -26,4 +36,20 @@ public class SoundListener extends SoundLocation{
 	public void updateDirection(double x, double y, double z){
 		alListener3f(AL_DIRECTION, (float)x, (float)y, (float)z);
 	}
+	
+	/** @return See {@link #x} */
+	public double getX(){
+		return this.x;
+	}
+	
+	/** @return See {@link #y} */
+	public double getY(){
+		return this.y;
+	}
+	
+	/** @return See {@link #z} */
+	public double getZ(){
+		return this.z;
+	}
+	
 }
@@ -10,12 +10,28 @@ import org.lwjgl.openal.ALUtil;
 import zgame.core.graphics.Destroyable;
 import zgame.core.utils.ZConfig;
 import zgame.core.utils.ZFilePaths;
+import zgame.things.type.Position3D;
 
 /**
  * A class that handles multiple {@link SoundPlayer} objects, music and effects
  */
 public class SoundManager implements Destroyable{
 	
+	/**
+	 * The queue of every operation on sounds made through this {@link SoundManager}, run on each {@link #update()}.
+	 * Used so that any thread can play and move sounds without touching OpenAL or the state of the players
+	 */
+	private final SoundCommandQueue commands;
+	
+	/** The voices, i.e. OpenAL sources, used by every {@link SoundSource} created by this {@link SoundManager} */
+	private final VoicePool voices;
+	
+	/** The sources which follow the position of a thing, moved together once per tick rather than by each thing */
+	private final AttachedSources attachedSources;
+	
+	/** The time, in nanoseconds, when {@link #update()} was last called, or -1 if it has not been called */
+	private long lastUpdate;
+	
 	/** The {@link EffectsPlayer} tracking the sound effects played by this {@link SoundManager} */
 	private final EffectsPlayer effectsPlayer;
 	
@@ -67,9 +83,14 @@ public class SoundManager implements Destroyable{
 		this.devices = new ArrayList<>();
 		this.scanDevices();
 		
-		this.effectsPlayer = new EffectsPlayer();
-		this.musicPlayer = new MusicPlayer();
-		this.musicSource = new SoundSource();
+		this.commands = new SoundCommandQueue();
+		this.voices = new VoicePool(new ALVoiceBackend(), VoicePool.DEFAULT_VOICES);
+		this.attachedSources = new AttachedSources();
+		this.lastUpdate = -1;
+		this.effectsPlayer = new EffectsPlayer(this.commands, this.voices);
+		this.musicPlayer = new MusicPlayer(this.commands);
+		this.musicSource = new SoundSource(this.voices.getBackend());
+		this.voices.reserve(this.musicSource);
 		this.listener = new SoundListener();
 	}
 	
@@ -140,6 +161,12 @@ public class SoundManager implements Destroyable{
 	/** Clear any resources used by this {@link SoundManager} */
 	@Override
 	public synchronized void destroy(){
+		// Voices must be deleted while their device is still open
+		if(this.musicSource != null) {
+			this.musicSource.destroy();
+			this.musicSource = null;
+		}
+		this.voices.destroy();
 		this.closeDevices();
 		if(this.effectsManager != null) {
 			this.effectsManager.destroy();
@@ -149,10 +176,6 @@ public class SoundManager implements Destroyable{
 			this.musicManager.destroy();
 			this.musicManager = null;
 		}
-		if(this.musicSource != null) {
-			this.musicSource.destroy();
-			this.musicSource = null;
-		}
 	}
 	
 	/** Free all resources used by audio devices sed by this {@link SoundManager} */
@@ -165,10 +188,23 @@ public class SoundManager implements Destroyable{
 		}
 	}
 	
-	/** Update the state of the effects and music player */
+	/**
+	 * Run every queued operation, see {@link #commands}, then move every attached source, see {@link #attachedSources}, then update the state of the effects and music
+	 * player, then decide which sounds get voices, see {@link #voices}. Must only be called by the thread which updates sounds
+	 */
 	public void update(){
+		long now = System.nanoTime();
+		double dt = this.lastUpdate < 0 ? 0 : (now - this.lastUpdate) * 1E-9;
+		this.lastUpdate = now;
+		
+		this.commands.drain(this.commands.getCapacity());
+		this.attachedSources.apply();
 		this.getEffectsPlayer().updateState();
 		this.getMusicPlayer().updateState();
+		
+		var l = this.getListener();
+		this.voices.setListenerPosition(l.getX(), l.getY(), l.getZ());
+		this.voices.update(dt);
 	}
 	
 	/**
@@ -255,7 +291,7 @@ public class SoundManager implements Destroyable{
 	}
 	
 	/**
-	 * Play the given sound at the given source
+	 * Play the given sound at the given source on the next {@link #update()}. Can be called from any thread
 	 *
 	 * @param source The source to play the sound
 	 * @param name The name of the sound, i.e. the name used when calling {@link #addEffect(EffectSound, String)}
@@ -265,7 +301,7 @@ public class SoundManager implements Destroyable{
 	}
 	
 	/**
-	 * Play the given music sound
+	 * Play the given music sound on the next {@link #update()}. Can be called from any thread
 	 *
 	 * @param name The name of the sound, i.e. the name used when calling {@link #addMusic(String)}
 	 */
@@ -320,7 +356,7 @@ public class SoundManager implements Destroyable{
 	}
 	
 	/**
-	 * Update the position of the given {@link SoundLocation} based on the scaling of this sound manager
+	 * Queue updating the position of the given {@link SoundLocation} based on the scaling of this sound manager, applied on the next {@link #update()}
 	 *
 	 * @param s The {@link SoundLocation} to update
 	 * @param x The new x coordinate in game coordinates
@@ -328,11 +364,11 @@ public class SoundManager implements Destroyable{
 	 * @param z The new z coordinate in game coordinates
 	 */
 	private void updateSoundPos(SoundLocation s, double x, double y, double z){
-		s.updatePosition(x * this.getDistanceScalar(), y * this.getDistanceScalar(), z * this.getDistanceScalar());
+		this.commands.position(s, x * this.getDistanceScalar(), y * this.getDistanceScalar(), z * this.getDistanceScalar());
 	}
 	
 	/**
-	 * Update the position of the given {@link SoundLocation} based on the scaling of this sound manager
+	 * Queue updating the direction of the given {@link SoundLocation}, applied on the next {@link #update()}
 	 *
 	 * @param s The {@link SoundLocation} to update
 	 * @param x The new x vector direction component
@@ -340,11 +376,83 @@ public class SoundManager implements Destroyable{
 	 * @param z The new z vector direction component
 	 */
 	private void updateSoundDirection(SoundLocation s, double x, double y, double z){
-		s.updateDirection(x, y, z);
+		this.commands.direction(s, x, y, z);
+	}
+	
+	/**
+	 * Make the given source follow the given thing, so that it does not need to be moved every tick.
+	 * Must only be called by the thread which ticks the game
+	 *
+	 * @param s The {@link SoundSource} to move
+	 * @param p The thing to follow, in game coordinates
+	 */
+	public void attachSource(SoundSource s, Position3D p){
+		this.attachedSources.attach(s, p);
 	}
 	
 	/**
-	 * Create a {@link SoundSource} at the given coordinates which will be scaled by the scalar of this {@link SoundManager}
+	 * Stop the given source from following the thing it was attached to with {@link #attachSource(SoundSource, Position3D)}.
+	 * Must only be called by the thread which ticks the game
+	 *
+	 * @param s The {@link SoundSource} to stop moving
+	 */
+	public void detachSource(SoundSource s){
+		this.attachedSources.detach(s);
+	}
+	
+	/** Find the position of every attached source, to be applied on the next {@link #update()}. Called at the end of each tick, by the thread which ticks the game */
+	public void gatherAttachedSources(){
+		this.attachedSources.gather(this.getDistanceScalar());
+	}
+	
+	/**
+	 * Set the base volume of the given source on the next {@link #update()}. Can be called from any thread
+	 *
+	 * @param s The {@link SoundSource} to update
+	 * @param volume The new base volume, see {@link SoundSource#setBaseVolume(double)}
+	 */
+	public void updateSourceVolume(SoundSource s, double volume){
+		this.commands.sourceVolume(s, volume);
+	}
+	
+	/**
+	 * Set the volume of the given player on the next {@link #update()}. Can be called from any thread
+	 *
+	 * @param player The player to update
+	 * @param volume The new volume, see {@link SoundPlayer#setVolume(double)}
+	 */
+	public void updatePlayerVolume(SoundPlayer<?> player, double volume){
+		this.commands.playerVolume(player, volume);
+	}
+	
+	/**
+	 * Pause or unpause the given player on the next {@link #update()}. Can be called from any thread
+	 *
+	 * @param player The player to update
+	 * @param paused See {@link SoundPlayer#setPaused(boolean)}
+	 */
+	public void updatePlayerPaused(SoundPlayer<?> player, boolean paused){
+		this.commands.playerPaused(player, paused);
+	}
+	
+	/**
+	 * Mute or unmute the given player on the next {@link #update()}. Can be called from any thread
+	 *
+	 * @param player The player to update
+	 * @param muted See {@link SoundPlayer#setMuted(boolean)}
+	 */
+	public void updatePlayerMuted(SoundPlayer<?> player, boolean muted){
+		this.commands.playerMuted(player, muted);
+	}
+	
+	/** @return See {@link #commands} */
+	public SoundCommandQueue getCommands(){
+		return this.commands;
+	}
+	
+	/**
+	 * Create a {@link SoundSource} at the given coordinates which will be scaled by the scalar of this {@link SoundManager}.
+	 * The source does not use any OpenAL resources until it plays a sound, see {@link #voices}
 	 *
 	 * @param x The new x coordinate in game coordinates
 	 * @param y The new y coordinate in game coordinates
@@ -352,11 +460,21 @@ public class SoundManager implements Destroyable{
 	 * @return The source
 	 */
 	public SoundSource createSource(double x, double y, double z){
-		SoundSource s = new SoundSource(x, y, z);
+		SoundSource s = new SoundSource(this.voices.getBackend(), x, y, z, 0);
 		this.updateSourcePos(s, x, y, z);
 		return s;
 	}
 	
+	/** @return See {@link #attachedSources} */
+	public AttachedSources getAttachedSources(){
+		return this.attachedSources;
+	}
+	
+	/** @return See {@link #voices} */
+	public VoicePool getVoices(){
+		return this.voices;
+	}
+	
 	/** @return See {@link #musicSource} */
 	public SoundSource getMusicSource(){
 		return this.musicSource;
@@ -1,14 +1,9 @@
 package zgame.core.sound;
 
-import java.nio.IntBuffer;
 import java.util.Collection;
 import java.util.HashMap;
 
-import org.lwjgl.BufferUtils;
-
-import static org.lwjgl.openal.AL11.*;
-
-/** A {@link HashMap} that manages a collection of {@link SoundSource} objects, their playing state, and relative volume */
+/** A {@link HashMap} that manages a collection of {@link SoundSource} objects, their playing state, and relative volume. Sources are mapped by {@link SoundSource#getKey()} */
 public class SoundMap extends HashMap<Integer, SoundSource>{
 	
 	/** The current volume of this {@link SoundMap}. This value will never be negative */
@@ -20,9 +15,9 @@ public class SoundMap extends HashMap<Integer, SoundSource>{
 		this.volume = 1;
 	}
 	
-	/** Cause every source in this map to stop playing, and then remove them from the map */
+	/** Cause every source in this map to stop playing, giving back their voices, and then remove them from the map */
 	public void clearSound(){
-		for(SoundSource s : this.values()) alSourceStop(s.getId());
+		for(SoundSource s : this.values()) s.release();
 		this.clear();
 	}
 	
@@ -32,7 +27,7 @@ public class SoundMap extends HashMap<Integer, SoundSource>{
 	 * @param s The source to add
 	 */
 	public void put(SoundSource s){
-		this.put(s.getId(), s);
+		this.put(s.getKey(), s);
 	}
 	
 	/** Update the state of every {@link SoundSource} in this {@link SoundMap} */
@@ -87,20 +82,18 @@ public class SoundMap extends HashMap<Integer, SoundSource>{
 	}
 	
 	/**
-	 * Remove any sounds from this {@link SoundMap} which are finished playing, i.e. their AL_SOURCE_STATE equals AL_STOPPED
+	 * Remove any sounds from this {@link SoundMap} which are finished playing, see {@link SoundSource#isFinished()}, and give their voices back to their pool
 	 *
 	 * @return true if at least one sound was removed, false otherwise
 	 */
 	public boolean removeFinishedSounds(){
 		boolean found = false;
-		SoundSource[] play = this.toArray();
-		for(int i = 0; i < play.length; i++){
-			SoundSource s = this.get(play[i].getId());
-			IntBuffer buf = BufferUtils.createIntBuffer(1);
-			alGetSourcei(s.getId(), AL_SOURCE_STATE, buf);
-			int state = buf.get(0);
-			if(state == AL_STOPPED){
-				this.remove(s.getId());
+		var it = this.values().iterator();
+		while(it.hasNext()){
+			SoundSource s = it.next();
+			if(s.isFinished()){
+				it.remove();
+				s.release();
 				found = true;
 			}
 		}
@@ -2,10 +2,6 @@ package zgame.core.sound;
 
 import zgame.core.utils.ZConfig;
 
-import java.util.LinkedList;
-
-import static org.lwjgl.openal.AL11.*;
-
 /**
  * A class that handles and keeps track of a list of playing sounds
  *
@@ -16,8 +12,8 @@ public abstract class SoundPlayer<S extends Sound>{
 	/** A collection of every sound currently played by this {@link SoundPlayer} */
 	private final SoundMap playing;
 	
-	/** The queue of sounds which will begin playing on the next update */
-	private final LinkedList<SoundPair<S>> queue;
+	/** The queue which sounds to play are added to, run by the owner of the queue before each update of this player */
+	private final SoundCommandQueue commands;
 	
 	/** true if this {@link SoundPlayer} should not make any sound, but sounds should continue to play, false otherwise */
 	private boolean muted;
@@ -25,10 +21,14 @@ public abstract class SoundPlayer<S extends Sound>{
 	/** true if this {@link SoundPlayer} is paused and should not play any sounds, false otherwise */
 	private boolean paused;
 	
-	/** Create an empty {@link SoundPlayer} with no currently playing sounds */
-	public SoundPlayer(){
+	/**
+	 * Create an empty {@link SoundPlayer} with no currently playing sounds
+	 *
+	 * @param commands See {@link #commands}
+	 */
+	public SoundPlayer(SoundCommandQueue commands){
 		this.playing = new SoundMap();
-		this.queue = new LinkedList<>();
+		this.commands = commands;
 		this.unmute();
 		this.unpause();
 	}
@@ -39,22 +39,37 @@ public abstract class SoundPlayer<S extends Sound>{
 		this.unpause();
 		
 		this.playing.clearSound();
-		this.queue.clear();
+	}
+	
+	/** @return See {@link #commands} */
+	public SoundCommandQueue getCommands(){
+		return this.commands;
 	}
 	
 	/**
-	 * Queue the given {@link Sound} at the given {@link SoundSource} to play using this {@link SoundPlayer} on the next update
+	 * Queue the given {@link Sound} at the given {@link SoundSource} to play using this {@link SoundPlayer} on the next update. Can be called from any thread
 	 *
 	 * @param source The source which will play the sound
 	 * @param sound The sound to play
 	 */
 	protected void playSound(SoundSource source, S sound){
-		this.queue.push(new SoundPair<>(source, sound));
+		this.commands.play(this, source, sound);
+	}
+	
+	/**
+	 * Play a sound taken from {@link #commands}. Should only be called by {@link SoundCommand#run()}
+	 *
+	 * @param source The source which will play the sound
+	 * @param sound The sound to play, must be of the type used by this player
+	 */
+	@SuppressWarnings("unchecked")
+	void playQueued(SoundSource source, Sound sound){
+		this.playSoundNow(source, (S)sound);
 	}
 	
 	/**
 	 * Immediately use this {@link SoundPlayer} to play the given {@link Sound} at the given {@link SoundSource} This method should not be called outside of
-	 * {@link #updateState()} or related method calls
+	 * running the commands of {@link #commands} or related method calls
 	 *
 	 * @param source The source which will play the sound
 	 * @param sound The sound to play
@@ -74,10 +89,9 @@ public abstract class SoundPlayer<S extends Sound>{
 		source.setMuted(this.isMuted());
 		source.setPaused(this.isPaused());
 		source.updateVolumeLevel();
-		if(this.isPaused()) alSourcef(source.getId(), AL_GAIN, 0.0f);
 		
 		// Play the actual sound, playing it from the beginning
-		alSourceRewind(source.getId());
+		source.rewind();
 		this.runSound(source, sound);
 	}
 	
@@ -92,13 +106,10 @@ public abstract class SoundPlayer<S extends Sound>{
 	protected abstract void runSound(SoundSource source, S sound);
 	
 	/**
-	 * A method to be called when this {@link SoundPlayer} needs to be updated. For example if a music track needs to loop
+	 * A method to be called when this {@link SoundPlayer} needs to be updated. For example if a music track needs to loop.
+	 * The commands of {@link #commands} should be run before calling this method
 	 */
 	public void updateState(){
-		// Play all sounds and clear the queue
-		for(SoundPair<S> sp : this.queue) this.playSoundNow(sp.getSource(), sp.getSound());
-		this.queue.clear();
-		
 		// Update the states of the sounds
 		this.playing.update();
 		
@@ -1,17 +1,48 @@
 package zgame.core.sound;
 
-import static org.lwjgl.openal.AL11.*;
-
 import zgame.core.graphics.Destroyable;
 import zgame.core.utils.ZConfig;
 
 /**
- * A class that tracks a single source in OpenAL
+ * A class that tracks a single place where sounds play from. A source only uses an OpenAL source, its voice, while it is playing a sound which can be heard, and voices are
+ * leased from a {@link VoicePool}. While a source is playing without a voice, it is virtual, the time it has played is still tracked, so that it can continue from the same
+ * place if it gets a voice again
  */
 public class SoundSource extends SoundLocation implements Destroyable{
 	
-	/** The id used by OpenAL to track this source */
-	private final int id;
+	/** The number used for {@link #key} of the next source created */
+	private static int nextKey = 1;
+	
+	/** A number which no other source has, which stays the same while voices change */
+	private final int key;
+	
+	/** The backend used to control {@link #voice} */
+	private final VoiceBackend backend;
+	
+	/** The pool which this source is playing through, or null if it is not playing through a pool */
+	private VoicePool pool;
+	
+	/** true if {@link #voice} was reserved, and will be kept by this source until it is destroyed, false if voices are leased while playing */
+	private boolean reserved;
+	
+	/** The id of the voice used to play sounds, or {@link VoiceBackend#NO_VOICE} if this source does not have one */
+	private int voice;
+	
+	/** The x coordinate of this source, in OpenAL coordinates */
+	private double x;
+	/** The y coordinate of this source, in OpenAL coordinates */
+	private double y;
+	/** The z coordinate of this source, in OpenAL coordinates */
+	private double z;
+	
+	/** The x vector component of the direction this source faces */
+	private double dirX;
+	/** The y vector component of the direction this source faces */
+	private double dirY;
+	/** The z vector component of the direction this source faces */
+	private double dirZ;
+	/** true if the direction of this source was set, false if it plays in every direction */
+	private boolean directed;
 	
 	/**
 	 * The current level of loudness of this {@link SoundSource}. 0 = muted, 1 = maximum volume without peaking. Value can be higher than 1, but could result in
@@ -40,67 +71,109 @@ public class SoundSource extends SoundLocation implements Destroyable{
 	/** The sound which this {@link SoundSource} is currently playing, can be null if no sound is playing */
 	private Sound current;
 	
+	/** The number of seconds of {@link #current} which have played, only kept up to date while this source has no voice */
+	private double elapsed;
+	
+	/** The priority {@link #pool} last found for this source */
+	private double priority;
+	
+	/** The index of this source in the {@link AttachedSources} it is attached to, or -1 if it is not attached */
+	private int attachment;
+	
 	/**
-	 * Create and initialize a new {@link SoundSource} at (0, 0, 0)
+	 * Create and initialize a new {@link SoundSource} at (0, 0, 0), using OpenAL
 	 */
 	public SoundSource(){
 		this(0, 0, 0);
 	}
 	
 	/**
-	 * Create and initialize a new {@link SoundSource}
+	 * Create and initialize a new {@link SoundSource}, using OpenAL
 	 *
 	 * @param x The current x position of the sound
 	 * @param y The current y position of the sound
+	 * @param z The current z position of the sound
 	 */
 	public SoundSource(double x, double y, double z){
-		this(x, y, z, 0);
+		this(new ALVoiceBackend(), x, y, z, 0);
 	}
 	
 	/**
-	 * Create and initialize a new {@link SoundSource}
+	 * Create and initialize a new {@link SoundSource} at (0, 0, 0)
 	 *
+	 * @param backend See {@link #backend}
+	 */
+	public SoundSource(VoiceBackend backend){
+		this(backend, 0, 0, 0, 0);
+	}
+	
+	/**
+	 * Create and initialize a new {@link SoundSource}. The source will not have a voice until it plays a sound
+	 *
+	 * @param backend See {@link #backend}
 	 * @param x The current x position of the sound
 	 * @param y The current y position of the sound
 	 * @param z The current z position of the sound
 	 * @param baseVolume See {@link #baseVolume}
 	 */
-	public SoundSource(double x, double y, double z, double baseVolume){
+	public SoundSource(VoiceBackend backend, double x, double y, double z, double baseVolume){
 		super();
-		this.id = alGenSources();
+		this.key = nextKey();
+		this.backend = backend;
+		this.pool = null;
+		this.reserved = false;
+		this.voice = VoiceBackend.NO_VOICE;
 		this.muted = false;
 		this.paused = false;
 		this.currentPaused = false;
 		this.setBaseVolume(baseVolume);
 		this.setVolume(1);
 		this.pausedSample = -1;
-		alSourcef(this.getId(), AL_PITCH, 1);
 		this.updatePosition(x, y, z);
+		this.directed = false;
 		this.current = null;
+		this.elapsed = 0;
+		this.priority = 0;
+		this.attachment = -1;
+	}
+	
+	/** @return A new value for {@link #key} */
+	private static synchronized int nextKey(){
+		return nextKey++;
 	}
 	
 	@Override
 	public void updatePosition(double x, double y, double z){
-		alSource3f(this.getId(), AL_POSITION, (float)x, (float)y, (float)z);
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		if(this.hasVoice()) this.backend.position(this.voice, x, y, z);
 	}
 	
 	@Override
 	public void updateDirection(double x, double y, double z){
-		alSource3f(this.getId(), AL_DIRECTION, (float)x, (float)y, (float)z);
-		// issue#61 these values need a better way of being set up
-		alSourcef(this.getId(), AL_CONE_INNER_ANGLE, 1);
-		alSourcef(this.getId(), AL_CONE_OUTER_ANGLE, 1);
-		alSourcef(this.getId(), AL_CONE_OUTER_GAIN, 0.2f);
+		this.dirX = x;
+		this.dirY = y;
+		this.dirZ = z;
+		this.directed = true;
+		if(this.hasVoice()) this.backend.direction(this.voice, x, y, z);
 	}
 	
 	/** Should call this method when the state of a sound needs to be updated, i.e. each game loop */
 	public void update(){
+		// Without a voice, there is nothing to fade out, so pausing happens immediately, and the pool stops counting time
+		if(!this.hasVoice()){
+			this.currentPaused = this.isPaused();
+			this.pausedSample = -1;
+			return;
+		}
+		
 		// If the sound is currently paused and should unpause on this update, then unpause it
 		if(this.currentPaused){
 			if(!this.isPaused()){
-				alSourcef(this.getId(), AL_SAMPLE_OFFSET, this.pausedSample);
-				alSourcePlay(this.getId());
-				if(!this.isMuted()) alSourcef(id, AL_GAIN, (float)this.getVolume());
+				this.backend.setSampleOffset(this.voice, this.pausedSample);
+				this.backend.play(this.voice);
+				if(!this.isMuted()) this.backend.gain(this.voice, this.getVolume());
 				this.currentPaused = false;
 			}
 		}
@@ -108,17 +181,114 @@ public class SoundSource extends SoundLocation implements Destroyable{
 		else{
 			float change = this.getSamplePos() - this.pausedSample;
 			if(this.pausedSample >= 0 && change >= ZConfig.soundPauseDelay()){
-				alSourcePause(this.getId());
+				this.backend.pause(this.voice);
 				this.pausedSample = -1;
 				this.currentPaused = true;
 			}
 		}
 	}
 	
+	/**
+	 * Give this source a voice, and begin playing {@link #current} from where it left off. Should only be called by {@link VoicePool}
+	 *
+	 * @param voice The voice
+	 */
+	void bind(int voice){
+		this.voice = voice;
+		this.backend.pitch(voice, 1);
+		this.backend.position(voice, this.x, this.y, this.z);
+		if(this.directed) this.backend.direction(voice, this.dirX, this.dirY, this.dirZ);
+		this.updateVolumeLevel();
+		this.start();
+	}
+	
+	/**
+	 * Take the voice away from this source, keeping track of how much of {@link #current} has played. Should only be called by {@link VoicePool}
+	 *
+	 * @return The voice which this source had, or {@link VoiceBackend#NO_VOICE} if it had none
+	 */
+	int unbind(){
+		int old = this.voice;
+		if(old == VoiceBackend.NO_VOICE) return old;
+		
+		if(this.current != null){
+			this.elapsed = this.backend.isStopped(old) ? this.getLength() : this.backend.getSampleOffset(old) / (double)this.current.getSampleRate();
+		}
+		this.backend.stop(old);
+		this.backend.buffer(old, 0);
+		this.voice = VoiceBackend.NO_VOICE;
+		this.pausedSample = -1;
+		this.currentPaused = this.isPaused();
+		return old;
+	}
+	
+	/** Begin playing {@link #current} with {@link #voice} from {@link #elapsed}, or prepare to begin playing it if this source is paused */
+	void start(){
+		if(!this.hasVoice() || this.current == null) return;
+		
+		this.backend.buffer(this.voice, this.current.getIds()[0]);
+		float offset = (float)(this.elapsed * this.current.getSampleRate());
+		this.backend.setSampleOffset(this.voice, offset);
+		if(this.isPaused()){
+			// Start playing when the source is unpaused
+			this.pausedSample = offset;
+			this.currentPaused = true;
+		}
+		else this.backend.play(this.voice);
+	}
+	
+	/**
+	 * Give this source a voice which will not be taken away. Should only be called by {@link VoicePool}
+	 *
+	 * @param pool See {@link #pool}
+	 * @param voice The voice
+	 */
+	void reserve(VoicePool pool, int voice){
+		this.pool = pool;
+		this.reserved = true;
+		this.bind(voice);
+	}
+	
+	/** Stop playing any sound, and give the voice of this source back to its pool, if the voice is not reserved */
+	public void release(){
+		if(this.pool != null) this.pool.release(this);
+		else if(this.hasVoice()) this.backend.stop(this.voice);
+	}
+	
 	/** Free any resources used by this {@link SoundSource} */
 	@Override
 	public void destroy(){
-		alDeleteSources(this.getId());
+		if(this.pool != null) this.pool.remove(this);
+		this.voice = VoiceBackend.NO_VOICE;
+	}
+	
+	/**
+	 * @return true if this source was playing a sound which has now ended, false otherwise. A source with a voice has ended when its voice has stopped, and a source without a
+	 * 		voice has ended when the length of its sound has passed
+	 */
+	public boolean isFinished(){
+		if(this.hasVoice()) return this.backend.isStopped(this.voice);
+		return this.current == null || this.elapsed >= this.getLength();
+	}
+	
+	/**
+	 * @return true if this source is playing a sound through its pool, with or without a voice, false otherwise. Does not check with OpenAL, so a sound which just ended
+	 * 		counts as playing until it is released
+	 */
+	public boolean isPlaying(){
+		return this.pool != null && this.current != null;
+	}
+	
+	/** @return The length, in seconds, of {@link #current}, or 0 if there is no sound */
+	public double getLength(){
+		if(this.current == null || this.current.getSampleRate() <= 0) return 0;
+		return this.current.getSamples() / (double)this.current.getSampleRate();
+	}
+	
+	/** Bring the current sound back to its beginning */
+	public void rewind(){
+		this.elapsed = 0;
+		if(this.hasVoice()) this.backend.rewind(this.voice);
 	}
 	
 	/** @return See {@link #volume} */
@@ -137,9 +307,9 @@ public class SoundSource extends SoundLocation implements Destroyable{
 		this.setVolume(this.getVolume() + volume);
 	}
 	
-	/** Based on the current state of the source, i.e. base volume, current volume, muted, set the correct volume level in OpenAL */
+	/** Based on the current state of the source, i.e. base volume, current volume, muted, paused, set the correct volume level in OpenAL */
 	public void updateVolumeLevel(){
-		alSourcef(id, AL_GAIN, (float)this.getTotalVolume());
+		if(this.hasVoice()) this.backend.gain(this.voice, this.isPaused() ? 0 : this.getTotalVolume());
 	}
 	
 	/** @return See {@link #baseVolume} */
@@ -206,8 +376,9 @@ public class SoundSource extends SoundLocation implements Destroyable{
 		this.paused = true;
 		
 		// Track the sample position and then mute the sound immediately
+		if(!this.hasVoice()) return;
 		this.pausedSample = this.getSamplePos();
-		alSourcef(this.getId(), AL_GAIN, 0);
+		this.backend.gain(this.voice, 0);
 	}
 	
 	/**
@@ -220,12 +391,89 @@ public class SoundSource extends SoundLocation implements Destroyable{
 	
 	/** @return The sample position of the sound currently playing in this source */
 	public float getSamplePos(){
-		return alGetSourcef(this.getId(), AL_SAMPLE_OFFSET);
+		if(this.hasVoice()) return this.backend.getSampleOffset(this.voice);
+		if(this.current == null) return 0;
+		return (float)(this.elapsed * this.current.getSampleRate());
 	}
 	
-	/** @return See {@link #id} */
+	/** @return See {@link #voice} */
 	public int getId(){
-		return this.id;
+		return this.voice;
+	}
+	
+	/** @return true if this source currently has a voice, false if it is virtual or not playing */
+	public boolean hasVoice(){
+		return this.voice != VoiceBackend.NO_VOICE;
+	}
+	
+	/** @return See {@link #key} */
+	public int getKey(){
+		return this.key;
+	}
+	
+	/** @return See {@link #backend} */
+	public VoiceBackend getBackend(){
+		return this.backend;
+	}
+	
+	/** @return See {@link #pool} */
+	public VoicePool getPool(){
+		return this.pool;
+	}
+	
+	/** @param pool See {@link #pool} */
+	void setPool(VoicePool pool){
+		this.pool = pool;
+	}
+	
+	/** @return See {@link #reserved} */
+	public boolean isReserved(){
+		return this.reserved;
+	}
+	
+	/** @return See {@link #x} */
+	public double getX(){
+		return this.x;
+	}
+	
+	/** @return See {@link #y} */
+	public double getY(){
+		return this.y;
+	}
+	
+	/** @return See {@link #z} */
+	public double getZ(){
+		return this.z;
+	}
+	
+	/** @return See {@link #elapsed} */
+	public double getElapsed(){
+		return this.elapsed;
+	}
+	
+	/** @param dt The number of seconds to add to {@link #elapsed} */
+	void addElapsed(double dt){
+		this.elapsed += dt;
+	}
+	
+	/** @return See {@link #priority} */
+	public double getPriority(){
+		return this.priority;
+	}
+	
+	/** @param priority See {@link #priority} */
+	void setPriority(double priority){
+		this.priority = priority;
+	}
+	
+	/** @return See {@link #attachment} */
+	int getAttachment(){
+		return this.attachment;
+	}
+	
+	/** @param attachment See {@link #attachment} */
+	void setAttachment(int attachment){
+		this.attachment = attachment;
 	}
 	
 	/** @return See {@link #current} */
@@ -233,9 +481,10 @@ public class SoundSource extends SoundLocation implements Destroyable{
 		return this.current;
 	}
 	
-	/** @param current See {@link #current} */
+	/** @param current See {@link #current}. Also brings the time played back to the beginning */
 	public void setCurrent(Sound current){
 		this.current = current;
+		this.elapsed = 0;
 	}
 	
 }
@@ -0,0 +1,82 @@
+package zgame.core.sound;
+
+/**
+ * The operations on voices, i.e. OpenAL sources, used by {@link SoundSource} and {@link VoicePool}.
+ * Every call to the audio library about a voice goes through this interface, so that which voices are used can be decided and tested without an audio device
+ */
+public interface VoiceBackend{
+	
+	/** The id which represents no voice */
+	int NO_VOICE = 0;
+	
+	/** @return The id of a newly created voice, or {@link #NO_VOICE} if no more voices can be created */
+	int create();
+	
+	/** @param voice The voice to free. The id must not be used after calling this method */
+	void delete(int voice);
+	
+	/**
+	 * @param voice The voice to move
+	 * @param x The x coordinate, in OpenAL coordinates
+	 * @param y The y coordinate, in OpenAL coordinates
+	 * @param z The z coordinate, in OpenAL coordinates
+	 */
+	void position(int voice, double x, double y, double z);
+	
+	/**
+	 * @param voice The voice to point
+	 * @param x The x vector direction component
+	 * @param y The y vector direction component
+	 * @param z The z vector direction component
+	 */
+	void direction(int voice, double x, double y, double z);
+	
+	/**
+	 * @param voice The voice to change
+	 * @param gain The volume the voice plays at
+	 */
+	void gain(int voice, double gain);
+	
+	/**
+	 * @param voice The voice to change
+	 * @param pitch The pitch the voice plays at, 1 for normal
+	 */
+	void pitch(int voice, double pitch);
+	
+	/**
+	 * @param voice The voice to change
+	 * @param buffer The id of the buffer the voice will play, or 0 for no buffer
+	 */
+	void buffer(int voice, int buffer);
+	
+	/** @param voice The voice to begin or continue playing */
+	void play(int voice);
+	
+	/** @param voice The voice to pause */
+	void pause(int voice);
+	
+	/** @param voice The voice to stop */
+	void stop(int voice);
+	
+	/** @param voice The voice to bring back to the beginning of its buffer */
+	void rewind(int voice);
+	
+	/**
+	 * @param voice The voice
+	 * @return The sample the voice is currently playing
+	 */
+	float getSampleOffset(int voice);
+	
+	/**
+	 * @param voice The voice
+	 * @param offset The sample to play from
+	 */
+	void setSampleOffset(int voice, float offset);
+	
+	/**
+	 * @param voice The voice
+	 * @return true if the voice played its sound and then stopped, false otherwise
+	 */
+	boolean isStopped(int voice);
+	
+}
@@ -0,0 +1,330 @@
+package zgame.core.sound;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+
+import zgame.core.graphics.Destroyable;
+
+/**
+ * A fixed number of voices, i.e. OpenAL sources, shared between every {@link SoundSource} which plays through this pool. Audio libraries can only make a limited number of
+ * sources, so rather than every source owning one, a source leases a voice when it plays a sound, and gives it back when the sound finishes.
+ * When there are more sounds playing than voices, the sounds with the highest priority, based on their volume and distance to the listener, get the voices. The others are
+ * virtual, they keep track of how long they have played without making any sound, and continue from the same place if they get a voice again.
+ * Sounds too quiet to be heard are always virtual.
+ * Must only be used by the thread which updates sounds
+ */
+public class VoicePool implements Destroyable{
+	
+	/** The number of voices a pool has if no size is given */
+	public static final int DEFAULT_VOICES = 64;
+	
+	/** The priority below which a sound cannot be heard, if no other value is given */
+	public static final double DEFAULT_AUDIBLE_PRIORITY = 0.001;
+	
+	/** Orders sources from highest to lowest priority */
+	private static final Comparator<SoundSource> PRIORITY_ORDER = (a, b) -> Double.compare(b.getPriority(), a.getPriority());
+	
+	/** The backend used to create and control voices */
+	private final VoiceBackend backend;
+	
+	/** The maximum number of voices this pool will lease at once */
+	private final int capacity;
+	
+	/** Every voice created for leasing, in the order they were created */
+	private final int[] voices;
+	
+	/** The number of values of {@link #voices} which have been created */
+	private int created;
+	
+	/** true if {@link #backend} failed to create a voice, so no more will be created, false otherwise */
+	private boolean exhausted;
+	
+	/** The voices which are not leased, used as a stack */
+	private final int[] free;
+	
+	/** The number of values in {@link #free} */
+	private int freeCount;
+	
+	/** Every source which is playing a sound through this pool, with or without a voice */
+	private final ArrayList<SoundSource> active;
+	
+	/** Every source with a reserved voice, see {@link #reserve(SoundSource)} */
+	private final ArrayList<SoundSource> reserved;
+	
+	/** The priority below which a sound will not be given a voice */
+	private double audiblePriority;
+	
+	/** The x coordinate of the listener, in OpenAL coordinates */
+	private double listenerX;
+	/** The y coordinate of the listener, in OpenAL coordinates */
+	private double listenerY;
+	/** The z coordinate of the listener, in OpenAL coordinates */
+	private double listenerZ;
+	
+	/**
+	 * Create a new pool. No voices are created until they are needed
+	 *
+	 * @param backend See {@link #backend}
+	 * @param capacity See {@link #capacity}
+	 */
+	public VoicePool(VoiceBackend backend, int capacity){
+		this.backend = backend;
+		this.capacity = Math.max(1, capacity);
+		this.voices = new int[this.capacity];
+		this.created = 0;
+		this.exhausted = false;
+		this.free = new int[this.capacity];
+		this.freeCount = 0;
+		this.active = new ArrayList<>();
+		this.reserved = new ArrayList<>();
+		this.audiblePriority = DEFAULT_AUDIBLE_PRIORITY;
+		this.setListenerPosition(0, 0, 0);
+	}
+	
+	/**
+	 * Begin playing the current sound of the given source. The source is given a voice if one is free, or if it has a higher priority than a source using a voice,
+	 * otherwise it plays virtually
+	 *
+	 * @param source The source, which must already have its sound set
+	 */
+	public void play(SoundSource source){
+		if(source.isReserved()){
+			source.start();
+			return;
+		}
+		if(source.getPool() != this){
+			// A source can only play through one pool at a time
+			if(source.getPool() != null) source.getPool().release(source);
+			source.setPool(this);
+			this.active.add(source);
+		}
+		source.setPriority(this.priority(source));
+		
+		// A source which already has a voice plays its new sound with the same voice
+		if(source.hasVoice()){
+			source.start();
+			return;
+		}
+		if(source.getPriority() < this.audiblePriority) return;
+		
+		int voice = this.takeVoice();
+		if(voice == VoiceBackend.NO_VOICE) voice = this.steal(source.getPriority());
+		if(voice != VoiceBackend.NO_VOICE) source.bind(voice);
+	}
+	
+	/**
+	 * Stop the given source, and if it has a leased voice, return the voice to this pool. If the voice is reserved, the source keeps it
+	 *
+	 * @param source The source
+	 */
+	public void release(SoundSource source){
+		if(source.isReserved()){
+			if(source.hasVoice()) this.backend.stop(source.getId());
+			return;
+		}
+		if(source.getPool() != this || !this.active.remove(source)) return;
+		source.setPool(null);
+		this.giveBack(source.unbind());
+	}
+	
+	/**
+	 * Stop tracking the given source, and free any voice it has, deleting it if it was reserved. Called when a source is destroyed
+	 *
+	 * @param source The source
+	 */
+	public void remove(SoundSource source){
+		if(this.reserved.remove(source)){
+			int voice = source.unbind();
+			if(voice != VoiceBackend.NO_VOICE) this.backend.delete(voice);
+			return;
+		}
+		this.release(source);
+	}
+	
+	/**
+	 * Give a source a voice of its own, which is not part of the voices leased by this pool, and will not be taken away. Used for sources which must always be able to play,
+	 * i.e. music
+	 *
+	 * @param source The source
+	 * @return true if the voice was created, false otherwise
+	 */
+	public boolean reserve(SoundSource source){
+		if(source.hasVoice()) return false;
+		int voice = this.backend.create();
+		if(voice == VoiceBackend.NO_VOICE) return false;
+		source.reserve(this, voice);
+		this.reserved.add(source);
+		return true;
+	}
+	
+	/**
+	 * Update which sources have voices. Time passes for every virtual sound, then voices are taken from sources which can no longer be heard, or which have a lower
+	 * priority than the sources which can use the voices, and given to the highest priority sources which can be heard
+	 *
+	 * @param dt The number of seconds since the last update
+	 */
+	public void update(double dt){
+		var sources = this.active;
+		for(int i = 0; i < sources.size(); i++){
+			var s = sources.get(i);
+			if(!s.hasVoice() && !s.isPaused()) s.addElapsed(dt);
+			s.setPriority(this.priority(s));
+		}
+		sources.sort(PRIORITY_ORDER);
+		
+		// Take voices first, so that they can be given to the sources which should have them
+		for(int i = 0; i < sources.size(); i++){
+			var s = sources.get(i);
+			if(s.hasVoice() && !this.shouldHaveVoice(s, i)) this.giveBack(s.unbind());
+		}
+		for(int i = 0; i < sources.size() && i < this.capacity; i++){
+			var s = sources.get(i);
+			if(s.hasVoice() || !this.shouldHaveVoice(s, i)) continue;
+			int voice = this.takeVoice();
+			if(voice == VoiceBackend.NO_VOICE) break;
+			s.bind(voice);
+		}
+	}
+	
+	/**
+	 * @param source A source playing through this pool
+	 * @param rank The position of the source when sorted by priority, starting at 0 for the highest priority
+	 * @return true if the source should have a voice, false otherwise
+	 */
+	private boolean shouldHaveVoice(SoundSource source, int rank){
+		// A finished source keeps its voice until it is released, so that it is not played again
+		if(source.hasVoice() && source.isFinished()) return true;
+		return rank < this.capacity && source.getPriority() >= this.audiblePriority && !source.isFinished();
+	}
+	
+	/**
+	 * Find how important it is for the given source to be heard. This is the volume the source would be heard at by the listener, using the default OpenAL distance model,
+	 * i.e. the volume of the source divided by its distance to the listener, when the distance is more than 1
+	 *
+	 * @param source The source
+	 * @return The priority
+	 */
+	public double priority(SoundSource source){
+		double dx = source.getX() - this.listenerX;
+		double dy = source.getY() - this.listenerY;
+		double dz = source.getZ() - this.listenerZ;
+		double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+		return source.getTotalVolume() / Math.max(1, distance);
+	}
+	
+	/**
+	 * Get a voice which is not in use, creating a new one if needed
+	 *
+	 * @return The voice, or {@link VoiceBackend#NO_VOICE} if every voice is leased
+	 */
+	private int takeVoice(){
+		if(this.freeCount > 0) return this.free[--this.freeCount];
+		if(this.exhausted || this.created >= this.capacity) return VoiceBackend.NO_VOICE;
+		
+		int voice = this.backend.create();
+		if(voice == VoiceBackend.NO_VOICE){
+			// The backend has no more voices to give, so stop trying
+			this.exhausted = true;
+			return voice;
+		}
+		this.voices[this.created++] = voice;
+		return voice;
+	}
+	
+	/**
+	 * Take the voice from the source with the lowest priority, if it is lower than the given priority
+	 *
+	 * @param priority The priority of the source which needs a voice
+	 * @return The voice, or {@link VoiceBackend#NO_VOICE} if every source with a voice has at least the given priority
+	 */
+	private int steal(double priority){
+		SoundSource lowest = null;
+		for(int i = 0; i < this.active.size(); i++){
+			var s = this.active.get(i);
+			if(s.hasVoice() && s.getPriority() < priority && (lowest == null || s.getPriority() < lowest.getPriority())) lowest = s;
+		}
+		if(lowest == null) return VoiceBackend.NO_VOICE;
+		return lowest.unbind();
+	}
+	
+	/** @param voice A voice to put back in {@link #free}, does nothing for {@link VoiceBackend#NO_VOICE} */
+	private void giveBack(int voice){
+		if(voice != VoiceBackend.NO_VOICE) this.free[this.freeCount++] = voice;
+	}
+	
+	/**
+	 * Set the position which priorities are based on. Should be the same as the position of the {@link SoundListener}
+	 *
+	 * @param x The x coordinate, in OpenAL coordinates
+	 * @param y The y coordinate, in OpenAL coordinates
+	 * @param z The z coordinate, in OpenAL coordinates
+	 */
+	public void setListenerPosition(double x, double y, double z){
+		this.listenerX = x;
+		this.listenerY = y;
+		this.listenerZ = z;
+	}
+	
+	/** @return See {@link #backend} */
+	public VoiceBackend getBackend(){
+		return this.backend;
+	}
+	
+	/** @return See {@link #capacity} */
+	public int getCapacity(){
+		return this.capacity;
+	}
+	
+	/** @return The number of voices which have been created for leasing */
+	public int getCreated(){
+		return this.created;
+	}
+	
+	/** @return The number of leased voices */
+	public int getLeased(){
+		return this.created - this.freeCount;
+	}
+	
+	/** @return The number of sources playing through this pool, with or without a voice */
+	public int getActive(){
+		return this.active.size();
+	}
+	
+	/** @return The number of sources playing through this pool without a voice */
+	public int getVirtual(){
+		int count = 0;
+		for(int i = 0; i < this.active.size(); i++){
+			if(!this.active.get(i).hasVoice()) count++;
+		}
+		return count;
+	}
+	
+	/** @return See {@link #audiblePriority} */
+	public double getAudiblePriority(){
+		return this.audiblePriority;
+	}
+	
+	/** @param audiblePriority See {@link #audiblePriority} */
+	public void setAudiblePriority(double audiblePriority){
+		this.audiblePriority = audiblePriority;
+	}
+	
+	/** Stop every source and delete every voice created by this pool, including reserved voices */
+	@Override
+	public void destroy(){
+		for(var s : this.active){
+			s.unbind();
+			s.setPool(null);
+		}
+		this.active.clear();
+		for(var s : this.reserved){
+			int voice = s.unbind();
+			if(voice != VoiceBackend.NO_VOICE) this.backend.delete(voice);
+		}
+		this.reserved.clear();
+		for(int i = 0; i < this.created; i++) this.backend.delete(this.voices[i]);
+		this.created = 0;
+		this.freeCount = 0;
+	}
+	
+}
@@ -101,7 +101,11 @@ public class PlayState extends GameState{
 	@Override
 	public final void tick(Game game, double dt){
 		super.tick(game, dt);
-		if(this.isPaused()) return;
+		if(this.isPaused()){
+			// A room is not drawn until it has a snapshot, so a room which is paused before its first tick still needs one
+			if(this.currentRoom.getSnapshotCount() == 0) this.currentRoom.publishSnapshot();
+			return;
+		}
 		
 		this.currentRoom.tick(game, dt);
 	}
@@ -1,27 +1,47 @@
 package zgame.core.utils;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 
 /**
  * A map of lists, where each list contains all the objects added to this object. For each class added to this object, a new list will be created.
- * This object will never store null values
+ * This object will never store null values, and will not store the same object twice.
  * All classes intended to be used should be added before adding any elements.
  * If the given object is {@link Uuidable}, then it will also be stored as a map.
- * If the object implements {@link Comparable}, then the list will be sorted in ascending order.
+ * If the object implements {@link Comparable}, then the list will be sorted in ascending order, with objects which compare to the same value kept together in one bucket,
+ * in no particular order. Removing many objects from sorted lists is fastest between {@link #deferCompaction()} and {@link #compact()}.
+ * If the object is not {@link Comparable}, then objects are added to the end of the list, and removing an object moves the last object of the list into its place.
  * Essentially, this class allows objects to be added to an object, and then any object of any pre-specified type can be returned as a list or map of those objects.
  */
 public class ClassMappedList{
 	/** The map of this object. Key: The class, value: A list of all elements of that class which have been added to this object */
 	private final Map<Class<?>, NotNullList<?>> map;
 	
+	/** The index of each list in {@link #map}, mapped by the same class */
+	private final Map<Class<?>, IndexedList> indexes;
+	
 	/** The map of maps, mapped by uuid */
-	private final Map<Class<?>, Map<String, ?>> uuidMap;
+	private final Map<Class<?>, LongMap<?>> uuidMap;
+	
+	/**
+	 * The lists and maps which objects of a class are stored in, mapped by the class of the objects, so that finding where an object goes only checks every class once for
+	 * each type of object added. Cleared when a new class is added
+	 */
+	private final Map<Class<?>, Membership> memberships;
+	
+	/** true if removed objects are left in sorted lists until {@link #compact()} is called, false to remove them right away */
+	private boolean deferring;
 	
 	/** Create the new empty object */
 	public ClassMappedList(){
 		this.map = new HashMap<>();
+		this.indexes = new HashMap<>();
 		this.uuidMap = new HashMap<>();
+		this.memberships = new HashMap<>();
+		this.deferring = false;
 	}
 	
 	/** @return The map this class internally keeps track of */
@@ -50,9 +70,8 @@ public class ClassMappedList{
 	 * @return The map, or null if none exist for the given class
 	 */
 	@SuppressWarnings("unchecked")
-	public <T> HashMap<String, T> getMap(Class<T> clazz){
-		if(!this.uuidMap.containsKey(clazz)) return null;
-		return (HashMap<String, T>)this.uuidMap.get(clazz);
+	public <T> LongMap<T> getMap(Class<T> clazz){
+		return (LongMap<T>)this.uuidMap.get(clazz);
 	}
 	
 	/**
@@ -60,29 +79,22 @@ public class ClassMappedList{
 	 *
 	 * @param obj The element to add
 	 * @param <T> The type of the element to add
-	 * @return true if the thing was added, false otherwise
+	 * @return true if the thing was added, false otherwise. Returns false if obj is null or was already added
 	 */
 	@SuppressWarnings("unchecked")
 	public <T> boolean add(T obj){
 		if(obj == null) return false;
 		
-		// Add it to the list
-		var canCompare = Comparable.class.isAssignableFrom(obj.getClass());
-		for(var c : this.map.keySet()){
-			if(c.isInstance(obj)) {
-				var list = (NotNullList<T>)this.get(c);
-				if(canCompare) ZArrayUtils.insertSorted(list, obj, (a, b) -> ((Comparable<T>)a).compareTo(b));
-				else list.add(obj);
-			}
+		var membership = this.membership(obj.getClass());
+		for(var list : membership.lists()){
+			if(list.contains(obj)) return false;
 		}
 		
-		// Add it to the uuid map
-		for(var c : this.uuidMap.keySet()){
-			if(c.isInstance(obj)){
-				var mapMap = (Map<String, T>)this.getMap(c);
-				mapMap.put(((Uuidable)obj).getUuid(), obj);
-			}
-		}
+		// Add it to the lists
+		for(var list : membership.lists()) list.add(obj);
+		
+		// Add it to the uuid maps
+		for(var m : membership.maps()) ((LongMap<T>)m).put(((Uuidable)obj).getUuid(), obj);
 		return true;
 	}
 	
@@ -94,19 +106,27 @@ public class ClassMappedList{
 	 * @return true if the object was removed, false otherwise
 	 */
 	public <T> boolean remove(T obj){
-		var removed = true;
-		var found = false;
-		for(var c : this.map.keySet()){
-			removed &= this.get(c).remove(obj);
-			found = true;
-		}
-		for(var c : this.uuidMap.keySet()){
-			if(c.isInstance(obj)) {
-				removed &= this.getMap(c).remove(((Uuidable)obj).getUuid()) != null;
-				found = true;
-			}
-		}
-		return removed && found;
+		if(obj == null) return false;
+		
+		var removed = false;
+		var membership = this.membership(obj.getClass());
+		for(var list : membership.lists()) removed |= list.remove(obj, this.deferring);
+		for(var m : membership.maps()) removed |= m.remove(((Uuidable)obj).getUuid()) != null;
+		return removed;
+	}
+	
+	/**
+	 * Leave objects removed by {@link #remove(Object)} in the sorted lists of this object until {@link #compact()} is called, so that each list is only moved once no matter
+	 * how many objects are removed. Until then, the sorted lists may still contain removed objects, so they should not be used. Adding an object compacts the lists it is added to
+	 */
+	public void deferCompaction(){
+		this.deferring = true;
+	}
+	
+	/** Take every removed object out of the sorted lists of this object, and stop deferring removal, see {@link #deferCompaction()} */
+	public void compact(){
+		this.deferring = false;
+		for(var list : this.indexes.values()) list.compact();
 	}
 	
 	/**
@@ -115,7 +135,7 @@ public class ClassMappedList{
 	 * @param <T> The type of clazz
 	 */
 	public <T> void removeAll(Class<T> clazz){
-		var list = get(clazz);
+		var list = this.indexes.get(clazz);
 		if(list != null) list.clear();
 		var map = getMap(clazz);
 		if(map != null) map.clear();
@@ -128,8 +148,229 @@ public class ClassMappedList{
 	 * @param <T> The type of the object
 	 */
 	public <T> void addClass(Class<T> clazz){
-		if(!this.map.containsKey(clazz)) this.map.put(clazz, new NotNullList<>());
-		if(!this.uuidMap.containsKey(clazz) && Uuidable.class.isAssignableFrom(clazz)) this.uuidMap.put(clazz, new HashMap<>());
+		if(!this.map.containsKey(clazz)){
+			var list = new NotNullList<>();
+			this.map.put(clazz, list);
+			this.indexes.put(clazz, new IndexedList(list));
+		}
+		if(!this.uuidMap.containsKey(clazz) && Uuidable.class.isAssignableFrom(clazz)) this.uuidMap.put(clazz, new LongMap<>());
+		this.memberships.clear();
+	}
+	
+	/**
+	 * Find the lists and maps which an object of the given class is stored in
+	 *
+	 * @param clazz The class of the object
+	 * @return The lists and maps
+	 */
+	@SuppressWarnings("unchecked")
+	private Membership membership(Class<?> clazz){
+		var membership = this.memberships.get(clazz);
+		if(membership != null) return membership;
+		
+		var lists = new ArrayList<IndexedList>();
+		for(var e : this.indexes.entrySet()){
+			if(e.getKey().isAssignableFrom(clazz)) lists.add(e.getValue());
+		}
+		var maps = new ArrayList<LongMap<?>>();
+		for(var e : this.uuidMap.entrySet()){
+			if(e.getKey().isAssignableFrom(clazz)) maps.add(e.getValue());
+		}
+		membership = new Membership(lists.toArray(new IndexedList[0]), maps.toArray(new LongMap[0]));
+		this.memberships.put(clazz, membership);
+		return membership;
+	}
+	
+	/**
+	 * The lists and maps which objects of one class are stored in
+	 *
+	 * @param lists The lists
+	 * @param maps The uuid maps
+	 */
+	private record Membership(IndexedList[] lists, LongMap<?>[] maps){}
+	
+	/**
+	 * One list of a {@link ClassMappedList}, along with the position of each object in the list, so that an object can be found without searching the list.
+	 * When the list is not sorted, removing an object moves the last object into its place, so adding and removing takes constant time.
+	 * When the list is sorted, objects which compare to the same value are kept together in one bucket, and the buckets are kept in ascending order. Adding or removing
+	 * an object only moves one object of each bucket which comes after it, rather than every object after it, so with a few sort values, adding and removing takes
+	 * constant time no matter where in the list the object goes. Removed objects can also be left in place until {@link #compact()}, so that removing many objects only
+	 * moves the list once
+	 */
+	private static class IndexedList{
+		
+		/** Compares two objects of a sorted list */
+		@SuppressWarnings("unchecked")
+		private static final Comparator<Object> COMPARATOR = (a, b) -> ((Comparable<Object>)a).compareTo(b);
+		
+		/** The list holding the objects */
+		private final NotNullList<Object> list;
+		
+		/** The index of each object in {@link #list}. Objects which were removed but are still in {@link #list}, waiting for {@link #compact()}, are not in this map */
+		private final IdentityHashMap<Object, Integer> positions;
+		
+		/** true if the objects of {@link #list} are {@link Comparable} and kept sorted, false if they are kept in the order they were added */
+		private boolean sorted;
+		
+		/** The number of removed objects still in {@link #list}, waiting for {@link #compact()} */
+		private int removed;
+		
+		/**
+		 * Create a new index for the given empty list
+		 *
+		 * @param list See {@link #list}
+		 */
+		@SuppressWarnings("unchecked")
+		private IndexedList(NotNullList<?> list){
+			this.list = (NotNullList<Object>)list;
+			this.positions = new IdentityHashMap<>();
+			this.sorted = false;
+			this.removed = 0;
+		}
+		
+		/**
+		 * @param obj The object to look for
+		 * @return true if the object is in the list, false otherwise
+		 */
+		private boolean contains(Object obj){
+			return this.positions.containsKey(obj);
+		}
+		
+		/**
+		 * Add an object to the end of the list, or to the end of its bucket if the list is sorted
+		 *
+		 * @param obj The object to add, must not already be in the list
+		 */
+		private void add(Object obj){
+			// Removed objects must be gone before the positions of the list can be changed
+			this.compact();
+			
+			// Whether the list is sorted is based on the first object put in it
+			if(this.list.isEmpty()) this.sorted = obj instanceof Comparable;
+			
+			int pos = this.list.size();
+			this.list.add(obj);
+			if(!this.sorted){
+				this.positions.put(obj, pos);
+				return;
+			}
+			
+			// Move the object down one bucket at a time, by moving the first object of each bucket which should come after it to the end of that bucket
+			while(pos > 0 && COMPARATOR.compare(this.list.get(pos - 1), obj) > 0){
+				int start = this.bucketStart(pos - 1);
+				this.place(this.list.get(start), pos);
+				pos = start;
+			}
+			this.place(obj, pos);
+		}
+		
+		/**
+		 * Remove an object from the list
+		 *
+		 * @param obj The object to remove
+		 * @param defer true to leave the object in a sorted list until {@link #compact()} is called, false to remove it now
+		 * @return true if the object was removed, false if it was not in the list
+		 */
+		private boolean remove(Object obj, boolean defer){
+			var index = this.positions.remove(obj);
+			if(index == null) return false;
+			
+			int last = this.list.size() - 1;
+			if(!this.sorted){
+				// Fill the hole with the last object
+				if(index != last) this.place(this.list.get(last), index);
+				this.list.remove(last);
+				return true;
+			}
+			
+			if(defer){
+				this.removed++;
+				return true;
+			}
+			
+			// Fill the hole with the last object of its bucket, then fill the new hole with the last object of the next bucket, until the hole is at the end
+			int hole = index;
+			int end = this.bucketEnd(hole);
+			while(true){
+				if(end != hole) this.place(this.list.get(end), hole);
+				hole = end;
+				if(hole == last) break;
+				end = this.bucketEnd(hole + 1);
+			}
+			this.list.remove(last);
+			return true;
+		}
+		
+		/** Remove every object which was removed but is still in the list, keeping the order of the rest, moving each object at most once */
+		private void compact(){
+			if(this.removed == 0) return;
+			
+			int size = this.list.size();
+			int next = 0;
+			for(int i = 0; i < size; i++){
+				var obj = this.list.get(i);
+				if(!this.positions.containsKey(obj)) continue;
+				if(next != i) this.place(obj, next);
+				next++;
+			}
+			this.list.subList(next, size).clear();
+			this.removed = 0;
+		}
+		
+		/** Remove every object from the list */
+		private void clear(){
+			this.list.clear();
+			this.positions.clear();
+			this.removed = 0;
+		}
+		
+		/**
+		 * Put an object at an index of the list, replacing what was there
+		 *
+		 * @param obj The object
+		 * @param index The index
+		 */
+		private void place(Object obj, int index){
+			this.list.set(index, obj);
+			this.positions.put(obj, index);
+		}
+		
+		/**
+		 * Find the first index of the bucket containing the object at the given index, only looking at indexes before it
+		 *
+		 * @param index The index of an object in the bucket
+		 * @return The first index
+		 */
+		private int bucketStart(int index){
+			var obj = this.list.get(index);
+			int low = 0;
+			int high = index;
+			while(low < high){
+				int mid = (low + high) >>> 1;
+				if(COMPARATOR.compare(this.list.get(mid), obj) < 0) low = mid + 1;
+				else high = mid;
+			}
+			return low;
+		}
+		
+		/**
+		 * Find the last index of the bucket containing the object at the given index, only looking at indexes after it
+		 *
+		 * @param index The index of an object in the bucket
+		 * @return The last index
+		 */
+		private int bucketEnd(int index){
+			var obj = this.list.get(index);
+			int low = index;
+			int high = this.list.size() - 1;
+			while(low < high){
+				int mid = (low + high + 1) >>> 1;
+				if(COMPARATOR.compare(this.list.get(mid), obj) > 0) high = mid - 1;
+				else low = mid;
+			}
+			return low;
+		}
+		
 	}
 	
 }
@@ -1,16 +1,23 @@
 package zgame.core.utils;
 
-import java.util.Stack;
+import java.util.Arrays;
 
 /**
- * A type of {@link Stack} that always has at least one element, i.e., if there is only one element left and the stack is popped, do nothing
+ * A stack that always has at least one element, i.e., if there is only one element left and the stack is popped, do nothing.
+ * Elements are kept in an array which only grows, and no operation is synchronized, so a stack must only be used by one thread
  *
  * @param <T> The type of objects in the stack
  */
 public class LimitedStack<T>{
 	
-	/** The {@link Stack} this object uses to keep track of its elements */
-	private final Stack<T> stack;
+	/** The number of elements a stack can hold before it needs to grow */
+	private static final int INITIAL_CAPACITY = 8;
+	
+	/** The elements of this stack, from the bottom to the top */
+	private Object[] elements;
+	
+	/** The number of elements in {@link #elements} */
+	private int size;
 	
 	/** The item to keep in the stack if the last element is popped */
 	private T defaultItem;
@@ -34,10 +41,11 @@ public class LimitedStack<T>{
 	 * @param replaceFirst See {@link #replaceFirst}
 	 */
 	public LimitedStack(T initial, boolean replaceFirst){
-		this.stack = new Stack<>();
+		this.elements = new Object[INITIAL_CAPACITY];
 		this.defaultItem = initial;
 		this.replaceFirst = replaceFirst;
-		this.stack.push(this.defaultItem);
+		this.elements[0] = this.defaultItem;
+		this.size = 1;
 	}
 	
 	/** @return See {@link #defaultItem} */
@@ -52,7 +60,7 @@ public class LimitedStack<T>{
 	 */
 	public void setDefaultItem(T defaultItem){
 		this.defaultItem = defaultItem;
-		if(!this.isReplaceFirst()) this.stack.set(0, this.defaultItem);
+		if(!this.isReplaceFirst()) this.elements[0] = this.defaultItem;
 	}
 	
 	/** @return See {@link #replaceFirst} */
@@ -71,7 +79,7 @@ public class LimitedStack<T>{
 	 * @return The item on the top of the stack
 	 */
 	public T push(){
-		return this.stack.push(this.peek());
+		return this.push(this.peek());
 	}
 	
 	/**
@@ -81,7 +89,9 @@ public class LimitedStack<T>{
 	 * @return item
 	 */
 	public T push(T item){
-		return this.stack.push(item);
+		if(this.size == this.elements.length) this.elements = Arrays.copyOf(this.elements, this.elements.length << 1);
+		this.elements[this.size++] = item;
+		return item;
 	}
 	
 	/**
@@ -91,9 +101,9 @@ public class LimitedStack<T>{
 	 * @return The item that was at the top of the stack, or null if the top couldn't be replaced
 	 */
 	public T replaceTop(T item){
-		if(!this.isReplaceFirst() && this.stack.size() <= 1) return null;
-		T old = this.stack.pop();
-		this.stack.push(item);
+		if(!this.isReplaceFirst() && this.size <= 1) return null;
+		T old = this.peek();
+		this.elements[this.size - 1] = item;
 		return old;
 	}
 	
@@ -104,21 +114,43 @@ public class LimitedStack<T>{
 	 * @return The removed element, or null if no element could be removed
 	 */
 	public T pop(){
-		if(this.stack.size() <= 1){
+		if(this.size <= 1){
 			if(this.isReplaceFirst()) this.replaceTop(this.getDefaultItem());
 			return null;
 		}
-		return this.stack.pop();
+		T old = this.peek();
+		// Let go of the element so that the stack does not keep it from being garbage collected, unless it will be reused
+		if(this.keepPopped()) this.size--;
+		else this.elements[--this.size] = null;
+		return old;
+	}
+	
+	/**
+	 * @return true if popped elements should stay in the storage of this stack, so that a subclass can reuse them with {@link #spare()}, false to let go of them.
+	 * 		false by default
+	 */
+	protected boolean keepPopped(){
+		return false;
+	}
+	
+	/**
+	 * @return The element in the storage of this stack just past the top, i.e. the one most recently popped from that position when {@link #keepPopped()} returns true,
+	 * 		or null if there is none
+	 */
+	@SuppressWarnings("unchecked")
+	protected T spare(){
+		return this.size < this.elements.length ? (T)this.elements[this.size] : null;
 	}
 	
 	/** @return The element at the top of this stack */
+	@SuppressWarnings("unchecked")
 	public T peek(){
-		return this.stack.peek();
+		return (T)this.elements[this.size - 1];
 	}
 	
 	/** @return The number of elements in the stack, will always be at least one */
 	public int size(){
-		return this.stack.size();
+		return this.size;
 	}
 	
 }
@@ -0,0 +1,237 @@
+package zgame.core.utils;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A map using primitive long keys, so that looking up a value never creates a boxed key, and never calls equals or hashCode on an object.
+ * Values are stored in flat arrays with open addressing, and null values are never stored.
+ * The map must not be modified while iterating through it
+ *
+ * @param <V> The type of the values
+ */
+public class LongMap<V>{
+	
+	/** The number of slots a map has if no size is given */
+	private static final int DEFAULT_CAPACITY = 16;
+	
+	/** The key in each slot of the map, only meaningful when the same index of {@link #values} is not null */
+	private long[] keys;
+	
+	/** The value in each slot of the map, or null if the slot is empty */
+	private Object[] values;
+	
+	/** The number of values in the map */
+	private int size;
+	
+	/** The number of bits used for an index into {@link #keys}, the length of {@link #keys} is 2 to the power of this number */
+	private int bits;
+	
+	/** Create a new empty map */
+	public LongMap(){
+		this(DEFAULT_CAPACITY);
+	}
+	
+	/**
+	 * Create a new empty map
+	 *
+	 * @param capacity The number of values the map can hold before it must grow
+	 */
+	public LongMap(int capacity){
+		// Keep the map at most half full
+		this.bits = Math.max(2, 33 - Integer.numberOfLeadingZeros(Math.max(1, capacity) - 1));
+		this.keys = new long[1 << this.bits];
+		this.values = new Object[1 << this.bits];
+		this.size = 0;
+	}
+	
+	/**
+	 * @param key The key
+	 * @return The slot where searching for the given key begins
+	 */
+	private int slot(long key){
+		return (int)((key * 0x9E3779B97F4A7C15L) >>> (64 - this.bits));
+	}
+	
+	/**
+	 * @param key The key to look for
+	 * @return The index of the slot holding the given key, or -1 if the key is not in the map
+	 */
+	private int find(long key){
+		int mask = this.keys.length - 1;
+		for(int i = this.slot(key); this.values[i] != null; i = (i + 1) & mask){
+			if(this.keys[i] == key) return i;
+		}
+		return -1;
+	}
+	
+	/**
+	 * @param key The key of the value
+	 * @return The value, or null if nothing is mapped to the key
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(long key){
+		int i = this.find(key);
+		return i < 0 ? null : (V)this.values[i];
+	}
+	
+	/**
+	 * @param key The key to look for
+	 * @return true if a value is mapped to the given key, false otherwise
+	 */
+	public boolean containsKey(long key){
+		return this.find(key) >= 0;
+	}
+	
+	/**
+	 * Map a value to a key
+	 *
+	 * @param key The key
+	 * @param value The value, if null, then the key is removed instead
+	 * @return The value which was previously mapped to the key, or null if there was none
+	 */
+	@SuppressWarnings("unchecked")
+	public V put(long key, V value){
+		if(value == null) return this.remove(key);
+		
+		int mask = this.keys.length - 1;
+		int i = this.slot(key);
+		for(; this.values[i] != null; i = (i + 1) & mask){
+			if(this.keys[i] != key) continue;
+			var old = (V)this.values[i];
+			this.values[i] = value;
+			return old;
+		}
+		this.keys[i] = key;
+		this.values[i] = value;
+		this.size++;
+		if(this.size * 2 > this.keys.length) this.resize(this.bits + 1);
+		return null;
+	}
+	
+	/**
+	 * Remove a key from the map
+	 *
+	 * @param key The key to remove
+	 * @return The value which was mapped to the key, or null if there was none
+	 */
+	@SuppressWarnings("unchecked")
+	public V remove(long key){
+		int hole = this.find(key);
+		if(hole < 0) return null;
+		var old = (V)this.values[hole];
+		
+		// Move back any following values which would no longer be found past the hole, so that no search stops early at the empty slot
+		int mask = this.keys.length - 1;
+		int i = hole;
+		while(true){
+			i = (i + 1) & mask;
+			if(this.values[i] == null) break;
+			int start = this.slot(this.keys[i]);
+			// Only move the value if its starting slot is not between the hole and its current slot
+			if(((i - start) & mask) >= ((i - hole) & mask)){
+				this.keys[hole] = this.keys[i];
+				this.values[hole] = this.values[i];
+				hole = i;
+			}
+		}
+		this.values[hole] = null;
+		this.size--;
+		return old;
+	}
+	
+	/** Remove every value from this map */
+	public void clear(){
+		Arrays.fill(this.values, null);
+		this.size = 0;
+	}
+	
+	/** @return The number of values in this map */
+	public int size(){
+		return this.size;
+	}
+	
+	/** @return true if this map has no values, false otherwise */
+	public boolean isEmpty(){
+		return this.size == 0;
+	}
+	
+	/**
+	 * Give every key and value in this map to a function, in no particular order
+	 *
+	 * @param func The function
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEach(EntryConsumer<V> func){
+		for(int i = 0; i < this.values.length; i++){
+			if(this.values[i] != null) func.accept(this.keys[i], (V)this.values[i]);
+		}
+	}
+	
+	/** @return Every value in this map, in no particular order */
+	public Iterable<V> values(){
+		return () -> new Iterator<>(){
+			/** The index of the next slot to look at */
+			private int index = this.skip(0);
+			
+			/**
+			 * @param i The index to start looking at
+			 * @return The first index, starting at i, which holds a value, or the length of the map if there are none
+			 */
+			private int skip(int i){
+				while(i < LongMap.this.values.length && LongMap.this.values[i] == null) i++;
+				return i;
+			}
+			
+			@Override
+			public boolean hasNext(){
+				return this.index < LongMap.this.values.length;
+			}
+			
+			@Override
+			@SuppressWarnings("unchecked")
+			public V next(){
+				if(!this.hasNext()) throw new NoSuchElementException();
+				var v = (V)LongMap.this.values[this.index];
+				this.index = this.skip(this.index + 1);
+				return v;
+			}
+		};
+	}
+	
+	/**
+	 * Move every value into new arrays
+	 *
+	 * @param newBits The new value for {@link #bits}
+	 */
+	private void resize(int newBits){
+		var oldKeys = this.keys;
+		var oldValues = this.values;
+		this.bits = newBits;
+		this.keys = new long[1 << newBits];
+		this.values = new Object[1 << newBits];
+		int mask = this.keys.length - 1;
+		for(int j = 0; j < oldValues.length; j++){
+			if(oldValues[j] == null) continue;
+			int i = this.slot(oldKeys[j]);
+			while(this.values[i] != null) i = (i + 1) & mask;
+			this.keys[i] = oldKeys[j];
+			this.values[i] = oldValues[j];
+		}
+	}
+	
+	/**
+	 * A function which is given a key and value of a {@link LongMap}
+	 *
+	 * @param <V> The type of the values
+	 */
+	public interface EntryConsumer<V>{
+		/**
+		 * @param key The key
+		 * @param value The value mapped to the key
+		 */
+		void accept(long key, V value);
+	}
+	
+}
@@ -0,0 +1,83 @@
+package zgame.core.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Three reusable objects used to pass data from one writing thread to one reading thread without locks.
+ * The writer fills its own object, then publishes it, which swaps it with the object in the middle.
+ * The reader takes the most recently published object by swapping it with its own object.
+ * Neither thread ever waits on the other, the writer never touches the object the reader is using, and the reader never sees an object which is only partly written.
+ * If the writer publishes several times before the reader takes anything, the reader only gets the newest object
+ *
+ * @param <T> The type of objects to pass between threads
+ */
+public class TripleBuffer<T>{
+	
+	/** The bit of {@link #middle} which is set when the middle object was published, and the reader has not taken it yet */
+	private static final int FRESH = 0b100;
+	/** The bits of {@link #middle} holding the index of the middle object */
+	private static final int INDEX = 0b011;
+	
+	/** The three objects */
+	private final Object[] buffers;
+	
+	/** The index of the object which is neither being written nor read, combined with {@link #FRESH}. This is the only value shared between threads */
+	private final AtomicInteger middle;
+	
+	/** The index of the object the writer is currently filling. Only used by the writing thread */
+	private int back;
+	
+	/** The index of the object the reader is currently using. Only used by the reading thread */
+	private int front;
+	
+	/**
+	 * Create a new buffer
+	 *
+	 * @param factory A function which creates one of the objects to pass between threads, called 3 times
+	 */
+	public TripleBuffer(Supplier<T> factory){
+		this.buffers = new Object[]{factory.get(), factory.get(), factory.get()};
+		this.front = 0;
+		this.middle = new AtomicInteger(1);
+		this.back = 2;
+	}
+	
+	/** @return The object which the writing thread should fill before calling {@link #publish()}. Must only be called by the writing thread */
+	@SuppressWarnings("unchecked")
+	public T getWriteBuffer(){
+		return (T)this.buffers[this.back];
+	}
+	
+	/**
+	 * Give the object from {@link #getWriteBuffer()} to the reading thread, after which the writing thread is given a different object to fill.
+	 * Must only be called by the writing thread
+	 */
+	public void publish(){
+		this.back = this.middle.getAndSet(this.back | FRESH) & INDEX;
+	}
+	
+	/** @return true if an object was published which the reading thread has not taken with {@link #acquire()}, false otherwise */
+	public boolean hasNew(){
+		return (this.middle.get() & FRESH) != 0;
+	}
+	
+	/**
+	 * Take the most recently published object if there is a new one. Must only be called by the reading thread
+	 *
+	 * @return The newest published object, or the same object as the last call if nothing new was published.
+	 * 		The object is not modified by the writing thread until the next call to this method
+	 */
+	@SuppressWarnings("unchecked")
+	public T acquire(){
+		if(this.hasNew()) this.front = this.middle.getAndSet(this.front) & INDEX;
+		return (T)this.buffers[this.front];
+	}
+	
+	/** @return The object most recently returned by {@link #acquire()}. Must only be called by the reading thread */
+	@SuppressWarnings("unchecked")
+	public T getReadBuffer(){
+		return (T)this.buffers[this.front];
+	}
+	
+}
@@ -0,0 +1,77 @@
+package zgame.core.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The source of every uuid used by {@link Uuidable} objects. Uuids are counted up from 1, so making one is only an increment, and every uuid is different from every other
+ * uuid made while the game is running.
+ * When objects are loaded with uuids which were saved in a previous run, those uuids must be given to {@link #load(long)}, so that no new object is given the same uuid.
+ * A saved uuid which may already have been given out in this run is replaced by a new uuid, and every other saved use of that uuid is given the same replacement
+ */
+public final class UuidGenerator{
+	
+	/** The uuid which will be given out next */
+	private static final AtomicLong NEXT = new AtomicLong(Uuidable.NONE + 1);
+	
+	/** The uuid used for each saved uuid given to {@link #load(long)} since the last call to {@link #clearLoaded()}, mapped by the saved uuid */
+	private static final LongMap<Long> LOADED = new LongMap<>();
+	
+	/** Cannot instantiate {@link UuidGenerator} */
+	private UuidGenerator(){
+	}
+	
+	/** @return A new uuid, never {@link Uuidable#NONE}, and never the same as any uuid previously returned or reserved. Can be called from any thread */
+	public static long next(){
+		return NEXT.getAndIncrement();
+	}
+	
+	/**
+	 * Tell the generator that the given uuid is in use, i.e. it was loaded from a file, so that {@link #next()} will only give out uuids larger than it.
+	 * Can be called from any thread
+	 *
+	 * @param uuid The uuid in use
+	 * @return true if the uuid is now reserved for the caller, false if it is {@link Uuidable#NONE}, or it may already have been given out or reserved,
+	 * 		in which case the caller must not use it
+	 */
+	public static boolean reserve(long uuid){
+		if(uuid == Uuidable.NONE) return false;
+		long next = NEXT.get();
+		while(uuid >= next){
+			if(NEXT.compareAndSet(next, uuid + 1)) return true;
+			next = NEXT.get();
+		}
+		return false;
+	}
+	
+	/**
+	 * Find the uuid to use in place of a uuid which was saved in a file. Must be used both for the uuid of a loaded object, and for every saved reference to a uuid,
+	 * i.e. the source of a projectile, so that a reference still points to the same object after it is loaded. The same saved uuid is given the same uuid until
+	 * {@link #clearLoaded()} is called, no matter if the object or a reference to it is loaded first. Can be called from any thread
+	 *
+	 * @param saved The uuid which was saved
+	 * @return saved if it could be reserved, see {@link #reserve(long)}, otherwise a new uuid. {@link Uuidable#NONE} if saved is {@link Uuidable#NONE}
+	 */
+	public static long load(long saved){
+		if(saved == Uuidable.NONE) return Uuidable.NONE;
+		synchronized(LOADED){
+			var uuid = LOADED.get(saved);
+			if(uuid != null) return uuid;
+			long replaced = reserve(saved) ? saved : next();
+			LOADED.put(saved, replaced);
+			return replaced;
+		}
+	}
+	
+	/** Forget every uuid given to {@link #load(long)}, must be called before loading a file, so that the uuids in it are not mixed up with the uuids of a file loaded before */
+	public static void clearLoaded(){
+		synchronized(LOADED){
+			LOADED.clear();
+		}
+	}
+	
+	/** @return The uuid which will be given out by the next call to {@link #next()} */
+	public static long peek(){
+		return NEXT.get();
+	}
+	
+}
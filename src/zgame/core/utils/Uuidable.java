@@ -1,7 +1,11 @@
 package zgame.core.utils;
 
-/** Represents an object which has a uuid */
+/** Represents an object which has a uuid, a number which no other object has during the current run of the game. Uuids are created with {@link UuidGenerator} */
 public interface Uuidable{
+	
+	/** The uuid which represents no object. No object will be given this uuid */
+	long NONE = 0;
+	
 	/** @return The uuid of this class */
-	String getUuid();
+	long getUuid();
 }
@@ -24,6 +24,12 @@ import java.nio.IntBuffer;
  */
 public abstract class GameWindow implements Destroyable{
 	
+	/**
+	 * The window whose OpenGL context was made current on each thread, or null on a thread with no context.
+	 * Never set by a window with no context, so every thread of a headless game has no context, even while another game renders with OpenGL
+	 */
+	private static final ThreadLocal<GameWindow> CONTEXT_WINDOW = new ThreadLocal<>();
+	
 	/** The game associated with this window, or null if no association exists */
 	private Game game;
 	
@@ -161,24 +167,11 @@ public abstract class GameWindow implements Destroyable{
 		// Ensure window context is set up
 		this.createContext();
 		
-		// This line is critical for LWJGL's interoperation with GLFW's
-		// OpenGL context, or any context that is managed externally.
-		// LWJGL detects the context that is current in the current thread,
-		// creates the GLCapabilities instance and makes the OpenGL
-		// bindings available for use.
-		GL.createCapabilities();
-		
-		// Turn off debug notifications
-		glDebugMessageControl(GL_DONT_CARE, GL_DONT_CARE, GL_DEBUG_SEVERITY_NOTIFICATION, (IntBuffer)null, false);
-		
-		// Additional error messaging
-		GLUtil.setupDebugMessageCallback(System.err);
-		
 		// Set up full screen
 		this.updateFullscreen = OnOffState.NOTHING;
 		
 		// Init renderer
-		this.renderer = new Renderer(screenWidth, screenHeight);
+		this.renderer = this.createRenderer(screenWidth, screenHeight);
 		this.updateInternalValues();
 		
 		// Set up vsync
@@ -199,6 +192,31 @@ public abstract class GameWindow implements Destroyable{
 	/** Called during object initialization. Must establish window context with OpenGL before further initialization can occur */
 	protected abstract void createContext();
 	
+	/**
+	 * Called during object initialization, after {@link #createContext()}, to make the OpenGL bindings available and create {@link #renderer}
+	 *
+	 * @param screenWidth The width, in pixels, of the internal buffer to draw to
+	 * @param screenHeight The height, in pixels, of the internal buffer to draw to
+	 * @return The renderer, or null if this window cannot render
+	 */
+	protected Renderer createRenderer(int screenWidth, int screenHeight){
+		// This line is critical for LWJGL's interoperation with GLFW's
+		// OpenGL context, or any context that is managed externally.
+		// LWJGL detects the context that is current in the current thread,
+		// creates the GLCapabilities instance and makes the OpenGL
+		// bindings available for use.
+		GL.createCapabilities();
+		CONTEXT_WINDOW.set(this);
+		
+		// Turn off debug notifications
+		glDebugMessageControl(GL_DONT_CARE, GL_DONT_CARE, GL_DEBUG_SEVERITY_NOTIFICATION, (IntBuffer)null, false);
+		
+		// Additional error messaging
+		GLUtil.setupDebugMessageCallback(System.err);
+		
+		return new Renderer(screenWidth, screenHeight);
+	}
+	
 	/**
 	 * Call this method once at the beginning of each OpenGL loop to check for events, i.e. keyboard input, mouse input, window size changed, etc. This method will also update
 	 * the fullscreen and vsync status
@@ -222,7 +240,14 @@ public abstract class GameWindow implements Destroyable{
 	/** End the program, freeing all resources. Do not call directly outside of the main loop */
 	@Override
 	public void destroy(){
-		this.getRenderer().destroy();
+		var r = this.getRenderer();
+		if(r != null) r.destroy();
+		if(CONTEXT_WINDOW.get() == this) CONTEXT_WINDOW.remove();
+	}
+	
+	/** @return true if the calling thread has the OpenGL context of a window, so OpenGL objects can be made on it, false otherwise */
+	public static boolean hasContext(){
+		return CONTEXT_WINDOW.get() != null;
 	}
 	
 	/** @return true if the current window is no longer used and should close */
@@ -390,8 +415,10 @@ public abstract class GameWindow implements Destroyable{
 		}
 		// Reset the renderer vertex objects
 		var r = this.getRenderer();
-		r.destroyVertexes();
-		r.initVertexes();
+		if(r != null){
+			r.destroyVertexes();
+			r.initVertexes();
+		}
 		
 		// Ensure the current window has the callbacks
 		this.initCallBacks();
@@ -539,7 +566,7 @@ public abstract class GameWindow implements Destroyable{
 		this.setUseVsyncNow(this.usesVsync());
 	}
 	
-	/** @return See {@link #renderer} */
+	/** @return See {@link #renderer}, or null if this window cannot render */
 	public Renderer getRenderer(){
 		return this.renderer;
 	}
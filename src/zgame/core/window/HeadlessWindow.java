@@ -0,0 +1,211 @@
+package zgame.core.window;
+
+import zgame.core.Game;
+import zgame.core.graphics.Renderer;
+import zgame.core.input.keyboard.GLFWKeyInput;
+import zgame.core.input.mouse.GLFWMouseInput;
+
+import java.awt.Dimension;
+import java.awt.Point;
+
+/**
+ * An implementation of {@link GameWindow} with no actual window, no OpenGL context, and no {@link Renderer}. Used by a {@link Game} which only simulates ticks, i.e. on a
+ * server, in automated tests, or in benchmarks. The window is always the same size as the screen, and input only happens when it is sent directly to this window
+ */
+public class HeadlessWindow extends GameWindow{
+	
+	/** The width, in pixels, of the screen, used in place of the internal buffer of a {@link Renderer} */
+	private int screenWidth;
+	/** The height, in pixels, of the screen, used in place of the internal buffer of a {@link Renderer} */
+	private int screenHeight;
+	
+	/** The position of the window, only stored, it is never displayed */
+	private Point position;
+	
+	/** true if {@link #close()} has been called, false otherwise */
+	private boolean closed;
+	
+	/** The object tracking mouse input events */
+	private final GLFWMouseInput mouseInput;
+	
+	/** The object tracking keyboard input events */
+	private final GLFWKeyInput keyInput;
+	
+	/**
+	 * Create a {@link HeadlessWindow} whose window and screen are both the given size. This does not set up any part of LWJGL
+	 *
+	 * @param title See {@link #getWindowTitle()}
+	 * @param screenWidth See {@link #screenWidth}
+	 * @param screenHeight See {@link #screenHeight}
+	 */
+	public HeadlessWindow(String title, int screenWidth, int screenHeight){
+		super(title, screenWidth, screenHeight, screenWidth, screenHeight, 0, false, true, false, 0, false);
+		this.screenWidth = screenWidth;
+		this.screenHeight = screenHeight;
+		this.position = new Point(0, 0);
+		this.closed = false;
+		
+		// Update screen width and height
+		this.updateWindowSize();
+		
+		// Create input objects
+		this.mouseInput = new GLFWMouseInput(this);
+		this.keyInput = new GLFWKeyInput(this);
+	}
+	
+	/** There is no context to create */
+	@Override
+	protected void createContext(){
+	}
+	
+	/** @return null, a {@link HeadlessWindow} cannot render */
+	@Override
+	protected Renderer createRenderer(int screenWidth, int screenHeight){
+		return null;
+	}
+	
+	/** There are no textures to set up */
+	@Override
+	public void initTextureSettings(){
+	}
+	
+	/** There is nothing to display */
+	@Override
+	public void swapBuffers(){
+	}
+	
+	/** Make the game using this window stop its loops */
+	public void close(){
+		this.closed = true;
+	}
+	
+	/** @return true while {@link #close()} has not been called, false otherwise, in the same way as {@link GlfwWindow#shouldClose()} */
+	@Override
+	public boolean shouldClose(){
+		return !this.closed;
+	}
+	
+	/** @return true, there are no callbacks to set, input is sent directly */
+	@Override
+	public boolean initCallBacks(){
+		return true;
+	}
+	
+	/** @return false, a {@link HeadlessWindow} cannot be in full screen */
+	@Override
+	protected boolean enterFullScreen(){
+		return false;
+	}
+	
+	@Override
+	protected boolean exitFullScreen(){
+		return true;
+	}
+	
+	@Override
+	public void resizeScreen(int width, int height){
+		this.screenWidth = width;
+		this.screenHeight = height;
+		this.updateWindowSize();
+	}
+	
+	@Override
+	public void setWindowPosition(int x, int y){
+		this.position = new Point(x, y);
+	}
+	
+	@Override
+	public Point getWindowPos(){
+		return new Point(this.position);
+	}
+	
+	@Override
+	public Dimension getWindowSize(){
+		return new Dimension(this.getWidth(), this.getHeight());
+	}
+	
+	/** @return 0, there is no monitor */
+	@Override
+	public long center(){
+		return 0;
+	}
+	
+	@Override
+	protected void setupVsync(boolean useVsync){
+	}
+	
+	@Override
+	public GLFWMouseInput getMouseInput(){
+		return this.mouseInput;
+	}
+	
+	@Override
+	public GLFWKeyInput getKeyInput(){
+		return this.keyInput;
+	}
+	
+	@Override
+	public void updateMouseNormally(boolean normal){
+	}
+	
+	@Override
+	public int getScreenWidth(){
+		return this.screenWidth;
+	}
+	
+	@Override
+	public int getScreenHeight(){
+		return this.screenHeight;
+	}
+	
+	@Override
+	public double windowToScreenX(double x){
+		return x * this.getScreenWidth() * this.getInverseWidth();
+	}
+	
+	@Override
+	public double windowToScreenY(double y){
+		return y * this.getScreenHeight() * this.getInverseHeight();
+	}
+	
+	@Override
+	public double screenToWindowX(double x){
+		return x * this.getWidth() / this.getScreenWidth();
+	}
+	
+	@Override
+	public double screenToWindowY(double y){
+		return y * this.getHeight() / this.getScreenHeight();
+	}
+	
+	/**
+	 * Simulate pressing or releasing a key with no modifiers. The key is pressed or released on the next tick. See {@link #keyAction(int, boolean, boolean, boolean, boolean)}
+	 *
+	 * @param key The id of the key
+	 * @param press true if the key was pressed, false for released
+	 */
+	public void sendKey(int key, boolean press){
+		this.keyAction(key, press, false, false, false);
+	}
+	
+	/**
+	 * Simulate pressing or releasing a mouse button with no modifiers. The button is pressed or released on the next tick. See {@link #mouseAction(int, boolean, boolean, boolean, boolean)}
+	 *
+	 * @param button The ID of the mouse button
+	 * @param press true if the button was pressed, false for released
+	 */
+	public void sendMouseButton(int button, boolean press){
+		this.mouseAction(button, press, false, false, false);
+	}
+	
+	/**
+	 * Simulate moving the mouse. See {@link #mouseMove(double, double)}
+	 *
+	 * @param x The x coordinate of the mouse on the window
+	 * @param y The y coordinate of the mouse on the window
+	 */
+	public void sendMouseMove(double x, double y){
+		this.mouseMove(x, y);
+	}
+	
+}
@@ -0,0 +1,65 @@
+package zgame.physics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A global list of every named force which can act on an entity. Each name is given a number, its id, the first time it is used, and the same name always has the same id.
+ * Entities store their forces by id, so that finding a force is an array index rather than a lookup by a string.
+ * Ids should be found once, i.e. in a static final field, and reused, rather than looking up the name each time a force changes
+ */
+public final class ForceRegistry{
+	
+	/** The id of each registered name */
+	private static final Map<String, Integer> IDS = new HashMap<>();
+	
+	/** The name of each registered id, where the index is the id */
+	private static final ArrayList<String> NAMES = new ArrayList<>();
+	
+	/** Cannot instantiate {@link ForceRegistry} */
+	private ForceRegistry(){
+	}
+	
+	/**
+	 * Get the id of a force, registering it if it has not been used yet
+	 *
+	 * @param name The name of the force
+	 * @return The id of the force, an index starting at 0
+	 */
+	public static synchronized int id(String name){
+		var id = IDS.get(name);
+		if(id != null) return id;
+		
+		int newId = NAMES.size();
+		NAMES.add(name);
+		IDS.put(name, newId);
+		return newId;
+	}
+	
+	/**
+	 * Get the id of a force without registering it
+	 *
+	 * @param name The name of the force
+	 * @return The id, or -1 if no force has been registered with the given name
+	 */
+	public static synchronized int find(String name){
+		var id = IDS.get(name);
+		return id == null ? -1 : id;
+	}
+	
+	/**
+	 * @param id The id of the force
+	 * @return The name of the force with the given id, or null if no force has that id
+	 */
+	public static synchronized String name(int id){
+		if(id < 0 || id >= NAMES.size()) return null;
+		return NAMES.get(id);
+	}
+	
+	/** @return The number of forces which have been registered, and one more than the largest id */
+	public static synchronized int count(){
+		return NAMES.size();
+	}
+	
+}
@@ -3,17 +3,23 @@ package zgame.physics;
 import zgame.core.utils.ZMath;
 
 /**
- * A Vector with an x and y component. The internal values of this object cannot be modified after the object is created outside of its extensions, i.e. this object is immutable
+ * A Vector with an x and y component. Methods like {@link #add(ZVector)} and {@link #scale(double)} do not modify the vector and return a new vector,
+ * while methods ending in Local, like {@link #addLocal(ZVector)} and {@link #scaleLocal(double)}, modify the vector and return it, creating no new objects.
+ * The magnitude and angles of a vector are only calculated from the components the first time they are used after the components change
  *
  * @param <V> The type of vector used by this vector
  */
 public abstract class ZVector<V extends ZVector<V>>{
 	
-	// issue#54 implement lazy component calculation for vectors
-	
 	/** The magnitude, i.e. length or distance, of this {@link ZVector} */
 	private double magnitude;
 	
+	/** true if the components have changed since {@link #magnitude} was last calculated, false otherwise */
+	private boolean magnitudeOutdated;
+	
+	/** true if the components have changed since the angles of this vector were last calculated, false otherwise */
+	private boolean anglesOutdated;
+	
 	/** Create a {@link ZVector} with a magnitude of 0 */
 	public ZVector(){
 		this(0);
@@ -26,22 +32,64 @@ public abstract class ZVector<V extends ZVector<V>>{
 	 */
 	public ZVector(double magnitude){
 		this.magnitude = magnitude;
+		this.magnitudeOutdated = false;
+		this.anglesOutdated = false;
 	}
 	
 	/** Update the internal component values based on the angles of this vector and {@link #magnitude} */
 	public abstract void calcComponents();
 	
 	/** Update the internal angle and magnitude values based on the current component values */
-	public abstract void calcAngleMag();
+	public void calcAngleMag(){
+		this.magnitudeOutdated = false;
+		this.calcMagnitude();
+		this.anglesOutdated = false;
+		this.calcAngles();
+	}
+	
+	/** Update the internal magnitude values based on the current component values. Must set the magnitude with {@link #setMagnitude(double)} */
+	protected abstract void calcMagnitude();
+	
+	/** Update the internal angle values based on the current component values */
+	protected abstract void calcAngles();
+	
+	/** Flag that the components of this vector have changed, so that the magnitude and angles are calculated again the next time they are used */
+	protected void componentsChanged(){
+		this.magnitudeOutdated = true;
+		this.anglesOutdated = true;
+	}
+	
+	/** Calculate the angles of this vector if the components have changed since they were last calculated. Must be called before using the angles */
+	protected void updateAngles(){
+		if(!this.anglesOutdated) return;
+		this.anglesOutdated = false;
+		this.calcAngles();
+	}
+	
+	/**
+	 * Copy the magnitude of the given vector, and whether its magnitude and angles are outdated, to this vector. Used when copying one vector into another
+	 *
+	 * @param v The vector to copy from
+	 */
+	protected void copyLazyState(ZVector<?> v){
+		this.magnitude = v.magnitude;
+		this.magnitudeOutdated = v.magnitudeOutdated;
+		this.anglesOutdated = v.anglesOutdated;
+	}
 	
 	/** @return See {@link #magnitude} */
 	public double getMagnitude(){
+		if(this.magnitudeOutdated){
+			this.magnitudeOutdated = false;
+			this.calcMagnitude();
+		}
 		return this.magnitude;
 	}
 	
 	/** @param magnitude See {@link #magnitude} */
 	protected void setMagnitude(double magnitude){
 		this.magnitude = magnitude;
+		this.magnitudeOutdated = false;
 	}
 	
 	/** @return The magnitude of the horizontal components of this vector */
@@ -115,6 +163,75 @@ public abstract class ZVector<V extends ZVector<V>>{
 	 */
 	public abstract V modifyVerticalValue(double value);
 	
+	/**
+	 * Set the components of this vector to be the same as the given vector
+	 *
+	 * @param v The vector to copy
+	 * @return This vector
+	 */
+	public abstract V set(V v);
+	
+	/**
+	 * Set every component of this vector to 0
+	 *
+	 * @return This vector
+	 */
+	public abstract V setZero();
+	
+	/**
+	 * Add the given {@link ZVector} to this vector, modifying this vector
+	 *
+	 * @param v The vector to add
+	 * @return This vector
+	 */
+	public V addLocal(V v){
+		return this.addScaledLocal(v, 1);
+	}
+	
+	/**
+	 * Add the given {@link ZVector}, scaled by the given value, to this vector, modifying this vector. The given vector is not modified
+	 *
+	 * @param v The vector to add
+	 * @param scalar The value to multiply each component of v by before adding it
+	 * @return This vector
+	 */
+	public abstract V addScaledLocal(V v, double scalar);
+	
+	/**
+	 * Subtract the given {@link ZVector} from this vector, modifying this vector
+	 *
+	 * @param v The vector to subtract
+	 * @return This vector
+	 */
+	public V subLocal(V v){
+		return this.addScaledLocal(v, -1);
+	}
+	
+	/**
+	 * Scale this vector by the given value, i.e. multiply each component by the given value, modifying this vector
+	 *
+	 * @param scalar The value to scale by
+	 * @return This vector
+	 */
+	public abstract V scaleLocal(double scalar);
+	
+	/**
+	 * Make this vector point in the opposite direction, modifying this vector
+	 *
+	 * @return This vector
+	 */
+	public V inverseLocal(){
+		return this.scaleLocal(-1);
+	}
+	
+	/**
+	 * Change this vector to have the given magnitude, keeping its direction, modifying this vector
+	 *
+	 * @param magnitude The new magnitude
+	 * @return This vector
+	 */
+	public abstract V modifyMagnitudeLocal(double magnitude);
+	
 	/**
 	 * Determine if the given vector moves in close enough to the opposite direction as this vector
 	 * @param vector The given vector
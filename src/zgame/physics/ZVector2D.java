@@ -3,7 +3,7 @@ package zgame.physics;
 import zgame.core.utils.ZMath;
 
 /**
- * A Vector with an x and y component. The internal values of this object cannot be modified after the object is created, i.e. this object is immutable
+ * A Vector with an x and y component. The internal values of this object can only be modified by the methods ending in Local, see {@link ZVector}
  */
 public class ZVector2D extends ZVector<ZVector2D>{
 	
@@ -42,7 +42,7 @@ public class ZVector2D extends ZVector<ZVector2D>{
 		if(comps){
 			this.x = a;
 			this.y = b;
-			this.calcAngleMag();
+			this.componentsChanged();
 		}
 		else{
 			this.angle = a;
@@ -58,12 +58,17 @@ public class ZVector2D extends ZVector<ZVector2D>{
 		this.y = Math.sin(this.getAngle()) * this.getMagnitude();
 	}
 	
-	/** Update the internal angle and magnitude values based on the current values of {@link #x} and {@link #y} */
+	/** Update the internal magnitude value based on the current values of {@link #x} and {@link #y} */
 	@Override
-	public void calcAngleMag(){
+	protected void calcMagnitude(){
+		this.setMagnitude(Math.sqrt(Math.pow(this.getX(), 2) + Math.pow(this.getY(), 2)));
+	}
+	
+	/** Update the internal angle value based on the current values of {@link #x} and {@link #y} */
+	@Override
+	protected void calcAngles(){
 		this.angle = (Math.atan2(this.getY(), this.getX()) + ZMath.TAU) % ZMath.TAU;
 		if(Double.isNaN(this.angle)) this.angle = 0;
-		this.setMagnitude(Math.sqrt(Math.pow(this.getX(), 2) + Math.pow(this.getY(), 2)));
 	}
 	
 	@Override
@@ -93,12 +98,13 @@ public class ZVector2D extends ZVector<ZVector2D>{
 	
 	/** @return See {@link #angle} */
 	public double getAngle(){
+		this.updateAngles();
 		return this.angle;
 	}
 	
 	/** @return The value of {@link #angle} in degrees */
 	public double getAngleDeg(){
-		return this.angle * 180.0 / Math.PI;
+		return this.getAngle() * 180.0 / Math.PI;
 	}
 	
 	/**
@@ -147,6 +153,52 @@ public class ZVector2D extends ZVector<ZVector2D>{
 		return new ZVector2D(this.getX(), value);
 	}
 	
+	/**
+	 * Set the components of this vector
+	 *
+	 * @param x See {@link #x}
+	 * @param y See {@link #y}
+	 * @return This vector
+	 */
+	public ZVector2D set(double x, double y){
+		this.x = x;
+		this.y = y;
+		this.componentsChanged();
+		return this;
+	}
+	
+	@Override
+	public ZVector2D set(ZVector2D v){
+		this.x = v.x;
+		this.y = v.y;
+		this.angle = v.angle;
+		this.copyLazyState(v);
+		return this;
+	}
+	
+	@Override
+	public ZVector2D setZero(){
+		return this.set(0, 0);
+	}
+	
+	@Override
+	public ZVector2D addScaledLocal(ZVector2D v, double scalar){
+		return this.set(this.x + v.x * scalar, this.y + v.y * scalar);
+	}
+	
+	@Override
+	public ZVector2D scaleLocal(double scalar){
+		return this.set(this.x * scalar, this.y * scalar);
+	}
+	
+	@Override
+	public ZVector2D modifyMagnitudeLocal(double magnitude){
+		this.updateAngles();
+		this.setMagnitude(magnitude);
+		this.calcComponents();
+		return this;
+	}
+	
 	@Override
 	public boolean isOpposite(ZVector2D vector){
 		return ZVector.isOpposite(this.getAngle(), vector.getAngle());
@@ -3,7 +3,7 @@ package zgame.physics;
 import zgame.core.utils.ZMath;
 
 /**
- * A Vector with an x, y, and z component. The internal values of this object cannot be modified after the object is created, i.e. this object is immutable
+ * A Vector with an x, y, and z component. The internal values of this object can only be modified by the methods ending in Local, see {@link ZVector}
  */
 public class ZVector3D extends ZVector<ZVector3D>{
 	
@@ -53,7 +53,7 @@ public class ZVector3D extends ZVector<ZVector3D>{
 			this.x = a;
 			this.y = b;
 			this.z = c;
-			this.calcAngleMag();
+			this.componentsChanged();
 		}
 		else{
 			this.yaw = a;
@@ -66,6 +66,7 @@ public class ZVector3D extends ZVector<ZVector3D>{
 	/** Update the internal x, y, and z values based on the current values of {@link #yaw}, {@link #pitch} */
 	@Override
 	public void calcComponents(){
+		this.updateAngles();
 		// Ensure magnitude is positive
 		double mag = this.getMagnitude();
 		boolean inverted = mag < 0;
@@ -86,23 +87,30 @@ public class ZVector3D extends ZVector<ZVector3D>{
 		}
 	}
 	
-	/** Update the internal angle and magnitude values based on the current values of {@link #x}, {@link #y}, and {@link #z} */
+	/** Update the internal magnitude values based on the current values of {@link #x}, {@link #y}, and {@link #z} */
 	@Override
-	public void calcAngleMag(){
+	protected void calcMagnitude(){
 		// The horizontal magnitude is just the distance formula for the 2 horizontal axes
 		this.horizontalMag = ZMath.hypot(this.x, this.z);
+		// The total magnitude is just the distance formula for the vertical and horizontal axes
+		this.setMagnitude(ZMath.hypot(this.y, this.horizontalMag));
+	}
+	
+	/** Update the internal angle values based on the current values of {@link #x}, {@link #y}, and {@link #z} */
+	@Override
+	protected void calcAngles(){
 		// The yaw is the angle between the two horizontal axes, modded to be between [0, 2PI]
 		this.yaw = ZMath.atan2Normalized(this.z, this.x);
 		if(Double.isNaN(this.yaw)) this.yaw = 0;
 		// The pitch angle is the angle between the horizontal magnitude and the y magnitude, modded to be between [0, 2PI]
-		this.pitch = ZMath.atan2Normalized(this.y, this.horizontalMag);
+		this.pitch = ZMath.atan2Normalized(this.y, this.getHorizontal());
 		if(Double.isNaN(this.pitch)) this.pitch = 0;
-		// The total magnitude is just the distance formula for the vertical and horizontal axes
-		this.setMagnitude(ZMath.hypot(this.y, this.horizontalMag));
 	}
 	
 	@Override
 	public double getHorizontal(){
+		// Ensures the horizontal magnitude is calculated
+		this.getMagnitude();
 		return this.horizontalMag;
 	}
 	
@@ -133,11 +141,13 @@ public class ZVector3D extends ZVector<ZVector3D>{
 	
 	/** @return See {@link #yaw} */
 	public double getYaw(){
+		this.updateAngles();
 		return this.yaw;
 	}
 	
 	/** @return See {@link #pitch} */
 	public double getPitch(){
+		this.updateAngles();
 		return this.pitch;
 	}
 	
@@ -185,6 +195,57 @@ public class ZVector3D extends ZVector<ZVector3D>{
 		return new ZVector3D(this.getX(), value, this.getZ());
 	}
 	
+	/**
+	 * Set the components of this vector
+	 *
+	 * @param x See {@link #x}
+	 * @param y See {@link #y}
+	 * @param z See {@link #z}
+	 * @return This vector
+	 */
+	public ZVector3D set(double x, double y, double z){
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		this.componentsChanged();
+		return this;
+	}
+	
+	@Override
+	public ZVector3D set(ZVector3D v){
+		this.x = v.x;
+		this.y = v.y;
+		this.z = v.z;
+		this.yaw = v.yaw;
+		this.pitch = v.pitch;
+		this.horizontalMag = v.horizontalMag;
+		this.copyLazyState(v);
+		return this;
+	}
+	
+	@Override
+	public ZVector3D setZero(){
+		return this.set(0, 0, 0);
+	}
+	
+	@Override
+	public ZVector3D addScaledLocal(ZVector3D v, double scalar){
+		return this.set(this.x + v.x * scalar, this.y + v.y * scalar, this.z + v.z * scalar);
+	}
+	
+	@Override
+	public ZVector3D scaleLocal(double scalar){
+		return this.set(this.x * scalar, this.y * scalar, this.z * scalar);
+	}
+	
+	@Override
+	public ZVector3D modifyMagnitudeLocal(double magnitude){
+		this.updateAngles();
+		this.setMagnitude(magnitude);
+		this.calcComponents();
+		return this;
+	}
+	
 	@Override
 	public boolean isOpposite(ZVector3D vector){
 		return ZVector.isOpposite(this.getYaw(), vector.getYaw()) || ZVector.isOpposite(this.getPitch(), vector.getPitch());
@@ -13,6 +13,8 @@ public class BooleanTypeSetting extends SettingType<Boolean>{
 	public static final BooleanTypeSetting FULLSCREEN = new BooleanTypeSetting("FULLSCREEN", false, (game, n) -> game.getWindow().setFullscreen(n));
 	public static final BooleanTypeSetting PRINT_FPS = new BooleanTypeSetting("PRINT_FPS", true, (game, n) -> game.getRenderLooper().setPrintRate(n));
 	public static final BooleanTypeSetting PRINT_TPS = new BooleanTypeSetting("PRINT_TPS", true, (game, n) -> game.getTickLooper().setPrintRate(n));
+	/** true if games saved to binary files are compressed, false otherwise */
+	public static final BooleanTypeSetting COMPRESS_SAVES = new BooleanTypeSetting("COMPRESS_SAVES", false, (game, n) -> game.getAutoSaver().setCompressed(n));
 	
 	public static final BooleanTypeSetting CAMERA_LOOK_INVERT_X = new BooleanTypeSetting("CAMERA_INVERT_X", false);
 	public static final BooleanTypeSetting CAMERA_LOOK_INVERT_Y = new BooleanTypeSetting("CAMERA_INVERT_Y", false);
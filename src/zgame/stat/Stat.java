@@ -1,12 +1,10 @@
 package zgame.stat;
 
+import zgame.core.utils.LongMap;
 import zgame.stat.modifier.ModifierList;
 import zgame.stat.modifier.ModifierType;
 import zgame.stat.modifier.StatModifier;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /** An object keeping track of a single stat used by an object */
 public abstract class Stat{
 	
@@ -36,7 +34,7 @@ public abstract class Stat{
 	 * The Map is mapped by modifier sourceId
 	 * The list is in an arbitrary order
 	 */
-	private final Map<String, ModifierList>[] modifiers;
+	private final LongMap<ModifierList>[] modifiers;
 	
 	/**
 	 * Create a new stat
@@ -56,10 +54,10 @@ public abstract class Stat{
 		for(int i = 0; i < this.dependents.length; i++){
 			this.dependents[i] = dependents[i].getId();
 		}
-		this.modifiers = (HashMap<String, ModifierList>[])new HashMap[ModifierType.values().length];
-		this.modifiers[ModifierType.ADD.getIndex()] = new HashMap<>();
-		this.modifiers[ModifierType.MULT_ADD.getIndex()] = new HashMap<>();
-		this.modifiers[ModifierType.MULT_MULT.getIndex()] = new HashMap<>();
+		this.modifiers = (LongMap<ModifierList>[])new LongMap[ModifierType.values().length];
+		this.modifiers[ModifierType.ADD.getIndex()] = new LongMap<>();
+		this.modifiers[ModifierType.MULT_ADD.getIndex()] = new LongMap<>();
+		this.modifiers[ModifierType.MULT_MULT.getIndex()] = new LongMap<>();
 	}
 	
 	/** @return See {@link #stats} */
@@ -117,7 +115,7 @@ public abstract class Stat{
 	 *
 	 * @param type The type of modifiers which must be recalculated
 	 */
-	public void flagModifiersRecalculate(ModifierType type, String sourceId){
+	public void flagModifiersRecalculate(ModifierType type, long sourceId){
 		this.flagRecalculate();
 		var m = this.modifiers[type.getIndex()];
 		var list = m.get(sourceId);
@@ -167,7 +165,7 @@ public abstract class Stat{
 	 * @param type The way the value is applied to the stat
 	 * @return The modifier created
 	 */
-	public StatModifier addModifier(String sourceId, double value, ModifierType type){
+	public StatModifier addModifier(long sourceId, double value, ModifierType type){
 		var m = new StatModifier(value, type);
 		this.addModifier(sourceId, m);
 		return m;
@@ -179,7 +177,7 @@ public abstract class Stat{
 	 * @param mod The modifier to add
 	 * @param sourceId The id representing the source of the modifier
 	 */
-	public void addModifier(String sourceId, StatModifier mod){
+	public void addModifier(long sourceId, StatModifier mod){
 		var map = this.modifiers[mod.getType().getIndex()];
 		if(!map.containsKey(sourceId)) map.put(sourceId, new ModifierList(mod.getType()));
 		var list = map.get(sourceId);
@@ -192,7 +190,7 @@ public abstract class Stat{
 	 * @param mod The modifier to remove, should be the exact modifier object to remove
 	 * @param sourceId The id representing the source of the modifier
 	 */
-	public void removeModifier(String sourceId, StatModifier mod){
+	public void removeModifier(long sourceId, StatModifier mod){
 		var map = this.modifiers[mod.getType().getIndex()];
 		if(!map.containsKey(sourceId)) return;
 		
@@ -216,7 +214,7 @@ public abstract class Stat{
 	 * @param sourceId The id representing the source of the modifier
 	 * @return true if this stat is being modified by the given modifier, false otherwise
 	 */
-	public boolean hasModifier(String sourceId, StatModifier mod){
+	public boolean hasModifier(long sourceId, StatModifier mod){
 		var map = this.modifiers[mod.getType().getIndex()];
 		if(!map.containsKey(sourceId)) return false;
 		var list = map.get(sourceId);
@@ -9,7 +9,7 @@ public class StatModTracker{
 	private final StatModifier mod;
 	
 	/** The source which provided this modifier */
-	private final String sourceId;
+	private final long sourceId;
 	
 	/** The stat being tracked */
 	private final Stat stat;
@@ -21,7 +21,7 @@ public class StatModTracker{
 	 * @param stat The stat to effect
 	 * @param sourceId The sourceId of where the effect came from
 	 */
-	public StatModTracker(double value, ModifierType type, Stat stat, String sourceId){
+	public StatModTracker(double value, ModifierType type, Stat stat, long sourceId){
 		this.sourceId = sourceId;
 		this.stat = stat;
 		this.mod = this.stat.addModifier(sourceId, value, type);
@@ -44,7 +44,7 @@ public class StatModifier implements Comparable<StatModifier>, Saveable{
 	 * @param stat The stat object which uses this modifier
 	 * @param sourceId The source which is providing the modifier
 	 */
-	public void setValue(double value, Stat stat, String sourceId){
+	public void setValue(double value, Stat stat, long sourceId){
 		if(this.value == value) return;
 		this.value = value;
 		stat.flagModifiersRecalculate(this.getType(), sourceId);
@@ -53,7 +53,7 @@ public abstract class StatusEffect implements Saveable{
 	 * @param mob The mob to apply the effect to
 	 * @param sourceId The id representing whatever originally applied the effect
 	 */
-	public abstract void apply(String sourceId, ZusassMob mob);
+	public abstract void apply(long sourceId, ZusassMob mob);
 	
 	/**
 	 * Called when this effect has expired and should be removed from the mob
@@ -61,7 +61,7 @@ public abstract class StatusEffect implements Saveable{
 	 * @param mob The mob to clear the effect from
 	 * @param sourceId The id representing whatever originally applied the effect
 	 */
-	public abstract void clear(String sourceId, ZusassMob mob);
+	public abstract void clear(long sourceId, ZusassMob mob);
 	
 	/** @return See {@link #duration} */
 	public double getDuration(){
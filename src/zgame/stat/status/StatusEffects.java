@@ -1,25 +1,23 @@
 package zgame.stat.status;
 
 import zgame.core.Game;
+import zgame.core.utils.LongMap;
 import zgame.core.utils.NotNullList;
 import zusass.game.things.entities.mobs.ZusassMob;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /** Keeps track of all the {@link StatusEffect}s applying to a thing */
 public class StatusEffects{
 	
 	/** The current effects applied in this list, mapped by the sourceId which applied the effect */
-	private final Map<String, NotNullList<StatusEffect>> effects;
+	private final LongMap<NotNullList<StatusEffect>> effects;
 	
 	/** Initialize an empty status effects list */
 	public StatusEffects(){
-		this.effects = new HashMap<>();
+		this.effects = new LongMap<>();
 	}
 	
 	/** @return See {@link #effects} */
-	public Map<String, NotNullList<StatusEffect>> get(){
+	public LongMap<NotNullList<StatusEffect>> get(){
 		return this.effects;
 	}
 	
@@ -28,7 +26,7 @@ public class StatusEffects{
 	 * @param sourceId The id representing whatever originally applied the effect
 	 * @param mob The mob to add the effect to
 	 */
-	public final void addEffect(StatusEffect effect, String sourceId, ZusassMob mob){
+	public final void addEffect(StatusEffect effect, long sourceId, ZusassMob mob){
 		effect = effect.resetCopy();
 		var list = this.effects.get(sourceId);
 		if(list == null){
@@ -46,7 +44,7 @@ public class StatusEffects{
 	 * @param mob The mob to remove the effect from
 	 * @return true if the effect was removed, false otherwise
 	 */
-	public final boolean removeEffect(StatusEffect effect, String sourceId, ZusassMob mob){
+	public final boolean removeEffect(StatusEffect effect, long sourceId, ZusassMob mob){
 		var list = this.effects.get(sourceId);
 		if(list == null) return false;
 		var removed = list.remove(effect);
@@ -60,14 +58,12 @@ public class StatusEffects{
 	 * @param mob The mob to remove effects from
 	 */
 	public void removeAllTemporary(ZusassMob mob){
-		var effectList = this.effects.entrySet().stream().toList();
-		for(var e : effectList){
-			var id = e.getKey();
-			var list = e.getValue().stream().toList();
+		this.effects.forEach((id, effects) -> {
+			var list = effects.stream().toList();
 			for(var effect : list){
 				if(!effect.isPermanent()) effect.clear(id, mob);
 			}
-		}
+		});
 	}
 	
 	/**
@@ -78,15 +74,13 @@ public class StatusEffects{
 	 * @param mob The mob to update the state of the effect by
 	 */
 	public void tick(Game game, double dt, ZusassMob mob){
-		var effectList = this.effects.entrySet().stream().toList();
-		for(var e : effectList){
-			var id = e.getKey();
-			var list = e.getValue().stream().toList();
+		this.effects.forEach((id, effects) -> {
+			var list = effects.stream().toList();
 			for(var effect : list){
 				var removed = effect.tick(game, dt);
 				if(removed) this.removeEffect(effect, id, mob);
 			}
-		}
+		});
 	}
 	
 }
@@ -2,9 +2,15 @@ package zgame.things.entity;
 
 import java.util.*;
 
+import com.google.gson.JsonElement;
+
 import zgame.core.Game;
 import zgame.core.GameTickable;
+import zgame.core.file.Saveable;
+import zgame.core.utils.UuidGenerator;
+import zgame.core.utils.Uuidable;
 import zgame.core.utils.ZMath;
+import zgame.physics.ForceRegistry;
 import zgame.physics.ZVector;
 import zgame.physics.collision.CollisionResult;
 import zgame.physics.material.Material;
@@ -41,32 +47,65 @@ public abstract class EntityThing<
 	/** The string used to identify the force of sticking to a wall in {@link #forces} */
 	public static final String FORCE_NAME_WALL_SLIDE = "wallSlide";
 	
-	/** The uuid of this entity */
-	private final String uuid;
+	/** The id of {@link #FORCE_NAME_GRAVITY} in {@link ForceRegistry} */
+	public static final int FORCE_GRAVITY = ForceRegistry.id(FORCE_NAME_GRAVITY);
+	/** The id of {@link #FORCE_NAME_FRICTION} in {@link ForceRegistry} */
+	public static final int FORCE_FRICTION = ForceRegistry.id(FORCE_NAME_FRICTION);
+	/** The id of {@link #FORCE_NAME_GRAVITY_DRAG} in {@link ForceRegistry} */
+	public static final int FORCE_GRAVITY_DRAG = ForceRegistry.id(FORCE_NAME_GRAVITY_DRAG);
+	/** The id of {@link #FORCE_NAME_WALL_SLIDE} in {@link ForceRegistry} */
+	public static final int FORCE_WALL_SLIDE = ForceRegistry.id(FORCE_NAME_WALL_SLIDE);
+	
+	/** The key used to save {@link #uuid} */
+	public static final String UUID_KEY = "uuid";
+	
+	/** The uuid of this entity. Replaced when loaded by the uuid found for the saved uuid, see {@link UuidGenerator#load(long)} */
+	private long uuid;
 	
-	/** The current velocity of this {@link EntityThing} */
-	private V velocity;
+	/** The current velocity of this {@link EntityThing}. Modified in place as the velocity changes */
+	private final V velocity;
 	
 	/** true if velocity has been reset in this tick before applying movement, and movement should not happen for that tick, false otherwise */
 	private boolean velocityCleared;
 	
 	/** The current force of gravity on this {@link EntityThing} */
-	private V gravity;
+	private final V gravity;
 	
 	/** The percentage of gravity that applies to this {@link EntityThing}, defaults to 1, i.e. 100% */
 	private double gravityLevel;
 	
 	/** The current force of friction on this {@link EntityThing}. */
-	private V frictionForce;
+	private final V frictionForce;
 	
 	/** The current force of drag acting against gravity on this {@link EntityThing} */
-	private V gravityDragForce;
+	private final V gravityDragForce;
+	
+	/**
+	 * The vector of every force which has been used by this {@link EntityThing}, where the index is the id of the force from {@link ForceRegistry}.
+	 * Null for forces which have never been set. Each vector is owned by this entity and modified in place when its force is set
+	 */
+	private final ArrayList<V> forces;
+	
+	/** true at the id of each force which is currently acting on this {@link EntityThing}, false otherwise */
+	private boolean[] activeForces;
+	
+	/** A vector used to build a force before it is set, see {@link #getForceBuilder()} */
+	private final V forceBuilder;
+	
+	/** A {@link ZVector} representing the total force acting on this {@link EntityThing}. Modified in place as forces change */
+	private final V totalForce;
 	
-	/** Every force currently acting on this {@link EntityThing}, mapped by a name */
-	private final Map<String, V> forces;
+	/** The acceleration found in the last call to {@link #updatePosition(Game, double)}, reused so that updating the position does not create any objects */
+	private final V acceleration;
 	
-	/** A {@link ZVector} representing the total force acting on this {@link EntityThing} */
-	private V totalForce;
+	/** The vector given to {@link #moveEntity(ZVector)} by {@link #updatePosition(Game, double)}, reused so that updating the position does not create any objects */
+	private final V moveDistance;
+	
+	/** A vector used to hold the new frictional force while it is calculated in {@link #updateFrictionForce(double)} */
+	private final V frictionCalc;
+	
+	/** A vector used to hold the new total force while friction is calculated in {@link #updateFrictionForce(double)} */
+	private final V forceCalc;
 	
 	/** The amount of time in seconds since this {@link EntityThing} last touched the ground, or -1 if it is currently on the ground */
 	private double groundTime;
@@ -101,27 +140,31 @@ public abstract class EntityThing<
 	 * @param mass See {@link #mass}
 	 */
 	public EntityThing(double mass){
-		this.uuid = UUID.randomUUID().toString();
+		this.uuid = UuidGenerator.next();
 		
 		this.velocity = this.zeroVector();
 		this.velocityCleared = false;
 		
-		this.forces = new HashMap<>();
+		this.forces = new ArrayList<>(ForceRegistry.count());
+		this.activeForces = new boolean[ForceRegistry.count()];
+		this.forceBuilder = this.zeroVector();
 		this.totalForce = this.zeroVector();
+		this.acceleration = this.zeroVector();
+		this.moveDistance = this.zeroVector();
+		this.frictionCalc = this.zeroVector();
+		this.forceCalc = this.zeroVector();
 		
-		this.gravity = this.zeroVector();
-		this.setForce(FORCE_NAME_GRAVITY, gravity);
+		this.gravity = this.forceSlot(FORCE_GRAVITY);
+		this.setForce(FORCE_GRAVITY, this.forceBuilder.setZero());
 		this.setGravityLevel(1);
 		this.setMass(mass);
 		this.material = Materials.DEFAULT_ENTITY;
 		
-		this.frictionForce = this.zeroVector();
-		this.setForce(FORCE_NAME_FRICTION, this.frictionForce);
-		
-		this.gravityDragForce = this.zeroVector();
-		this.setForce(FORCE_NAME_GRAVITY_DRAG, this.gravityDragForce);
-		
-		this.setForce(FORCE_NAME_WALL_SLIDE, this.zeroVector());
+		this.frictionForce = this.forceSlot(FORCE_FRICTION);
+		this.gravityDragForce = this.forceSlot(FORCE_GRAVITY_DRAG);
+		this.setForce(FORCE_FRICTION, this.forceBuilder.setZero());
+		this.setForce(FORCE_GRAVITY_DRAG, this.forceBuilder.setZero());
+		this.setForce(FORCE_WALL_SLIDE, this.forceBuilder.setZero());
 		
 		this.floorMaterial = Materials.NONE;
 		this.groundTime = 0;
@@ -151,7 +194,7 @@ public abstract class EntityThing<
 	}
 	
 	/**
-	 * Update the position and velocity of this {@link EntityThing} based on its current forces and velocity
+	 * Update the position and velocity of this {@link EntityThing} based on its current forces and velocity. Does not create any objects
 	 *
 	 * @param game The {@link Game} where the update takes place
 	 * @param dt The amount of time, in seconds, which passed in the tick where this update took place
@@ -161,24 +204,24 @@ public abstract class EntityThing<
 		this.updateFrictionForce(dt);
 		
 		// Find the current acceleration
-		var acceleration = this.getForce().scale(1.0 / this.getMass());
+		var acceleration = this.acceleration.set(this.totalForce).scaleLocal(1.0 / this.getMass());
 		
 		// Add the acceleration to the current velocity
-		this.addVelocity(acceleration.scale(dt));
+		this.velocity.addScaledLocal(acceleration, dt);
 		
 		// Account for clamping the velocity
 		double velMag = this.getVelocity().getMagnitude();
 		if(velMag != 0 && velMag < this.getClampVelocity()) this.clearVelocity();
 		
 		// Apply the movement of the velocity
-		if(!this.velocityCleared) this.moveEntity(this.getVelocity().scale(dt).add(acceleration.scale(dt * dt * 0.5)));
+		if(!this.velocityCleared) this.moveEntity(this.moveDistance.set(this.getVelocity()).scaleLocal(dt).addScaledLocal(acceleration, dt * dt * 0.5));
 		this.velocityCleared = false;
 	}
 	
 	/**
 	 * Move the entity by the given amount
 	 *
-	 * @param distance The distance to move this entity by
+	 * @param distance The distance to move this entity by. The vector may be reused after this method returns, so it must not be kept
 	 */
 	public abstract void moveEntity(V distance);
 	
@@ -190,26 +233,26 @@ public abstract class EntityThing<
 	public void updateFrictionForce(double dt){
 		// When not on a surface, there is no friction
 		boolean onSurface = this.isOnGround() || this.isOnWall() || this.isOnCeiling();
-		var currentFriction = this.getFriction();
+		var currentFriction = this.frictionForce;
 		if(!onSurface){
 			// Don't bother changing friction if it's already 0
-			if(currentFriction.getMagnitude() != 0) this.setFrictionForce(this.zeroVector());
+			if(currentFriction.getMagnitude() != 0) this.clearFrictionForce();
 			return;
 		}
 		double clampVel = this.getClampVelocity();
 		
-		var currentForce = this.getForce();
-		var gravity = this.getGravity();
+		var currentForce = this.totalForce;
+		var gravity = this.gravity;
 		double gravityVert = gravity.getVerticalValue();
 		double forceNoGravityVert = currentForce.getVerticalValue() - gravityVert;
-
+		
 		/*
 		 If the vertical component of force without gravity is greater than or equal to the force of gravity,
 		 and the forces are in opposite directions or equal,
 		 then there will be no friction
 		 */
 		if((!ZMath.sameSign(gravityVert, forceNoGravityVert) || gravityVert == forceNoGravityVert) && Math.abs(forceNoGravityVert) > clampVel){
-			this.setFrictionForce(this.zeroVector());
+			this.clearFrictionForce();
 			return;
 		}
 		
@@ -217,7 +260,7 @@ public abstract class EntityThing<
 		var currentVel = this.getVelocity();
 		double velVert = currentVel.getVerticalValue();
 		if(Math.abs(velVert) > clampVel && !ZMath.sameSign(velVert, gravityVert)){
-			this.setFrictionForce(this.zeroVector());
+			this.clearFrictionForce();
 			return;
 		}
 		
@@ -230,7 +273,7 @@ public abstract class EntityThing<
 		if(!hasHorizontalVel || currentForceExceedsFriction){
 			// If the frictional force exceeds the current force, and velocity is moving opposite of gravity, then there will be equal and opposite frictional force
 			if(!currentForceExceedsFriction && currentVel.isOpposite(gravity)){
-				this.setFrictionForce(currentForce.sub(currentFriction).inverse());
+				this.setFrictionForce(this.frictionCalc.set(currentForce).subLocal(currentFriction).inverseLocal());
 				// When friction exceeds current force, and on a surface, velocity must also be set to zero
 				if(currentVel.getMagnitude() >= clampVel) this.clearVelocity();
 				else this.flagVelocityCleared();
@@ -238,25 +281,24 @@ public abstract class EntityThing<
 			}
 			// With no horizontal velocity, there is no friction
 			else if(!hasHorizontalVel){
-				if(currentFriction.getMagnitude() != 0) this.setFrictionForce(this.zeroVector());
+				if(currentFriction.getMagnitude() != 0) this.clearFrictionForce();
 				return;
 			}
 		}
 		
 		// The new frictional force will always be in the opposite direction of current movement
-		var newFriction = currentVel.inverse().modifyMagnitude(newFrictionForce);
+		var newFriction = this.frictionCalc.set(currentVel).inverseLocal().modifyMagnitudeLocal(newFrictionForce);
 		
 		// Find the new force if friction is fully applied
-		var forceWithoutFriction = currentForce.sub(currentFriction);
-		var newForce = forceWithoutFriction.add(newFriction);
+		var newForce = this.forceCalc.set(currentForce).subLocal(currentFriction).addLocal(newFriction);
 		
 		/*
 		 If adding the new frictional force would result in moving in the opposite direction after accounting for the current velocity,
 		 stop movement entirely if no other forces are acting
 		 */
 		double mass = this.getMass();
-		if(currentVel.getMagnitude() < clampVel || currentVel.isOpposite(currentVel.add(newForce.scale(dt / mass)))){
-			this.setFrictionForce(this.zeroVector());
+		if(currentVel.getMagnitude() < clampVel || currentVel.isOpposite(newForce.scaleLocal(dt / mass).addLocal(currentVel))){
+			this.clearFrictionForce();
 			if(currentVel.getMagnitude() >= clampVel) this.clearVelocity();
 			else this.flagVelocityCleared();
 			return;
@@ -268,16 +310,21 @@ public abstract class EntityThing<
 	
 	/** @return The current magnitude which friction should have on this entity */
 	public double calculateFrictionForce(){
-		return this.getFrictionConstant() * this.getFloorMaterial().getFriction() * this.getForce().getVertical();
+		return this.getFrictionConstant() * this.getFloorMaterial().getFriction() * this.totalForce.getVertical();
 	}
 	
 	/**
 	 * Set the current vector for friction
 	 *
-	 * @param newForce The vector
+	 * @param newForce The vector, is copied into {@link #frictionForce}
 	 */
 	private void setFrictionForce(V newForce){
-		this.frictionForce = this.setForce(FORCE_NAME_FRICTION, newForce);
+		this.setForce(FORCE_FRICTION, newForce);
+	}
+	
+	/** Set the current vector for friction to have no magnitude */
+	private void clearFrictionForce(){
+		this.setFrictionForce(this.forceBuilder.setZero());
 	}
 	
 	/**
@@ -292,13 +339,13 @@ public abstract class EntityThing<
 		// If downward velocity exceeds terminal velocity, and terminal velocity is not negative, set the vector to be equal and opposite to gravity
 		if(this.getVerticalVel() >= terminalVelocity && terminalVelocity > 0){
 			// Only set the value if it is not equal and opposite to gravity
-			double gravityForce = -this.getGravity().getVerticalValue();
-			if(this.getGravityDragForce().getVertical() != gravityForce) this.gravityDragForce = this.setVerticalForce(FORCE_NAME_GRAVITY_DRAG, gravityForce);
+			double gravityForce = -this.gravity.getVerticalValue();
+			if(this.gravityDragForce.getVertical() != gravityForce) this.setVerticalForce(FORCE_GRAVITY_DRAG, gravityForce);
 		}
 		// Otherwise, remove the force
 		else{
 			// Only remove the force if it is not already zero
-			if(this.getGravityDragForce().getVertical() != 0) this.gravityDragForce = this.setVerticalForce(FORCE_NAME_GRAVITY_DRAG, 0);
+			if(this.gravityDragForce.getVertical() != 0) this.setVerticalForce(FORCE_GRAVITY_DRAG, 0);
 		}
 	}
 	
@@ -320,11 +367,11 @@ public abstract class EntityThing<
 		// or the max slide velocity is negative or the slideStopForce is negative
 		double vy = this.getVerticalVel();
 		if(maxSlideVel < 0 || slideStopForce < 0 || vy <= maxSlideVel || !this.isOnWall()){
-			this.setVerticalForce(FORCE_NAME_WALL_SLIDE, 0);
+			this.setVerticalForce(FORCE_WALL_SLIDE, 0);
 			return;
 		}
 		// The base amount of force to apply for sliding is the opposite of gravity
-		double slideForce = -this.getGravity().getVerticalValue();
+		double slideForce = -this.gravity.getVerticalValue();
 		double mass = this.getMass();
 		// If we get to this point, then we are falling faster than the maximum sliding speed, increase the slide force to slow the falling (slideForce will be a negative number)
 		slideForce -= slideStopForce;
@@ -333,7 +380,7 @@ public abstract class EntityThing<
 		double newVel = vy + slideForce / mass * dt;
 		if(newVel < maxSlideVel) slideForce = (maxSlideVel - vy) / dt * mass;
 		// Set the force
-		this.setVerticalForce(FORCE_NAME_WALL_SLIDE, slideForce);
+		this.setVerticalForce(FORCE_WALL_SLIDE, slideForce);
 	}
 	
 	/**
@@ -374,17 +421,51 @@ public abstract class EntityThing<
 		this.material = material;
 	}
 	
-	/** @return A {@link ZVector} representing the total of all forces on this object */
+	/** @return A new {@link ZVector} holding the total of all forces on this object. Use {@link #setForce(int, ZVector)} to change a force */
 	public V getForce(){
-		return this.totalForce;
+		return this.zeroVector().set(this.totalForce);
 	}
 	
 	/**
-	 * @param name The name of the force to get. This method assumes the force exists
-	 * @return The {@link ZVector} representing the force on this object with the given name, or null if none exists for that force
+	 * @param name The name of the force to get
+	 * @return A new {@link ZVector} holding the force on this object with the given name, or null if none exists for that force. See {@link #getForce(int)}
 	 */
 	public V getForce(String name){
-		return this.forces.get(name);
+		return this.getForce(ForceRegistry.find(name));
+	}
+	
+	/**
+	 * @param id The id of the force to get, from {@link ForceRegistry}
+	 * @return A new {@link ZVector} holding the force on this object with the given id, or null if that force is not acting on this object
+	 */
+	public V getForce(int id){
+		if(!this.hasForce(id)) return null;
+		return this.zeroVector().set(this.forces.get(id));
+	}
+	
+	/**
+	 * Get the vector used to store the force with the given id, creating it if this entity has never used the force
+	 *
+	 * @param id The id of the force, from {@link ForceRegistry}
+	 * @return The vector
+	 */
+	private V forceSlot(int id){
+		if(id >= this.activeForces.length) this.activeForces = Arrays.copyOf(this.activeForces, Math.max(id + 1, ForceRegistry.count()));
+		while(this.forces.size() <= id) this.forces.add(null);
+		var slot = this.forces.get(id);
+		if(slot == null){
+			slot = this.zeroVector();
+			this.forces.set(id, slot);
+		}
+		return slot;
+	}
+	
+	/**
+	 * @return A vector which can be used to build a force before giving it to {@link #setForce(int, ZVector)}, so that setting a force from its components
+	 * 		does not need a new vector. The vector is shared by every use, so it must only be used until it is given to {@link #setForce(int, ZVector)}
+	 */
+	protected V getForceBuilder(){
+		return this.forceBuilder;
 	}
 	
 	/** @return See {@link #velocity} */
@@ -392,14 +473,14 @@ public abstract class EntityThing<
 		return this.velocity;
 	}
 	
-	/** @return See {@link #gravity} */
+	/** @return A new {@link ZVector} holding the value of {@link #gravity} */
 	public V getGravity(){
-		return this.gravity;
+		return this.zeroVector().set(this.gravity);
 	}
 	
 	/** Update the amount of gravitational force being applied to this {@link EntityThing} */
 	private void updateGravity(){
-		this.gravity = this.setVerticalForce(FORCE_NAME_GRAVITY, this.getGravityAcceleration() * this.getMass() * this.getGravityLevel());
+		this.setVerticalForce(FORCE_GRAVITY, this.getGravityAcceleration() * this.getMass() * this.getGravityLevel());
 	}
 	
 	/** @return See {@link #gravityLevel} */
@@ -416,14 +497,14 @@ public abstract class EntityThing<
 		this.updateGravity();
 	}
 	
-	/** @return See {@link #frictionForce} */
+	/** @return A new {@link ZVector} holding the value of {@link #frictionForce} */
 	public V getFriction(){
-		return this.frictionForce;
+		return this.zeroVector().set(this.frictionForce);
 	}
 	
-	/** @return SEE {@link #gravityDragForce} */
+	/** @return A new {@link ZVector} holding the value of {@link #gravityDragForce} */
 	public V getGravityDragForce(){
-		return this.gravityDragForce;
+		return this.zeroVector().set(this.gravityDragForce);
 	}
 	
 	/** @return See {@link #mass} */
@@ -526,7 +607,7 @@ public abstract class EntityThing<
 		this.wallMaterial = Materials.NONE;
 		this.wallTime = 0;
 		
-		this.setVerticalForce(FORCE_NAME_WALL_SLIDE, 0);
+		this.setVerticalForce(FORCE_WALL_SLIDE, 0);
 	}
 	
 	@Override
@@ -552,9 +633,9 @@ public abstract class EntityThing<
 	 */
 	public void checkEntityCollision(Game game, E entity, double dt){}
 	
-	/** @param velocity The new current velocity of this {@link EntityThing} */
+	/** @param velocity The new current velocity of this {@link EntityThing}. The values are copied into {@link #velocity}, the given vector is not kept */
 	public void setVelocity(V velocity){
-		this.velocity = velocity;
+		this.velocity.set(velocity);
 	}
 	
 	/**
@@ -563,7 +644,7 @@ public abstract class EntityThing<
 	 * @param vec The velocity to add
 	 */
 	public void addVelocity(V vec){
-		this.velocity = this.velocity.add(vec);
+		this.velocity.addLocal(vec);
 	}
 	
 	/**
@@ -573,15 +654,28 @@ public abstract class EntityThing<
 	 * @return true if this {@link EntityThing} has the given force, false otherwise
 	 */
 	public boolean hasForce(String name){
-		return this.forces.containsKey(name);
+		return this.hasForce(ForceRegistry.find(name));
 	}
 	
 	/**
-	 * @return A list of all forces acting on this thing. This returned list does not reflect actual the collection of forces applied to this thing
-	 * 		and should be treated as read only
+	 * Determine if this {@link EntityThing} has the force with the given id
+	 *
+	 * @param id The id of the force to check for, from {@link ForceRegistry}
+	 * @return true if this {@link EntityThing} has the given force, false otherwise
+	 */
+	public boolean hasForce(int id){
+		return id >= 0 && id < this.activeForces.length && this.activeForces[id];
+	}
+	
+	/**
+	 * @return A list of all forces acting on this thing. This returned list and its vectors are copies, changing them does not change the forces applied to this thing
 	 */
 	public Collection<Map.Entry<String, V>> getForces(){
-		return this.forces.entrySet().stream().toList();
+		var list = new ArrayList<Map.Entry<String, V>>();
+		for(int i = 0; i < this.activeForces.length; i++){
+			if(this.activeForces[i]) list.add(Map.entry(ForceRegistry.name(i), this.zeroVector().set(this.forces.get(i))));
+		}
+		return list;
 	}
 	
 	/**
@@ -589,14 +683,16 @@ public abstract class EntityThing<
 	 */
 	public void clearMotion(){
 		this.clearVelocity();
-		for(var f : this.getForces()) this.setForce(f.getKey(), this.zeroVector());
+		for(int i = 0; i < this.activeForces.length; i++){
+			if(this.activeForces[i]) this.setForce(i, this.forceBuilder.setZero());
+		}
 		this.updateGravity();
 	}
 	
 	/** Set the current velocity to nothing and flag {@link #velocityCleared} to true */
 	public void clearVelocity(){
 		this.flagVelocityCleared();
-		this.setVelocity(this.zeroVector());
+		this.velocity.setZero();
 	}
 	
 	/** Set the {@link #velocityCleared} to true, indicating that movement should not be able to happen on the next tick */
@@ -611,25 +707,50 @@ public abstract class EntityThing<
 	 * @return The removed force vector, or null if the given force was not found
 	 */
 	public V removeForce(String name){
-		var removed = this.forces.remove(name);
-		if(removed == null) return null;
-		this.totalForce = this.totalForce.add(removed.scale(-1));
-		return removed;
+		return this.removeForce(ForceRegistry.find(name));
+	}
+	
+	/**
+	 * Remove the force with the given id from this {@link EntityThing}'s forces
+	 *
+	 * @param id The id of the force to remove, from {@link ForceRegistry}
+	 * @return A new {@link ZVector} holding the removed force, or null if the given force was not found
+	 */
+	public V removeForce(int id){
+		if(!this.hasForce(id)) return null;
+		var removed = this.forces.get(id);
+		this.activeForces[id] = false;
+		this.totalForce.subLocal(removed);
+		return this.zeroVector().set(removed);
 	}
 	
 	/**
 	 * Set the given force name to the given force. If the given name doesn't have a force mapped to it yet, then this method automatically adds it to the
-	 * map
+	 * map. Prefer {@link #setForce(int, ZVector)} with an id found once, as this method must look up the name
 	 *
 	 * @param name The name of the force to set
 	 * @param force The force object to set
-	 * @return force
+	 * @return A new {@link ZVector} holding the force, see {@link #setForce(int, ZVector)}
 	 */
 	public V setForce(String name, V force){
-		this.removeForce(name);
-		this.forces.put(name, force);
-		this.totalForce = this.totalForce.add(force);
-		return force;
+		return this.setForce(ForceRegistry.id(name), force);
+	}
+	
+	/**
+	 * Set the force with the given id to the given force, adding it if it is not already acting on this {@link EntityThing}.
+	 * The total force is updated by removing the old value and adding the new value, so no new objects are created
+	 *
+	 * @param id The id of the force to set, from {@link ForceRegistry}
+	 * @param force The values of the force. The values are copied, the given vector is not kept
+	 * @return A new {@link ZVector} holding the force. Changing it does not change the force
+	 */
+	public V setForce(int id, V force){
+		var slot = this.forceSlot(id);
+		if(this.activeForces[id]) this.totalForce.subLocal(slot);
+		slot.set(force);
+		this.activeForces[id] = true;
+		this.totalForce.addLocal(slot);
+		return this.zeroVector().set(slot);
 	}
 	
 	/**
@@ -639,7 +760,18 @@ public abstract class EntityThing<
 	 * @param f The quantity of the force, positive means down and negative means up
 	 * @return The vector representing the added force
 	 */
-	public abstract V setVerticalForce(String name, double f);
+	public V setVerticalForce(String name, double f){
+		return this.setVerticalForce(ForceRegistry.id(name), f);
+	}
+	
+	/**
+	 * Set a force on the vertical, i.e. gravitational, axis.
+	 *
+	 * @param id The id of the force, from {@link ForceRegistry}
+	 * @param f The quantity of the force, positive means down and negative means up
+	 * @return The vector representing the added force
+	 */
+	public abstract V setVerticalForce(int id, double f);
 	
 	/** @return The total magnitude of horizontal velocity of this entity */
 	public abstract double getHorizontalVel();
@@ -672,10 +804,24 @@ public abstract class EntityThing<
 	}
 	
 	@Override
-	public String getUuid(){
+	public long getUuid(){
 		return this.uuid;
 	}
 	
+	@Override
+	public boolean save(JsonElement e){
+		e.getAsJsonObject().addProperty(UUID_KEY, this.uuid);
+		return true;
+	}
+	
+	@Override
+	public boolean load(JsonElement e) throws ClassCastException, IllegalStateException, NullPointerException{
+		// Keep the new uuid made for this entity if nothing was saved
+		long loaded = UuidGenerator.load(Saveable.l(UUID_KEY, e, Uuidable.NONE));
+		if(loaded != Uuidable.NONE) this.uuid = loaded;
+		return true;
+	}
+	
 	/**
 	 * Take this {@link EntityThing} from the given room, and place it in the other given room
 	 *
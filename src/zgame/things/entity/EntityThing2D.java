@@ -2,10 +2,13 @@ package zgame.things.entity;
 
 import zgame.core.Game;
 import zgame.core.graphics.Renderer;
+import zgame.core.utils.ZRect2D;
+import zgame.physics.ForceRegistry;
 import zgame.physics.ZVector2D;
 import zgame.physics.collision.CollisionResult2D;
 import zgame.things.type.bounds.HitBox2D;
 import zgame.world.Room2D;
+import zgame.world.RoomSnapshot;
 
 /**
  * An {@link EntityThing} in 2D
@@ -24,6 +27,15 @@ public abstract class EntityThing2D extends EntityThing<HitBox2D, EntityThing2D,
 	/** The value of the y coordinate from the last tick */
 	private double py;
 	
+	/** The x coordinate to draw this entity at, taken from the last {@link RoomSnapshot} of its room. Only used by the rendering thread */
+	private double renderX;
+	/** The y coordinate to draw this entity at, taken from the last {@link RoomSnapshot} of its room. Only used by the rendering thread */
+	private double renderY;
+	/** The width to draw this entity with, taken from the last {@link RoomSnapshot} of its room. Only used by the rendering thread */
+	private double renderWidth;
+	/** The height to draw this entity with, taken from the last {@link RoomSnapshot} of its room. Only used by the rendering thread */
+	private double renderHeight;
+	
 	/**
 	 * Create a new empty entity at (0, 0) with a mass of 100
 	 */
@@ -52,6 +64,7 @@ public abstract class EntityThing2D extends EntityThing<HitBox2D, EntityThing2D,
 		super(mass);
 		this.setX(x);
 		this.setY(y);
+		this.setRenderPosition(x, y);
 	}
 	
 	/** @return See {@link #x} */
@@ -94,6 +107,73 @@ public abstract class EntityThing2D extends EntityThing<HitBox2D, EntityThing2D,
 		this.setY(this.getY() + y);
 	}
 	
+	/** @return See {@link #renderX} */
+	public double getRenderX(){
+		return this.renderX;
+	}
+	
+	/** @return See {@link #renderY} */
+	public double getRenderY(){
+		return this.renderY;
+	}
+	
+	/**
+	 * Set the position this entity is drawn at. Should only be called by the rendering thread, use {@link #setX(double)} and {@link #setY(double)} to move this entity
+	 *
+	 * @param x See {@link #renderX}
+	 * @param y See {@link #renderY}
+	 */
+	public void setRenderPosition(double x, double y){
+		this.renderX = x;
+		this.renderY = y;
+	}
+	
+	/** @return See {@link #renderWidth} */
+	public double getRenderWidth(){
+		return this.renderWidth;
+	}
+	
+	/** @return See {@link #renderHeight} */
+	public double getRenderHeight(){
+		return this.renderHeight;
+	}
+	
+	/**
+	 * Set the size this entity is drawn with. Should only be called by the rendering thread
+	 *
+	 * @param width See {@link #renderWidth}
+	 * @param height See {@link #renderHeight}
+	 */
+	public void setRenderSize(double width, double height){
+		this.renderWidth = width;
+		this.renderHeight = height;
+	}
+	
+	/** @return The bounds of this entity where it will be drawn, using its render position and render size */
+	public ZRect2D getRenderBounds(){
+		return new ZRect2D(this.getRenderX(), this.getRenderY(), this.getRenderWidth(), this.getRenderHeight());
+	}
+	
+	/** @return 4, for the position and the size of this entity */
+	@Override
+	public int getRenderStateSize(){
+		return 4;
+	}
+	
+	@Override
+	public void captureRenderState(double[] state, int offset){
+		state[offset] = this.getX();
+		state[offset + 1] = this.getY();
+		state[offset + 2] = this.getWidth();
+		state[offset + 3] = this.getHeight();
+	}
+	
+	@Override
+	public void applyRenderState(double[] state, int offset){
+		this.setRenderPosition(state[offset], state[offset + 1]);
+		this.setRenderSize(state[offset + 2], state[offset + 3]);
+	}
+	
 	@Override
 	public void collide(CollisionResult2D r){
 		super.collide(r);
@@ -131,7 +211,20 @@ public abstract class EntityThing2D extends EntityThing<HitBox2D, EntityThing2D,
 	 * @return The newly set vector object
 	 */
 	public ZVector2D setForce(String name, double x, double y){
-		return this.setForce(name, new ZVector2D(x, y));
+		return this.setForce(ForceRegistry.id(name), x, y);
+	}
+	
+	/**
+	 * Set the force with the given id to a force built from the given components, without creating a vector to hold the components.
+	 * If the force is not acting on this entity yet, then this method automatically adds it
+	 *
+	 * @param id The id of the force to set, from {@link ForceRegistry}
+	 * @param x The x component
+	 * @param y The y component
+	 * @return A new vector holding the force
+	 */
+	public ZVector2D setForce(int id, double x, double y){
+		return this.setForce(id, this.getForceBuilder().set(x, y));
 	}
 	
 	/**
@@ -202,12 +295,22 @@ public abstract class EntityThing2D extends EntityThing<HitBox2D, EntityThing2D,
 	 * @return The vector representing the added force
 	 */
 	public ZVector2D setHorizontalForce(String name, double f){
-		return this.setForce(name, f, 0);
+		return this.setHorizontalForce(ForceRegistry.id(name), f);
+	}
+	
+	/**
+	 * Set a frictional force on the horizontal, i.e. non-gravitational, axis
+	 * @param id The id of the force, from {@link ForceRegistry}
+	 * @param f The quantity of the force, negative or positive to use direction
+	 * @return The vector representing the added force
+	 */
+	public ZVector2D setHorizontalForce(int id, double f){
+		return this.setForce(id, f, 0);
 	}
 	
 	@Override
-	public ZVector2D setVerticalForce(String name, double f){
-		return this.setForce(name, 0, f);
+	public ZVector2D setVerticalForce(int id, double f){
+		return this.setForce(id, 0, f);
 	}
 	
 	@Override
@@ -237,7 +340,7 @@ public abstract class EntityThing2D extends EntityThing<HitBox2D, EntityThing2D,
 	
 	@Override
 	public boolean shouldRender(Game game, Renderer r){
-		return r.gameBoundsInScreen(this.getBounds());
+		return r.gameBoundsInScreen(this.getRenderBounds());
 	}
 	
 	/**
@@ -1,10 +1,14 @@
 package zgame.things.entity;
 
+import zgame.core.Game;
+import zgame.core.graphics.Renderer;
 import zgame.core.graphics.camera.GameCamera3D;
+import zgame.physics.ForceRegistry;
 import zgame.physics.ZVector3D;
 import zgame.physics.collision.CollisionResult3D;
 import zgame.things.type.bounds.HitBox3D;
 import zgame.world.Room3D;
+import zgame.world.RoomSnapshot;
 
 /**
  * An {@link EntityThing} in 3D
@@ -25,6 +29,19 @@ public abstract class EntityThing3D extends EntityThing<HitBox3D, EntityThing3D,
 	/** The value of the z coordinate from the last tick */
 	private double pz;
 	
+	/** The x coordinate to draw this entity at, taken from the last {@link RoomSnapshot} of its room. Only used by the rendering thread */
+	private double renderX;
+	/** The y coordinate to draw this entity at, taken from the last {@link RoomSnapshot} of its room. Only used by the rendering thread */
+	private double renderY;
+	/** The z coordinate to draw this entity at, taken from the last {@link RoomSnapshot} of its room. Only used by the rendering thread */
+	private double renderZ;
+	/** The width to draw this entity with, taken from the last {@link RoomSnapshot} of its room. Only used by the rendering thread */
+	private double renderWidth;
+	/** The height to draw this entity with, taken from the last {@link RoomSnapshot} of its room. Only used by the rendering thread */
+	private double renderHeight;
+	/** The length to draw this entity with, taken from the last {@link RoomSnapshot} of its room. Only used by the rendering thread */
+	private double renderLength;
+	
 	/**
 	 * Create a new empty entity with the given mass
 	 *
@@ -50,6 +67,7 @@ public abstract class EntityThing3D extends EntityThing<HitBox3D, EntityThing3D,
 		this.px = x;
 		this.py = y;
 		this.pz = z;
+		this.setRenderPosition(x, y, z);
 	}
 	
 	@Override
@@ -73,12 +91,26 @@ public abstract class EntityThing3D extends EntityThing<HitBox3D, EntityThing3D,
 	 * @return The newly set vector object
 	 */
 	public ZVector3D setForce(String name, double x, double y, double z){
-		return this.setForce(name, new ZVector3D(x, y, z));
+		return this.setForce(ForceRegistry.id(name), x, y, z);
+	}
+	
+	/**
+	 * Set the force with the given id to a force built from the given components, without creating a vector to hold the components.
+	 * If the force is not acting on this entity yet, then this method automatically adds it
+	 *
+	 * @param id The id of the force to set, from {@link ForceRegistry}
+	 * @param x The x component
+	 * @param y The y component
+	 * @param z The z component
+	 * @return A new vector holding the force
+	 */
+	public ZVector3D setForce(int id, double x, double y, double z){
+		return this.setForce(id, this.getForceBuilder().set(x, y, z));
 	}
 	
 	@Override
-	public ZVector3D setVerticalForce(String name, double f){
-		return this.setForce(name, 0, f, 0);
+	public ZVector3D setVerticalForce(int id, double f){
+		return this.setForce(id, 0, f, 0);
 	}
 	
 	@Override
@@ -211,6 +243,85 @@ public abstract class EntityThing3D extends EntityThing<HitBox3D, EntityThing3D,
 		this.setZ(this.getZ() + z);
 	}
 	
+	/** @return See {@link #renderX} */
+	public double getRenderX(){
+		return this.renderX;
+	}
+	
+	/** @return See {@link #renderY} */
+	public double getRenderY(){
+		return this.renderY;
+	}
+	
+	/** @return See {@link #renderZ} */
+	public double getRenderZ(){
+		return this.renderZ;
+	}
+	
+	/**
+	 * Set the position this entity is drawn at. Should only be called by the rendering thread, use {@link #setX(double)}, {@link #setY(double)}, and
+	 * {@link #setZ(double)} to move this entity
+	 *
+	 * @param x See {@link #renderX}
+	 * @param y See {@link #renderY}
+	 * @param z See {@link #renderZ}
+	 */
+	public void setRenderPosition(double x, double y, double z){
+		this.renderX = x;
+		this.renderY = y;
+		this.renderZ = z;
+	}
+	
+	/** @return See {@link #renderWidth} */
+	public double getRenderWidth(){
+		return this.renderWidth;
+	}
+	
+	/** @return See {@link #renderHeight} */
+	public double getRenderHeight(){
+		return this.renderHeight;
+	}
+	
+	/** @return See {@link #renderLength} */
+	public double getRenderLength(){
+		return this.renderLength;
+	}
+	
+	/**
+	 * Set the size this entity is drawn with. Should only be called by the rendering thread
+	 *
+	 * @param width See {@link #renderWidth}
+	 * @param height See {@link #renderHeight}
+	 * @param length See {@link #renderLength}
+	 */
+	public void setRenderSize(double width, double height, double length){
+		this.renderWidth = width;
+		this.renderHeight = height;
+		this.renderLength = length;
+	}
+	
+	/** @return 6, for the position and the size of this entity */
+	@Override
+	public int getRenderStateSize(){
+		return 6;
+	}
+	
+	@Override
+	public void captureRenderState(double[] state, int offset){
+		state[offset] = this.getX();
+		state[offset + 1] = this.getY();
+		state[offset + 2] = this.getZ();
+		state[offset + 3] = this.getWidth();
+		state[offset + 4] = this.getHeight();
+		state[offset + 5] = this.getLength();
+	}
+	
+	@Override
+	public void applyRenderState(double[] state, int offset){
+		this.setRenderPosition(state[offset], state[offset + 1], state[offset + 2]);
+		this.setRenderSize(state[offset + 3], state[offset + 4], state[offset + 5]);
+	}
+	
 	/**
 	 * Set the position of this camera to the top center of this thing
 	 * @param camera The camera to set
@@ -221,6 +332,30 @@ public abstract class EntityThing3D extends EntityThing<HitBox3D, EntityThing3D,
 		camera.setZ(this.getZ());
 	}
 	
+	/**
+	 * Determine if this entity could be seen. Only the render position and the render size of this entity are used, so that the position being changed by a tick while testing
+	 * cannot make the box inconsistent. The box reaches a full height below and above the render position, so that it holds both hitboxes whose y coordinate is the bottom,
+	 * and hitboxes whose y coordinate is the center, and it is expanded by {@link #getRenderPadding()} on every side
+	 *
+	 * @return true if the box around where this entity will be drawn is in the frustum of the given {@link Renderer}, false otherwise
+	 */
+	@Override
+	public boolean shouldRender(Game game, Renderer r){
+		double x = this.getRenderX();
+		double y = this.getRenderY();
+		double z = this.getRenderZ();
+		double pad = this.getRenderPadding();
+		double w = this.getRenderWidth() * 0.5 + pad;
+		double h = this.getRenderHeight() + pad;
+		double l = this.getRenderLength() * 0.5 + pad;
+		return r.getFrustum().intersectsBox(x - w, y - h, z - l, x + w, y + h, z + l);
+	}
+	
+	/** @return The distance past the hitbox of this entity which it can draw anything, used by {@link #shouldRender(Game, Renderer)}. 0 by default */
+	public double getRenderPadding(){
+		return 0;
+	}
+	
 	@Override
 	public ZVector3D zeroVector(){
 		return new ZVector3D();
@@ -1,5 +1,6 @@
 package zgame.things.entity;
 
+import zgame.physics.ForceRegistry;
 import zgame.physics.ZVector;
 import zgame.physics.collision.CollisionResult;
 import zgame.things.entity.mobility.Mobility;
@@ -24,6 +25,13 @@ public abstract class MobilityData<H extends HitBox<H, C>, E extends EntityThing
 	/** The string used to identify the force used to make this jump */
 	public static final String FORCE_NAME_JUMPING = "jumping";
 	
+	/** The id of {@link #FORCE_NAME_WALKING} in {@link ForceRegistry} */
+	public static final int FORCE_WALKING = ForceRegistry.id(FORCE_NAME_WALKING);
+	/** The id of {@link #FORCE_NAME_FLYING} in {@link ForceRegistry} */
+	public static final int FORCE_FLYING = ForceRegistry.id(FORCE_NAME_FLYING);
+	/** The id of {@link #FORCE_NAME_JUMPING} in {@link ForceRegistry} */
+	public static final int FORCE_JUMPING = ForceRegistry.id(FORCE_NAME_JUMPING);
+	
 	/////////////////////////////////////////////////////////////////////////////////////////////////////////
 	
 	/** true if this is in a position where it is allowed to jump, false otherwise */
@@ -77,9 +85,9 @@ public abstract class MobilityData<H extends HitBox<H, C>, E extends EntityThing
 		this.wallJumpAvailable = false;
 		this.groundedSinceLastJump = false;
 		
-		this.walkingForce = entity.setForce(FORCE_NAME_WALKING, this.entity.zeroVector());
-		this.flyingForce = entity.setForce(FORCE_NAME_FLYING, this.entity.zeroVector());
-		this.jumpingForce = entity.setForce(FORCE_NAME_JUMPING, this.entity.zeroVector());
+		this.walkingForce = entity.setForce(FORCE_WALKING, this.entity.zeroVector());
+		this.flyingForce = entity.setForce(FORCE_FLYING, this.entity.zeroVector());
+		this.jumpingForce = entity.setForce(FORCE_JUMPING, this.entity.zeroVector());
 		
 		this.setType(MobilityType.WALKING);
 	}
@@ -176,7 +184,7 @@ public abstract class MobilityData<H extends HitBox<H, C>, E extends EntityThing
 			return;
 		}
 		
-		this.walkingForce = this.getEntity().setForce(FORCE_NAME_WALKING, walkingForce);
+		this.walkingForce = this.getEntity().setForce(FORCE_WALKING, walkingForce);
 	}
 	
 	/** @return See {@link #flyingForce} */
@@ -192,7 +200,7 @@ public abstract class MobilityData<H extends HitBox<H, C>, E extends EntityThing
 			return;
 		}
 		
-		this.flyingForce = this.getEntity().setForce(FORCE_NAME_FLYING, flyingForce);
+		this.flyingForce = this.getEntity().setForce(FORCE_FLYING, flyingForce);
 	}
 	
 	/** @return See {@link #jumpingForce} */
@@ -202,7 +210,7 @@ public abstract class MobilityData<H extends HitBox<H, C>, E extends EntityThing
 	
 	/** @param jumpForce The amount of force applied to the y axis while this mob is jumping */
 	public void setJumpingForce(double jumpForce){
-		this.jumpingForce = this.getEntity().setVerticalForce(FORCE_NAME_JUMPING, jumpForce);
+		this.jumpingForce = this.getEntity().setVerticalForce(FORCE_JUMPING, jumpForce);
 	}
 	
 	/** @param force The amount of force moving during walking */
@@ -228,21 +236,20 @@ public abstract class MobilityData<H extends HitBox<H, C>, E extends EntityThing
 	/** Update all necessary forces to make {@link #entity} able to walk and not other forms of movement */
 	public void updateWalkForces(){
 		var thing = this.getEntity();
-		thing.removeForce(FORCE_NAME_FLYING);
+		thing.removeForce(FORCE_FLYING);
 		
-		thing.setForce(FORCE_NAME_WALKING, this.walkingForce);
-		this.jumpingForce = thing.zeroVector();
-		thing.setForce(FORCE_NAME_JUMPING, this.jumpingForce);
+		thing.setForce(FORCE_WALKING, this.walkingForce);
+		this.jumpingForce = thing.setForce(FORCE_JUMPING, thing.zeroVector());
 		thing.setGravityLevel(1);
 	}
 	
 	/** Update all necessary forces to make {@link #entity} able to fly and not other forms of movement */
 	public void updateFlyForces(){
 		var thing = this.getEntity();
-		thing.removeForce(FORCE_NAME_WALKING);
-		thing.removeForce(FORCE_NAME_JUMPING);
+		thing.removeForce(FORCE_WALKING);
+		thing.removeForce(FORCE_JUMPING);
 		
-		thing.setForce(FORCE_NAME_FLYING, this.flyingForce);
+		thing.setForce(FORCE_FLYING, this.flyingForce);
 		thing.setGravityLevel(0);
 	}
 	
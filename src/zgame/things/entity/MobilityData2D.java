@@ -44,7 +44,7 @@ public class MobilityData2D extends MobilityData<HitBox2D, EntityThing2D, ZVecto
 	
 	@Override
 	public void updateWalkingForce(double force){
-		this.setWalkingForce(this.getEntity().setHorizontalForce(FORCE_NAME_WALKING, force));
+		this.setWalkingForce(this.getEntity().setHorizontalForce(FORCE_WALKING, force));
 	}
 	
 	/** @return See {@link #flyingAngle} */
@@ -5,6 +5,7 @@ import zgame.core.graphics.camera.GameCamera3D;
 import zgame.physics.ZVector3D;
 import zgame.physics.collision.CollisionResult3D;
 import zgame.things.entity.*;
+import zgame.world.RoomSnapshot;
 
 /** A 3D entity which uses mobility capabilities */
 public abstract class MobilityEntity3D extends EntityThing3D implements Mobility3D{
@@ -15,6 +16,9 @@ public abstract class MobilityEntity3D extends EntityThing3D implements Mobility
 	/** An amount of distance this entity's vision begins from in front of its normal vision position */
 	private double visionForwardDistance;
 	
+	/** The yaw this entity is facing when it is drawn, taken from the last {@link RoomSnapshot} of its room. Only used by the rendering thread */
+	private double renderYaw;
+	
 	/**
 	 * Create a new empty entity with the given mass
 	 *
@@ -37,6 +41,7 @@ public abstract class MobilityEntity3D extends EntityThing3D implements Mobility
 		this.visionForwardDistance = 0;
 		
 		this.mobilityData = new MobilityData3D(this);
+		this.renderYaw = this.mobilityData.getFacingYaw();
 	}
 	
 	/** @return See {@link #visionForwardDistance} */
@@ -49,6 +54,34 @@ public abstract class MobilityEntity3D extends EntityThing3D implements Mobility
 		this.visionForwardDistance = visionForwardDistance;
 	}
 	
+	/** @return See {@link #renderYaw} */
+	public double getRenderYaw(){
+		return this.renderYaw;
+	}
+	
+	/** @param renderYaw See {@link #renderYaw}. Should only be called by the rendering thread */
+	public void setRenderYaw(double renderYaw){
+		this.renderYaw = renderYaw;
+	}
+	
+	/** @return The size of the super class, plus 1 for the facing yaw */
+	@Override
+	public int getRenderStateSize(){
+		return super.getRenderStateSize() + 1;
+	}
+	
+	@Override
+	public void captureRenderState(double[] state, int offset){
+		super.captureRenderState(state, offset);
+		state[offset + super.getRenderStateSize()] = this.getMobilityData().getFacingYaw();
+	}
+	
+	@Override
+	public void applyRenderState(double[] state, int offset){
+		super.applyRenderState(state, offset);
+		this.setRenderYaw(state[offset + super.getRenderStateSize()]);
+	}
+	
 	@Override
 	public void tick(Game game, double dt){
 		this.mobilityTick(dt);
@@ -3,6 +3,7 @@ package zgame.things.entity.projectile;
 import zgame.core.Game;
 import zgame.core.GameTickable;
 import zgame.core.utils.FunctionMap;
+import zgame.core.utils.Uuidable;
 import zgame.physics.ZVector;
 import zgame.physics.collision.CollisionResult;
 import zgame.things.BaseTags;
@@ -119,7 +120,7 @@ public interface Projectile<H extends HitBox<H, C>,
 		
 		// If thing is the source of this projectile, then it will not hit
 		var sourceId = this.getSourceId();
-		if(sourceId != null && sourceId.equals(thing.getUuid())) return false;
+		if(sourceId != Uuidable.NONE && sourceId == thing.getUuid()) return false;
 		
 		// Otherwise it will hit as long as they intersect
 		return this.intersects(thing);
@@ -137,8 +138,8 @@ public interface Projectile<H extends HitBox<H, C>,
 	/** @return The maximum range this projectile can travel before being deleted, or negative to never be deleted by range */
 	double getRange();
 	
-	/** @return The uuid of a thing that created this projectile, or null if nothing created it. If the creator of this thing touches this, then this will not hit its creator */
-	String getSourceId();
+	/** @return The uuid of a thing that created this projectile, or {@link Uuidable#NONE} if nothing created it. If the creator of this thing touches this, then this will not hit its creator */
+	long getSourceId();
 	
 	/** Tell this projectile to be removed on the next tick */
 	void removeNext();
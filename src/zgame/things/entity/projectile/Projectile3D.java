@@ -1,7 +1,12 @@
 package zgame.things.entity.projectile;
 
+import com.google.gson.JsonElement;
+
 import zgame.core.Game;
+import zgame.core.file.Saveable;
 import zgame.core.utils.FunctionMap;
+import zgame.core.utils.UuidGenerator;
+import zgame.core.utils.Uuidable;
 import zgame.physics.ZVector3D;
 import zgame.physics.collision.CollisionResult3D;
 import zgame.things.entity.EntityThing3D;
@@ -29,8 +34,11 @@ public abstract class Projectile3D extends EntityThing3D implements Projectile<H
 	/** true if this is a {@link Projectile3D} which destroys itself when it hits anything, false otherwise */
 	private boolean onHit;
 	
-	/** The uuid of the thing which created this projectile, or null if nothing created it, i.e. the source of this projectile */
-	private String sourceId;
+	/** The key used to save {@link #sourceId} */
+	public static final String SOURCE_KEY = "source";
+	
+	/** The uuid of the thing which created this projectile, or {@link Uuidable#NONE} if nothing created it, i.e. the source of this projectile */
+	private long sourceId;
 	
 	/**
 	 * Create a projectile at the specified location, moving at the given velocity
@@ -48,6 +56,7 @@ public abstract class Projectile3D extends EntityThing3D implements Projectile<H
 		this.totalDistance = 0;
 		this.willRemove = false;
 		this.onHit = false;
+		this.sourceId = Uuidable.NONE;
 	}
 	
 	/** @return See {@link #mappedFuncs} */
@@ -92,15 +101,29 @@ public abstract class Projectile3D extends EntityThing3D implements Projectile<H
 	
 	/** @return See {@link #sourceId} */
 	@Override
-	public String getSourceId(){
+	public long getSourceId(){
 		return this.sourceId;
 	}
 	
 	/** @param sourceId See {@link #sourceId} */
-	public void setSourceId(String sourceId){
+	public void setSourceId(long sourceId){
 		this.sourceId = sourceId;
 	}
 	
+	@Override
+	public boolean save(JsonElement e){
+		super.save(e);
+		e.getAsJsonObject().addProperty(SOURCE_KEY, this.sourceId);
+		return true;
+	}
+	
+	@Override
+	public boolean load(JsonElement e) throws ClassCastException, IllegalStateException, NullPointerException{
+		super.load(e);
+		this.sourceId = UuidGenerator.load(Saveable.l(SOURCE_KEY, e, Uuidable.NONE));
+		return true;
+	}
+	
 	/** Tell this projectile to be removed on the next tick */
 	@Override
 	public void removeNext(){
@@ -129,7 +129,7 @@ public class Door2D extends StaticThing2D implements Door<Room2D, HitBox2D, Enti
 	@Override
 	public void render(Game game, Renderer r){
 		r.setColor(.25, .125, 0);
-		r.drawRectangle(this.getX(), this.getY(), this.getWidth(), this.getHeight());
+		r.drawRectangle(this.getRenderBounds());
 	}
 	
 }
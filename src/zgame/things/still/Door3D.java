@@ -106,7 +106,7 @@ public class Door3D extends StaticThing3D implements Door<Room3D, HitBox3D, Enti
 	@Override
 	public void render(Game game, Renderer r){
 		var c = new ZColor(0.35, 0.22, 0);
-		r.drawRectPrism(new RectRender3D(this.getBounds()), c, c, c, c, c, c);
+		r.addRectPrismInstance(new RectRender3D(this.getRenderBounds()), c);
 	}
 	
 }
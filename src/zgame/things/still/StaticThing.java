@@ -1,15 +1,14 @@
 package zgame.things.still;
 
+import zgame.core.utils.UuidGenerator;
 import zgame.core.utils.Uuidable;
 import zgame.things.type.GameThing;
 
-import java.util.UUID;
-
 /** A thing which does not move as an entity would, and generally doesn't move, but can be at an arbitrary position */
 public abstract class StaticThing extends GameThing implements Uuidable{
 	
 	/** The uuid representing this thing */
-	private final String uuid;
+	private final long uuid;
 	
 	/**
 	 * Create a new empty static thing
@@ -17,12 +16,12 @@ public abstract class StaticThing extends GameThing implements Uuidable{
 	public StaticThing(){
 		super();
 		
-		this.uuid = UUID.randomUUID().toString();
+		this.uuid = UuidGenerator.next();
 	}
 	
 	/** @return See {@link #uuid} */
 	@Override
-	public String getUuid(){
+	public long getUuid(){
 		return this.uuid;
 	}
 	
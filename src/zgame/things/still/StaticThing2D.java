@@ -1,6 +1,8 @@
 package zgame.things.still;
 
+import zgame.core.utils.ZRect2D;
 import zgame.things.type.bounds.Bounds2D;
+import zgame.world.RoomSnapshot;
 
 /** A 2D thing which does not move as an entity would, and generally doesn't move, but can be at an arbitrary position */
 public abstract class StaticThing2D extends StaticThing implements Bounds2D{
@@ -14,6 +16,15 @@ public abstract class StaticThing2D extends StaticThing implements Bounds2D{
 	/** The height of this thing */
 	private double height;
 	
+	/** The x coordinate to draw this thing at, taken from the last {@link RoomSnapshot} of its room. Only used by the rendering thread */
+	private double renderX;
+	/** The y coordinate to draw this thing at, taken from the last {@link RoomSnapshot} of its room. Only used by the rendering thread */
+	private double renderY;
+	/** The width to draw this thing with, taken from the last {@link RoomSnapshot} of its room. Only used by the rendering thread */
+	private double renderWidth;
+	/** The height to draw this thing with, taken from the last {@link RoomSnapshot} of its room. Only used by the rendering thread */
+	private double renderHeight;
+	
 	/**
 	 * Create a new entity with the given values
 	 * @param x See {@link #x}
@@ -79,4 +90,31 @@ public abstract class StaticThing2D extends StaticThing implements Bounds2D{
 		return this.getY() + this.getHeight();
 	}
 	
-}
\ No newline at end of file
+	/** @return The bounds of this thing where it will be drawn, in the same form as {@link #getBounds()} */
+	public ZRect2D getRenderBounds(){
+		return new ZRect2D(this.renderX, this.renderY, this.renderWidth, this.renderHeight);
+	}
+	
+	/** @return 4, for the position and the size of this thing */
+	@Override
+	public int getRenderStateSize(){
+		return 4;
+	}
+	
+	@Override
+	public void captureRenderState(double[] state, int offset){
+		state[offset] = this.getX();
+		state[offset + 1] = this.getY();
+		state[offset + 2] = this.getWidth();
+		state[offset + 3] = this.getHeight();
+	}
+	
+	@Override
+	public void applyRenderState(double[] state, int offset){
+		this.renderX = state[offset];
+		this.renderY = state[offset + 1];
+		this.renderWidth = state[offset + 2];
+		this.renderHeight = state[offset + 3];
+	}
+	
+}
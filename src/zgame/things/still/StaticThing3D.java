@@ -1,6 +1,10 @@
 package zgame.things.still;
 
+import zgame.core.Game;
+import zgame.core.graphics.Renderer;
+import zgame.core.utils.ZRect3D;
 import zgame.things.type.bounds.Bounds3D;
+import zgame.world.RoomSnapshot;
 
 /** A 3D thing which does not move as an entity would, and generally doesn't move, but can be at an arbitrary position */
 public abstract class StaticThing3D extends StaticThing implements Bounds3D{
@@ -18,6 +22,19 @@ public abstract class StaticThing3D extends StaticThing implements Bounds3D{
 	/** The length of this thing */
 	private double length;
 	
+	/** The x coordinate to draw this thing at, taken from the last {@link RoomSnapshot} of its room. Only used by the rendering thread */
+	private double renderX;
+	/** The y coordinate to draw this thing at, taken from the last {@link RoomSnapshot} of its room. Only used by the rendering thread */
+	private double renderY;
+	/** The z coordinate to draw this thing at, taken from the last {@link RoomSnapshot} of its room. Only used by the rendering thread */
+	private double renderZ;
+	/** The width to draw this thing with, taken from the last {@link RoomSnapshot} of its room. Only used by the rendering thread */
+	private double renderWidth;
+	/** The height to draw this thing with, taken from the last {@link RoomSnapshot} of its room. Only used by the rendering thread */
+	private double renderHeight;
+	/** The length to draw this thing with, taken from the last {@link RoomSnapshot} of its room. Only used by the rendering thread */
+	private double renderLength;
+	
 	/**
 	 * Create a new entity with the given values
 	 * @param x See {@link #x}
@@ -107,4 +124,43 @@ public abstract class StaticThing3D extends StaticThing implements Bounds3D{
 		this.length = length;
 	}
 	
-}
\ No newline at end of file
+	/** @return The bounds of this thing where it will be drawn, in the same form as {@link #getBounds()} */
+	public ZRect3D getRenderBounds(){
+		return new ZRect3D(this.renderX, this.renderY, this.renderZ, this.renderWidth, this.renderHeight, this.renderLength);
+	}
+	
+	/** @return 6, for the position and the size of this thing */
+	@Override
+	public int getRenderStateSize(){
+		return 6;
+	}
+	
+	@Override
+	public void captureRenderState(double[] state, int offset){
+		state[offset] = this.getX();
+		state[offset + 1] = this.getY();
+		state[offset + 2] = this.getZ();
+		state[offset + 3] = this.getWidth();
+		state[offset + 4] = this.getHeight();
+		state[offset + 5] = this.getLength();
+	}
+	
+	@Override
+	public void applyRenderState(double[] state, int offset){
+		this.renderX = state[offset];
+		this.renderY = state[offset + 1];
+		this.renderZ = state[offset + 2];
+		this.renderWidth = state[offset + 3];
+		this.renderHeight = state[offset + 4];
+		this.renderLength = state[offset + 5];
+	}
+	
+	/** @return true if the bounds of this thing where it will be drawn are in the frustum of the given {@link Renderer}, false otherwise */
+	@Override
+	public boolean shouldRender(Game game, Renderer r){
+		double w = this.renderWidth * 0.5;
+		double l = this.renderLength * 0.5;
+		return r.getFrustum().intersectsBox(this.renderX - w, this.renderY, this.renderZ - l, this.renderX + w, this.renderY + this.renderHeight, this.renderZ + l);
+	}
+	
+}
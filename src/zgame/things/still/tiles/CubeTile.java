@@ -45,6 +45,13 @@ public class CubeTile extends TileType3D{
 		return this.material;
 	}
 	
+	/** Transparent cube tiles are not rendered, so they are not part of a mesh either */
+	@Override
+	public ZColor getMeshColor(){
+		var c = this.getBaseColor();
+		return c.alpha() < 1 ? null : c;
+	}
+	
 	@Override
 	public void render(Tile3D t, Game g, Renderer r){
 		var c = this.getBaseColor();
@@ -55,6 +62,6 @@ public class CubeTile extends TileType3D{
 		
 		// issue#48 only render the necessary faces
 		
-		r.drawRectPrism(new RectRender3D(t.getX(), t.getY(), t.getZ(), t.getWidth(), t.getHeight(), t.getLength()), c, c, c, c, c, c);
+		r.addRectPrismInstance(new RectRender3D(t.getX(), t.getY(), t.getZ(), t.getWidth(), t.getHeight(), t.getLength()), c);
 	}
 }
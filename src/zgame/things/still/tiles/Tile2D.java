@@ -118,6 +118,12 @@ public class Tile2D extends GameThing implements Tile<HitBox2D, CollisionResult2
 		this.getFrontType().render(this, game, r);
 	}
 	
+	/** @return true if the bounds of this tile can appear on the given {@link Renderer}, false otherwise */
+	@Override
+	public boolean shouldRender(Game game, Renderer r){
+		return r.shouldDraw(this.getX(), this.getY(), this.getWidth(), this.getHeight());
+	}
+	
 	/** @return The unit size of a tile */
 	public static double size(){
 		return TILE_SIZE;
@@ -12,7 +12,10 @@ import zgame.things.type.bounds.RectPrismBounds;
 import zgame.world.Direction3D;
 import zgame.world.Room3D;
 
-/** A {@link GameThing} with a cube hitbox and a position based on an index in an array. The indexes of this object should directly correlate to its position */
+/**
+ * A {@link GameThing} with a cube hitbox and a position based on an index in an array. The indexes of this object should directly correlate to its position.
+ * A {@link Room3D} does not keep a tile object for each of its tiles, a tile object is a view of the tile at an index, and can be reused for different indexes
+ */
 public class Tile3D extends GameThing implements Tile<HitBox3D, CollisionResult3D>, Bounds3D, RectPrismBounds, Materialable{
 	
 	/** The default size of tiles */
@@ -22,25 +25,25 @@ public class Tile3D extends GameThing implements Tile<HitBox3D, CollisionResult3
 	public static final double TILE_SIZE_INVERSE = 1.0 / TILE_SIZE;
 	
 	/** The index of this tile on the x axis */
-	private final int xIndex;
+	private int xIndex;
 	/** The index of this tile on the y axis */
-	private final int yIndex;
+	private int yIndex;
 	/** The index of this tile on the z axis */
-	private final int zIndex;
+	private int zIndex;
 	
 	/** The type of tile in all contexts */
 	private TileType3D type;
 	
 	/** The x coordinate of this tile */
-	private final double x;
+	private double x;
 	/** The y coordinate of this tile */
-	private final double y;
+	private double y;
 	/** The z coordinate of this tile */
-	private final double z;
+	private double z;
 	
 	/**
 	 * The faces of this tile can cause collisions, indexed using {@link Direction3D}, true for allowing collision, false for no collision.
-	 * Should be set by a {@link Room3D} when a tile is set
+	 * Should be set by a {@link Room3D} when a tile is set or viewed
 	 */
 	private final boolean[] collisionFaces;
 	
@@ -66,13 +69,25 @@ public class Tile3D extends GameThing implements Tile<HitBox3D, CollisionResult3
 	public Tile3D(int x, int y, int z, TileType3D type){
 		super();
 		this.collisionFaces = new boolean[6];
+		this.set(x, y, z, type);
+	}
+	
+	/**
+	 * Move this tile to the given index and give it the given type. Used to reuse a single tile object as a view of different tiles
+	 *
+	 * @param x See {@link #xIndex}
+	 * @param y See {@link #yIndex}
+	 * @param z See {@link #zIndex}
+	 * @param type See {@link #type}
+	 */
+	public void set(int x, int y, int z, TileType3D type){
 		this.xIndex = x;
 		this.yIndex = y;
 		this.zIndex = z;
 		this.type = type;
 		double size = size();
 		this.x = (x + 0.5) * size;
-		this.y = y * size();
+		this.y = y * size;
 		this.z = (z + 0.5) * size;
 	}
 	
@@ -139,6 +154,15 @@ public class Tile3D extends GameThing implements Tile<HitBox3D, CollisionResult3
 		return this.collisionFaces;
 	}
 	
+	/**
+	 * Set every value of {@link #collisionFaces} from a bitmask
+	 *
+	 * @param faces The bitmask, where each bit, indexed by {@link Direction3D#i()}, is 1 if that face can be collided with
+	 */
+	public void setCollisionFaces(int faces){
+		for(int i = 0; i < this.collisionFaces.length; i++) this.collisionFaces[i] = (faces & (1 << i)) != 0;
+	}
+	
 	/**
 	 * @param face The face which is being checked
 	 * @return true if this tile can collide with things on the given face, false otherwise
@@ -1,5 +1,6 @@
 package zgame.things.still.tiles;
 
+import zgame.core.graphics.ZColor;
 import zgame.physics.collision.CollisionResult3D;
 import zgame.physics.material.Material;
 import zgame.things.type.bounds.HitBox3D;
@@ -19,4 +20,13 @@ public abstract class TileType3D extends TileType<HitBox3D, Tile3D, TileHitbox3D
 		super(id, origin, hitbox, material);
 	}
 	
+	/**
+	 * Get the color used for every face of this tile when it is drawn as part of the mesh of a chunk of tiles, rather than being rendered on its own
+	 *
+	 * @return The color, or null if this tile cannot be drawn in a mesh, and must be rendered on its own. null by default
+	 */
+	public ZColor getMeshColor(){
+		return null;
+	}
+	
 }
@@ -5,6 +5,7 @@ import zgame.core.file.Saveable;
 import zgame.core.graphics.Destroyable;
 import zgame.core.graphics.Renderer;
 import zgame.things.Tag;
+import zgame.world.RoomSnapshot;
 
 import java.util.Arrays;
 import java.util.HashSet;
@@ -12,12 +13,12 @@ import java.util.HashSet;
 /** An object which exists in the game */
 public abstract class GameThing implements Comparable<GameThing>, Saveable, Destroyable{
 	
-	/** Any arbitrary fields associated with this {@link GameThing} */
-	private final HashSet<Tag> tags;
+	/** Any arbitrary fields associated with this {@link GameThing}, or null if no tags have been added yet. Only created when needed, as most things never get tags */
+	private HashSet<Tag> tags;
 	
 	/** Create an empty {@link GameThing} */
 	public GameThing(){
-		this.tags = new HashSet<>();
+		this.tags = null;
 	}
 	
 	/** Override this method if this {@link GameThing} uses any resources that must be freed when it is no longer in use */
@@ -57,6 +58,34 @@ public abstract class GameThing implements Comparable<GameThing>, Saveable, Dest
 		return true;
 	}
 	
+	/**
+	 * @return The number of values this {@link GameThing} stores in a {@link RoomSnapshot} with {@link #captureRenderState(double[], int)}.
+	 * 		Override when overriding {@link #captureRenderState(double[], int)}, adding to the value of the super class.
+	 * 		0 by default
+	 */
+	public int getRenderStateSize(){
+		return 0;
+	}
+	
+	/**
+	 * Store everything that {@link #render(Game, Renderer)} and {@link #shouldRender(Game, Renderer)} read which can be changed by a tick.
+	 * Must only be called by the thread which ticks the room of this thing. Does nothing by default, override to store more values after the values of the super class
+	 *
+	 * @param state The array to store the values in
+	 * @param offset The index of state to store the first value at. Exactly {@link #getRenderStateSize()} values must be stored from this index
+	 */
+	public void captureRenderState(double[] state, int offset){}
+	
+	/**
+	 * Give this {@link GameThing} the values stored by {@link #captureRenderState(double[], int)}, so that they will be used by the next call to
+	 * {@link #render(Game, Renderer)}. Must only be called by the rendering thread. Does nothing by default, override to read the values stored by
+	 * {@link #captureRenderState(double[], int)}
+	 *
+	 * @param state The array holding the values
+	 * @param offset The index of state which holds the first value
+	 */
+	public void applyRenderState(double[] state, int offset){}
+	
 	/**
 	 * Called any time this game thing is removed from a room, does nothing by default, override to provide custom behavior
 	 * @param game The game where the removal took place, the room will be the current room of the game's play state
@@ -97,7 +126,7 @@ public abstract class GameThing implements Comparable<GameThing>, Saveable, Dest
 	 * @return true if it has the tag, false otherwise
 	 */
 	public boolean hasTag(Tag tag){
-		return this.tags.contains(tag);
+		return this.tags != null && this.tags.contains(tag);
 	}
 	
 	/**
@@ -106,6 +135,7 @@ public abstract class GameThing implements Comparable<GameThing>, Saveable, Dest
 	 * @param tags The tags
 	 */
 	public void addTags(Tag... tags){
+		if(this.tags == null) this.tags = new HashSet<>();
 		this.tags.addAll(Arrays.asList(tags));
 	}
 	
@@ -115,6 +145,7 @@ public abstract class GameThing implements Comparable<GameThing>, Saveable, Dest
 	 * @param tags The tags
 	 */
 	public void removeTags(Tag... tags){
+		if(this.tags == null) return;
 		for(var tag : tags) this.tags.remove(tag);
 	}
 	
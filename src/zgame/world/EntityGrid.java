@@ -0,0 +1,376 @@
+package zgame.world;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * A uniform grid, stored as a spatial hash, used as a broadphase for finding which entities in a {@link Room} could be touching each other.
+ * Each entity is stored in every cell which its axis aligned bounding box overlaps, so only entities which share at least one cell need to be checked against each other.
+ * 2D rooms only use the cells where the z coordinate is 0
+ *
+ * @param <E> The type of thing stored in this grid
+ */
+public class EntityGrid<E>{
+	
+	/** The default value for {@link #cellSize} */
+	public static final double DEFAULT_CELL_SIZE = 1;
+	
+	/**
+	 * The number of bits used to store each axis of a cell coordinate in a key of {@link #cells}. Cells further apart than this many bits can have the same key,
+	 * so cells with the same key are chained together, see {@link Cell#next}
+	 */
+	private static final int KEY_BITS = 21;
+	/** A mask for the lower {@link #KEY_BITS} bits of an int */
+	private static final long KEY_MASK = (1L << KEY_BITS) - 1;
+	
+	/** The size of each cell on every axis, in game units */
+	private final double cellSize;
+	
+	/** The inverse of {@link #cellSize} */
+	private final double inverseCellSize;
+	
+	/**
+	 * Every cell which currently holds at least one thing, mapped by the packed coordinates of the cell. The mapped cell is the first of the chain of every cell with that key,
+	 * see {@link #findCell(long, int, int, int)}
+	 */
+	private final Map<Long, Cell<E>> cells;
+	
+	/** The number of cells which currently hold at least one thing */
+	private int cellCount;
+	
+	/** The entry for every thing in this grid, mapped by the thing itself */
+	private final Map<E, Entry<E>> entries;
+	
+	/** Cells which have been emptied, kept so that they can be reused rather than reallocated */
+	private final ArrayList<Cell<E>> unusedCells;
+	
+	/**
+	 * Create a new empty grid
+	 *
+	 * @param cellSize See {@link #cellSize}
+	 */
+	public EntityGrid(double cellSize){
+		this.cellSize = cellSize;
+		this.inverseCellSize = 1.0 / cellSize;
+		this.cells = new HashMap<>();
+		this.cellCount = 0;
+		this.entries = new IdentityHashMap<>();
+		this.unusedCells = new ArrayList<>();
+	}
+	
+	/** @return See {@link #cellSize} */
+	public double getCellSize(){
+		return this.cellSize;
+	}
+	
+	/** @return The number of things currently in this grid */
+	public int size(){
+		return this.entries.size();
+	}
+	
+	/** @return The number of cells which currently hold at least one thing */
+	public int cellCount(){
+		return this.cellCount;
+	}
+	
+	/**
+	 * @param thing The thing to look for
+	 * @return true if the thing is in this grid, false otherwise
+	 */
+	public boolean contains(E thing){
+		return this.entries.containsKey(thing);
+	}
+	
+	/**
+	 * Find the index of the cell containing the given coordinate
+	 *
+	 * @param pos The coordinate on any axis
+	 * @return The cell index
+	 */
+	public int cellIndex(double pos){
+		return (int)Math.floor(pos * this.inverseCellSize);
+	}
+	
+	/**
+	 * Add the given thing to this grid, or update the cells it is in if it is already in this grid.
+	 * If the bounds still cover the same cells as the last update, then nothing happens
+	 *
+	 * @param thing The thing to update
+	 * @param minX The minimum x coordinate of the bounding box of thing
+	 * @param minY The minimum y coordinate of the bounding box of thing
+	 * @param minZ The minimum z coordinate of the bounding box of thing
+	 * @param maxX The maximum x coordinate of the bounding box of thing
+	 * @param maxY The maximum y coordinate of the bounding box of thing
+	 * @param maxZ The maximum z coordinate of the bounding box of thing
+	 */
+	public void update(E thing, double minX, double minY, double minZ, double maxX, double maxY, double maxZ){
+		int cMinX = this.cellIndex(minX);
+		int cMinY = this.cellIndex(minY);
+		int cMinZ = this.cellIndex(minZ);
+		int cMaxX = this.cellIndex(maxX);
+		int cMaxY = this.cellIndex(maxY);
+		int cMaxZ = this.cellIndex(maxZ);
+		
+		var entry = this.entries.get(thing);
+		if(entry == null){
+			entry = new Entry<>(thing);
+			this.entries.put(thing, entry);
+		}
+		// Nothing to do if the thing is still in the same cells
+		else if(entry.sameRange(cMinX, cMinY, cMinZ, cMaxX, cMaxY, cMaxZ)) return;
+		else this.removeFromCells(entry);
+		
+		entry.setRange(cMinX, cMinY, cMinZ, cMaxX, cMaxY, cMaxZ);
+		for(int x = cMinX; x <= cMaxX; x++){
+			for(int y = cMinY; y <= cMaxY; y++){
+				for(int z = cMinZ; z <= cMaxZ; z++){
+					long key = key(x, y, z);
+					var cell = this.findCell(key, x, y, z);
+					if(cell == null){
+						cell = this.unusedCells.isEmpty() ? new Cell<>() : this.unusedCells.remove(this.unusedCells.size() - 1);
+						cell.x = x;
+						cell.y = y;
+						cell.z = z;
+						// Put the new cell at the start of the chain of its key
+						cell.next = this.cells.put(key, cell);
+						this.cellCount++;
+					}
+					cell.entries.add(entry);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Remove the given thing from this grid
+	 *
+	 * @param thing The thing to remove
+	 * @return true if the thing was removed, false if it was not in this grid
+	 */
+	public boolean remove(E thing){
+		var entry = this.entries.remove(thing);
+		if(entry == null) return false;
+		this.removeFromCells(entry);
+		return true;
+	}
+	
+	/** Remove everything from this grid */
+	public void clear(){
+		for(var c : this.cells.values()){
+			while(c != null){
+				var next = c.next;
+				c.entries.clear();
+				c.next = null;
+				this.unusedCells.add(c);
+				c = next;
+			}
+		}
+		this.cells.clear();
+		this.cellCount = 0;
+		this.entries.clear();
+	}
+	
+	/**
+	 * Remove the given entry from every cell it is currently in
+	 *
+	 * @param entry The entry to remove
+	 */
+	private void removeFromCells(Entry<E> entry){
+		for(int x = entry.minX; x <= entry.maxX; x++){
+			for(int y = entry.minY; y <= entry.maxY; y++){
+				for(int z = entry.minZ; z <= entry.maxZ; z++){
+					long key = key(x, y, z);
+					var cell = this.findCell(key, x, y, z);
+					if(cell == null) continue;
+					
+					// Order in a cell doesn't matter, so swap the last element into the removed spot
+					var list = cell.entries;
+					int index = list.indexOf(entry);
+					if(index < 0) continue;
+					int last = list.size() - 1;
+					list.set(index, list.get(last));
+					list.remove(last);
+					
+					if(list.isEmpty()) this.removeCell(key, cell);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Find the cell at the given coordinates
+	 *
+	 * @param key The key of the cell, from {@link #key(int, int, int)}
+	 * @param x The x cell index
+	 * @param y The y cell index
+	 * @param z The z cell index
+	 * @return The cell, or null if no thing is in that cell
+	 */
+	private Cell<E> findCell(long key, int x, int y, int z){
+		var cell = this.cells.get(key);
+		while(cell != null && (cell.x != x || cell.y != y || cell.z != z)) cell = cell.next;
+		return cell;
+	}
+	
+	/**
+	 * Take an empty cell out of the chain of its key, and keep it to be reused
+	 *
+	 * @param key The key of the cell
+	 * @param cell The cell
+	 */
+	private void removeCell(long key, Cell<E> cell){
+		var first = this.cells.get(key);
+		if(first == cell){
+			if(cell.next == null) this.cells.remove(key);
+			else this.cells.put(key, cell.next);
+		}
+		else{
+			var prev = first;
+			while(prev.next != cell) prev = prev.next;
+			prev.next = cell.next;
+		}
+		cell.next = null;
+		this.cellCount--;
+		this.unusedCells.add(cell);
+	}
+	
+	/**
+	 * Call the given function on every unique pair of things in this grid which share at least one cell.
+	 * Each pair is given exactly once, no matter how many cells the two things share, and a thing is never paired with itself
+	 *
+	 * @param func The function to call, accepting both things of the pair
+	 */
+	public void forEachPair(BiConsumer<E, E> func){
+		for(var first : this.cells.values()){
+			for(var cell = first; cell != null; cell = cell.next){
+				var list = cell.entries;
+				int size = list.size();
+				for(int i = 0; i < size; i++){
+					var a = list.get(i);
+					for(int j = i + 1; j < size; j++){
+						var b = list.get(j);
+						if(cell.isFirstShared(a, b)) func.accept(a.thing, b.thing);
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Call the given function on every thing which shares at least one cell with the given thing.
+	 * Each thing is given exactly once, and the given thing is never given to the function
+	 *
+	 * @param thing The thing to find the neighbors of. Does nothing if this thing is not in this grid
+	 * @param func The function to call on each neighbor
+	 */
+	public void forEachNearby(E thing, Consumer<E> func){
+		var entry = this.entries.get(thing);
+		if(entry == null) return;
+		for(int x = entry.minX; x <= entry.maxX; x++){
+			for(int y = entry.minY; y <= entry.maxY; y++){
+				for(int z = entry.minZ; z <= entry.maxZ; z++){
+					var cell = this.findCell(key(x, y, z), x, y, z);
+					if(cell == null) continue;
+					var list = cell.entries;
+					for(int i = 0; i < list.size(); i++){
+						var other = list.get(i);
+						if(other != entry && cell.isFirstShared(entry, other)) func.accept(other.thing);
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Pack the given cell coordinates into a single key for {@link #cells}. Only the lowest {@link #KEY_BITS} of each coordinate are used, so distant cells can share a key
+	 *
+	 * @param x The x cell index
+	 * @param y The y cell index
+	 * @param z The z cell index
+	 * @return The key
+	 */
+	private static long key(int x, int y, int z){
+		return ((x & KEY_MASK) << (KEY_BITS * 2)) | ((y & KEY_MASK) << KEY_BITS) | (z & KEY_MASK);
+	}
+	
+	/**
+	 * The data tracked for a single thing in the grid
+	 *
+	 * @param <E> The type of thing
+	 */
+	private static class Entry<E>{
+		/** The thing of this entry */
+		private final E thing;
+		/** The minimum x cell index which the thing is in */
+		private int minX;
+		/** The minimum y cell index which the thing is in */
+		private int minY;
+		/** The minimum z cell index which the thing is in */
+		private int minZ;
+		/** The maximum x cell index which the thing is in */
+		private int maxX;
+		/** The maximum y cell index which the thing is in */
+		private int maxY;
+		/** The maximum z cell index which the thing is in */
+		private int maxZ;
+		
+		/**
+		 * Create a new entry which is not yet in any cells
+		 *
+		 * @param thing See {@link #thing}
+		 */
+		private Entry(E thing){
+			this.thing = thing;
+		}
+		
+		/** @return true if the given cell range is the same as the range of this entry, false otherwise */
+		private boolean sameRange(int minX, int minY, int minZ, int maxX, int maxY, int maxZ){
+			return this.minX == minX && this.minY == minY && this.minZ == minZ && this.maxX == maxX && this.maxY == maxY && this.maxZ == maxZ;
+		}
+		
+		/** Set the range of cells this entry is in */
+		private void setRange(int minX, int minY, int minZ, int maxX, int maxY, int maxZ){
+			this.minX = minX;
+			this.minY = minY;
+			this.minZ = minZ;
+			this.maxX = maxX;
+			this.maxY = maxY;
+			this.maxZ = maxZ;
+		}
+	}
+	
+	/**
+	 * A single cell of the grid
+	 *
+	 * @param <E> The type of thing in the cell
+	 */
+	private static class Cell<E>{
+		/** The x index of this cell */
+		private int x;
+		/** The y index of this cell */
+		private int y;
+		/** The z index of this cell */
+		private int z;
+		/** The next cell with the same key in {@link EntityGrid#cells}, or null if this is the last one */
+		private Cell<E> next;
+		/** Every entry in this cell, in no particular order */
+		private final ArrayList<Entry<E>> entries = new ArrayList<>();
+		
+		/**
+		 * Determine if this cell is the first cell shared by both of the given entries, i.e. the cell at the minimum corner of the overlap of their cell ranges.
+		 * Only one cell can be the first shared cell, which is used to make sure a pair is only found once
+		 *
+		 * @param a The first entry
+		 * @param b The second entry
+		 * @return true if this is the first shared cell, false otherwise
+		 */
+		private boolean isFirstShared(Entry<E> a, Entry<E> b){
+			return this.x == Math.max(a.minX, b.minX) && this.y == Math.max(a.minY, b.minY) && this.z == Math.max(a.minZ, b.minZ);
+		}
+	}
+	
+}
@@ -8,6 +8,7 @@ import zgame.core.GameTickable;
 import zgame.core.graphics.Renderer;
 import zgame.core.utils.ClassMappedList;
 import zgame.core.utils.NotNullList;
+import zgame.core.utils.TripleBuffer;
 import zgame.physics.ZVector;
 import zgame.physics.collision.CollisionResult;
 import zgame.things.entity.EntityThing;
@@ -42,6 +43,15 @@ public abstract class Room<
 	/** A list of things to do the next time this room is ticked. Once the tick happens, this list will be emptied */
 	private final List<Runnable> nextTickFuncs;
 	
+	/** The broadphase used to find which entities in this room could be colliding with each other */
+	private final EntityGrid<E> entityGrid;
+	
+	/** The snapshots of this room passed from the thread which ticks this room to the thread which renders it, see {@link #publishSnapshot()} */
+	private final TripleBuffer<RoomSnapshot> snapshots;
+	
+	/** The number of snapshots which have been published by {@link #publishSnapshot()} */
+	private long snapshotCount;
+	
 	/**
 	 * Create a new empty {@link Room}
 	 */
@@ -54,6 +64,9 @@ public abstract class Room<
 		
 		this.thingsToRemove = new ArrayList<>();
 		this.nextTickFuncs = new ArrayList<>();
+		this.entityGrid = new EntityGrid<>(this.getEntityGridCellSize());
+		this.snapshots = new TripleBuffer<>(RoomSnapshot::new);
+		this.snapshotCount = 0;
 	}
 	
 	@Override
@@ -81,7 +94,7 @@ public abstract class Room<
 	 * @param uuid The uuid of the entity to get
 	 * @return The entity, or null if no entity with that uuid exists in this room
 	 */
-	public E getEntity(String uuid){
+	public E getEntity(long uuid){
 		return this.thingsMap.getMap(this.getEntityClass()).get(uuid);
 	}
 	
@@ -101,13 +114,35 @@ public abstract class Room<
 	/** @return The type of entities used by this class */
 	public abstract Class<E> getEntityClass();
 	
+	/** @return See {@link #entityGrid} */
+	public EntityGrid<E> getEntityGrid(){
+		return this.entityGrid;
+	}
+	
+	/**
+	 * @return The size of a single cell of {@link #entityGrid}. Should be around the size of a typical entity.
+	 * 		Defaults to {@link EntityGrid#DEFAULT_CELL_SIZE}, override to provide a custom value
+	 */
+	public double getEntityGridCellSize(){
+		return EntityGrid.DEFAULT_CELL_SIZE;
+	}
+	
+	/**
+	 * Update the cells of {@link #entityGrid} which the given entity is in, based on the current bounds of the entity
+	 *
+	 * @param entity The entity to update
+	 */
+	public abstract void updateEntityGrid(E entity);
+	
 	/**
 	 * Add a {@link GameThing} to this {@link Room}
 	 *
 	 * @param thing The {@link GameThing} to add
 	 */
 	public void addThing(GameThing thing){
-		this.thingsMap.add(thing);
+		if(!this.thingsMap.add(thing)) return;
+		var entityClass = this.getEntityClass();
+		if(entityClass.isInstance(thing)) this.updateEntityGrid(entityClass.cast(thing));
 	}
 	
 	/**
@@ -128,89 +163,35 @@ public abstract class Room<
 	public abstract C collide(H obj);
 	
 	/**
-	 * Collide the given {@link EntityThing} with the entities in the given room
+	 * Collide the given {@link EntityThing} with the entities in this room which share a cell of {@link #entityGrid} with it.
+	 * {@link #tick(Game, double)} does not use this method, it uses {@link #checkEntityCollisions(Game, double)} to check each pair of entities only once
 	 *
 	 * @param game The game with the current room to collide with
 	 * @param checkEntity The entity to check collision for
 	 * @param dt The amount of time, in seconds, which passed in the tick where this collision took place
 	 */
 	public void checkEntityCollisions(Game game, E checkEntity, double dt){
-		// issue#21 make this more efficient by reducing redundant checks, and not doing the same collision calculation for each pair of entities
-		// Probably just rewrite the actual entity collision outside of on intersection, the commented out code is copied and modified from the EntityThing class, which was originally just for 2D
-		
-		// Check any stored entities, and remove them if they are not intersecting or are not in the room
-//		ArrayList<String> toRemove = new ArrayList<>(checkEntity.collidingUuids.size());
-//		for(String eUuid : checkEntity.collidingUuids){
-//			var e = room.getEntity(eUuid);
-//			if(e == null || !checkEntity,get().intersects(e.get())) toRemove.add(eUuid);
-//		}
-//		for(String uuid : toRemove){
-//			checkEntity.collidingUuids.remove(uuid);
-//
-//			// Set the velocity so that it will move the entity an amount to cancel out the current force applied on the next tick, then remove the force on the next tick
-//			var removed = checkEntity.removeForce(uuid);
-//			if(removed != null) checkEntity.addVelocity(removed.scale(-dt / checkEntity.getMass()));
-//		}
-		// Get all entities
-		var entities = this.getEntities();
-		
-		// Iterate through all entities, ignoring the given entity, and find the ones intersecting the given entity
-		for(int i = 0; i < entities.size(); i++){
-			var e = entities.get(i);
-			if(e == checkEntity || !checkEntity.get().intersects(e.get())) continue;
-			checkEntity.checkEntityCollision(game, e, dt);
-
-//			// If they intersect, determine the force they should have against each other, and apply it to both entities
-//			String eUuid = e.getUuid();
-//			ZPoint checkEntityP = new ZPoint(checkEntity.centerX(), checkEntity.maxY());
-//			ZPoint eP = new ZPoint(e.centerX(), e.maxY());
-//			// Find the distance between the center bottom of the entities, to determine how much force should be applied
-//			double dist = checkEntityP.distance(eP);
-//
-//			// Find a distance where, if the bottom centers of the entities are further than checkEntity distance, they are definitely not intersecting
-//			double maxDist = (checkEntity.getWidth() + checkEntity.getHeight() + e.getWidth() + e.getHeight()) * .5;
-//			// The maximum amount of force that can be applied
-//			double maxMag = (checkEntity.getForce().getMagnitude() + e.getForce().getMagnitude());
-//
-//			// In the equation f(x) = mx^2 + b, so that f(x) = 0 is the maximum amount of force, and 0 = mx^2 + b is the maximum distance to use
-//			double b = maxMag;
-//			double m = b / (maxDist * maxDist);
-//
-//			// Use that equation to find the force
-//			double mag = m * dist * dist + b;
-//			double angle = ZMath.lineAngle(eP.getX(), eP.getY(), checkEntityP.getX(), checkEntityP.getY());
-//
-//			// Find the initial amount of force to set
-//			ZVector newForce = new ZVector(angle, mag, false);
-//
-//			// Apply most of the force as the x component, and less as the y component
-//			newForce = new ZVector(newForce.getX(), newForce.getY() * 0.1);
-//
-//			//issue#21
-//
-//			// Try keeping track of the total velocity an entity collision has added to another entity, and then remove that much velocity when the entities stop colliding
-//
-//			// If that amount of force would move the entity too far away, set it so that the entities will only be touching on the next tick
-//			// double xForce = newForce.getX();
-//			// double xMoved = xForce / checkEntity.getMass() * dt * dt;
-//			// double xDiff;
-//			// if(checkEntity.getX() < e.getX()) xDiff = Math.abs(checkEntity.getX() + checkEntity.getWidth() - e.getX());
-//			// else xDiff = Math.abs(e.getX() + e.getWidth() - checkEntity.getX());
-//			// if(ZMath.sameSign(xMoved, xDiff) && Math.abs(xMoved) > xDiff){
-//			// 	double newMoved = xMoved < 0 ? -xDiff : xDiff;
-//			// 	newForce = new ZVector(newMoved / (dt * dt) * checkEntity.getMass(), newForce.getY());
-//			// }
-//
-//			double limit = 10000;
-//			if(newForce.getX() > limit) newForce = new ZVector(limit, newForce.getY());
-//			else if(newForce.getX() < -limit) newForce = new ZVector(-limit, newForce.getY());
-//
-//			// Apply the force to both entities, not just the given entity
-//			checkEntity.setForce(eUuid, newForce);
-//			checkEntity.collidingUuids.add(eUuid);
-//			e.setForce(checkEntity.getUuid(), newForce.scale(-1));
-//			e.collidingUuids.add(checkEntity.getUuid());
-		}
+		this.entityGrid.forEachNearby(checkEntity, e -> {
+			if(checkEntity.get().intersects(e.get())) checkEntity.checkEntityCollision(game, e, dt);
+		});
+	}
+	
+	/**
+	 * Collide every entity in this room with every other entity it intersects.
+	 * Only entities which share a cell of {@link #entityGrid} are checked, and each pair is only checked for intersection once.
+	 * Entities with no clip enabled will not have their collision checked, but other entities can still collide with them
+	 *
+	 * @param game The game with the current room to collide with
+	 * @param dt The amount of time, in seconds, which passed in the tick where this collision took place
+	 */
+	public void checkEntityCollisions(Game game, double dt){
+		this.entityGrid.forEachPair((a, b) -> {
+			boolean checkA = !a.isNoClip();
+			boolean checkB = !b.isNoClip();
+			if(!checkA && !checkB || !a.get().intersects(b.get())) return;
+			if(checkA) a.checkEntityCollision(game, b, dt);
+			if(checkB) b.checkEntityCollision(game, a, dt);
+		});
 	}
 	
 	/**
@@ -243,21 +224,55 @@ public abstract class Room<
 		// Check the collision of this room for entities
 		for(int i = 0; i < entities.size(); i++){
 			var e = entities.get(i);
-			if(e.isNoClip()) continue;
 			// Check for tile collisions
-			this.collide(e.get());
+			if(!e.isNoClip()) this.collide(e.get());
 			
-			// Check for entity collision, and apply appropriate forces based on what is currently colliding
-			this.checkEntityCollisions(game, e, dt);
+			// Now that the entity is in its final position, update which entities it could be touching
+			this.updateEntityGrid(e);
 		}
 		
-		// Remove all things that need to be removed
-		for(GameThing thing : this.thingsToRemove) this.tickRemoveThing(game, thing);
+		// Check for entity collision, and apply appropriate forces based on what is currently colliding
+		this.checkEntityCollisions(game, dt);
+		
+		// Remove all things that need to be removed, only moving each list once
+		this.thingsMap.deferCompaction();
+		try{
+			for(GameThing thing : this.thingsToRemove) this.tickRemoveThing(game, thing);
+		}finally{
+			this.thingsMap.compact();
+		}
 		this.thingsToRemove.clear();
 		
 		// Run any functions which need to happen
 		for(int i = 0; i < this.nextTickFuncs.size(); i++) this.nextTickFuncs.get(i).run();
 		this.nextTickFuncs.clear();
+		
+		// Now that everything is updated, give the new state to the renderer
+		this.publishSnapshot();
+	}
+	
+	/**
+	 * Fill a {@link RoomSnapshot} with the current state of this room, and make it the one used by the next call to {@link #render(Game, Renderer)}.
+	 * Called at the end of {@link #tick(Game, double)}, must only be called by the thread which ticks this room
+	 */
+	public void publishSnapshot(){
+		this.snapshotCount++;
+		this.snapshots.getWriteBuffer().capture(this, this.snapshotCount);
+		this.snapshots.publish();
+	}
+	
+	/** @return See {@link #snapshotCount} */
+	public long getSnapshotCount(){
+		return this.snapshotCount;
+	}
+	
+	/**
+	 * Get the most recent snapshot of this room. Must only be called by the thread which renders this room
+	 *
+	 * @return The snapshot, which will not be changed until the next call to this method. Has a tick of 0 if no snapshot has been published yet
+	 */
+	public RoomSnapshot acquireSnapshot(){
+		return this.snapshots.acquire();
 	}
 	
 	/**
@@ -268,19 +283,24 @@ public abstract class Room<
 	 */
 	private void tickRemoveThing(Game game, GameThing thing){
 		this.thingsMap.remove(thing);
+		var entityClass = this.getEntityClass();
+		if(entityClass.isInstance(thing)) this.entityGrid.remove(entityClass.cast(thing));
 		thing.onRoomRemove(game);
 	}
 	
 	/**
-	 * Draw this {@link Room} to the given {@link Renderer}
+	 * Draw this {@link Room} to the given {@link Renderer}, using the things in the most recent {@link RoomSnapshot}, see {@link #publishSnapshot()}
 	 *
 	 * @param game The {@link Game} to draw this {@link Room} relative to
 	 * @param r The {@link Renderer} to draw this {@link Room} on
 	 */
 	public void render(Game game, Renderer r){
-		// Draw all the things
-		var things = this.getThings();
-		for(int i = 0; i < things.size(); i++) things.get(i).renderWithCheck(game, r);
+		// Before the first snapshot is published, the lists of this room can only be read by the tick thread, so nothing is drawn
+		var snapshot = this.acquireSnapshot();
+		if(snapshot.getTick() == 0) return;
+		
+		// Draw all the things as they were at the end of the last tick
+		for(int i = 0; i < snapshot.size(); i++) snapshot.apply(i).renderWithCheck(game, r);
 	}
 	
 	/**
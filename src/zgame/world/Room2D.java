@@ -215,11 +215,19 @@ public class Room2D extends Room<HitBox2D, EntityThing2D, ZVector2D, Room2D, Col
 	 * @param r The {@link Renderer} to draw this {@link Room} on
 	 */
 	public void render(Game game, Renderer r){
-		// Determine the indexes of the tiles that need to be rendered
-		int startX = Math.max(0, (int)Math.floor(game.getScreenLeft() / Tile2D.size()));
-		int endX = Math.min(this.getXTiles(), (int)Math.ceil(game.getScreenRight() / Tile2D.size()));
-		int startY = Math.max(0, (int)Math.floor(game.getScreenTop() / Tile2D.size()));
-		int endY = Math.min(this.getYTiles(), (int)Math.ceil(game.getScreenBottom() / Tile2D.size()));
+		// Determine the indexes of the tiles that can appear on the renderer, or every tile if the renderer cannot tell where it draws
+		int startX = 0;
+		int endX = this.getXTiles();
+		int startY = 0;
+		int endY = this.getYTiles();
+		var b = r.getTransformedRenderBounds();
+		if(b != null && r.isPositioningEnabled() && r.isRenderOnlyInside()){
+			double inverse = Tile2D.inverseSize();
+			startX = (int)Math.max(startX, Math.floor(b.getX() * inverse));
+			endX = (int)Math.min(endX, Math.ceil(b.getMaxX() * inverse));
+			startY = (int)Math.max(startY, Math.floor(b.getY() * inverse));
+			endY = (int)Math.min(endY, Math.ceil(b.getMaxY() * inverse));
+		}
 		// Draw all the tiles
 		for(int i = startX; i < endX; i++) for(int j = startY; j < endY; j++) this.tiles[i][j].renderWithCheck(game, r);
 		
@@ -496,4 +504,14 @@ public class Room2D extends Room<HitBox2D, EntityThing2D, ZVector2D, Room2D, Col
 	public Class<EntityThing2D> getEntityClass(){
 		return EntityThing2D.class;
 	}
+	
+	@Override
+	public double getEntityGridCellSize(){
+		return Tile2D.size();
+	}
+	
+	@Override
+	public void updateEntityGrid(EntityThing2D entity){
+		this.getEntityGrid().update(entity, entity.getX(), entity.getY(), 0, entity.maxX(), entity.maxY(), 0);
+	}
 }
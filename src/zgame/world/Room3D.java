@@ -17,6 +17,7 @@ import zgame.things.type.bounds.RectPrismBounds;
 import static zgame.world.Direction3D.*;
 
 import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /** A {@link Room} which is made of 3D tiles */
 public class Room3D extends Room<HitBox3D, EntityThing3D, ZVector3D, Room3D, CollisionResult3D> implements RectPrismBounds{
@@ -27,30 +28,42 @@ public class Room3D extends Room<HitBox3D, EntityThing3D, ZVector3D, Room3D, Col
 	/** An array of 6 elements representing how far along each axis the boundary exists from the origin (0, 0, 0) */
 	private final double[] boundarySizes;
 	
-	// issue#51 should tiles be able to go into the negatives? Or have a Minecraft like "chunk" system? Need to decide after getting a minimal implementation working
-	
 	/** All tiles which are used by this room */
-	private Tile3D[][][] tiles;
+	private TileStorage3D tiles;
+	
+	/** The meshes used to render {@link #tiles}. Replaced by the thread which ticks this room, and read by the thread which renders it */
+	private volatile TileMesher3D mesher;
+	
+	/** Every mesher which was used before {@link #tiles} was replaced, kept so that their resources can be freed on the thread which renders this room */
+	private final ConcurrentLinkedQueue<TileMesher3D> replacedMeshers;
+	
+	/** The number of calls to {@link #beginTileEdit()} which have not yet had a matching call to {@link #commitTileEdit()} */
+	private int editDepth;
 	
-	/** The number of tiles in the x axis in the room */
-	private int tilesX;
+	/** The indexes of every tile changed since the current batch of edits began, 3 ints per tile, the x, y, and z index. See {@link #beginTileEdit()} */
+	private int[] editedTiles;
 	
-	/** The number of tiles in the y axis in the room */
-	private int tilesY;
+	/** The number of values used in {@link #editedTiles} */
+	private int editedCount;
 	
-	/** The number of tiles in the z axis in the room */
-	private int tilesZ;
+	/** A tile reused as a view of the tiles in {@link #tiles} during collision. Only use on the thread which ticks this room */
+	private final Tile3D tickTileView;
 	
 	/**
 	 * Create a new empty room in 3D space with the given tile size
 	 *
-	 * @param tilesX See {@link #tilesX}
-	 * @param tilesY See {@link #tilesY}
-	 * @param tilesZ See {@link #tilesZ}
+	 * @param tilesX The number of tiles in the x axis in the room
+	 * @param tilesY The number of tiles in the y axis in the room
+	 * @param tilesZ The number of tiles in the z axis in the room
 	 */
 	public Room3D(int tilesX, int tilesY, int tilesZ){
 		super();
 		this.enabledBoundaries = new boolean[6];
+		this.tickTileView = new Tile3D(0, 0, 0);
+		this.editDepth = 0;
+		this.editedTiles = new int[3 * 64];
+		this.editedCount = 0;
+		this.replacedMeshers = new ConcurrentLinkedQueue<>();
 		this.initTiles(tilesX, tilesY, tilesZ, BaseTiles3D.AIR);
 		
 		this.setAllBoundaries(true);
@@ -61,7 +74,7 @@ public class Room3D extends Room<HitBox3D, EntityThing3D, ZVector3D, Room3D, Col
 	}
 	
 	/**
-	 * Initialize {@link #tiles} to the given size
+	 * Initialize {@link #tiles} to the given size, where the tile indexes start at 0
 	 *
 	 * @param xTiles The number of tiles on the x axis
 	 * @param yTiles The number of tiles on the y axis
@@ -69,23 +82,55 @@ public class Room3D extends Room<HitBox3D, EntityThing3D, ZVector3D, Room3D, Col
 	 * @param t The type for every tile
 	 */
 	public void initTiles(int xTiles, int yTiles, int zTiles, TileType3D t){
-		this.tilesX = xTiles;
-		this.tilesY = yTiles;
-		this.tilesZ = zTiles;
-		
-		this.tiles = new Tile3D[xTiles][yTiles][zTiles];
-		for(int x = 0; x < xTiles; x++){
-			for(int y = 0; y < yTiles; y++){
-				for(int z = 0; z < zTiles; z++){
-					this.setTile(x, y, z, t, true);
-				}
-			}
-		}
-		// Now compute all tile data once per tile
-		for(int x = 0; x < xTiles; x++){
-			for(int y = 0; y < yTiles; y++){
-				for(int z = 0; z < zTiles; z++){
-					this.computeTileData(x, y, z);
+		this.initTiles(0, 0, 0, xTiles, yTiles, zTiles, t);
+	}
+	
+	/**
+	 * Initialize {@link #tiles} to the given size, where the tile indexes start at the given minimum indexes, which can be negative
+	 *
+	 * @param minX The minimum tile index on the x axis
+	 * @param minY The minimum tile index on the y axis
+	 * @param minZ The minimum tile index on the z axis
+	 * @param xTiles The number of tiles on the x axis
+	 * @param yTiles The number of tiles on the y axis
+	 * @param zTiles The number of tiles on the z axis
+	 * @param t The type for every tile
+	 */
+	public void initTiles(int minX, int minY, int minZ, int xTiles, int yTiles, int zTiles, TileType3D t){
+		this.tiles = new TileStorage3D(minX, minY, minZ, xTiles, yTiles, zTiles);
+		if(this.mesher != null) this.replacedMeshers.add(this.mesher);
+		this.mesher = new TileMesher3D(this.tiles);
+		
+		// Any edits waiting for a commit were for the old tiles
+		this.editedCount = 0;
+		
+		// Every tile starts as air, so nothing else needs to happen when filling with air
+		if(this.tiles.typeId(t) == TileStorage3D.AIR_ID) return;
+		
+		/*
+		 Every tile has the same type, so the faces of each tile can be found directly, without looking at its neighbors,
+		 allowing the types and faces to be set in one pass
+		 */
+		var hitbox = t.getHitbox();
+		int innerFaces = TileStorage3D.NO_FACES;
+		for(var d : Direction3D.values()) if(!hitbox.canCollide(d)) innerFaces |= 1 << d.i();
+		
+		int maxX = this.getMaxTileX();
+		int maxY = this.getMaxTileY();
+		int maxZ = this.getMaxTileZ();
+		for(int x = minX; x <= maxX; x++){
+			for(int y = minY; y <= maxY; y++){
+				for(int z = minZ; z <= maxZ; z++){
+					// Faces on the edge of the grid have no tile next to them, so they can always collide
+					int faces = innerFaces;
+					if(x == minX) faces |= 1 << EAST.i();
+					if(x == maxX) faces |= 1 << WEST.i();
+					if(y == minY) faces |= 1 << DOWN.i();
+					if(y == maxY) faces |= 1 << UP.i();
+					if(z == minZ) faces |= 1 << SOUTH.i();
+					if(z == maxZ) faces |= 1 << NORTH.i();
+					this.tiles.setType(x, y, z, t);
+					this.tiles.setFaces(x, y, z, faces);
 				}
 			}
 		}
@@ -204,14 +249,14 @@ public class Room3D extends Room<HitBox3D, EntityThing3D, ZVector3D, Room3D, Col
 	public void setTileBoundaries(){
 		double tileSize = Tile3D.size();
 		
-		this.setBoundary(WEST, tileSize * this.getTilesX());
-		this.setBoundary(EAST, 0);
+		this.setBoundary(WEST, tileSize * (this.getMaxTileX() + 1));
+		this.setBoundary(EAST, -tileSize * this.getMinTileX());
 		
-		this.setBoundary(NORTH, tileSize * this.getTilesZ());
-		this.setBoundary(SOUTH, 0);
+		this.setBoundary(NORTH, tileSize * (this.getMaxTileZ() + 1));
+		this.setBoundary(SOUTH, -tileSize * this.getMinTileZ());
 		
-		this.setBoundary(UP, tileSize * this.getTilesY());
-		this.setBoundary(DOWN, 0);
+		this.setBoundary(UP, tileSize * (this.getMaxTileY() + 1));
+		this.setBoundary(DOWN, -tileSize * this.getMinTileY());
 	}
 	
 	/**
@@ -241,20 +286,46 @@ public class Room3D extends Room<HitBox3D, EntityThing3D, ZVector3D, Room3D, Col
 		this.setEqualSize(NORTH, SOUTH, length);
 	}
 	
+	/** Also rebuilds the meshes of every chunk with changed tiles, so that the tiles are only read by the thread which ticks this room */
+	@Override
+	public void publishSnapshot(){
+		this.mesher.update();
+		super.publishSnapshot();
+	}
+	
 	@Override
 	public void render(Game game, Renderer r){
-		// issue#52 make a way to efficiently render tiles, i.e. only render the ones that need to be rendered
-		for(int x = 0; x < this.tilesX; x++){
-			for(int y = 0; y < this.tilesY; y++){
-				for(int z = 0; z < this.tilesZ; z++){
-					this.tiles[x][y][z].render(game, r);
-				}
-			}
+		this.destroyReplacedMeshers();
+		
+		// The meshes are built when a tick ends, so only take the ones which changed, without reading the tiles
+		var mesher = this.mesher;
+		mesher.upload();
+		int chunks = mesher.getChunkCount();
+		for(int c = 0; c < chunks; c++){
+			var mesh = mesher.getMesh(c);
+			if(mesh == null) continue;
+			r.drawColorMesh(mesh);
+			
+			// Any tiles which cannot be part of a mesh are drawn on their own
+			for(var tile : mesher.getUnmeshedTiles(c)) tile.render(game, r);
 		}
 		
 		super.render(game, r);
 	}
 	
+	@Override
+	public void destroy(){
+		super.destroy();
+		this.mesher.destroy();
+		this.destroyReplacedMeshers();
+	}
+	
+	/** Free the resources of every mesher in {@link #replacedMeshers}. Must only be called by the thread which renders this room */
+	private void destroyReplacedMeshers(){
+		TileMesher3D replaced;
+		while((replaced = this.replacedMeshers.poll()) != null) replaced.destroy();
+	}
+	
 	@Override
 	public CollisionResult3D collide(HitBox3D obj){
 		boolean wasOnGround = obj.isOnGround();
@@ -269,23 +340,26 @@ public class Room3D extends Room<HitBox3D, EntityThing3D, ZVector3D, Room3D, Col
 		double wallAngle = 0;
 		Material material = null;
 		double tileSize = Tile3D.size();
-		int tilesX = this.getTilesX() - 1;
-		int tilesY = this.getTilesY() - 1;
-		int tilesZ = this.getTilesZ() - 1;
+		int minTileX = this.getMinTileX();
+		int minTileY = this.getMinTileY();
+		int minTileZ = this.getMinTileZ();
+		int maxTileX = this.getMaxTileX();
+		int maxTileY = this.getMaxTileY();
+		int maxTileZ = this.getMaxTileZ();
 		
-		int minX = (int)ZMath.minMax(0, tilesX, Math.floor(obj.minX() / tileSize));
-		int maxX = (int)ZMath.minMax(0, tilesX, Math.floor(obj.maxX() / tileSize));
-		int minY = (int)ZMath.minMax(0, tilesY, Math.floor(obj.minY() / tileSize));
-		int maxY = (int)ZMath.minMax(0, tilesY, Math.floor(obj.maxY() / tileSize));
-		int minZ = (int)ZMath.minMax(0, tilesZ, Math.floor(obj.minZ() / tileSize));
-		int maxZ = (int)ZMath.minMax(0, tilesZ, Math.floor(obj.maxZ() / tileSize));
+		int minX = (int)ZMath.minMax(minTileX, maxTileX, Math.floor(obj.minX() / tileSize));
+		int maxX = (int)ZMath.minMax(minTileX, maxTileX, Math.floor(obj.maxX() / tileSize));
+		int minY = (int)ZMath.minMax(minTileY, maxTileY, Math.floor(obj.minY() / tileSize));
+		int maxY = (int)ZMath.minMax(minTileY, maxTileY, Math.floor(obj.maxY() / tileSize));
+		int minZ = (int)ZMath.minMax(minTileZ, maxTileZ, Math.floor(obj.minZ() / tileSize));
+		int maxZ = (int)ZMath.minMax(minTileZ, maxTileZ, Math.floor(obj.maxZ() / tileSize));
+		var view = this.tickTileView;
 		
 		// Go through each horizontal layer, and if any y movement happens on that layer, it should override any xz plane movement
 		for(int y = minY; y <= maxY; y++){
 			for(int x = minX; x <= maxX; x++){
 				for(int z = minZ; z <= maxZ; z++){
-					var t = this.tiles[x][y][z];
-					var res = t.collide(obj);
+					var res = this.viewTile(view, x, y, z).collide(obj);
 					
 					// Keep track of if a tile was touched
 					boolean currentCollided = res.x() != 0 || res.y() != 0 || res.z() != 0;
@@ -481,16 +555,13 @@ public class Room3D extends Room<HitBox3D, EntityThing3D, ZVector3D, Room3D, Col
 		boolean zPositive = dz > 0;
 		
 		// Continue to go through tiles until the max click range is hit
+		var view = new Tile3D(0, 0, 0);
 		double distanceTravelled = 0;
 		while(distanceTravelled < maxDistance){
 			double tileDistance;
 			// If all indexes are inside the range of the tiles, then find the intersection distance to the tile
-			if(
-					ZMath.in(0, tx, this.getTilesX() - 1) &&
-					ZMath.in(0, ty, this.getTilesY() - 1) &&
-					ZMath.in(0, tz, this.getTilesZ() - 1)
-			){
-				var t = this.tiles[tx][ty][tz];
+			if(this.tiles.inBounds(tx, ty, tz)){
+				var t = this.viewTile(view, tx, ty, tz);
 				tileDistance = t.getType().getHitbox().clickDistance(t, clicker);
 			}
 			else tileDistance = -1;
@@ -541,31 +612,31 @@ public class Room3D extends Room<HitBox3D, EntityThing3D, ZVector3D, Room3D, Col
 			if(xTileMove){
 				if(xPositive) {
 					tx++;
-					if(tx >= this.getTilesX()) return -1;
+					if(tx > this.getMaxTileX()) return -1;
 				}
 				else {
 					tx--;
-					if(tx < 0) return -1;
+					if(tx < this.getMinTileX()) return -1;
 				}
 			}
 			else if(yTileMove){
 				if(yPositive) {
 					ty++;
-					if(ty >= this.getTilesY()) return -1;
+					if(ty > this.getMaxTileY()) return -1;
 				}
 				else {
 					ty--;
-					if(ty < 0) return -1;
+					if(ty < this.getMinTileY()) return -1;
 				}
 			}
 			else if(zTileMove){
 				if(zPositive){
 					tz++;
-					if(tz >= this.getTilesZ()) return -1;
+					if(tz > this.getMaxTileZ()) return -1;
 				}
 				else {
 					tz--;
-					if(tz < 0) return -1;
+					if(tz < this.getMinTileZ()) return -1;
 				}
 			}
 			// Should be impossible, but being safe
@@ -598,8 +669,29 @@ public class Room3D extends Room<HitBox3D, EntityThing3D, ZVector3D, Room3D, Col
 		return EntityThing3D.class;
 	}
 	
+	@Override
+	public double getEntityGridCellSize(){
+		return Tile3D.size();
+	}
+	
+	@Override
+	public void updateEntityGrid(EntityThing3D entity){
+		this.getEntityGrid().update(entity, entity.minX(), entity.minY(), entity.minZ(), entity.maxX(), entity.maxY(), entity.maxZ());
+	}
+	
+	/** @return The storage holding the type and collision data of every tile in this room */
+	public TileStorage3D getTileStorage(){
+		return this.tiles;
+	}
+	
+	/** @return The meshes used to render the tiles of this room */
+	public TileMesher3D getTileMesher(){
+		return this.mesher;
+	}
+	
 	/**
-	 * Get the tile at the specified index
+	 * Get the tile at the specified index.
+	 * The returned tile is a new object viewing the tile at the time of this call, modifying it will not modify this room, use {@link #setTile(int, int, int, TileType3D)}
 	 *
 	 * @param x The tile index on the x axis
 	 * @param y The tile index on the y axis
@@ -607,13 +699,13 @@ public class Room3D extends Room<HitBox3D, EntityThing3D, ZVector3D, Room3D, Col
 	 * @return The tile, or null if the tile is outside of the range of the grid
 	 */
 	public Tile3D getTile(int x, int y, int z){
-		if(!ZMath.in(0, x, this.tilesX) || !ZMath.in(0, y, this.tilesY) || !ZMath.in(0, z, this.tilesZ)) return null;
+		if(!this.tiles.inBounds(x, y, z)) return null;
 		return this.getTileUnchecked(x, y, z);
 	}
 	
 	/**
-	 * Get the tile at the specified index
-	 * Will cause an {@link IndexOutOfBoundsException} if the indexes are outside the range of the grid.
+	 * Get the tile at the specified index, see {@link #getTile(int, int, int)}.
+	 * Behavior is undefined if the indexes are outside the range of the grid.
 	 * Only call this method if the bounds are being checked separately. Use {@link #getTile(int, int, int)} instead to return null if the indexes go out of bounds
 	 *
 	 * @param x The tile index on the x axis
@@ -622,11 +714,26 @@ public class Room3D extends Room<HitBox3D, EntityThing3D, ZVector3D, Room3D, Col
 	 * @return The tile
 	 */
 	public Tile3D getTileUnchecked(int x, int y, int z){
-		return this.tiles[x][y][z];
+		return this.viewTile(new Tile3D(x, y, z), x, y, z);
 	}
 	
 	/**
-	 * Set the tile at the given indexes
+	 * Update the given tile object so that it represents the tile at the given index. Assumes the index is in bounds
+	 *
+	 * @param view The tile object to update
+	 * @param x The tile index on the x axis
+	 * @param y The tile index on the y axis
+	 * @param z The tile index on the z axis
+	 * @return view
+	 */
+	private Tile3D viewTile(Tile3D view, int x, int y, int z){
+		view.set(x, y, z, this.tiles.getType(x, y, z));
+		view.setCollisionFaces(this.getCollisionFaces(x, y, z));
+		return view;
+	}
+	
+	/**
+	 * Set the tile at the given indexes. Does nothing if the indexes are outside the range of the grid
 	 *
 	 * @param x The x index
 	 * @param y The y index
@@ -638,7 +745,8 @@ public class Room3D extends Room<HitBox3D, EntityThing3D, ZVector3D, Room3D, Col
 	}
 	
 	/**
-	 * Set the tile at the given indexes
+	 * Set the tile at the given indexes. Does nothing if the indexes are outside the range of the grid, or if the tile already has the given type.
+	 * If a batch of edits is in progress, the {@link Tile3D#getCollisionFaces()} values are not updated until {@link #commitTileEdit()}
 	 *
 	 * @param x The x index
 	 * @param y The y index
@@ -647,58 +755,198 @@ public class Room3D extends Room<HitBox3D, EntityThing3D, ZVector3D, Room3D, Col
 	 * @param skipRecompute true to skip recomputing the {@link Tile3D#getCollisionFaces()} values, false for default behavior
 	 */
 	public void setTile(int x, int y, int z, TileType3D t, boolean skipRecompute){
-		this.tiles[x][y][z] = new Tile3D(x, y, z, t);
+		if(!this.tiles.inBounds(x, y, z)) return;
+		if(!this.tiles.setType(x, y, z, t)) return;
+		this.mesher.markDirty(x, y, z);
+		if(skipRecompute) return;
 		
-		if(!skipRecompute) {
-			/*
-			 There is a lot of room for optimization here, for example only the touching faces of updated tiles need to be recomputed, not the whole tile,
-			 but this is fine for now
-			 */
-			this.computeTileData(x, y, z);
-			this.computeTileData(x - 1, y, z);
-			this.computeTileData(x + 1, y, z);
-			this.computeTileData(x, y - 1, z);
-			this.computeTileData(x, y + 1, z);
-			this.computeTileData(x, y, z - 1);
-			this.computeTileData(x, y, z + 1);
+		if(this.editDepth == 0){
+			this.updateTileFaces(x, y, z);
+			return;
 		}
+		if(this.editedCount + 3 > this.editedTiles.length) this.editedTiles = Arrays.copyOf(this.editedTiles, this.editedTiles.length * 2);
+		this.editedTiles[this.editedCount++] = x;
+		this.editedTiles[this.editedCount++] = y;
+		this.editedTiles[this.editedCount++] = z;
 	}
 	
 	/**
-	 * Compute any associated data with the given tile
+	 * Begin a batch of edits to the tiles of this room. Until a matching call to {@link #commitTileEdit()}, {@link #setTile(int, int, int, TileType3D)} only changes
+	 * the type of tiles, and the faces touching each changed tile are updated once on commit.
+	 * Batches can be nested, the faces are only updated when the outermost batch is committed
+	 */
+	public void beginTileEdit(){
+		this.editDepth++;
+	}
+	
+	/** Finish a batch of edits started by {@link #beginTileEdit()}, updating the faces touching every changed tile. Does nothing if no batch is in progress */
+	public void commitTileEdit(){
+		if(this.editDepth == 0) return;
+		this.editDepth--;
+		if(this.editDepth > 0) return;
+		
+		var edited = this.editedTiles;
+		int count = this.editedCount;
+		this.editedCount = 0;
+		for(int i = 0; i < count; i += 3) this.updateTileFaces(edited[i], edited[i + 1], edited[i + 2]);
+	}
+	
+	/** @return true if a batch of tile edits is in progress, see {@link #beginTileEdit()}, false otherwise */
+	public boolean isEditingTiles(){
+		return this.editDepth > 0;
+	}
+	
+	/**
+	 * Update the faces affected by the tile at the given index changing its type. Assumes the index is in bounds.
+	 * The faces of the tile itself are found, but for each neighbor, only the one face touching the changed tile is updated
 	 *
 	 * @param x The x index
 	 * @param y The y index
 	 * @param z The z index
 	 */
-	public void computeTileData(int x, int y, int z){
-		if(x < 0 || x >= this.getTilesX() || y < 0 || y >= this.getTilesY() || z < 0 || z >= this.getTilesZ()) return;
+	private void updateTileFaces(int x, int y, int z){
+		// The tile may be in a chunk which was just allocated, so its faces are always found
+		this.computeTileData(x, y, z);
 		
-		var collisionFaces = this.tiles[x][y][z].getCollisionFaces();
+		// Each neighbor can collide on the face touching this tile if this tile cannot collide on that face
+		var hitbox = this.tiles.getType(x, y, z).getHitbox();
+		this.setCollisionFace(x + 1, y, z, EAST, !hitbox.canCollide(EAST));
+		this.setCollisionFace(x - 1, y, z, WEST, !hitbox.canCollide(WEST));
+		this.setCollisionFace(x, y + 1, z, DOWN, !hitbox.canCollide(DOWN));
+		this.setCollisionFace(x, y - 1, z, UP, !hitbox.canCollide(UP));
+		this.setCollisionFace(x, y, z + 1, SOUTH, !hitbox.canCollide(SOUTH));
+		this.setCollisionFace(x, y, z - 1, NORTH, !hitbox.canCollide(NORTH));
+	}
+	
+	/**
+	 * Enable or disable a single collision face of the given tile. Does nothing if the tile is out of bounds, or its faces are not stored
+	 *
+	 * @param x The x index
+	 * @param y The y index
+	 * @param z The z index
+	 * @param face The face to update
+	 * @param enabled true if the face can be collided with, false otherwise
+	 */
+	private void setCollisionFace(int x, int y, int z, Direction3D face, boolean enabled){
+		if(!this.tiles.inBounds(x, y, z)) return;
+		int oldFaces = this.tiles.getFaces(x, y, z);
+		if(oldFaces < 0) return;
+		int bit = 1 << face.i();
+		int faces = enabled ? oldFaces | bit : oldFaces & ~bit;
+		if(faces == oldFaces) return;
+		this.tiles.setFaces(x, y, z, faces);
+		this.mesher.markDirty(x, y, z);
+	}
+	
+	/**
+	 * Compute any associated data with the given tile. The mesh holding the tile is only rebuilt if the data changed
+	 *
+	 * @param x The x index
+	 * @param y The y index
+	 * @param z The z index
+	 */
+	public void computeTileData(int x, int y, int z){
+		if(!this.tiles.inBounds(x, y, z)) return;
+		// Nothing to do if the tile is in a chunk of only air, or if the faces did not change
+		int oldFaces = this.tiles.getFaces(x, y, z);
+		if(oldFaces < 0) return;
+		int faces = this.findCollisionFaces(x, y, z);
+		if(oldFaces == faces) return;
+		this.tiles.setFaces(x, y, z, faces);
+		this.mesher.markDirty(x, y, z);
+	}
+	
+	/**
+	 * Get the faces of the given tile which can be collided with. Assumes the index is in bounds
+	 *
+	 * @param x The x index
+	 * @param y The y index
+	 * @param z The z index
+	 * @return A bitmask of the faces, see {@link TileStorage3D#getFaces(int, int, int)}
+	 */
+	public int getCollisionFaces(int x, int y, int z){
+		int faces = this.tiles.getFaces(x, y, z);
+		// Tiles in chunks of only air do not have their faces stored, so find them directly
+		if(faces < 0) return this.findCollisionFaces(x, y, z);
+		return faces;
+	}
+	
+	/**
+	 * Determine which faces of the given tile can be collided with based on the tiles around it. Assumes the index is in bounds
+	 *
+	 * @param x The x index
+	 * @param y The y index
+	 * @param z The z index
+	 * @return A bitmask of the faces, see {@link TileStorage3D#getFaces(int, int, int)}
+	 */
+	private int findCollisionFaces(int x, int y, int z){
 		// Collision will be enabled if either the next tile would be out of bounds and the boundary is disabled, or if the adjacent tile is not already collideable
-		collisionFaces[EAST.i()] = x - 1 < 0 || !this.tiles[x - 1][y][z].canCollide(EAST);
-		collisionFaces[WEST.i()] = (x + 1 >= this.getTilesX()) || !this.tiles[x + 1][y][z].canCollide(WEST);
+		int faces = TileStorage3D.NO_FACES;
+		if(!this.tileCanCollide(x - 1, y, z, EAST)) faces |= 1 << EAST.i();
+		if(!this.tileCanCollide(x + 1, y, z, WEST)) faces |= 1 << WEST.i();
 		
-		collisionFaces[DOWN.i()] = (y - 1 < 0) || !this.tiles[x][y - 1][z].canCollide(DOWN);
-		collisionFaces[UP.i()] = (y + 1 >= this.getTilesY()) || !this.tiles[x][y + 1][z].canCollide(UP);
+		if(!this.tileCanCollide(x, y - 1, z, DOWN)) faces |= 1 << DOWN.i();
+		if(!this.tileCanCollide(x, y + 1, z, UP)) faces |= 1 << UP.i();
 		
-		collisionFaces[SOUTH.i()] = (z - 1 < 0) || !this.tiles[x][y][z - 1].canCollide(SOUTH);
-		collisionFaces[NORTH.i()] = (z + 1 >= this.getTilesZ()) || !this.tiles[x][y][z + 1].canCollide(NORTH);
+		if(!this.tileCanCollide(x, y, z - 1, SOUTH)) faces |= 1 << SOUTH.i();
+		if(!this.tileCanCollide(x, y, z + 1, NORTH)) faces |= 1 << NORTH.i();
+		return faces;
+	}
+	
+	/**
+	 * @param x The x index
+	 * @param y The y index
+	 * @param z The z index
+	 * @param face The face to check
+	 * @return true if there is a tile at the given index which can collide on the given face, false otherwise
+	 */
+	private boolean tileCanCollide(int x, int y, int z, Direction3D face){
+		return this.tiles.inBounds(x, y, z) && this.tiles.getType(x, y, z).getHitbox().canCollide(face);
 	}
 	
-	/** @return See {@link #tilesX} */
+	/** @return The number of tiles in the x axis in the room */
 	public int getTilesX(){
-		return this.tilesX;
+		return this.tiles.getSizeX();
 	}
 	
-	/** @return See {@link #tilesY} */
+	/** @return The number of tiles in the y axis in the room */
 	public int getTilesY(){
-		return this.tilesY;
+		return this.tiles.getSizeY();
 	}
 	
-	/** @return See {@link #tilesZ} */
+	/** @return The number of tiles in the z axis in the room */
 	public int getTilesZ(){
-		return this.tilesZ;
+		return this.tiles.getSizeZ();
+	}
+	
+	/** @return The minimum tile index on the x axis */
+	public int getMinTileX(){
+		return this.tiles.getMinX();
+	}
+	
+	/** @return The minimum tile index on the y axis */
+	public int getMinTileY(){
+		return this.tiles.getMinY();
+	}
+	
+	/** @return The minimum tile index on the z axis */
+	public int getMinTileZ(){
+		return this.tiles.getMinZ();
+	}
+	
+	/** @return The maximum tile index on the x axis */
+	public int getMaxTileX(){
+		return this.tiles.getMinX() + this.tiles.getSizeX() - 1;
+	}
+	
+	/** @return The maximum tile index on the y axis */
+	public int getMaxTileY(){
+		return this.tiles.getMinY() + this.tiles.getSizeY() - 1;
+	}
+	
+	/** @return The maximum tile index on the z axis */
+	public int getMaxTileZ(){
+		return this.tiles.getMinZ() + this.tiles.getSizeZ() - 1;
 	}
 	
 	public Material getBoundaryMaterial(){
@@ -0,0 +1,133 @@
+package zgame.world;
+
+import zgame.things.type.GameThing;
+
+import java.util.Arrays;
+
+/**
+ * The state of the things in a {@link Room} needed to draw them, as of the end of one tick.
+ * A snapshot is filled by the tick thread, then handed to the rendering thread through a {@link zgame.core.utils.TripleBuffer}, so that rendering never reads the lists
+ * of the room while they are being changed, and never draws an entity partway through a tick.
+ * Each thing decides what it stores with {@link GameThing#captureRenderState(double[], int)}, which must be everything it reads while drawing which a tick can change.
+ * Snapshots are reused, so filling one only allocates when the room has more things, or more state, than it has ever had
+ */
+public class RoomSnapshot{
+	
+	/** The initial number of things a snapshot has space for */
+	private static final int INITIAL_CAPACITY = 16;
+	
+	/** The things in the room, in the order they are drawn. Only the first {@link #size} are used, the rest are null */
+	private GameThing[] things;
+	
+	/** The index in {@link #state} of the first value of each thing, indexed the same as {@link #things} */
+	private int[] offsets;
+	/** The values stored by every thing with {@link GameThing#captureRenderState(double[], int)}, one after another in the order of {@link #things} */
+	private double[] state;
+	
+	/** The number of things in this snapshot */
+	private int size;
+	
+	/** The number of the tick which this snapshot was filled at, counted by the room, or 0 if this snapshot has never been filled */
+	private long tick;
+	
+	/** Create a new empty snapshot */
+	public RoomSnapshot(){
+		this.things = new GameThing[INITIAL_CAPACITY];
+		this.offsets = new int[INITIAL_CAPACITY];
+		this.state = new double[INITIAL_CAPACITY];
+		this.size = 0;
+		this.tick = 0;
+	}
+	
+	/** @return See {@link #size} */
+	public int size(){
+		return this.size;
+	}
+	
+	/** @return See {@link #tick} */
+	public long getTick(){
+		return this.tick;
+	}
+	
+	/**
+	 * @param i The index of the thing
+	 * @return The thing
+	 */
+	public GameThing getThing(int i){
+		return this.things[i];
+	}
+	
+	/**
+	 * @param i The index of the thing
+	 * @param j The index of the value, in the order the thing stored them with {@link GameThing#captureRenderState(double[], int)}
+	 * @return The value
+	 */
+	public double getState(int i, int j){
+		return this.state[this.offsets[i] + j];
+	}
+	
+	/**
+	 * Replace the contents of this snapshot with the current state of the given room. Must only be called by the thread which ticks the room
+	 *
+	 * @param room The room to take the state of
+	 * @param tick See {@link #tick}
+	 */
+	public void capture(Room<?, ?, ?, ?, ?> room, long tick){
+		var roomThings = room.getThings();
+		int oldSize = this.size;
+		int newSize = roomThings.size();
+		this.ensureCapacity(newSize);
+		
+		int stateSize = 0;
+		for(int i = 0; i < newSize; i++){
+			var thing = roomThings.get(i);
+			this.things[i] = thing;
+			this.offsets[i] = stateSize;
+			int thingSize = thing.getRenderStateSize();
+			this.ensureStateCapacity(stateSize + thingSize);
+			thing.captureRenderState(this.state, stateSize);
+			stateSize += thingSize;
+		}
+		
+		// Don't keep things which are no longer in the room from being garbage collected
+		if(newSize < oldSize) Arrays.fill(this.things, newSize, oldSize, null);
+		this.size = newSize;
+		this.tick = tick;
+	}
+	
+	/**
+	 * Give the thing at the given index the state it had when this snapshot was filled, so that it will be drawn in that state.
+	 * Must only be called by the rendering thread
+	 *
+	 * @param i The index of the thing
+	 * @return The thing
+	 */
+	public GameThing apply(int i){
+		var thing = this.things[i];
+		thing.applyRenderState(this.state, this.offsets[i]);
+		return thing;
+	}
+	
+	/**
+	 * Grow the arrays of this snapshot indexed by thing so that they can hold at least the given number of things
+	 *
+	 * @param capacity The number of things
+	 */
+	private void ensureCapacity(int capacity){
+		if(capacity <= this.things.length) return;
+		int newCapacity = Math.max(capacity, this.things.length * 2);
+		this.things = Arrays.copyOf(this.things, newCapacity);
+		this.offsets = Arrays.copyOf(this.offsets, newCapacity);
+	}
+	
+	/**
+	 * Grow {@link #state} so that it can hold at least the given number of values, keeping the values already in it
+	 *
+	 * @param capacity The number of values
+	 */
+	private void ensureStateCapacity(int capacity){
+		if(capacity <= this.state.length) return;
+		this.state = Arrays.copyOf(this.state, Math.max(capacity, this.state.length * 2));
+	}
+	
+}
@@ -0,0 +1,331 @@
+package zgame.world;
+
+import zgame.core.graphics.ColorMesh3D;
+import zgame.core.graphics.Destroyable;
+import zgame.things.still.tiles.Tile3D;
+
+import java.util.Arrays;
+
+/**
+ * Builds and keeps a {@link ColorMesh3D} for each chunk of a {@link TileStorage3D}.
+ * A mesh only holds the faces of tiles which are exposed, using the collision faces already stored for each tile, so faces between two solid tiles are never drawn.
+ * Each mesh is kept until its chunk is marked as dirty, and is only rebuilt on the next call to {@link #update()}.
+ * Building reads the tiles, so it happens on the thread which ticks the room. The built data is then handed to the thread which renders the room, which only takes it
+ * with {@link #upload()}, and never reads the tiles
+ */
+public class TileMesher3D implements Destroyable{
+	
+	/**
+	 * The offsets of the corners of each face of a tile, indexed by {@link Direction3D#i()}, in counterclockwise order when looking at the face from outside the tile.
+	 * Each corner is an x, y, and z offset of either 0 or 1 from the minimum corner of the tile
+	 */
+	private static final int[][] FACE_CORNERS = {
+			// West, positive x
+			{1, 0, 0, 1, 1, 0, 1, 1, 1, 1, 0, 1},
+			// East, negative x
+			{0, 0, 0, 0, 0, 1, 0, 1, 1, 0, 1, 0},
+			// North, positive z
+			{0, 0, 1, 1, 0, 1, 1, 1, 1, 0, 1, 1},
+			// South, negative z
+			{0, 0, 0, 0, 1, 0, 1, 1, 0, 1, 0, 0},
+			// Up, positive y
+			{0, 1, 0, 0, 1, 1, 1, 1, 1, 1, 1, 0},
+			// Down, negative y
+			{0, 0, 0, 1, 0, 0, 1, 0, 1, 0, 0, 1},
+	};
+	
+	/** The number of floats in the positions of one face */
+	private static final int FACE_POSITIONS = ColorMesh3D.QUAD_VERTICES * ColorMesh3D.POSITION_LENGTH;
+	/** The number of floats in the colors of one face */
+	private static final int FACE_COLORS = ColorMesh3D.QUAD_VERTICES * ColorMesh3D.COLOR_LENGTH;
+	
+	/** An empty array, used for chunks with no tiles which must be rendered on their own */
+	private static final Tile3D[] NO_TILES = new Tile3D[0];
+	
+	/**
+	 * The data built for one chunk, waiting to be taken by {@link #upload()}
+	 *
+	 * @param positions The positions of the mesh of the chunk, or null if the chunk has no mesh
+	 * @param colors The colors of the mesh of the chunk, or null if the chunk has no mesh
+	 * @param unmeshed See {@link #unmeshedTiles}
+	 */
+	private record ChunkBuild(float[] positions, float[] colors, Tile3D[] unmeshed){}
+	
+	/** The build of a chunk of only air */
+	private static final ChunkBuild EMPTY_BUILD = new ChunkBuild(null, null, null);
+	
+	/** The tiles to build meshes for */
+	private final TileStorage3D tiles;
+	
+	/**
+	 * The mesh of every chunk, indexed by {@link TileStorage3D#chunkIndex(int, int, int)}, or null if the chunk has no mesh.
+	 * Only used by the thread which renders the room
+	 */
+	private final ColorMesh3D[] meshes;
+	
+	/**
+	 * The tiles of every chunk which cannot be drawn in a mesh, indexed the same as {@link #meshes}, so must be rendered on their own, or null if there are none.
+	 * Each tile is a copy made while building, so it is never changed by editing the tiles. Only used by the thread which renders the room
+	 */
+	private final Tile3D[][] unmeshedTiles;
+	
+	/**
+	 * The data of every chunk which was built since the last call to {@link #upload()}, indexed the same as {@link #meshes}, or null for chunks with nothing new.
+	 * Synchronize on this array to use it, it is the only state shared between the thread which ticks the room and the thread which renders it
+	 */
+	private final ChunkBuild[] pending;
+	
+	/** true for every chunk which must have its mesh rebuilt, indexed the same as {@link #meshes}. Only used by the thread which ticks the room */
+	private final boolean[] dirty;
+	
+	/** Positions of the faces of the chunk currently being built, reused between builds, grown as needed */
+	private float[] positionBuffer;
+	/** Colors of the faces of the chunk currently being built, reused between builds, grown as needed */
+	private float[] colorBuffer;
+	/** Tiles of the chunk currently being built which cannot be put in a mesh, reused between builds, grown as needed */
+	private Tile3D[] unmeshedBuffer;
+	
+	/** The total number of times a chunk has had its mesh rebuilt */
+	private long rebuilds;
+	
+	/**
+	 * Create a new mesher where every chunk is dirty, so that every mesh will be built on the first update
+	 *
+	 * @param tiles See {@link #tiles}
+	 */
+	public TileMesher3D(TileStorage3D tiles){
+		this.tiles = tiles;
+		int chunks = tiles.getChunkCount();
+		this.meshes = new ColorMesh3D[chunks];
+		this.unmeshedTiles = new Tile3D[chunks][];
+		this.pending = new ChunkBuild[chunks];
+		this.dirty = new boolean[chunks];
+		this.positionBuffer = new float[FACE_POSITIONS * 64];
+		this.colorBuffer = new float[FACE_COLORS * 64];
+		this.unmeshedBuffer = new Tile3D[16];
+		this.rebuilds = 0;
+		this.markAllDirty();
+	}
+	
+	/** @return See {@link #tiles} */
+	public TileStorage3D getTiles(){
+		return this.tiles;
+	}
+	
+	/** @return The number of chunks which this mesher has a mesh for */
+	public int getChunkCount(){
+		return this.meshes.length;
+	}
+	
+	/** @return See {@link #rebuilds} */
+	public long getRebuilds(){
+		return this.rebuilds;
+	}
+	
+	/**
+	 * Mark the chunk holding the given tile as needing its mesh rebuilt. Does nothing if the tile is out of bounds
+	 *
+	 * @param x The x tile index
+	 * @param y The y tile index
+	 * @param z The z tile index
+	 */
+	public void markDirty(int x, int y, int z){
+		if(!this.tiles.inBounds(x, y, z)) return;
+		this.dirty[this.tiles.chunkIndex(x, y, z)] = true;
+	}
+	
+	/** Mark every chunk as needing its mesh rebuilt */
+	public void markAllDirty(){
+		Arrays.fill(this.dirty, true);
+	}
+	
+	/**
+	 * @param chunk The index of the chunk, see {@link TileStorage3D#chunkIndex(int, int, int)}
+	 * @return true if the chunk must have its mesh rebuilt, false otherwise
+	 */
+	public boolean isDirty(int chunk){
+		return this.dirty[chunk];
+	}
+	
+	/**
+	 * @param chunk The index of the chunk, see {@link TileStorage3D#chunkIndex(int, int, int)}
+	 * @return The mesh of the chunk, as of the last call to {@link #upload()}, or null if the chunk has no mesh
+	 */
+	public ColorMesh3D getMesh(int chunk){
+		return this.meshes[chunk];
+	}
+	
+	/**
+	 * @param chunk The index of the chunk, see {@link TileStorage3D#chunkIndex(int, int, int)}
+	 * @return The tiles of the chunk which cannot be drawn in a mesh, as of the last call to {@link #upload()}, see {@link #unmeshedTiles}
+	 */
+	public Tile3D[] getUnmeshedTiles(int chunk){
+		var t = this.unmeshedTiles[chunk];
+		return t == null ? NO_TILES : t;
+	}
+	
+	/** @return The total number of faces in every mesh, as of the last call to {@link #upload()} */
+	public int getFaceCount(){
+		int faces = 0;
+		for(var m : this.meshes) if(m != null) faces += m.getQuads();
+		return faces;
+	}
+	
+	/**
+	 * Rebuild the mesh of every dirty chunk. Must only be called by the thread which ticks the room, the new meshes are used after the next call to {@link #upload()}
+	 *
+	 * @return The number of chunks which were rebuilt
+	 */
+	public int update(){
+		int rebuilt = 0;
+		for(int c = 0; c < this.dirty.length; c++){
+			if(!this.dirty[c]) continue;
+			this.rebuild(c);
+			rebuilt++;
+		}
+		return rebuilt;
+	}
+	
+	/**
+	 * Rebuild the mesh of the given chunk, regardless of if it is dirty. Must only be called by the thread which ticks the room, the new mesh is used after the next call
+	 * to {@link #upload()}
+	 *
+	 * @param chunk The index of the chunk, see {@link TileStorage3D#chunkIndex(int, int, int)}
+	 */
+	public void rebuild(int chunk){
+		// Clear the flag first, so that a change made while building will cause another rebuild
+		this.dirty[chunk] = false;
+		this.rebuilds++;
+		
+		var build = this.build(chunk);
+		// A build which was never uploaded is out of date, so it is replaced
+		synchronized(this.pending){
+			this.pending[chunk] = build;
+		}
+	}
+	
+	/**
+	 * Take the data of every chunk built since the last call, so that it is used by {@link #getMesh(int)} and {@link #getUnmeshedTiles(int)}.
+	 * Must only be called by the thread which renders the room. The meshes are sent to the GPU the next time they are drawn
+	 *
+	 * @return The number of chunks which were taken
+	 */
+	public int upload(){
+		int uploaded = 0;
+		synchronized(this.pending){
+			for(int c = 0; c < this.pending.length; c++){
+				var build = this.pending[c];
+				if(build == null) continue;
+				this.pending[c] = null;
+				uploaded++;
+				
+				var mesh = this.meshes[c];
+				if(build.positions() == null){
+					if(mesh != null) mesh.destroy();
+					this.meshes[c] = null;
+				}
+				else{
+					if(mesh == null){
+						mesh = new ColorMesh3D();
+						this.meshes[c] = mesh;
+					}
+					mesh.set(build.positions(), build.colors());
+				}
+				this.unmeshedTiles[c] = build.unmeshed();
+			}
+		}
+		return uploaded;
+	}
+	
+	/**
+	 * Build the data of the mesh of the given chunk from the current tiles
+	 *
+	 * @param chunk The index of the chunk, see {@link TileStorage3D#chunkIndex(int, int, int)}
+	 * @return The data
+	 */
+	private ChunkBuild build(int chunk){
+		var tiles = this.tiles;
+		// Chunks of only air have nothing to draw
+		if(!tiles.isChunkAllocated(chunk)) return EMPTY_BUILD;
+		
+		int minX = tiles.chunkMinX(chunk);
+		int minY = tiles.chunkMinY(chunk);
+		int minZ = tiles.chunkMinZ(chunk);
+		int endX = Math.min(minX + TileStorage3D.CHUNK_SIZE, tiles.getMinX() + tiles.getSizeX());
+		int endY = Math.min(minY + TileStorage3D.CHUNK_SIZE, tiles.getMinY() + tiles.getSizeY());
+		int endZ = Math.min(minZ + TileStorage3D.CHUNK_SIZE, tiles.getMinZ() + tiles.getSizeZ());
+		
+		float size = (float)Tile3D.size();
+		int faces = 0;
+		int unmeshed = 0;
+		for(int x = minX; x < endX; x++){
+			for(int y = minY; y < endY; y++){
+				for(int z = minZ; z < endZ; z++){
+					int id = tiles.getTypeId(x, y, z);
+					if(id == TileStorage3D.AIR_ID) continue;
+					
+					var type = tiles.type(id);
+					var color = type.getMeshColor();
+					int tileFaces = tiles.getFaces(x, y, z);
+					if(color == null){
+						if(unmeshed == this.unmeshedBuffer.length) this.unmeshedBuffer = Arrays.copyOf(this.unmeshedBuffer, this.unmeshedBuffer.length * 2);
+						var tile = new Tile3D(x, y, z, type);
+						tile.setCollisionFaces(tileFaces);
+						this.unmeshedBuffer[unmeshed++] = tile;
+						continue;
+					}
+					
+					
+					if(tileFaces == TileStorage3D.NO_FACES) continue;
+					float r = (float)color.red();
+					float g = (float)color.green();
+					float b = (float)color.blue();
+					float a = (float)color.alpha();
+					for(int f = 0; f < FACE_CORNERS.length; f++){
+						if((tileFaces & (1 << f)) == 0) continue;
+						this.ensureFaceCapacity(faces + 1);
+						int p = faces * FACE_POSITIONS;
+						var corners = FACE_CORNERS[f];
+						for(int i = 0; i < corners.length; i += 3){
+							this.positionBuffer[p++] = (x + corners[i]) * size;
+							this.positionBuffer[p++] = (y + corners[i + 1]) * size;
+							this.positionBuffer[p++] = (z + corners[i + 2]) * size;
+						}
+						int col = faces * FACE_COLORS;
+						for(int i = 0; i < ColorMesh3D.QUAD_VERTICES; i++){
+							this.colorBuffer[col++] = r;
+							this.colorBuffer[col++] = g;
+							this.colorBuffer[col++] = b;
+							this.colorBuffer[col++] = a;
+						}
+						faces++;
+					}
+				}
+			}
+		}
+		
+		var unmeshedTiles = unmeshed == 0 ? null : Arrays.copyOf(this.unmeshedBuffer, unmeshed);
+		// Don't keep the copied tiles from being garbage collected
+		Arrays.fill(this.unmeshedBuffer, 0, unmeshed, null);
+		return new ChunkBuild(Arrays.copyOf(this.positionBuffer, faces * FACE_POSITIONS), Arrays.copyOf(this.colorBuffer, faces * FACE_COLORS), unmeshedTiles);
+	}
+	
+	/**
+	 * Grow the buffers used for building a mesh so that they can hold at least the given number of faces
+	 *
+	 * @param faces The number of faces
+	 */
+	private void ensureFaceCapacity(int faces){
+		if(faces * FACE_POSITIONS <= this.positionBuffer.length) return;
+		int newFaces = Math.max(faces, this.positionBuffer.length / FACE_POSITIONS * 2);
+		this.positionBuffer = Arrays.copyOf(this.positionBuffer, newFaces * FACE_POSITIONS);
+		this.colorBuffer = Arrays.copyOf(this.colorBuffer, newFaces * FACE_COLORS);
+	}
+	
+	/** Free the resources used by every mesh on the GPU. Must be called on the thread with the OpenGL context, which is the thread which renders the room */
+	@Override
+	public void destroy(){
+		for(var m : this.meshes) if(m != null) m.destroy();
+	}
+	
+}
@@ -0,0 +1,364 @@
+package zgame.world;
+
+import zgame.things.still.tiles.BaseTiles3D;
+import zgame.things.still.tiles.TileType3D;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The storage for the tiles of a {@link Room3D}, split into fixed size cubic chunks.
+ * Each chunk only stores a primitive id for the type of each tile, and the collision faces of each tile packed into a bitmask.
+ * Chunks which only contain {@link BaseTiles3D#AIR} are not allocated at all.
+ * The storage covers a fixed range of tile indexes, which can start at negative indexes
+ */
+public class TileStorage3D{
+	
+	/** The number of bits used for the index of a tile inside a chunk on one axis */
+	public static final int CHUNK_BITS = 4;
+	/** The number of tiles on each axis of a chunk */
+	public static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+	/** A mask for finding the index of a tile inside a chunk on one axis */
+	public static final int CHUNK_MASK = CHUNK_SIZE - 1;
+	/** The total number of tiles in one chunk */
+	public static final int CHUNK_VOLUME = CHUNK_SIZE * CHUNK_SIZE * CHUNK_SIZE;
+	
+	/** The id used for {@link BaseTiles3D#AIR}, which is the type of every tile in a chunk which is not allocated */
+	public static final int AIR_ID = 0;
+	
+	/** A face bitmask with no faces enabled */
+	public static final int NO_FACES = 0;
+	/** A face bitmask with every face enabled */
+	public static final int ALL_FACES = (1 << 6) - 1;
+	
+	/** Every tile type used by this storage, indexed by its id */
+	private final ArrayList<TileType3D> palette;
+	
+	/** The id of every tile type in {@link #palette}, mapped by the type */
+	private final Map<TileType3D, Integer> paletteIds;
+	
+	/** The minimum tile index on the x axis */
+	private final int minX;
+	/** The minimum tile index on the y axis */
+	private final int minY;
+	/** The minimum tile index on the z axis */
+	private final int minZ;
+	
+	/** The number of tiles on the x axis */
+	private final int sizeX;
+	/** The number of tiles on the y axis */
+	private final int sizeY;
+	/** The number of tiles on the z axis */
+	private final int sizeZ;
+	
+	/** The number of chunks on the x axis */
+	private final int chunksX;
+	/** The number of chunks on the y axis */
+	private final int chunksY;
+	/** The number of chunks on the z axis */
+	private final int chunksZ;
+	
+	/** Every chunk, indexed by chunk coordinates relative to the minimum tile index. null for chunks which are entirely air */
+	private final Chunk[] chunks;
+	
+	/** The number of elements in {@link #chunks} which are not null */
+	private int allocatedChunks;
+	
+	/**
+	 * Create a new storage where every tile is air
+	 *
+	 * @param minX See {@link #minX}
+	 * @param minY See {@link #minY}
+	 * @param minZ See {@link #minZ}
+	 * @param sizeX See {@link #sizeX}
+	 * @param sizeY See {@link #sizeY}
+	 * @param sizeZ See {@link #sizeZ}
+	 */
+	public TileStorage3D(int minX, int minY, int minZ, int sizeX, int sizeY, int sizeZ){
+		this.minX = minX;
+		this.minY = minY;
+		this.minZ = minZ;
+		this.sizeX = Math.max(0, sizeX);
+		this.sizeY = Math.max(0, sizeY);
+		this.sizeZ = Math.max(0, sizeZ);
+		
+		this.chunksX = (this.sizeX + CHUNK_MASK) >> CHUNK_BITS;
+		this.chunksY = (this.sizeY + CHUNK_MASK) >> CHUNK_BITS;
+		this.chunksZ = (this.sizeZ + CHUNK_MASK) >> CHUNK_BITS;
+		this.chunks = new Chunk[this.chunksX * this.chunksY * this.chunksZ];
+		this.allocatedChunks = 0;
+		
+		this.palette = new ArrayList<>();
+		this.paletteIds = new IdentityHashMap<>();
+		this.typeId(BaseTiles3D.AIR);
+	}
+	
+	/**
+	 * Get the id used by this storage for the given tile type, adding it to {@link #palette} if it is not used yet
+	 *
+	 * @param type The type
+	 * @return The id
+	 */
+	public int typeId(TileType3D type){
+		var id = this.paletteIds.get(type);
+		if(id != null) return id;
+		int newId = this.palette.size();
+		if(newId > Short.MAX_VALUE) throw new IllegalStateException("Cannot use more than " + (Short.MAX_VALUE + 1) + " tile types in one room");
+		this.palette.add(type);
+		this.paletteIds.put(type, newId);
+		return newId;
+	}
+	
+	/**
+	 * @param id The id of a tile type
+	 * @return The tile type using the given id
+	 */
+	public TileType3D type(int id){
+		return this.palette.get(id);
+	}
+	
+	/** @return See {@link #minX} */
+	public int getMinX(){
+		return this.minX;
+	}
+	
+	/** @return See {@link #minY} */
+	public int getMinY(){
+		return this.minY;
+	}
+	
+	/** @return See {@link #minZ} */
+	public int getMinZ(){
+		return this.minZ;
+	}
+	
+	/** @return See {@link #sizeX} */
+	public int getSizeX(){
+		return this.sizeX;
+	}
+	
+	/** @return See {@link #sizeY} */
+	public int getSizeY(){
+		return this.sizeY;
+	}
+	
+	/** @return See {@link #sizeZ} */
+	public int getSizeZ(){
+		return this.sizeZ;
+	}
+	
+	/** @return See {@link #allocatedChunks} */
+	public int getAllocatedChunks(){
+		return this.allocatedChunks;
+	}
+	
+	/** @return The total number of chunks covering this storage, including chunks which are not allocated */
+	public int getChunkCount(){
+		return this.chunks.length;
+	}
+	
+	/**
+	 * @param x The x tile index
+	 * @param y The y tile index
+	 * @param z The z tile index
+	 * @return true if the given tile index is stored by this storage, false otherwise
+	 */
+	public boolean inBounds(int x, int y, int z){
+		return x >= this.minX && x < this.minX + this.sizeX &&
+			   y >= this.minY && y < this.minY + this.sizeY &&
+			   z >= this.minZ && z < this.minZ + this.sizeZ;
+	}
+	
+	/**
+	 * Find the index of the chunk holding the given tile index. Assumes the tile index is in bounds
+	 *
+	 * @param x The x tile index
+	 * @param y The y tile index
+	 * @param z The z tile index
+	 * @return The index
+	 */
+	public int chunkIndex(int x, int y, int z){
+		int cx = (x - this.minX) >> CHUNK_BITS;
+		int cy = (y - this.minY) >> CHUNK_BITS;
+		int cz = (z - this.minZ) >> CHUNK_BITS;
+		return (cx * this.chunksY + cy) * this.chunksZ + cz;
+	}
+	
+	/**
+	 * @param chunk The index of a chunk, see {@link #chunkIndex(int, int, int)}
+	 * @return The minimum tile index on the x axis of the given chunk
+	 */
+	public int chunkMinX(int chunk){
+		return this.minX + ((chunk / (this.chunksY * this.chunksZ)) << CHUNK_BITS);
+	}
+	
+	/**
+	 * @param chunk The index of a chunk, see {@link #chunkIndex(int, int, int)}
+	 * @return The minimum tile index on the y axis of the given chunk
+	 */
+	public int chunkMinY(int chunk){
+		return this.minY + (((chunk / this.chunksZ) % this.chunksY) << CHUNK_BITS);
+	}
+	
+	/**
+	 * @param chunk The index of a chunk, see {@link #chunkIndex(int, int, int)}
+	 * @return The minimum tile index on the z axis of the given chunk
+	 */
+	public int chunkMinZ(int chunk){
+		return this.minZ + ((chunk % this.chunksZ) << CHUNK_BITS);
+	}
+	
+	/**
+	 * Find the index of the given tile inside of its chunk. Assumes the tile index is in bounds
+	 *
+	 * @param x The x tile index
+	 * @param y The y tile index
+	 * @param z The z tile index
+	 * @return The index
+	 */
+	private int tileIndex(int x, int y, int z){
+		int lx = (x - this.minX) & CHUNK_MASK;
+		int ly = (y - this.minY) & CHUNK_MASK;
+		int lz = (z - this.minZ) & CHUNK_MASK;
+		return (((lx << CHUNK_BITS) | ly) << CHUNK_BITS) | lz;
+	}
+	
+	/**
+	 * Determine if the chunk containing the given tile is allocated. Assumes the tile index is in bounds
+	 *
+	 * @param x The x tile index
+	 * @param y The y tile index
+	 * @param z The z tile index
+	 * @return true if the chunk has any tiles which are not air, false otherwise
+	 */
+	public boolean isChunkAllocated(int x, int y, int z){
+		return this.isChunkAllocated(this.chunkIndex(x, y, z));
+	}
+	
+	/**
+	 * @param chunk The index of a chunk, see {@link #chunkIndex(int, int, int)}
+	 * @return true if the chunk has any tiles which are not air, false otherwise
+	 */
+	public boolean isChunkAllocated(int chunk){
+		return this.chunks[chunk] != null;
+	}
+	
+	/**
+	 * Get the id of the type of the tile at the given index. Assumes the tile index is in bounds
+	 *
+	 * @param x The x tile index
+	 * @param y The y tile index
+	 * @param z The z tile index
+	 * @return The id
+	 */
+	public int getTypeId(int x, int y, int z){
+		var chunk = this.chunks[this.chunkIndex(x, y, z)];
+		if(chunk == null) return AIR_ID;
+		return chunk.types[this.tileIndex(x, y, z)];
+	}
+	
+	/**
+	 * Get the type of the tile at the given index. Assumes the tile index is in bounds
+	 *
+	 * @param x The x tile index
+	 * @param y The y tile index
+	 * @param z The z tile index
+	 * @return The type
+	 */
+	public TileType3D getType(int x, int y, int z){
+		return this.type(this.getTypeId(x, y, z));
+	}
+	
+	/**
+	 * Set the type of the tile at the given index. Assumes the tile index is in bounds.
+	 * Allocates the chunk if it was entirely air, and frees it if it becomes entirely air
+	 *
+	 * @param x The x tile index
+	 * @param y The y tile index
+	 * @param z The z tile index
+	 * @param type The new type
+	 * @return true if the type of the tile changed, false otherwise
+	 */
+	public boolean setType(int x, int y, int z, TileType3D type){
+		int id = this.typeId(type);
+		int c = this.chunkIndex(x, y, z);
+		var chunk = this.chunks[c];
+		if(chunk == null){
+			if(id == AIR_ID) return false;
+			chunk = new Chunk();
+			this.chunks[c] = chunk;
+			this.allocatedChunks++;
+		}
+		int t = this.tileIndex(x, y, z);
+		int oldId = chunk.types[t];
+		if(oldId == id) return false;
+		
+		chunk.types[t] = (short)id;
+		if(oldId == AIR_ID) chunk.nonAir++;
+		else if(id == AIR_ID) chunk.nonAir--;
+		
+		// Free the chunk once nothing is in it
+		if(chunk.nonAir == 0){
+			this.chunks[c] = null;
+			this.allocatedChunks--;
+		}
+		return true;
+	}
+	
+	/**
+	 * Get the collision faces of the tile at the given index. Assumes the tile index is in bounds
+	 *
+	 * @param x The x tile index
+	 * @param y The y tile index
+	 * @param z The z tile index
+	 * @return A bitmask where each bit, indexed by {@link Direction3D#i()}, is 1 if that face can be collided with, or -1 if the tile is in a chunk which is not allocated,
+	 * 		meaning its faces are not stored
+	 */
+	public int getFaces(int x, int y, int z){
+		var chunk = this.chunks[this.chunkIndex(x, y, z)];
+		if(chunk == null) return -1;
+		return chunk.faces[this.tileIndex(x, y, z)];
+	}
+	
+	/**
+	 * Set the collision faces of the tile at the given index. Assumes the tile index is in bounds.
+	 * Does nothing if the chunk of the tile is not allocated
+	 *
+	 * @param x The x tile index
+	 * @param y The y tile index
+	 * @param z The z tile index
+	 * @param faces The bitmask of faces, see {@link #getFaces(int, int, int)}
+	 */
+	public void setFaces(int x, int y, int z, int faces){
+		var chunk = this.chunks[this.chunkIndex(x, y, z)];
+		if(chunk == null) return;
+		chunk.faces[this.tileIndex(x, y, z)] = (byte)faces;
+	}
+	
+	/**
+	 * @param faces A bitmask of faces, see {@link #getFaces(int, int, int)}
+	 * @param face The face to check
+	 * @return true if the given face is enabled in the bitmask, false otherwise
+	 */
+	public static boolean hasFace(int faces, Direction3D face){
+		return (faces & (1 << face.i())) != 0;
+	}
+	
+	/** @return An estimate of the number of bytes used by the chunks of this storage */
+	public long estimateMemory(){
+		// Each chunk holds a short and a byte for each tile, and each chunk array has a reference for every chunk
+		return (long)this.allocatedChunks * CHUNK_VOLUME * 3L + (long)this.chunks.length * 4L;
+	}
+	
+	/** A single chunk of tiles, only created when at least one of its tiles is not air */
+	private static class Chunk{
+		/** The type id of each tile in this chunk */
+		private final short[] types = new short[CHUNK_VOLUME];
+		/** The collision face bitmask of each tile in this chunk */
+		private final byte[] faces = new byte[CHUNK_VOLUME];
+		/** The number of tiles in this chunk which are not air */
+		private int nonAir = 0;
+	}
+	
+}
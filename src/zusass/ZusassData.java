@@ -85,10 +85,12 @@ public class ZusassData implements Saveable{
 		this.autosave = autosave;
 	}
 	
-	/** If auto save is enabled, save the game, otherwise, do nothing */
+	/** If auto save is enabled, save the game in the background at the end of the current tick, otherwise, do nothing */
 	public void checkAutoSave(ZusassGame zgame){
 		if(!this.isAutosave()) return;
-		zgame.saveLoadedGame();
+		var saver = zgame.getAutoSaver();
+		saver.setPath(this.getLoadedFile());
+		saver.request();
 	}
 	
 }
@@ -60,23 +60,29 @@ public class ZusassGame extends Game{
 	 * Get rid of the stupid type parameter for game and just rely on casting for game specific components
 	 */
 	
-	/** Create the only instance of ZusassGame from this class. This constructor will place the game in the main menu */
-	private ZusassGame(){
-		super();
+	/**
+	 * Create the only instance of ZusassGame from this class. This constructor will place the game in the main menu, unless the game is headless
+	 *
+	 * @param headless See {@link Game#isHeadless()}. A headless game has no menu, and must have a game made or loaded to play
+	 */
+	private ZusassGame(boolean headless){
+		super("ZUSASS", 1280, 720, 1280, 720, 200, true, false, false, true, 60, true, headless);
 		this.make3D();
 		this.getWindow().setWindowTitle("ZUSASS");
 		
 		// Window and performance settings
 		this.setTps(100);
 		this.setMaxFps(144);
-		this.setCurrentState(new MainMenuState(this));
 		this.setInitSoundOnStart(false);
-		// For some reason this has to happen on the next tick and not in the constructor to make sure the menu gets resized properly
-		this.onNextLoop(() -> {
-			var w = this.getWindow();
-			w.setSize(1920, 1020);
-			w.center();
-		});
+		if(!headless){
+			this.setCurrentState(new MainMenuState(this));
+			// For some reason this has to happen on the next tick and not in the constructor to make sure the menu gets resized properly
+			this.onNextLoop(() -> {
+				var w = this.getWindow();
+				w.setSize(1920, 1020);
+				w.center();
+			});
+		}
 		
 		// Loading assets
 		this.getFonts().addAll();
@@ -108,7 +114,11 @@ public class ZusassGame extends Game{
 		
 		MainPlay play = new MainPlay(zgame);
 		zgame.setCurrentState(play);
-		data.checkAutoSave(zgame);
+		// The save file is written right away, so that it exists as soon as the game is made, later saves happen in the background
+		if(data.isAutosave()){
+			this.saveLoadedGame();
+			this.getAutoSaver().setPath(data.getLoadedFile());
+		}
 	}
 	
 	@Override
@@ -170,8 +180,17 @@ public class ZusassGame extends Game{
 		else if(button == GLFW_KEY_F11) zgame.toggleFullscreen();
 	}
 	
-	/** Initialize any static needed values, as well as the object {@link #zgame} */
+	/** Initialize any static needed values, as well as the object {@link #zgame}, with a window */
 	public static void init(){
+		init(false);
+	}
+	
+	/**
+	 * Initialize any static needed values, as well as the object {@link #zgame}
+	 *
+	 * @param headless true to make a game with no window or sound, which only simulates ticks, false otherwise. See {@link Game#isHeadless()}
+	 */
+	public static void init(boolean headless){
 		if(zgame != null){
 			ZConfig.error("An instance of ZusassGame already exists, will not create another");
 			return;
@@ -182,15 +201,17 @@ public class ZusassGame extends Game{
 		ZusassStat.init();
 		Stats.init();
 		
-		zgame = new ZusassGame();
+		zgame = new ZusassGame(headless);
 		
 		// Load sounds into the game
 		zgame.initSound();
 		var sm = zgame.getSounds();
-		sm.addAllSounds();
-		sm.setDistanceScalar(10);
-		sm.getEffectsPlayer().setPaused(false);
-		sm.getEffectsPlayer().setMuted(true);
+		if(sm != null){
+			sm.addAllSounds();
+			sm.setDistanceScalar(10);
+			sm.getEffectsPlayer().setPaused(false);
+			sm.getEffectsPlayer().setMuted(true);
+		}
 		
 		/*
 		 Init all the static stat dependencies by making a new mob, because the stats are all added when the mob is created.
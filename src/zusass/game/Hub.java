@@ -34,11 +34,13 @@ public class Hub extends ZusassRoom{
 		this.setAllBoundaries(true);
 		// issue#63 make the tiles not just air and use the textured tile
 		// Make a floor
+		this.beginTileEdit();
 		for(int i = 0; i < X_TILES; i++){
 			for(int k = 0; k < Z_TILES; k++){
 				this.setTile(i, 0, k, (i % 2 == k % 2) ? BaseTiles3D.SOLID_DARK : BaseTiles3D.SOLID_LIGHT);
 			}
 		}
+		this.commitTileEdit();
 		
 		// The door to start at the highest level gotten to
 		var t = this.getTile(1, 1, 1);
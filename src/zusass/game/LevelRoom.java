@@ -76,7 +76,8 @@ public class LevelRoom extends ZusassRoom{
 	 * Initialize the state of this level room by adding all the intended objects, i.e., tiles, mobs, etc.
 	 */
 	public void initRandom(){
-		// Set up the tiles
+		// Set up the tiles, updating the faces of all of them at once at the end
+		this.beginTileEdit();
 		
 		// Everything is air by default
 		this.checker1 = new ZColor(0.2 + Math.random() * 0.5, 0.2 + Math.random() * 0.5, 0.2 + Math.random() * 0.5);
@@ -121,6 +122,7 @@ public class LevelRoom extends ZusassRoom{
 		// Put tiles in front of the door, mostly for testing
 		this.setTile(X_TILES - 3, 1, Z_TILES - 3, BaseTiles3D.SOLID_DARK);
 		this.setTile(X_TILES - 3, 2, Z_TILES - 4, BaseTiles3D.SOLID_LIGHT);
+		this.commitTileEdit();
 		
 		// issue#25 if this is changed to add hundreds of enemies, the TPS tanks while not using all the computer's resources. Probably need to make tick looper account for time spent rendering
 		// Add enemies
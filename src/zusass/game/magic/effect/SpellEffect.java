@@ -15,6 +15,6 @@ public interface SpellEffect extends Saveable{
 	 * @param mob The mob to effect
 	 * @param sourceId The id which represents who provided this effect
 	 */
-	void apply(String sourceId, ZusassMob mob);
+	void apply(long sourceId, ZusassMob mob);
 	
 }
@@ -14,6 +14,6 @@ public class SpellEffectNone implements SpellEffect{
 	}
 	
 	@Override
-	public void apply(String sourceId, ZusassMob mob){}
+	public void apply(long sourceId, ZusassMob mob){}
 	
 }
@@ -50,7 +50,7 @@ public class SpellEffectStatAdd implements SpellEffect{
 	}
 	
 	@Override
-	public void apply(String sourceId, ZusassMob mob){
+	public void apply(long sourceId, ZusassMob mob){
 		mob.getStat(this.getStat()).addValue(this.getAmount());
 	}
 	
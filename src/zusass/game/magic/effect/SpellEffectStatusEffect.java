@@ -51,7 +51,7 @@ public class SpellEffectStatusEffect implements SpellEffect{
 	}
 	
 	@Override
-	public void apply(String sourceId, ZusassMob mob){
+	public void apply(long sourceId, ZusassMob mob){
 		for(var effect : this.effects) mob.addEffect(sourceId, effect);
 	}
 	
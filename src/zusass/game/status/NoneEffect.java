@@ -19,10 +19,10 @@ public class NoneEffect extends StatusEffect{
 	}
 	
 	@Override
-	public void apply(String sourceId, ZusassMob mob){}
+	public void apply(long sourceId, ZusassMob mob){}
 	
 	@Override
-	public void clear(String sourceId, ZusassMob mob){}
+	public void clear(long sourceId, ZusassMob mob){}
 	
 	@Override
 	public double getCost(){
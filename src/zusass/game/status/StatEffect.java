@@ -67,12 +67,12 @@ public class StatEffect extends StatusEffect{
 	}
 	
 	@Override
-	public void apply(String sourceId, ZusassMob mob){
+	public void apply(long sourceId, ZusassMob mob){
 		for(var m : this.modifiers) mob.getStats().get(m.getId()).addModifier(sourceId, m.modifier());
 	}
 	
 	@Override
-	public void clear(String sourceId, ZusassMob mob){
+	public void clear(long sourceId, ZusassMob mob){
 		for(var m : this.modifiers) mob.getStats().get(m.getId()).removeModifier(sourceId, m.modifier());
 	}
 	
@@ -13,14 +13,9 @@ import zusass.ZusassGame;
 import zusass.game.ZusassRoom;
 import zusass.menu.spellmaker.SpellMakerMenu;
 
-import java.util.UUID;
-
 /** A {@link GameThing} used as a station for the player to click on to open the spell making interface */
 public class SpellMakerThing extends StaticThing3D implements ZThingClickDetector, GameTickable, RectPrismClickable{
 	
-	/** The uuid of this thing */
-	private final String uuid;
-	
 	/** The menu that this thing controls */
 	private final SpellMakerMenu menu;
 	
@@ -32,7 +27,6 @@ public class SpellMakerThing extends StaticThing3D implements ZThingClickDetecto
 	 */
 	public SpellMakerThing(ZusassGame zgame, double x, double y, double z){
 		super(x, y, z, 0.4, 0.2, 0.4);
-		this.uuid = UUID.randomUUID().toString();
 		
 		this.menu = new SpellMakerMenu(zgame);
 	}
@@ -45,9 +39,9 @@ public class SpellMakerThing extends StaticThing3D implements ZThingClickDetecto
 	
 	@Override
 	protected void render(Game game, Renderer r){
-		var b = this.getBounds();
+		var b = this.getRenderBounds();
 		var c = new ZColor(.6, 0, .8);
-		r.drawRectPrism(new RectRender3D(b), c, c, c, c, c, c);
+		r.addRectPrismInstance(new RectRender3D(b), c);
 	}
 	
 	@Override
@@ -69,10 +63,4 @@ public class SpellMakerThing extends StaticThing3D implements ZThingClickDetecto
 			zgame.onNextLoop(() -> play.removeMenu(game, this.menu));
 		}
 	}
-	
-	/** @return See {@link #uuid} */
-	@Override
-	public String getUuid(){
-		return this.uuid;
-	}
 }
@@ -10,6 +10,7 @@ import zgame.things.still.Door;
 import zgame.things.still.Door3D;
 import zgame.world.Direction3D;
 import zgame.world.Room3D;
+import zgame.world.RoomSnapshot;
 import zusass.ZusassGame;
 import zusass.game.ZusassRoom;
 
@@ -19,6 +20,11 @@ public class ZusassDoor extends Door3D implements ZThingClickDetector{
 	/** The direction this door should be facing towards */
 	private final Direction3D facingDirection;
 	
+	/** true if the player was close enough to click on this door, and nothing was in the way, as of the last tick, false otherwise */
+	private boolean clickable;
+	/** The value of {@link #clickable} taken from the last {@link RoomSnapshot} of its room. Only used by the rendering thread */
+	private boolean renderClickable;
+	
 	/**
 	 * Create a new door at the given position
 	 *
@@ -74,22 +80,56 @@ public class ZusassDoor extends Door3D implements ZThingClickDetector{
 		return this.facingDirection;
 	}
 	
+	/** @return See {@link #clickable} */
+	public boolean isClickable(){
+		return this.clickable;
+	}
+	
 	@Override
-	public void render(Game game, Renderer r){
+	public void tick(Game game, double dt){
+		super.tick(game, dt);
+		
 		var zgame = (ZusassGame)game;
-		double clickDistance = this.findClickDistance(zgame.getPlayer());
-		double maxClickRange = zgame.getPlayer().getClickRange();
+		var player = zgame.getPlayer();
+		if(player == null){
+			this.clickable = false;
+			return;
+		}
+		double clickDistance = this.findClickDistance(player);
+		double maxClickRange = player.getClickRange();
 		
 		// Check for tiles
 		double tileDistance = -1;
 		if(clickDistance >= 0){
 			var room = zgame.getCurrentRoom();
-			if(room != null) tileDistance = room.findTileClickDistance(zgame.getPlayer());
+			if(room != null) tileDistance = room.findTileClickDistance(player);
 		}
 		
-		boolean canClick = clickDistance <= maxClickRange && clickDistance >= 0 && (tileDistance < 0 || tileDistance > clickDistance);
-		var c = canClick ? new ZColor(0.2, 0.14, 0) : new ZColor(0.35, 0.22, 0);
-		r.drawRectPrism(new RectRender3D(this.getBounds()), c, c, c, c, c, c);
+		this.clickable = clickDistance <= maxClickRange && clickDistance >= 0 && (tileDistance < 0 || tileDistance > clickDistance);
+	}
+	
+	/** @return The size of the super class, plus 1 for {@link #clickable} */
+	@Override
+	public int getRenderStateSize(){
+		return super.getRenderStateSize() + 1;
+	}
+	
+	@Override
+	public void captureRenderState(double[] state, int offset){
+		super.captureRenderState(state, offset);
+		state[offset + super.getRenderStateSize()] = this.clickable ? 1 : 0;
+	}
+	
+	@Override
+	public void applyRenderState(double[] state, int offset){
+		super.applyRenderState(state, offset);
+		this.renderClickable = state[offset + super.getRenderStateSize()] != 0;
+	}
+	
+	@Override
+	public void render(Game game, Renderer r){
+		var c = this.renderClickable ? new ZColor(0.2, 0.14, 0) : new ZColor(0.35, 0.22, 0);
+		r.addRectPrismInstance(new RectRender3D(this.getRenderBounds()), c);
 	}
 	
 }
@@ -94,28 +94,34 @@ public class Npc extends ZusassMob{
 		return success;
 	}
 	
+	/** @return Enough space for the bars drawn above and to the sides of this {@link Npc} */
+	@Override
+	public double getRenderPadding(){
+		return 0.12 + this.getRenderWidth() * 0.1;
+	}
+	
 	@Override
 	protected void render(Game game, Renderer r){
-		double facingAngle = this.getMobilityData().getFacingYaw() + ZMath.PI_BY_2;
+		double facingAngle = this.getRenderYaw() + ZMath.PI_BY_2;
 		
 		// Temporary simple rendering
 		r.setColor(0.5, 0, 0);
-		r.drawSidePlaneX(this.getX(), this.getY(), this.getZ(), this.getWidth(), this.getHeight(), facingAngle);
+		r.addSidePlaneXInstance(this.getRenderX(), this.getRenderY(), this.getRenderZ(), this.getRenderWidth(), this.getRenderHeight(), facingAngle);
 		
 		// issue#23 make a way of drawing a health bar above the mob, accounting for how this health bar will not be a part of the mob itself, but above it
 		
 		// Draw bars to represent its remaining health, stamina, and mana
-		var x = this.getX() + 4;
-		var y = this.getY() + 4;
-		var w = this.getWidth() * .2;
-		var h = this.getHeight() - 8;
+		var x = this.getRenderX() + 4;
+		var y = this.getRenderY() + 4;
+		var w = this.getRenderWidth() * .2;
+		var h = this.getRenderHeight() - 8;
 		r.setColor(1, 0, 0);
-		r.drawRectangle(x, y, w, h * this.currentHealthPerc());
-		r.drawSidePlaneX(this.getX(), this.getY() + this.getHeight() + 0.09, this.getZ(), this.getWidth() * 1.2 * this.currentHealthPerc(), 0.03, facingAngle);
+		r.drawRectangle(x, y, w, h * this.getRenderHealthPerc());
+		r.addSidePlaneXInstance(this.getRenderX(), this.getRenderY() + this.getRenderHeight() + 0.09, this.getRenderZ(), this.getRenderWidth() * 1.2 * this.getRenderHealthPerc(), 0.03, facingAngle);
 		r.setColor(0, 1, 0);
-		r.drawSidePlaneX(this.getX(), this.getY() + this.getHeight() + 0.05, this.getZ(), this.getWidth() * 1.2 * this.currentStaminaPerc(), 0.03, facingAngle);
+		r.addSidePlaneXInstance(this.getRenderX(), this.getRenderY() + this.getRenderHeight() + 0.05, this.getRenderZ(), this.getRenderWidth() * 1.2 * this.getRenderStaminaPerc(), 0.03, facingAngle);
 		r.setColor(0, 0, 1);
-		r.drawSidePlaneX(this.getX(), this.getY() + this.getHeight() + 0.01, this.getZ(), this.getWidth() * 1.2 * this.currentManaPerc(), 0.03, facingAngle);
+		r.addSidePlaneXInstance(this.getRenderX(), this.getRenderY() + this.getRenderHeight() + 0.01, this.getRenderZ(), this.getRenderWidth() * 1.2 * this.getRenderManaPerc(), 0.03, facingAngle);
 		
 		// Draw an attack timer
 		r.setColor(.7, 0, 0);
@@ -6,6 +6,7 @@ import zgame.core.file.Saveable;
 import zgame.core.graphics.RectRender3D;
 import zgame.core.graphics.Renderer;
 import zgame.core.sound.SoundSource;
+import zgame.core.utils.UuidGenerator;
 import zgame.core.utils.ZMath;
 import zgame.core.utils.ZPoint3D;
 import zgame.physics.ZVector3D;
@@ -23,6 +24,7 @@ import zgame.things.entity.projectile.Projectile3D;
 import zgame.things.type.bounds.ClickerBounds;
 import zgame.things.type.bounds.CylinderClickable;
 import zgame.things.type.bounds.CylinderHitbox;
+import zgame.world.RoomSnapshot;
 import zusass.ZusassGame;
 import zgame.stat.Stats;
 import zusass.game.magic.*;
@@ -85,7 +87,7 @@ public abstract class ZusassMob extends MobilityEntity3D implements CylinderHitb
 	private StatModTracker staminaRunDrain;
 	
 	/** The sourceId of the modifier which drains stamina */
-	private static final String ID_STAMINA_DRAIN = "staminaDrain";
+	private static final long ID_STAMINA_DRAIN = UuidGenerator.next();
 	
 	/////////////////////////////////////////////////////////////////////////////////////////////////////////
 	/** The source of the sound for this mob casting a spell */
@@ -108,6 +110,21 @@ public abstract class ZusassMob extends MobilityEntity3D implements CylinderHitb
 	/** See {@link Mobility3D#isCanWallJump()} */
 	private boolean canWallJump;
 	
+	/////////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/** The value of {@link #attackTime} taken from the last {@link RoomSnapshot} of its room. Only used by the rendering thread */
+	private double renderAttackTime;
+	/** The value of {@link #getAttacksPerSecond()} taken from the last {@link RoomSnapshot} of its room. Only used by the rendering thread */
+	private double renderAttacksPerSecond;
+	/** The value of the {@link ZusassStat#ATTACK_RANGE} stat taken from the last {@link RoomSnapshot} of its room. Only used by the rendering thread */
+	private double renderAttackRange;
+	/** The value of {@link #currentHealthPerc()} taken from the last {@link RoomSnapshot} of its room. Only used by the rendering thread */
+	private double renderHealthPerc;
+	/** The value of {@link #currentStaminaPerc()} taken from the last {@link RoomSnapshot} of its room. Only used by the rendering thread */
+	private double renderStaminaPerc;
+	/** The value of {@link #currentManaPerc()} taken from the last {@link RoomSnapshot} of its room. Only used by the rendering thread */
+	private double renderManaPerc;
+	
 	/** See {@link Mobility3D#isSprinting()} */
 	private boolean sprinting;
 	
@@ -184,13 +201,13 @@ public abstract class ZusassMob extends MobilityEntity3D implements CylinderHitb
 		this.staminaRunDrain = new StatModTracker(0, ModifierType.ADD, this.getStat(STAMINA_REGEN), ID_STAMINA_DRAIN);
 	}
 	
-	// issue#62, also make sure to destroy all sound resources once they are not needed anymore
 	/**
 	 * Initialize this mob for creating sounds, otherwise sounds will not play
 	 * @param zgame The game the sound will be played in
 	 */
 	public void initSounds(ZusassGame zgame){
-		if(this.castSoundSource == null) this.castSoundSource = zgame.getSounds().createSource(this.getX(), this.getY(), this.getZ());
+		var sm = zgame.getSounds();
+		if(this.castSoundSource == null && sm != null) this.castSoundSource = sm.createSource(this.getX(), this.getY(), this.getZ());
 	}
 	
 	@Override
@@ -224,22 +241,22 @@ public abstract class ZusassMob extends MobilityEntity3D implements CylinderHitb
 	 */
 	public void renderAttackTimer(Game game, Renderer r){
 		// Do nothing if not attacking
-		if(this.getAttackTime() < 0) return;
+		if(this.getRenderAttackTime() < 0) return;
 		
-		double time = this.getAttackTime();
-		double speed = this.getAttacksPerSecond();
+		double time = this.getRenderAttackTime();
+		double speed = this.getRenderAttacksPerSecond();
 		double attackPercent = 1 - time * speed;
 		// Scale the time until attacking to make the arm move slowly at first, then quick at the end
 		double anglePerc = Math.pow(1 - time * speed, 7);
-		double attackSize = this.stat(ATTACK_RANGE) * 0.5 * attackPercent + 0.5;
-		double attackYaw = this.getMobilityData().getFacingYaw();
+		double attackSize = this.getRenderAttackRange() * 0.5 * attackPercent + 0.5;
+		double attackYaw = this.getRenderYaw();
 		
 		// Find the position where the arm will start
 		var attackDirectionVec = new ZVector3D(attackYaw, 0, attackSize, false);
-		var armBaseVec = new ZVector3D(this.getMobilityData().getFacingYaw() + ZMath.PI_BY_2, 0, this.getWidth() * 0.5, false);
+		var armBaseVec = new ZVector3D(attackYaw + ZMath.PI_BY_2, 0, this.getRenderWidth() * 0.5, false);
 		
-		// Find the position where the arm will attack to
-		var basePoint = this.center();
+		// Find the position where the arm will attack to, relative to where this mob is drawn
+		var basePoint = new ZPoint3D(this.getRenderX(), this.getRenderY() + this.getRenderHeight() * 0.5, this.getRenderZ());
 		basePoint.setX(basePoint.getX() + armBaseVec.getX());
 		basePoint.setZ(basePoint.getZ() + armBaseVec.getZ());
 		var attackPoint = basePoint.copy();
@@ -247,7 +264,7 @@ public abstract class ZusassMob extends MobilityEntity3D implements CylinderHitb
 		attackPoint.setZ(attackPoint.getZ() + attackDirectionVec.getZ());
 		
 		// Find the correct pitch and yaw to rotate the arm from the base to the attack point
-		double armSize = this.getWidth() * 0.1;
+		double armSize = this.getRenderWidth() * 0.1;
 		double dx = attackPoint.getX() - basePoint.getX();
 		double dy = attackPoint.getY() - basePoint.getY();
 		double dz = attackPoint.getZ() - basePoint.getZ();
@@ -261,7 +278,7 @@ public abstract class ZusassMob extends MobilityEntity3D implements CylinderHitb
 		rect.setPitch(pitch);
 		rect.setRoll(0);
 		var c = r.getColor();
-		r.drawRectPrism(rect, c, c, c, c, c, c);
+		r.addRectPrismInstance(rect, c);
 	}
 	
 	/**
@@ -379,7 +396,7 @@ public abstract class ZusassMob extends MobilityEntity3D implements CylinderHitb
 			var sm = zgame.getSounds();
 			sm.updateSourcePos(this.castSoundSource, this.getX(), this.getY(), this.getZ());
 			sm.updateSourceDirection(this.castSoundSource, 0, 0, 0);
-			this.castSoundSource.setBaseVolume(0.2);
+			sm.updateSourceVolume(this.castSoundSource, 0.2);
 			zgame.playEffect(this.castSoundSource, "win");
 		}
 		return success;
@@ -401,7 +418,7 @@ public abstract class ZusassMob extends MobilityEntity3D implements CylinderHitb
 	 * @param effect The effect to add
 	 * @param sourceId The id representing whatever originally applied the effect
 	 */
-	public void addEffect(String sourceId, StatusEffect effect){
+	public void addEffect(long sourceId, StatusEffect effect){
 		this.effects.addEffect(effect, sourceId, this);
 	}
 	
@@ -414,7 +431,7 @@ public abstract class ZusassMob extends MobilityEntity3D implements CylinderHitb
 	 * @param modifierType The way the modifier applies its value
 	 * @param statType The {@link Stat} to effect
 	 */
-	public void addStatEffect(String sourceId, double duration, double value, ModifierType modifierType, ZusassStat statType){
+	public void addStatEffect(long sourceId, double duration, double value, ModifierType modifierType, ZusassStat statType){
 		this.addEffect(sourceId, new StatEffect(duration, new StatModifier(value, modifierType), statType));
 	}
 	
@@ -500,6 +517,66 @@ public abstract class ZusassMob extends MobilityEntity3D implements CylinderHitb
 		return Math.min(1, Math.max(0, perc));
 	}
 	
+	/** @return See {@link #renderAttackTime} */
+	public double getRenderAttackTime(){
+		return this.renderAttackTime;
+	}
+	
+	/** @return See {@link #renderAttacksPerSecond} */
+	public double getRenderAttacksPerSecond(){
+		return this.renderAttacksPerSecond;
+	}
+	
+	/** @return See {@link #renderAttackRange} */
+	public double getRenderAttackRange(){
+		return this.renderAttackRange;
+	}
+	
+	/** @return See {@link #renderHealthPerc} */
+	public double getRenderHealthPerc(){
+		return this.renderHealthPerc;
+	}
+	
+	/** @return See {@link #renderStaminaPerc} */
+	public double getRenderStaminaPerc(){
+		return this.renderStaminaPerc;
+	}
+	
+	/** @return See {@link #renderManaPerc} */
+	public double getRenderManaPerc(){
+		return this.renderManaPerc;
+	}
+	
+	/** @return The size of the super class, plus 6 for the attack and the remaining resources of this mob */
+	@Override
+	public int getRenderStateSize(){
+		return super.getRenderStateSize() + 6;
+	}
+	
+	@Override
+	public void captureRenderState(double[] state, int offset){
+		super.captureRenderState(state, offset);
+		int i = offset + super.getRenderStateSize();
+		state[i] = this.getAttackTime();
+		state[i + 1] = this.getAttacksPerSecond();
+		state[i + 2] = this.stat(ATTACK_RANGE);
+		state[i + 3] = this.currentHealthPerc();
+		state[i + 4] = this.currentStaminaPerc();
+		state[i + 5] = this.currentManaPerc();
+	}
+	
+	@Override
+	public void applyRenderState(double[] state, int offset){
+		super.applyRenderState(state, offset);
+		int i = offset + super.getRenderStateSize();
+		this.renderAttackTime = state[i];
+		this.renderAttacksPerSecond = state[i + 1];
+		this.renderAttackRange = state[i + 2];
+		this.renderHealthPerc = state[i + 3];
+		this.renderStaminaPerc = state[i + 4];
+		this.renderManaPerc = state[i + 5];
+	}
+	
 	/** @return See {@link #radius} */
 	@Override
 	public double getRadius(){
@@ -587,7 +664,7 @@ public abstract class ZusassMob extends MobilityEntity3D implements CylinderHitb
 		
 		return this.stat(MOVE_SPEED) * 2 + agilityModifier;
 	}
-
+	
 	@Override
 	public double getFrictionConstant(){
 		return this.getWalkFrictionConstant();
@@ -704,12 +781,14 @@ public abstract class ZusassMob extends MobilityEntity3D implements CylinderHitb
 	
 	@Override
 	public boolean save(JsonElement e){
+		super.save(e);
 		this.spells.save(Saveable.newObj(SPELLBOOK_KEY, e));
 		return true;
 	}
 	
 	@Override
 	public boolean load(JsonElement e) throws ClassCastException, IllegalStateException, NullPointerException{
+		super.load(e);
 		this.spells = Saveable.obj(SPELLBOOK_KEY, e, Spellbook.class);
 		return true;
 	}
@@ -112,6 +112,7 @@ public class ZusassPlayer extends ZusassMob{
 		//issue#61
 		// Update the sound listener to the player
 		var sm = game.getSounds();
+		if(sm == null) return;
 		sm.updateListenerPos(this.getX(), this.getY(), this.getZ());
 		var soundVec = new ZVector3D(mobilityData.getFacingYaw(), mobilityData.getFacingPitch(), 1, false);
 		sm.updateListenerDirection(soundVec.getX(), soundVec.getY(), soundVec.getZ());
@@ -174,7 +175,7 @@ public class ZusassPlayer extends ZusassMob{
 	public void render(Game game, Renderer r){
 		// Temporary simple rendering
 		r.setColor(0, 0.2, 0.5);
-		r.drawSidePlaneX(this.getX(), this.getY(), this.getZ(), this.getWidth(), this.getHeight(), this.getMobilityData().getFacingYaw() - ZMath.PI_BY_2);
+		r.addSidePlaneXInstance(this.getRenderX(), this.getRenderY(), this.getRenderZ(), this.getRenderWidth(), this.getRenderHeight(), this.getRenderYaw() - ZMath.PI_BY_2);
 		
 		this.renderAttackTimer(game, r);
 	}
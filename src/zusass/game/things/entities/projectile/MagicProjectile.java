@@ -39,7 +39,7 @@ public class MagicProjectile extends Projectile3D implements SphereHitBox{
 	 * @param launchVelocity The initial velocity of the projectile
 	 * @param effects See {@link #effects}
 	 */
-	public MagicProjectile(double x, double y, double z, String sourceId, ZVector3D launchVelocity, NotNullList<SpellEffect> effects){
+	public MagicProjectile(double x, double y, double z, long sourceId, ZVector3D launchVelocity, NotNullList<SpellEffect> effects){
 		this(x, y, z, 0.2, sourceId, launchVelocity, effects);
 	}
 	
@@ -54,7 +54,7 @@ public class MagicProjectile extends Projectile3D implements SphereHitBox{
 	 * @param launchVelocity The initial velocity of the projectile
 	 * @param effects See {@link #effects}
 	 */
-	public MagicProjectile(double x, double y, double z, double radius, String sourceId, ZVector3D launchVelocity, NotNullList<SpellEffect> effects){
+	public MagicProjectile(double x, double y, double z, double radius, long sourceId, ZVector3D launchVelocity, NotNullList<SpellEffect> effects){
 		this(x, y, z, radius, -1, sourceId, launchVelocity, effects);
 	}
 	
@@ -70,7 +70,7 @@ public class MagicProjectile extends Projectile3D implements SphereHitBox{
 	 * @param launchVelocity The initial velocity of the projectile
 	 * @param effects See {@link #effects}
 	 */
-	public MagicProjectile(double x, double y, double z, double radius, double range, String sourceId, ZVector3D launchVelocity, NotNullList<SpellEffect> effects){
+	public MagicProjectile(double x, double y, double z, double radius, double range, long sourceId, ZVector3D launchVelocity, NotNullList<SpellEffect> effects){
 		super(x, y, z, launchVelocity);
 		this.color = new ZColor(Math.random(), Math.random(), Math.random(), 0.4 * Math.random() + 0.4);
 		
@@ -90,31 +90,27 @@ public class MagicProjectile extends Projectile3D implements SphereHitBox{
 		});
 	}
 	
-	// issue#62
 	/**
 	 * Initialize this mob for creating sounds, otherwise sounds will not play
 	 * @param zgame The game the sound will be played in
 	 */
 	public void initSounds(ZusassGame zgame){
-		this.removedSoundSource = zgame.getSounds().createSource(this.getX(), this.getY(), this.getZ());
-	}
-	
-	@Override
-	public void tick(Game game, double dt){
-		super.tick(game, dt);
-		// issue#61, Does updating the sound position here cause lag?
-		if(this.removedSoundSource != null) {
-			var sm = game.getSounds();
-			sm.updateSourcePos(this.removedSoundSource, this.getX(), this.getY(), this.getZ());
-			sm.updateSourceDirection(this.removedSoundSource, 0, 0, 0);
-		}
+		var sm = zgame.getSounds();
+		if(sm == null) return;
+		this.removedSoundSource = sm.createSource(this.getX(), this.getY(), this.getZ());
+		sm.updateSourceDirection(this.removedSoundSource, 0, 0, 0);
+		sm.attachSource(this.removedSoundSource, this);
 	}
 	
 	@Override
 	public void onRoomRemove(Game game){
 		super.onRoomRemove(game);
 		if(this.removedSoundSource != null) {
-			this.removedSoundSource.setBaseVolume(10);
+			var sm = game.getSounds();
+			// The sound plays where the projectile was removed, so the source no longer needs to follow it
+			sm.detachSource(this.removedSoundSource);
+			sm.updateSourcePos(this.removedSoundSource, this.getX(), this.getY(), this.getZ());
+			sm.updateSourceVolume(this.removedSoundSource, 10);
 			game.playEffect(this.removedSoundSource, "lose");
 		}
 	}
@@ -128,7 +124,7 @@ public class MagicProjectile extends Projectile3D implements SphereHitBox{
 	@Override
 	protected void render(Game game, Renderer r){
 		r.setColor(this.color);
-		r.drawSphere(this.getX(), this.getY(), this.getZ(), this.getRadius());
+		r.addSphereInstance(this.getRenderX(), this.getRenderY(), this.getRenderZ(), this.getRenderWidth() * 0.5);
 	}
 	
 	@Override
@@ -6,7 +6,6 @@ import zgame.core.graphics.ZColor;
 import zgame.core.utils.ZRect2D;
 import zgame.menu.Menu;
 import zgame.menu.MenuThing;
-import zusass.ZusassData;
 import zusass.ZusassGame;
 import zusass.game.MainPlay;
 import zusass.menu.comp.ZusassMenuText;
@@ -112,8 +111,6 @@ public class PauseMenu extends Menu{
 	}
 	
 	public void save(ZusassGame zgame){
-		ZusassData d = zgame.getData();
-		d.checkAutoSave(zgame);
 		zgame.saveLoadedGame();
 	}
 	
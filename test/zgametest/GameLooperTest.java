@@ -0,0 +1,72 @@
+package zgametest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.*;
+
+import zgame.core.GameLooper;
+
+import java.util.concurrent.locks.LockSupport;
+
+public class GameLooperTest{
+	
+	/** The rate used by the loopers in each test */
+	private static final int RATE = 100;
+	
+	/** The number of nanoseconds in one step of {@link #RATE} */
+	private static final long STEP = GameLooper.NANO_SECOND / RATE;
+	
+	private int calls;
+	
+	/** Run one time before each test occurs, use for initialization of values that must be the same before each test */
+	@BeforeEach
+	public void setup(){
+		calls = 0;
+	}
+	
+	/**
+	 * Run a looper which waits between loops for the given amount of time
+	 *
+	 * @param fixedStep true to use fixed step mode, false otherwise
+	 * @param seconds The number of seconds to run the loop for
+	 * @param work The number of nanoseconds of synthetic work done by each call of the loop
+	 * @return The looper after it finished
+	 */
+	private GameLooper run(boolean fixedStep, double seconds, long work){
+		long end = System.nanoTime() + (long)(seconds * GameLooper.NANO_SECOND);
+		var looper = new GameLooper(RATE, () -> {
+			calls++;
+			LockSupport.parkNanos(work);
+		}, null, () -> System.nanoTime() < end, () -> true, "Test", false);
+		looper.setFixedStep(fixedStep);
+		looper.setMaxStepsPerLoop(3);
+		looper.loop();
+		return looper;
+	}
+	
+	@Test
+	public void testFixedStepRate(){
+		var looper = run(true, 1, STEP / 4);
+		assertTrue(calls >= RATE * 0.9 && calls <= RATE * 1.1, "Checking rate held under light load, got " + calls);
+		assertEquals(0, looper.getDroppedSteps(), "Checking no steps dropped under light load");
+		assertFalse(looper.isRunning(), "Checking looper stopped");
+	}
+	
+	@Test
+	public void testFixedStepOverloaded(){
+		// Each step takes more than twice as long as a step should, so the loop can never catch up
+		var looper = run(true, 1, STEP * 5 / 2);
+		assertTrue(calls < RATE * 0.6, "Checking overloaded loop runs fewer steps, got " + calls);
+		assertTrue(looper.getDroppedSteps() > 0, "Checking steps dropped instead of falling further behind");
+		double alpha = looper.getInterpolation();
+		assertTrue(alpha >= 0 && alpha < 1, "Checking interpolation in range, got " + alpha);
+	}
+	
+	@Test
+	public void testVariableStepRate(){
+		// Without fixed steps, the wait starts after each call, so only check the rate when the calls take no time
+		run(false, 1, 0);
+		assertTrue(calls >= RATE * 0.85 && calls <= RATE * 1.1, "Checking rate held without fixed steps, got " + calls);
+	}
+	
+}
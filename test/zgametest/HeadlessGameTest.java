@@ -0,0 +1,149 @@
+package zgametest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import zgame.core.Game;
+import zgame.core.file.AutoSaver;
+import zgame.core.file.ZJsonFile;
+import zgame.core.state.DefaultState;
+import zgame.core.window.GameWindow;
+import zgame.core.window.HeadlessWindow;
+
+import java.io.File;
+import java.nio.file.Path;
+
+import static org.lwjgl.glfw.GLFW.*;
+
+public class HeadlessGameTest{
+	
+	private static Game game;
+	
+	/** A state which counts the ticks it receives */
+	private static class CountState extends DefaultState{
+		private volatile int ticks = 0;
+		
+		@Override
+		public void tick(Game game, double dt){
+			super.tick(game, dt);
+			this.ticks++;
+		}
+	}
+	
+	/** @return A new headless game which ticks 60 times per second */
+	private static Game makeGame(){
+		return new Game("", 0, 0, 200, 100, 0, false, false, false, false, 60, false, true);
+	}
+	
+	/** Run one time before all tests occur, use for initialization of static values */
+	@BeforeAll
+	public static void init(){
+		game = makeGame();
+	}
+	
+	@Test
+	public void noContext(){
+		assertTrue(game.isHeadless(), "Checking the game is headless");
+		assertFalse(GameWindow.hasContext(), "Checking the thread of a headless game has no OpenGL context");
+		assertInstanceOf(HeadlessWindow.class, game.getWindow(), "Checking the game uses a headless window");
+		assertNull(game.getWindow().getRenderer(), "Checking there is no renderer");
+		assertNull(game.getSounds(), "Checking there is no sound");
+		assertEquals(200, game.getScreenWidth(), "Checking the screen width");
+		assertEquals(100, game.getScreenHeight(), "Checking the screen height");
+		assertNotNull(game.getDefaultFont(), "Checking fonts load without a texture");
+		assertTrue(game.getFontAsset("zfont").isHeadless(), "Checking the fonts of a headless game are only used for measuring");
+		assertEquals(0, game.getFontAsset("zfont").getBitmapID(), "Checking no font texture is made");
+	}
+	
+	@Test
+	public void simulate(){
+		var state = new CountState();
+		game.setCurrentState(state);
+		boolean[] ran = {false};
+		game.onNextLoop(() -> ran[0] = true);
+		
+		double start = game.getTotalTickTime();
+		game.simulate(120);
+		assertEquals(state, game.getCurrentState(), "Checking the new state is used without a render loop");
+		assertTrue(ran[0], "Checking next loop functions run without a render loop");
+		assertEquals(120, state.ticks, "Checking every tick is simulated");
+		assertEquals(2, game.getTotalTickTime() - start, 0.000001, "Checking each tick is as long as one tick of the tick loop");
+	}
+	
+	@Test
+	public void input(){
+		var window = (HeadlessWindow)game.getWindow();
+		window.sendKey(GLFW_KEY_A, true);
+		assertFalse(game.getKeyInput().pressed(GLFW_KEY_A), "Checking a sent key is not pressed before the next tick");
+		game.simulate(1);
+		assertTrue(game.getKeyInput().pressed(GLFW_KEY_A), "Checking a sent key is pressed");
+		window.sendKey(GLFW_KEY_A, false);
+		game.simulate(1);
+		assertFalse(game.getKeyInput().pressed(GLFW_KEY_A), "Checking a sent key is released");
+		
+		window.sendMouseButton(GLFW_MOUSE_BUTTON_LEFT, true);
+		window.sendMouseButton(GLFW_MOUSE_BUTTON_LEFT, false);
+		game.simulate(1);
+		assertFalse(game.getMouseInput().buttonDown(GLFW_MOUSE_BUTTON_LEFT), "Checking a button pressed and released between ticks is not down");
+		assertTrue(game.getMouseInput().buttonPressed(GLFW_MOUSE_BUTTON_LEFT), "Checking a button pressed and released between ticks is seen as pressed");
+		assertTrue(game.getMouseInput().buttonReleased(GLFW_MOUSE_BUTTON_LEFT), "Checking a button pressed and released between ticks is seen as released");
+		
+		window.sendMouseMove(50, 25);
+		assertEquals(50, game.mouseSX(), "Checking the mouse x moves in screen coordinates");
+		assertEquals(25, game.mouseSY(), "Checking the mouse y moves in screen coordinates");
+	}
+	
+	@Test
+	public void start() throws InterruptedException{
+		var started = makeGame();
+		var state = new CountState();
+		started.setCurrentState(state);
+		var thread = new Thread(started::start);
+		thread.start();
+		while(state.ticks < 10) Thread.sleep(5);
+		((HeadlessWindow)started.getWindow()).close();
+		thread.join(5000);
+		assertFalse(thread.isAlive(), "Checking the tick loop ends when the window closes");
+	}
+	
+	@Test
+	public void autoSave(@TempDir Path dir) throws InterruptedException{
+		var path = dir.resolve("headless.json").toString();
+		var saving = makeGame();
+		var state = new CountState();
+		saving.setCurrentState(state);
+		var saver = saving.getAutoSaver();
+		saver.setPath(path);
+		saver.setInterval(0.05);
+		
+		// Save in the background while the tick loop runs, requesting extra saves from this thread
+		var thread = new Thread(saving::start);
+		thread.start();
+		while(state.ticks < 30){
+			saver.request();
+			Thread.sleep(5);
+		}
+		((HeadlessWindow)saving.getWindow()).close();
+		thread.join(5000);
+		assertFalse(thread.isAlive(), "Checking the tick loop ends when the window closes");
+		assertTrue(saver.await(10000), "Checking every autosave finishes writing");
+		long autoSaves = saver.getSaves();
+		assertTrue(autoSaves > 0, "Checking the game autosaved while ticking");
+		
+		// A save asked for directly is written after the autosaves, and is finished when the method returns
+		assertTrue(saving.saveGame(path), "Checking the game saves directly");
+		assertEquals(autoSaves + 1, saver.getSaves(), "Checking the direct save went through the autosaver");
+		assertNotNull(new ZJsonFile(path).load(), "Checking the save file loads");
+		assertFalse(new File(path + AutoSaver.TEMP_EXTENSION).exists(), "Checking no temporary file is left behind");
+		assertEquals(0, saver.getFailed(), "Checking no save failed");
+		saving.destroy();
+	}
+	
+	/** Run after all tests run, use to clean up static resources */
+	@AfterAll
+	public static void done(){
+		game.destroy();
+	}
+}
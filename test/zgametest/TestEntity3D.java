@@ -0,0 +1,54 @@
+package zgametest;
+
+import zgame.core.Game;
+import zgame.core.graphics.Renderer;
+import zgame.things.entity.EntityThing3D;
+import zgame.things.type.bounds.CylinderHitbox;
+
+/** A minimal implementation of {@link EntityThing3D} used for testing, which never renders anything */
+public class TestEntity3D extends EntityThing3D implements CylinderHitbox{
+	
+	/** The radius of this entity */
+	private final double radius;
+	
+	/** The height of this entity */
+	private final double height;
+	
+	/**
+	 * Create a new entity at the given position
+	 *
+	 * @param x The x coordinate of the bottom center of the entity
+	 * @param y The y coordinate of the bottom center of the entity
+	 * @param z The z coordinate of the bottom center of the entity
+	 * @param radius See {@link #radius}
+	 * @param height See {@link #height}
+	 */
+	public TestEntity3D(double x, double y, double z, double radius, double height){
+		super(x, y, z, 1);
+		this.radius = radius;
+		this.height = height;
+	}
+	
+	@Override
+	public double getRadius(){
+		return this.radius;
+	}
+	
+	@Override
+	public double getHeight(){
+		return this.height;
+	}
+	
+	@Override
+	public double getGravityDragReferenceArea(){
+		return CylinderHitbox.super.getGravityDragReferenceArea();
+	}
+	
+	@Override
+	public double getFrictionConstant(){
+		return 1;
+	}
+	
+	@Override
+	protected void render(Game game, Renderer r){}
+}
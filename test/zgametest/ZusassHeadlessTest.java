@@ -0,0 +1,60 @@
+package zgametest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.*;
+
+import zgame.world.Room3D;
+import zusass.ZusassData;
+import zusass.ZusassGame;
+import zusass.game.Hub;
+import zusass.game.MainPlay;
+import zusass.game.things.entities.mobs.ZusassPlayer;
+
+public class ZusassHeadlessTest{
+	
+	private static ZusassGame zgame;
+	
+	/** Run one time before all tests occur, use for initialization of static values */
+	@BeforeAll
+	public static void init(){
+		ZusassGame.init(true);
+		zgame = ZusassGame.instance();
+	}
+	
+	@Test
+	public void tickPlayState(){
+		assertTrue(zgame.isHeadless(), "Checking the game is headless");
+		
+		// Set up a game like a new game would, without writing a save file
+		var player = new ZusassPlayer();
+		zgame.setPlayer(player);
+		var data = new ZusassData();
+		data.setAutosave(false);
+		zgame.setData(data);
+		var play = new MainPlay(zgame);
+		zgame.setCurrentState(play);
+		
+		// The hub is made on the first tick, then the player is placed on a tick after
+		zgame.simulate(3);
+		assertSame(play, zgame.getCurrentState(), "Checking the play state is used");
+		var room = play.getCurrentRoom();
+		assertInstanceOf(Hub.class, room, "Checking the play state entered the hub");
+		assertInstanceOf(Room3D.class, room, "Checking the hub is a 3D room");
+		assertSame(player, room.getEntity(player.getUuid()), "Checking the player is placed in the hub");
+		
+		long snapshots = room.getSnapshotCount();
+		double start = zgame.getTotalTickTime();
+		zgame.simulate(100);
+		assertEquals(snapshots + 100, room.getSnapshotCount(), "Checking the room is ticked once for each simulated tick");
+		assertEquals(1, zgame.getTotalTickTime() - start, 0.000001, "Checking each tick is as long as one tick of the game");
+		assertSame(room, play.getCurrentRoom(), "Checking the room stays the same while ticking");
+	}
+	
+	/** Run after all tests run, use to clean up static resources */
+	@AfterAll
+	public static void done(){
+		zgame.destroy();
+	}
+	
+}
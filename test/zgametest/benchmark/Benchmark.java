@@ -0,0 +1,75 @@
+package zgametest.benchmark;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Simple utilities for running the benchmarks in this package. Each benchmark is a standalone program with a main method, run manually rather than as part of the tests.
+ * Times are measured with {@link System#nanoTime()}, and allocations with the per thread allocation counter of the JVM
+ */
+public final class Benchmark{
+	
+	/** The bean used to find the number of bytes allocated by a thread, or null if the JVM does not support it */
+	private static final com.sun.management.ThreadMXBean THREAD_BEAN = findThreadBean();
+	
+	/** Cannot instantiate {@link Benchmark} */
+	private Benchmark(){
+	}
+	
+	/** @return The bean for {@link #THREAD_BEAN} */
+	private static com.sun.management.ThreadMXBean findThreadBean(){
+		var bean = ManagementFactory.getThreadMXBean();
+		if(!(bean instanceof com.sun.management.ThreadMXBean b) || !b.isThreadAllocatedMemorySupported()) return null;
+		b.setThreadAllocatedMemoryEnabled(true);
+		return b;
+	}
+	
+	/** @return The total number of bytes the current thread has allocated, or -1 if it cannot be measured */
+	public static long allocatedBytes(){
+		if(THREAD_BEAN == null) return -1;
+		return THREAD_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+	
+	/**
+	 * Run the given function repeatedly, first to warm up, then to measure
+	 *
+	 * @param warmup The number of times to run the function before measuring
+	 * @param iterations The number of times to run the function while measuring
+	 * @param func The function to run
+	 * @return The average time, in milliseconds, of one call to func
+	 */
+	public static double timeMillis(int warmup, int iterations, Runnable func){
+		for(int i = 0; i < warmup; i++) func.run();
+		long start = System.nanoTime();
+		for(int i = 0; i < iterations; i++) func.run();
+		return (System.nanoTime() - start) / (iterations * 1E6);
+	}
+	
+	/**
+	 * Run the given function repeatedly, first to warm up, then to measure the number of allocated bytes
+	 *
+	 * @param warmup The number of times to run the function before measuring
+	 * @param iterations The number of times to run the function while measuring
+	 * @param func The function to run
+	 * @return The average number of bytes allocated by one call to func, or a negative number if allocation cannot be measured
+	 */
+	public static double allocatedPerCall(int warmup, int iterations, Runnable func){
+		for(int i = 0; i < warmup; i++) func.run();
+		long start = allocatedBytes();
+		for(int i = 0; i < iterations; i++) func.run();
+		long end = allocatedBytes();
+		if(start < 0) return -1;
+		return (end - start) / (double)iterations;
+	}
+	
+	/**
+	 * Print a single result of a benchmark
+	 *
+	 * @param name The name of the thing measured
+	 * @param value The measured value
+	 * @param unit The unit of value
+	 */
+	public static void report(String name, double value, String unit){
+		System.out.printf("%-60s %14.4f %s%n", name, value, unit);
+	}
+	
+}
@@ -0,0 +1,110 @@
+package zgametest.benchmark;
+
+import zgame.core.GameTickable;
+import zgame.core.utils.ClassMappedList;
+import zgame.things.entity.EntityThing3D;
+import zgame.things.type.GameThing;
+import zgame.things.type.bounds.HitBox3D;
+import zgame.world.Room3D;
+import zgametest.TestEntity3D;
+
+import java.util.ArrayDeque;
+
+/**
+ * Benchmark for adding and removing things from a {@link ClassMappedList} set up like the lists of a {@link Room3D}, with many projectiles spawning and despawning each tick
+ * while a large number of other things stay in the lists
+ */
+public class ClassMappedListBenchmark{
+	
+	/** The sort priority of the spawned things, the same as the projectiles of the game */
+	private static final int PROJECTILE_PRIORITY = 200;
+	
+	/** The sort priority of things spawned between the resident things and the projectiles */
+	private static final int MIDDLE_PRIORITY = 100;
+	
+	public static void main(String[] args){
+		for(int resident : new int[]{1000, 10000, 50000}){
+			var list = new ClassMappedList();
+			list.addClass(GameThing.class);
+			list.addClass(HitBox3D.class);
+			list.addClass(GameTickable.class);
+			list.addClass(EntityThing3D.class);
+			
+			// Things which never leave, with different priorities, so that the lists have several buckets
+			for(int i = 0; i < resident; i++){
+				int priority = i % 10 == 0 ? -100 : 0;
+				list.add(new TestEntity3D(0, 0, 0, 0.5, 1){
+					@Override
+					public int getSortPriority(){
+						return priority;
+					}
+				});
+			}
+			
+			// Each call spawns and despawns a set of projectiles, keeping a constant number alive, removing them all at once like the end of a room tick
+			var alive = new ArrayDeque<TestEntity3D>();
+			int perTick = 200;
+			for(int i = 0; i < perTick * 5; i++) alive.add(projectile(list));
+			Runnable churn = () -> {
+				list.deferCompaction();
+				for(int i = 0; i < perTick; i++) list.remove(alive.removeFirst());
+				list.compact();
+				for(int i = 0; i < perTick; i++) alive.add(projectile(list));
+			};
+			String prefix = resident + " resident things, " + perTick + " spawned and despawned, ";
+			Benchmark.report(prefix + "time", Benchmark.timeMillis(200, 1000, churn), "ms");
+			
+			// Removing from the middle of a list, the worst case for a list which must shift its elements
+			var middle = list.get(GameThing.class).get(resident / 2);
+			Runnable removeMiddle = () -> {
+				list.remove(middle);
+				list.add(middle);
+			};
+			Benchmark.report(resident + " resident things, remove and add a resident thing, time", Benchmark.timeMillis(1000, 10000, removeMiddle) * 1000, "us");
+			
+			// Spawning and despawning things which sort before the projectiles, so every one goes into the middle of the sorted list
+			var middleAlive = new ArrayDeque<TestEntity3D>();
+			for(int i = 0; i < perTick * 5; i++) middleAlive.add(middleThing(list));
+			Runnable middleChurn = () -> {
+				for(int i = 0; i < perTick; i++) list.remove(middleAlive.removeFirst());
+				for(int i = 0; i < perTick; i++) middleAlive.add(middleThing(list));
+			};
+			Benchmark.report(prefix + "inserted in the middle, time", Benchmark.timeMillis(200, 1000, middleChurn), "ms");
+		}
+	}
+	
+	/**
+	 * Add a new thing to the given list which sorts after the resident things, but before the projectiles
+	 *
+	 * @param list The list
+	 * @return The thing
+	 */
+	private static TestEntity3D middleThing(ClassMappedList list){
+		var t = new TestEntity3D(0, 0, 0, 0.1, 0.1){
+			@Override
+			public int getSortPriority(){
+				return MIDDLE_PRIORITY;
+			}
+		};
+		list.add(t);
+		return t;
+	}
+	
+	/**
+	 * Add a new projectile to the given list
+	 *
+	 * @param list The list
+	 * @return The projectile
+	 */
+	private static TestEntity3D projectile(ClassMappedList list){
+		var p = new TestEntity3D(0, 0, 0, 0.1, 0.1){
+			@Override
+			public int getSortPriority(){
+				return PROJECTILE_PRIORITY;
+			}
+		};
+		list.add(p);
+		return p;
+	}
+	
+}
@@ -0,0 +1,81 @@
+package zgametest.benchmark;
+
+import zgame.things.entity.EntityThing3D;
+import zgame.things.still.tiles.BaseTiles3D;
+import zgame.world.Room3D;
+import zgametest.TestEntity3D;
+
+import java.util.Random;
+
+/**
+ * Benchmark for ticking a {@link Room3D} filled with many entities, to check that the entity collision broadphase keeps the tick rate at 60.
+ * Uses entities the same size as the npcs in a level room, though without their AI, as that requires a full game
+ */
+public class EntityCollisionBenchmark{
+	
+	/** The number of ticks per second which must be maintained */
+	private static final double TARGET_TPS = 60;
+	/** The amount of time passed in one tick */
+	private static final double DT = 1.0 / TARGET_TPS;
+	/** The radius of each entity */
+	private static final double RADIUS = 0.15;
+	/** The height of each entity */
+	private static final double HEIGHT = 0.6;
+	
+	public static void main(String[] args){
+		for(int count : new int[]{1000, 2500, 5000}){
+			// The same size as a level room
+			var level = new Room3D(9, 5, 7);
+			level.setTileBoundaries();
+			run("Level room", level, count, 9, 5, 7);
+			
+			// A large room with a floor
+			var large = new Room3D(256, 256, 256);
+			large.setTileBoundaries();
+			for(int x = 0; x < 256; x++){
+				for(int z = 0; z < 256; z++) large.setTile(x, 0, z, BaseTiles3D.SOLID_DARK);
+			}
+			run("256^3 room", large, count, 256, 256, 256);
+		}
+	}
+	
+	/**
+	 * Fill the given room with entities, then measure how long a tick takes
+	 *
+	 * @param name The name of the room for reporting
+	 * @param room The room to fill
+	 * @param count The number of entities to add
+	 * @param width The size of the room on the x axis
+	 * @param height The size of the room on the y axis
+	 * @param length The size of the room on the z axis
+	 */
+	private static void run(String name, Room3D room, int count, double width, double height, double length){
+		var random = new Random(count);
+		for(int i = 0; i < count; i++){
+			room.addThing(new TestEntity3D(
+					RADIUS + random.nextDouble() * (width - RADIUS * 2),
+					random.nextDouble() * (height - HEIGHT),
+					RADIUS + random.nextDouble() * (length - RADIUS * 2),
+					RADIUS, HEIGHT));
+		}
+		
+		double tickTime = Benchmark.timeMillis(60, 300, () -> room.tick(null, DT));
+		double tps = Math.min(TARGET_TPS, 1000.0 / tickTime);
+		String prefix = name + ", " + count + " entities, ";
+		Benchmark.report(prefix + "tick time", tickTime, "ms");
+		Benchmark.report(prefix + "sustainable tps", tps, tps >= TARGET_TPS ? "(holds 60)" : "(below 60)");
+		
+		// For comparison, the time it would take to check every pair of entities once
+		var entities = room.getEntities();
+		double bruteTime = Benchmark.timeMillis(2, 10, () -> {
+			int hits = 0;
+			for(int i = 0; i < entities.size(); i++){
+				EntityThing3D a = entities.get(i);
+				for(int j = i + 1; j < entities.size(); j++) if(a.intersects(entities.get(j))) hits++;
+			}
+			if(hits < 0) System.out.println(hits);
+		});
+		Benchmark.report(prefix + "brute force intersection checks only", bruteTime, "ms");
+	}
+	
+}
@@ -0,0 +1,54 @@
+package zgametest.benchmark;
+
+import zgame.physics.ForceRegistry;
+import zgame.physics.ZVector3D;
+import zgametest.TestEntity3D;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Benchmark for updating the forces of many entities each tick, without a room, so that only the time spent on forces and movement is measured.
+ * Also compares setting a force by its name with setting it by its id from {@link ForceRegistry}
+ */
+public class EntityForceBenchmark{
+	
+	/** The amount of time passed in one tick */
+	private static final double DT = 1.0 / 60;
+	/** The number of entities ticked */
+	private static final int ENTITIES = 10_000;
+	
+	public static void main(String[] args){
+		var random = new Random(ENTITIES);
+		var entities = new ArrayList<TestEntity3D>(ENTITIES);
+		for(int i = 0; i < ENTITIES; i++){
+			var e = new TestEntity3D(random.nextDouble() * 100, 1000 + random.nextDouble() * 100, random.nextDouble() * 100, 0.5, 1);
+			e.setForce("push", random.nextDouble(), 0, random.nextDouble());
+			entities.add(e);
+		}
+		
+		// A full tick of forces and movement for every entity
+		Runnable tick = () -> {
+			for(var e : entities){
+				e.tick(null, DT);
+				e.updatePosition(null, DT);
+			}
+		};
+		Benchmark.report(ENTITIES + " entities, tick time", Benchmark.timeMillis(60, 600, tick), "ms");
+		Benchmark.report(ENTITIES + " entities, allocated per tick", Benchmark.allocatedPerCall(60, 600, tick), "bytes");
+		
+		// Only setting a force on every entity
+		int pushId = ForceRegistry.id("push");
+		var force = new ZVector3D(1, 0, 1);
+		Runnable byName = () -> {
+			for(var e : entities) e.setForce("push", force);
+		};
+		Runnable byId = () -> {
+			for(var e : entities) e.setForce(pushId, force);
+		};
+		Benchmark.report(ENTITIES + " entities, set force by name", Benchmark.timeMillis(60, 600, byName), "ms");
+		Benchmark.report(ENTITIES + " entities, set force by id", Benchmark.timeMillis(60, 600, byId), "ms");
+		Benchmark.report(ENTITIES + " entities, set force by id, allocated", Benchmark.allocatedPerCall(60, 600, byId), "bytes");
+	}
+	
+}
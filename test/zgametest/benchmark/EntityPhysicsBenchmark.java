@@ -0,0 +1,74 @@
+package zgametest.benchmark;
+
+import zgame.physics.ZVector3D;
+import zgame.physics.collision.CollisionResult3D;
+import zgame.physics.material.Materials;
+import zgametest.TestEntity3D;
+
+/**
+ * Benchmark for the per tick physics of a single entity, {@link zgame.things.entity.EntityThing#updatePosition(zgame.core.Game, double)},
+ * checking that it allocates nothing, both while falling and while sliding on the ground with friction.
+ * Also compares the vector operations used by updating the position with and without creating new vectors
+ */
+public class EntityPhysicsBenchmark{
+	
+	/** The amount of time passed in one tick */
+	private static final double DT = 1.0 / 60;
+	/** The number of calls used to warm up each measurement */
+	private static final int WARMUP = 200_000;
+	/** The number of calls measured */
+	private static final int ITERATIONS = 1_000_000;
+	
+	public static void main(String[] args){
+		var startVel = new ZVector3D(2, 0, 1);
+		
+		// An entity in the air, only gravity acts on it
+		var falling = new TestEntity3D(0, 1000, 0, 0.5, 1);
+		Runnable fall = () -> {
+			falling.setVelocity(startVel);
+			falling.updatePosition(null, DT);
+		};
+		report("falling", fall);
+		
+		// An entity on the ground, friction slows it down
+		var sliding = new TestEntity3D(0, 0, 0, 0.5, 1);
+		sliding.touchFloor(new CollisionResult3D(0, 0, 0, false, false, true, Materials.DEFAULT, 0));
+		Runnable slide = () -> {
+			sliding.setVelocity(startVel);
+			sliding.updatePosition(null, DT);
+		};
+		report("sliding", slide);
+		
+		// The vector math of one position update, creating new vectors, as it was done before vectors could be modified
+		var force = new ZVector3D(3, -9.8, 1);
+		var velocity = new ZVector3D(2, 0, 1);
+		var acceleration = new ZVector3D();
+		var distance = new ZVector3D();
+		double[] sink = new double[1];
+		Runnable immutable = () -> {
+			var a = force.scale(0.5);
+			var v = velocity.add(a.scale(DT));
+			sink[0] += v.scale(DT).add(a.scale(DT * DT * 0.5)).getX();
+		};
+		Runnable local = () -> {
+			acceleration.set(force).scaleLocal(0.5);
+			distance.set(velocity).addScaledLocal(acceleration, DT).scaleLocal(DT).addScaledLocal(acceleration, DT * DT * 0.5);
+			sink[0] += distance.getX();
+		};
+		report("vector math, new vectors", immutable);
+		report("vector math, modified in place", local);
+		if(sink[0] == 0) System.out.println(sink[0]);
+	}
+	
+	/**
+	 * Measure and print the time and allocation of the given function
+	 *
+	 * @param name The name of the function for reporting
+	 * @param func The function to measure
+	 */
+	private static void report(String name, Runnable func){
+		Benchmark.report(name + ", time per call", Benchmark.timeMillis(WARMUP, ITERATIONS, func) * 1E6, "ns");
+		Benchmark.report(name + ", allocated per call", Benchmark.allocatedPerCall(WARMUP, ITERATIONS, func), "bytes");
+	}
+	
+}
@@ -0,0 +1,73 @@
+package zgametest.benchmark;
+
+import zgame.core.GameLooper;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Harness for measuring how consistently a {@link GameLooper} runs at its rate, both in fixed step mode and the default mode.
+ * Each looper runs under a synthetic load taking some fraction of the time of one step, and reports the achieved rate, the jitter of the time between calls,
+ * and how many steps were dropped
+ */
+public class GameLooperBenchmark{
+	
+	/** The rate to run each looper at */
+	private static final int RATE = 60;
+	/** The number of seconds to run each looper for */
+	private static final double SECONDS = 3;
+	/** The fractions of the time of one step to use as synthetic load */
+	private static final double[] LOADS = {0, 0.5, 0.9, 1.5, 3};
+	
+	public static void main(String[] args){
+		for(double load : LOADS){
+			run(false, load);
+			run(true, load);
+		}
+	}
+	
+	/**
+	 * Run a looper and report its results
+	 *
+	 * @param fixedStep true to use fixed step mode, false otherwise
+	 * @param load The fraction of the time of one step used by each call
+	 */
+	private static void run(boolean fixedStep, double load){
+		long step = GameLooper.NANO_SECOND / RATE;
+		long work = (long)(step * load);
+		long[] times = new long[(int)(RATE * SECONDS * 4) + 16];
+		int[] count = {0};
+		long end = System.nanoTime() + (long)(SECONDS * GameLooper.NANO_SECOND);
+		
+		var looper = new GameLooper(RATE, () -> {
+			if(count[0] < times.length) times[count[0]++] = System.nanoTime();
+			// Busy work, rather than parking, so the load uses the processor like a real tick
+			long until = System.nanoTime() + work;
+			while(System.nanoTime() < until) Thread.onSpinWait();
+		}, null, () -> System.nanoTime() < end, () -> true, "Benchmark", false);
+		looper.setFixedStep(fixedStep);
+		looper.loop();
+		
+		// Find the average and standard deviation of the time between calls
+		int n = count[0];
+		double mean = 0;
+		for(int i = 1; i < n; i++) mean += times[i] - times[i - 1];
+		mean /= Math.max(1, n - 1);
+		double variance = 0;
+		double maxDeviation = 0;
+		for(int i = 1; i < n; i++){
+			double d = times[i] - times[i - 1] - mean;
+			variance += d * d;
+			maxDeviation = Math.max(maxDeviation, Math.abs(d));
+		}
+		variance /= Math.max(1, n - 1);
+		
+		String prefix = (fixedStep ? "Fixed step" : "Variable step") + ", load " + load + ", ";
+		Benchmark.report(prefix + "achieved rate", n / SECONDS, "per second");
+		Benchmark.report(prefix + "mean interval", mean / 1E6, "ms");
+		Benchmark.report(prefix + "jitter (std dev)", Math.sqrt(variance) / 1E6, "ms");
+		Benchmark.report(prefix + "max deviation", maxDeviation / 1E6, "ms");
+		Benchmark.report(prefix + "dropped steps", looper.getDroppedSteps(), "steps");
+		LockSupport.parkNanos(GameLooper.NANO_SECOND / 10);
+	}
+	
+}
@@ -0,0 +1,71 @@
+package zgametest.benchmark;
+
+import org.joml.Matrix4f;
+
+import zgame.core.graphics.MatrixStack;
+import zgame.core.utils.LimitedStack;
+
+import java.util.Stack;
+
+/**
+ * Benchmark for the stacks used by the renderer, comparing pushing a new copy of the model view matrix for every draw call, as the renderer used to,
+ * against reusing the matrices of a {@link MatrixStack}, and comparing a {@link LimitedStack} against the synchronized {@link Stack} it used to wrap
+ */
+public class MatrixStackBenchmark{
+	
+	/** The number of calls used to warm up */
+	private static final int WARMUP = 1_000_000;
+	/** The number of calls measured */
+	private static final int ITERATIONS = 10_000_000;
+	
+	public static void main(String[] args){
+		float[] sink = new float[1];
+		
+		// The matrix operations done by drawing a rectangle
+		var copying = new LimitedStack<>(new Matrix4f());
+		Runnable copyingDraw = () -> {
+			copying.push(new Matrix4f(copying.peek()));
+			copying.peek().translate(1, 2, 0).scale(3, 4, 1);
+			sink[0] += copying.peek().m30();
+			copying.pop();
+		};
+		var reusing = new MatrixStack();
+		Runnable reusingDraw = () -> {
+			reusing.push();
+			reusing.peek().translate(1, 2, 0).scale(3, 4, 1);
+			sink[0] += reusing.peek().m30();
+			reusing.pop();
+		};
+		report("push and pop, new matrix each push", copyingDraw);
+		report("push and pop, matrix stack", reusingDraw);
+		
+		// The attribute stacks, pushed and popped around drawing things like text and menus
+		var synchronizedStack = new Stack<Object>();
+		var item = new Object();
+		synchronizedStack.push(item);
+		Runnable synchronizedPush = () -> {
+			synchronizedStack.push(synchronizedStack.peek());
+			synchronizedStack.pop();
+		};
+		var limited = new LimitedStack<>(item);
+		Runnable limitedPush = () -> {
+			limited.push();
+			limited.pop();
+		};
+		report("attribute push and pop, synchronized stack", synchronizedPush);
+		report("attribute push and pop, limited stack", limitedPush);
+		if(sink[0] == 0) System.out.println(sink[0]);
+	}
+	
+	/**
+	 * Measure and print the time and allocation of the given function
+	 *
+	 * @param name The name of the function for reporting
+	 * @param func The function to measure
+	 */
+	private static void report(String name, Runnable func){
+		Benchmark.report(name + ", time per call", Benchmark.timeMillis(WARMUP, ITERATIONS, func) * 1E6, "ns");
+		Benchmark.report(name + ", allocated per call", Benchmark.allocatedPerCall(WARMUP, ITERATIONS, func), "bytes");
+	}
+	
+}
@@ -0,0 +1,72 @@
+package zgametest.benchmark;
+
+import org.lwjgl.BufferUtils;
+import zgame.core.sound.OggStream;
+import zgame.core.utils.ZAssetUtils;
+import zgame.core.utils.ZFilePaths;
+import zgame.core.utils.ZPointerBuffer;
+
+import java.nio.IntBuffer;
+
+import static org.lwjgl.stb.STBVorbis.*;
+import static org.lwjgl.system.libc.LibCStdlib.nfree;
+
+/**
+ * Benchmark for decoding the music used by the game. Does not need an audio device.
+ * Reports how fast an {@link OggStream} decodes compared to decoding the entire file at once, and how many bytes are allocated each time a buffer is refilled
+ */
+public class OggStreamBenchmark{
+	
+	/** The music file to decode */
+	private static final String PATH = ZFilePaths.MUSIC + "song.ogg";
+	/** The number of values in each buffer, the same as the default for music */
+	private static final int BUFFER_SIZE = 8192;
+	/** The number of buffers, the same as the default for music */
+	private static final int NUM_BUFFERS = 4;
+	
+	public static void main(String[] args){
+		var encoded = ZAssetUtils.getJarBytes(PATH);
+		var stream = OggStream.open(encoded, BUFFER_SIZE, NUM_BUFFERS);
+		if(stream == null) return;
+		int samples = stream.getSamples();
+		double seconds = (double)samples / stream.getSampleRate();
+		
+		// Decode the whole file one buffer at a time
+		double streamTime = Benchmark.timeMillis(2, 10, () -> {
+			stream.rewind();
+			while(!stream.isFinished()) stream.next();
+		});
+		
+		// Decode the whole file at once, the way all sounds used to be loaded
+		double wholeTime = Benchmark.timeMillis(2, 10, () -> {
+			IntBuffer channels = BufferUtils.createIntBuffer(1);
+			IntBuffer sampleRate = BufferUtils.createIntBuffer(1);
+			var pointer = new ZPointerBuffer(1);
+			stb_vorbis_decode_memory(encoded, channels, sampleRate, pointer.getBuffer());
+			nfree(pointer.getBuffer().get(0));
+			pointer.free();
+		});
+		
+		// Refill buffers the same way music does while it plays, looping at the end
+		double refillAlloc = Benchmark.allocatedPerCall(1000, 10000, () -> {
+			if(stream.isFinished()) stream.rewind();
+			stream.next();
+		});
+		double refillTime = Benchmark.timeMillis(1000, 10000, () -> {
+			if(stream.isFinished()) stream.rewind();
+			stream.next();
+		});
+		
+		Benchmark.report("Length of music", seconds, "s");
+		Benchmark.report("Encoded size", encoded.capacity() / 1024.0, "KiB");
+		Benchmark.report("Decoded size of the whole file", samples * stream.getChannels() * 2 / 1024.0, "KiB");
+		Benchmark.report("Decoded size kept by the stream", stream.getNumBuffers() * stream.getBufferSize() * 2 / 1024.0, "KiB");
+		Benchmark.report("Time to stream decode the whole file", streamTime, "ms");
+		Benchmark.report("Stream decode speed", seconds * 1000 / streamTime, "x real time");
+		Benchmark.report("Time to decode the whole file at once", wholeTime, "ms");
+		Benchmark.report("Time per refill", refillTime, "ms");
+		Benchmark.report("Allocated per refill", refillAlloc, "bytes");
+		stream.destroy();
+	}
+	
+}
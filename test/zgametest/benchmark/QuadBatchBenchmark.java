@@ -0,0 +1,66 @@
+package zgametest.benchmark;
+
+import zgame.core.graphics.AlphaMode;
+import zgame.core.graphics.MatrixStack;
+import zgame.core.graphics.QuadBatch;
+import zgame.core.graphics.ZColor;
+
+/**
+ * Benchmark for building the vertices of a frame of menus with a {@link QuadBatch}. Each menu component draws 5 rectangles of different colors and a line of text,
+ * like a button with a border and a label. Without batching, every rectangle and every character is its own OpenGL draw call. With batching, a draw call is only
+ * needed when the state of the batch changes, which this benchmark counts. Only the work on the CPU is measured, sending the vertices needs OpenGL
+ */
+public class QuadBatchBenchmark{
+	
+	/** The number of menu components drawn each frame */
+	private static final int COMPONENTS = 1_000;
+	/** The number of rectangles drawn by each component */
+	private static final int RECTS = 5;
+	/** The number of characters in the text of each component */
+	private static final int CHARACTERS = 10;
+	/** The number of frames used to warm up */
+	private static final int WARMUP = 200;
+	/** The number of frames measured */
+	private static final int FRAMES = 2_000;
+	
+	public static void main(String[] args){
+		var batch = new QuadBatch();
+		var stack = new MatrixStack();
+		var colors = new ZColor[RECTS];
+		for(int i = 0; i < RECTS; i++) colors[i] = new ZColor(i / (double)RECTS, .5, .5);
+		var textColor = new ZColor(1);
+		int[] drawCalls = new int[1];
+		
+		Runnable frame = () -> {
+			for(int c = 0; c < COMPONENTS; c++){
+				for(int r = 0; r < RECTS; r++){
+					if(!batch.begin(QuadBatch.Mode.SHAPE, 0, AlphaMode.NORMAL)){
+						drawCalls[0]++;
+						batch.clear();
+						batch.begin(QuadBatch.Mode.SHAPE, 0, AlphaMode.NORMAL);
+					}
+					stack.push();
+					stack.peek().translate(c, r, 0).scale(10, 2, 1);
+					batch.addQuad(stack.peek(), -1, -1, 1, 1, 0, 0, 1, 1, colors[r]);
+					stack.pop();
+				}
+				if(!batch.begin(QuadBatch.Mode.FONT, 1, AlphaMode.NORMAL)){
+					drawCalls[0]++;
+					batch.clear();
+					batch.begin(QuadBatch.Mode.FONT, 1, AlphaMode.NORMAL);
+				}
+				for(int i = 0; i < CHARACTERS; i++) batch.addQuad(stack.peek(), i, 0, i + 1, 1, 0, 0, .1f, .1f, textColor);
+			}
+			drawCalls[0]++;
+			batch.clear();
+		};
+		
+		Benchmark.report("menu frame, time per frame", Benchmark.timeMillis(WARMUP, FRAMES, frame) * 1E3, "us");
+		Benchmark.report("menu frame, allocated per frame", Benchmark.allocatedPerCall(WARMUP, FRAMES, frame), "bytes");
+		drawCalls[0] = 0;
+		frame.run();
+		Benchmark.report("menu frame, draw calls without batching", COMPONENTS * (RECTS + CHARACTERS), "calls");
+		Benchmark.report("menu frame, draw calls with batching, text between shapes", drawCalls[0], "calls");
+	}
+	
+}
@@ -0,0 +1,56 @@
+package zgametest.benchmark;
+
+import zgame.core.graphics.Renderer;
+import zgame.things.still.tiles.Tile2D;
+import zgame.world.Room2D;
+import zgametest.TestGame;
+
+/**
+ * Benchmark for drawing a frame of a {@link Room2D} with {@link #SIZE} by {@link #SIZE} tiles, where only a small part of the room is on the screen. Drawing the room
+ * only visits the tiles in the range of the render bounds of the {@link Renderer}. Visiting every tile, letting {@link Renderer#shouldDraw(double, double, double, double)}
+ * cull the tiles which are not on the screen, is also measured, to compare with finding the range of tiles. Needs a window, and a large heap for the tiles
+ */
+public class Room2DRenderBenchmark{
+	
+	/** The number of tiles on each side of the room */
+	private static final int SIZE = 2000;
+	/** The number of frames used to warm up */
+	private static final int WARMUP = 5;
+	/** The number of frames measured */
+	private static final int FRAMES = 20;
+	
+	public static void main(String[] args){
+		var game = new TestGame();
+		var r = game.getWindow().getRenderer();
+		var camera = game.getCamera();
+		var room = new Room2D(SIZE, SIZE);
+		
+		// Look at the middle of the room
+		double middle = SIZE * Tile2D.size() * 0.5;
+		camera.setPos(-middle, -middle);
+		r.setCamera(camera);
+		r.identityMatrix();
+		camera.transform(game.getWindow());
+		
+		int[] drawn = new int[1];
+		Runnable range = () -> {
+			room.render(game, r);
+			r.flushBatch();
+		};
+		Runnable all = () -> {
+			drawn[0] = 0;
+			for(int i = 0; i < SIZE; i++) for(int j = 0; j < SIZE; j++) if(room.getTileUnchecked(i, j).renderWithCheck(game, r)) drawn[0]++;
+			r.flushBatch();
+		};
+		
+		Benchmark.report(SIZE + "x" + SIZE + " room, tiles in range, time per frame", Benchmark.timeMillis(WARMUP, FRAMES, range), "ms");
+		Benchmark.report(SIZE + "x" + SIZE + " room, tiles in range, allocated per frame", Benchmark.allocatedPerCall(WARMUP, FRAMES, range), "bytes");
+		Benchmark.report(SIZE + "x" + SIZE + " room, every tile culled, time per frame", Benchmark.timeMillis(WARMUP, FRAMES, all), "ms");
+		Benchmark.report(SIZE + "x" + SIZE + " room, every tile culled, allocated per frame", Benchmark.allocatedPerCall(WARMUP, FRAMES, all), "bytes");
+		Benchmark.report(SIZE + "x" + SIZE + " room, tiles on the screen", drawn[0], "tiles");
+		
+		room.destroy();
+		game.destroy();
+	}
+	
+}
@@ -0,0 +1,97 @@
+package zgametest.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import zgame.core.file.ZBinaryFile;
+import zgame.core.file.ZJsonFile;
+
+/**
+ * Benchmark for saving and loading a large world with {@link ZJsonFile} and with {@link ZBinaryFile}, both compressed and not. The world is made of rooms of tiles
+ * and entities, sized so that its json file is roughly 10 MB
+ */
+public class SaveFormatBenchmark{
+	
+	/** The number of rooms in the world */
+	private static final int ROOMS = 20;
+	/** The number of tiles on each side of a room */
+	private static final int ROOM_SIZE = 60;
+	/** The number of entities in each room */
+	private static final int ENTITIES = 200;
+	/** The number of times each save or load is run before measuring */
+	private static final int WARMUP = 3;
+	/** The number of times each save or load is measured */
+	private static final int ITERATIONS = 10;
+	
+	public static void main(String[] args) throws IOException{
+		var world = makeWorld();
+		var dir = Files.createTempDirectory("saves").toFile();
+		
+		var json = new ZJsonFile(new File(dir, "world.json").getPath());
+		json.setData(world);
+		Benchmark.report("10 MB world, json save", Benchmark.timeMillis(WARMUP, ITERATIONS, json::save), "ms");
+		Benchmark.report("10 MB world, json load", Benchmark.timeMillis(WARMUP, ITERATIONS, json::load), "ms");
+		Benchmark.report("10 MB world, json file size", json.getFile().length() / 1E6, "MB");
+		
+		for(boolean compressed : new boolean[]{false, true}){
+			var name = compressed ? "binary compressed" : "binary";
+			var binary = new ZBinaryFile(new File(dir, name + ZBinaryFile.EXTENSION).getPath(), compressed);
+			binary.setData(world);
+			Benchmark.report("10 MB world, " + name + " save", Benchmark.timeMillis(WARMUP, ITERATIONS, binary::save), "ms");
+			Benchmark.report("10 MB world, " + name + " load", Benchmark.timeMillis(WARMUP, ITERATIONS, binary::load), "ms");
+			Benchmark.report("10 MB world, " + name + " file size", binary.getFile().length() / 1E6, "MB");
+		}
+		
+		for(var f : dir.listFiles()) f.delete();
+		dir.delete();
+	}
+	
+	/** @return The data of a world, in the form a {@link zgame.core.file.Saveable} would make it */
+	private static JsonObject makeWorld(){
+		var world = new JsonObject();
+		var general = new JsonObject();
+		general.addProperty("highestRoomLevel", ROOMS);
+		general.addProperty("seed", 1234567890123L);
+		world.add("data", general);
+		
+		var rooms = new JsonArray();
+		for(int r = 0; r < ROOMS; r++){
+			var room = new JsonObject();
+			room.addProperty("level", r);
+			var tiles = new JsonArray();
+			for(int x = 0; x < ROOM_SIZE; x++){
+				for(int y = 0; y < ROOM_SIZE; y++){
+					var tile = new JsonObject();
+					tile.addProperty("x", x);
+					tile.addProperty("y", y);
+					tile.addProperty("type", (x + y) % 7 == 0 ? "wall" : "floor");
+					tile.addProperty("color", (x * 31 + y * 17) % 255 / 255.0);
+					tiles.add(tile);
+				}
+			}
+			room.add("tiles", tiles);
+			var entities = new JsonArray();
+			for(int e = 0; e < ENTITIES; e++){
+				var entity = new JsonObject();
+				entity.addProperty("uuid", (long)r * ENTITIES + e);
+				entity.addProperty("x", e * 1.5);
+				entity.addProperty("y", r * 2.25 + e);
+				entity.addProperty("health", 100 - e % 100);
+				entity.addProperty("name", "Mob " + e);
+				var stats = new JsonArray();
+				for(int s = 0; s < 10; s++) stats.add(s * 0.75 + e);
+				entity.add("stats", stats);
+				entities.add(entity);
+			}
+			room.add("entities", entities);
+			rooms.add(room);
+		}
+		world.add("rooms", rooms);
+		return world;
+	}
+	
+}
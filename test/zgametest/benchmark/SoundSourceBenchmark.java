@@ -0,0 +1,213 @@
+package zgametest.benchmark;
+
+import zgame.core.sound.AttachedSources;
+import zgame.core.sound.Sound;
+import zgame.core.sound.SoundSource;
+import zgame.core.sound.VoiceBackend;
+import zgame.core.sound.VoicePool;
+import zgame.core.utils.ZPointerBuffer;
+import zgame.things.type.Position3D;
+
+/**
+ * Benchmark for moving the sound sources of things every tick, comparing each thing moving its own source, as projectiles used to, against gathering every position at the
+ * end of the tick with {@link AttachedSources}. Counts the number of OpenAL calls made each tick with a backend which only counts calls
+ */
+public class SoundSourceBenchmark{
+	
+	/** The number of projectiles with a sound source */
+	private static final int PROJECTILES = 500;
+	/** The number of ticks used to warm up */
+	private static final int WARMUP = 2_000;
+	/** The number of ticks measured */
+	private static final int TICKS = 20_000;
+	
+	/** A {@link VoiceBackend} which only counts the number of times it was used */
+	private static class CountingBackend implements VoiceBackend{
+		
+		/** The number of calls made to this backend */
+		private long calls;
+		/** The id of the last created voice */
+		private int lastId;
+		
+		@Override
+		public int create(){
+			this.calls++;
+			return ++this.lastId;
+		}
+		
+		@Override
+		public void delete(int voice){
+			this.calls++;
+		}
+		
+		@Override
+		public void position(int voice, double x, double y, double z){
+			this.calls++;
+		}
+		
+		@Override
+		public void direction(int voice, double x, double y, double z){
+			this.calls++;
+		}
+		
+		@Override
+		public void gain(int voice, double gain){
+			this.calls++;
+		}
+		
+		@Override
+		public void pitch(int voice, double pitch){
+			this.calls++;
+		}
+		
+		@Override
+		public void buffer(int voice, int buffer){
+			this.calls++;
+		}
+		
+		@Override
+		public void play(int voice){
+			this.calls++;
+		}
+		
+		@Override
+		public void pause(int voice){
+			this.calls++;
+		}
+		
+		@Override
+		public void stop(int voice){
+			this.calls++;
+		}
+		
+		@Override
+		public void rewind(int voice){
+			this.calls++;
+		}
+		
+		@Override
+		public float getSampleOffset(int voice){
+			this.calls++;
+			return 0;
+		}
+		
+		@Override
+		public void setSampleOffset(int voice, float offset){
+			this.calls++;
+		}
+		
+		@Override
+		public boolean isStopped(int voice){
+			this.calls++;
+			return false;
+		}
+	}
+	
+	/** A thing which moves in a straight line, or stays still */
+	private static class Mover implements Position3D{
+		private double x;
+		private double y;
+		private double z;
+		private final double speed;
+		
+		private Mover(double x, double speed){
+			this.x = x;
+			this.y = 1;
+			this.z = 0;
+			this.speed = speed;
+		}
+		
+		private void tick(){
+			this.z += this.speed;
+		}
+		
+		@Override
+		public double getX(){
+			return this.x;
+		}
+		
+		@Override
+		public double getY(){
+			return this.y;
+		}
+		
+		@Override
+		public double getZ(){
+			return this.z;
+		}
+	}
+	
+	/** A long sound which is never loaded, so that every source keeps playing for the whole benchmark */
+	private static final Sound SOUND = new Sound("benchmark"){
+		{
+			this.setInfo(1, 44100, Integer.MAX_VALUE);
+		}
+		
+		@Override
+		protected void bufferData(ZPointerBuffer p){}
+		
+		@Override
+		public int[] getIds(){
+			return new int[]{1};
+		}
+	};
+	
+	public static void main(String[] args){
+		// Before the voice pool, every source had its own OpenAL source, and each projectile moved and pointed its source every tick
+		run("per projectile, own voice each, playing", PROJECTILES, true, false, 1);
+		run("per projectile, " + VoicePool.DEFAULT_VOICES + " voices, playing", VoicePool.DEFAULT_VOICES, true, false, 1);
+		run("attached, " + VoicePool.DEFAULT_VOICES + " voices, playing", VoicePool.DEFAULT_VOICES, true, true, 1);
+		run("attached, " + VoicePool.DEFAULT_VOICES + " voices, half still", VoicePool.DEFAULT_VOICES, true, true, 2);
+		// Projectiles only play a sound when they are removed, so while flying, their sources are not playing
+		run("per projectile, own voice each, not playing", PROJECTILES, false, false, 1);
+		run("attached, not playing", VoicePool.DEFAULT_VOICES, false, true, 1);
+	}
+	
+	/**
+	 * Simulate ticks of {@link #PROJECTILES} moving projectiles, and print the time and number of OpenAL calls of each tick
+	 *
+	 * @param name The name of the case for reporting
+	 * @param voices The number of voices in the pool
+	 * @param playing true if every source is playing a sound, false if none are
+	 * @param attached true to move sources with {@link AttachedSources}, false to move each source directly
+	 * @param stillEvery One of every this many projectiles does not move
+	 */
+	private static void run(String name, int voices, boolean playing, boolean attached, int stillEvery){
+		var backend = new CountingBackend();
+		var pool = new VoicePool(backend, voices);
+		var batch = new AttachedSources();
+		var movers = new Mover[PROJECTILES];
+		var sources = new SoundSource[PROJECTILES];
+		for(int i = 0; i < PROJECTILES; i++){
+			movers[i] = new Mover(i, (stillEvery > 1 && i % stillEvery == 0) ? 0 : 0.1);
+			sources[i] = new SoundSource(backend, i, 1, 0, 1);
+			if(attached) batch.attach(sources[i], movers[i]);
+			// With a voice for every projectile, each source keeps its voice whether or not it plays, like it used to
+			if(voices >= PROJECTILES) pool.reserve(sources[i]);
+			if(playing){
+				sources[i].setCurrent(SOUND);
+				pool.play(sources[i]);
+			}
+		}
+		Runnable tick = () -> {
+			for(int i = 0; i < PROJECTILES; i++){
+				var m = movers[i];
+				m.tick();
+				if(!attached){
+					sources[i].updatePosition(m.getX(), m.getY(), m.getZ());
+					sources[i].updateDirection(0, 0, 0);
+				}
+			}
+			if(attached){
+				batch.gather(1);
+				batch.apply();
+			}
+		};
+		for(int i = 0; i < WARMUP; i++) tick.run();
+		long calls = backend.calls;
+		Benchmark.report(name + ", time per tick", Benchmark.timeMillis(0, TICKS, tick) * 1E3, "us");
+		Benchmark.report(name + ", OpenAL calls per tick", (backend.calls - calls) / (double)TICKS, "calls");
+		Benchmark.report(name + ", allocated per tick", Benchmark.allocatedPerCall(0, TICKS, tick), "bytes");
+	}
+	
+}
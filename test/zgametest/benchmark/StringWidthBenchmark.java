@@ -0,0 +1,92 @@
+package zgametest.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import zgame.core.graphics.font.FontAsset;
+import zgame.core.graphics.font.GameFont;
+import zgame.core.graphics.font.GlyphMetrics;
+import zgametest.TestGame;
+
+/**
+ * Benchmark for measuring the width of 1 KB strings. Summing character widths from the {@link GlyphMetrics} of a font is compared with summing them from maps mapped
+ * by boxed font sizes and characters, the way {@link FontAsset} used to keep them. {@link GameFont#stringWidth(String)} is also measured both with and without its
+ * text layout cache. Needs a window to load the font
+ */
+public class StringWidthBenchmark{
+	
+	/** The number of characters in each string */
+	private static final int LENGTH = 1024;
+	/** The number of different strings measured in each call */
+	private static final int STRINGS = 16;
+	/** The number of calls used to warm up */
+	private static final int WARMUP = 2_000;
+	/** The number of calls measured */
+	private static final int ITERATIONS = 20_000;
+	
+	/** Prevents the measured widths from being optimized away */
+	private static double sink;
+	
+	public static void main(String[] args){
+		var game = new TestGame();
+		GameFont font = game.getDefaultFont();
+		FontAsset asset = font.getAsset();
+		var texts = new String[STRINGS];
+		for(int s = 0; s < STRINGS; s++){
+			var sb = new StringBuilder();
+			for(int i = 0; i < LENGTH; i++) sb.append((char)(' ' + (i * 7 + s) % 95));
+			texts[s] = sb.toString();
+		}
+		
+		// The old way of keeping widths, filled ahead of time so only the lookups are measured
+		Map<Double, Map<Character, Double>> widthMap = new HashMap<>();
+		var cMap = new HashMap<Character, Double>();
+		for(char c = ' '; c < 127; c++) cMap.put(c, font.charWidth(c));
+		widthMap.put(font.getSize(), cMap);
+		double size = font.getSize();
+		Runnable boxed = () -> {
+			for(var t : texts){
+				double w = 0;
+				for(int i = 0; i < t.length(); i++) w += widthMap.get(size).get(t.charAt(i));
+				sink += w;
+			}
+		};
+		report("boxed maps, sum of char widths", boxed);
+		
+		var metrics = font.getMetrics();
+		Runnable tables = () -> {
+			for(var t : texts){
+				double w = 0;
+				for(int i = 0; i < t.length(); i++) w += metrics.getWidth(asset.charIndex(t.charAt(i)));
+				sink += w;
+			}
+		};
+		report("glyph metrics, sum of char widths", tables);
+		
+		Runnable stringWidth = () -> {
+			for(var t : texts) sink += font.stringWidth(t);
+		};
+		var cache = GameFont.getLayoutCache();
+		int capacity = cache.getCapacity();
+		cache.setCapacity(0);
+		report("stringWidth, no layout cache", stringWidth);
+		cache.setCapacity(capacity);
+		report("stringWidth, layout cache", stringWidth);
+		
+		System.out.println(sink);
+		game.destroy();
+	}
+	
+	/**
+	 * Measure and report the time and allocations of measuring every string once
+	 *
+	 * @param name The name of the case being measured
+	 * @param func Measures every string once
+	 */
+	private static void report(String name, Runnable func){
+		double millis = Benchmark.timeMillis(WARMUP, ITERATIONS, func);
+		Benchmark.report("1 KB strings, " + name + ", time per string", millis * 1E3 / STRINGS, "us");
+		Benchmark.report("1 KB strings, " + name + ", allocated per string", Benchmark.allocatedPerCall(WARMUP, ITERATIONS, func) / STRINGS, "bytes");
+	}
+	
+}
@@ -0,0 +1,65 @@
+package zgametest.benchmark;
+
+import zgame.core.graphics.font.GameFont;
+import zgame.core.graphics.font.TextLayoutCache;
+import zgametest.TestGame;
+
+/**
+ * Benchmark for laying out the text of a HUD with a {@link TextLayoutCache}. Each frame lays out {@link #STRINGS} short strings, like health, score, and ammo counters.
+ * Most HUD text is the same from one frame to the next, so most layouts should be found in the cache. Laying out every string without a cache is also measured,
+ * along with a HUD where some of the numbers change every frame. Needs a window to load the font
+ */
+public class TextLayoutBenchmark{
+	
+	/** The number of strings laid out each frame */
+	private static final int STRINGS = 10_000;
+	/** The number of strings whose text changes every frame, when measuring changing text */
+	private static final int CHANGING = 100;
+	/** The number of frames used to warm up */
+	private static final int WARMUP = 20;
+	/** The number of frames measured */
+	private static final int FRAMES = 100;
+	
+	public static void main(String[] args){
+		var game = new TestGame();
+		GameFont font = game.getDefaultFont();
+		var texts = new String[STRINGS];
+		for(int i = 0; i < STRINGS; i++) texts[i] = "HP: " + i % 100 + " / 100  Score: " + i;
+		
+		var warm = new TextLayoutCache(STRINGS);
+		Runnable cached = () -> {
+			for(int i = 0; i < STRINGS; i++) warm.get(font, texts[i]);
+		};
+		report("cached", cached);
+		
+		var none = new TextLayoutCache(0);
+		Runnable uncached = () -> {
+			for(int i = 0; i < STRINGS; i++) none.get(font, texts[i]);
+		};
+		report("no cache", uncached);
+		
+		var changingCache = new TextLayoutCache(STRINGS);
+		int[] frame = new int[1];
+		Runnable changing = () -> {
+			frame[0]++;
+			for(int i = 0; i < STRINGS - CHANGING; i++) changingCache.get(font, texts[i]);
+			for(int i = 0; i < CHANGING; i++) changingCache.get(font, "Time: " + frame[0] + "." + i);
+		};
+		report("cached, " + CHANGING + " changing", changing);
+		
+		game.destroy();
+	}
+	
+	/**
+	 * Measure and report the layouts per second and allocations of one frame of HUD text
+	 *
+	 * @param name The name of the case being measured
+	 * @param frame Lays out one frame of text
+	 */
+	private static void report(String name, Runnable frame){
+		double millis = Benchmark.timeMillis(WARMUP, FRAMES, frame);
+		Benchmark.report("HUD text, " + name + ", layouts per second", STRINGS / millis * 1E3, "layouts/s");
+		Benchmark.report("HUD text, " + name + ", allocated per frame", Benchmark.allocatedPerCall(WARMUP, FRAMES, frame), "bytes");
+	}
+	
+}
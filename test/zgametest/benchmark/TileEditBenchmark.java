@@ -0,0 +1,43 @@
+package zgametest.benchmark;
+
+import zgame.things.still.tiles.BaseTiles3D;
+import zgame.world.Room3D;
+
+/** Benchmark for filling every tile of a 128^3 {@link Room3D}, one tile at a time, in a single batch of edits, and all at once with {@link Room3D#initTiles} */
+public class TileEditBenchmark{
+	
+	/** The number of tiles on each axis */
+	private static final int SIZE = 128;
+	
+	public static void main(String[] args){
+		for(int i = 0; i < 3; i++){
+			double single = Benchmark.timeMillis(0, 1, () -> fill(new Room3D(SIZE, SIZE, SIZE), false));
+			double batched = Benchmark.timeMillis(0, 1, () -> fill(new Room3D(SIZE, SIZE, SIZE), true));
+			double init = Benchmark.timeMillis(0, 1, () -> new Room3D(SIZE, SIZE, SIZE).initTiles(SIZE, SIZE, SIZE, BaseTiles3D.SOLID_DARK));
+			
+			String prefix = "Run " + (i + 1) + ", fill " + SIZE + "^3, ";
+			Benchmark.report(prefix + "setTile per tile", single, "ms");
+			Benchmark.report(prefix + "setTile in one batch", batched, "ms");
+			Benchmark.report(prefix + "initTiles", init, "ms");
+		}
+	}
+	
+	/**
+	 * Set every tile of the given room with a checkerboard of solid tiles
+	 *
+	 * @param room The room to fill
+	 * @param batch true to set every tile in a single batch of edits, false to set each tile on its own
+	 */
+	private static void fill(Room3D room, boolean batch){
+		if(batch) room.beginTileEdit();
+		for(int x = 0; x < SIZE; x++){
+			for(int y = 0; y < SIZE; y++){
+				for(int z = 0; z < SIZE; z++){
+					room.setTile(x, y, z, ((x + y + z) % 2 == 0) ? BaseTiles3D.SOLID_DARK : BaseTiles3D.SOLID_LIGHT);
+				}
+			}
+		}
+		if(batch) room.commitTileEdit();
+	}
+	
+}
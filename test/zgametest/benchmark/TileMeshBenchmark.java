@@ -0,0 +1,62 @@
+package zgametest.benchmark;
+
+import zgame.things.still.tiles.BaseTiles3D;
+import zgame.world.Room3D;
+import zgame.world.TileStorage3D;
+
+/**
+ * Benchmark for building the meshes of the tiles in a large {@link Room3D}, filled with hilly terrain.
+ * Reports how many faces are drawn compared to drawing every face of every tile, how long it takes to build every mesh, and how long it takes to rebuild after editing
+ * a single tile
+ */
+public class TileMeshBenchmark{
+	
+	/** The number of tiles on the x axis */
+	private static final int SIZE_X = 256;
+	/** The number of tiles on the y axis */
+	private static final int SIZE_Y = 64;
+	/** The number of tiles on the z axis */
+	private static final int SIZE_Z = 256;
+	/** The height of the terrain filled in the room */
+	private static final int TERRAIN_HEIGHT = 32;
+	
+	public static void main(String[] args){
+		var room = new Room3D(SIZE_X, SIZE_Y, SIZE_Z);
+		long tiles = 0;
+		for(int x = 0; x < SIZE_X; x++){
+			for(int z = 0; z < SIZE_Z; z++){
+				int height = TERRAIN_HEIGHT + (int)(8 * Math.sin(x * 0.05) * Math.cos(z * 0.05));
+				for(int y = 0; y < height; y++) room.setTile(x, y, z, (y % 2 == 0) ? BaseTiles3D.SOLID_DARK : BaseTiles3D.SOLID_LIGHT);
+				tiles += height;
+			}
+		}
+		var mesher = room.getTileMesher();
+		var storage = room.getTileStorage();
+		
+		long start = System.nanoTime();
+		int built = mesher.update();
+		double buildTime = (System.nanoTime() - start) / 1E6;
+		mesher.upload();
+		
+		Benchmark.report("Solid tiles", tiles, "tiles");
+		Benchmark.report("Faces if every tile drew a full cube", tiles * 6, "faces");
+		Benchmark.report("Faces in meshes", mesher.getFaceCount(), "faces");
+		Benchmark.report("Chunks built", built, "chunks");
+		Benchmark.report("Time to build every mesh", buildTime, "ms");
+		
+		// Rebuild the mesh of a single chunk, the same as after editing one tile
+		int chunk = storage.chunkIndex(SIZE_X / 2, TERRAIN_HEIGHT - 1, SIZE_Z / 2);
+		double rebuildTime = Benchmark.timeMillis(50, 500, () -> mesher.rebuild(chunk));
+		Benchmark.report("Time to rebuild one chunk", rebuildTime, "ms");
+		
+		// Edit one tile and rebuild only what changed
+		int[] toggle = {0};
+		double editTime = Benchmark.timeMillis(50, 500, () -> {
+			room.setTile(SIZE_X / 2, TERRAIN_HEIGHT + 10, SIZE_Z / 2, (toggle[0]++ % 2 == 0) ? BaseTiles3D.SOLID_DARK : BaseTiles3D.AIR);
+			mesher.update();
+		});
+		Benchmark.report("Time to edit one tile and update meshes", editTime, "ms");
+		Benchmark.report("Tiles per chunk", TileStorage3D.CHUNK_VOLUME, "tiles");
+	}
+	
+}
@@ -0,0 +1,48 @@
+package zgametest.benchmark;
+
+import zgame.things.still.tiles.BaseTiles3D;
+import zgame.world.Room3D;
+
+/** Benchmark for the memory used by a large {@link Room3D}, filled with terrain on the lower part of the room */
+public class TileStorageBenchmark{
+	
+	/** The number of tiles on the x axis */
+	private static final int SIZE_X = 512;
+	/** The number of tiles on the y axis */
+	private static final int SIZE_Y = 128;
+	/** The number of tiles on the z axis */
+	private static final int SIZE_Z = 512;
+	/** The height of the terrain filled in the room */
+	private static final int TERRAIN_HEIGHT = 32;
+	
+	public static void main(String[] args){
+		long before = usedMemory();
+		long start = System.nanoTime();
+		
+		var room = new Room3D(SIZE_X, SIZE_Y, SIZE_Z);
+		for(int x = 0; x < SIZE_X; x++){
+			for(int z = 0; z < SIZE_Z; z++){
+				// Some simple hills so that the terrain is not entirely flat
+				int height = TERRAIN_HEIGHT + (int)(8 * Math.sin(x * 0.05) * Math.cos(z * 0.05));
+				for(int y = 0; y < height; y++) room.setTile(x, y, z, (y % 2 == 0) ? BaseTiles3D.SOLID_DARK : BaseTiles3D.SOLID_LIGHT);
+			}
+		}
+		
+		double loadTime = (System.nanoTime() - start) / 1E9;
+		long after = usedMemory();
+		var storage = room.getTileStorage();
+		
+		Benchmark.report("Load time for " + SIZE_X + "x" + SIZE_Y + "x" + SIZE_Z, loadTime, "s");
+		Benchmark.report("Allocated chunks", storage.getAllocatedChunks(), "chunks");
+		Benchmark.report("Estimated tile storage", storage.estimateMemory() / (1024.0 * 1024.0), "MB");
+		Benchmark.report("Measured heap increase", (after - before) / (1024.0 * 1024.0), "MB");
+	}
+	
+	/** @return The number of bytes currently used on the heap, after attempting to garbage collect */
+	private static long usedMemory(){
+		var runtime = Runtime.getRuntime();
+		for(int i = 0; i < 3; i++) System.gc();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+	
+}
@@ -0,0 +1,72 @@
+package zgametest.benchmark;
+
+import zgame.core.utils.NotNullList;
+import zgame.core.utils.UuidGenerator;
+import zgame.physics.ZVector3D;
+import zusass.game.magic.effect.SpellEffect;
+import zusass.game.things.entities.projectile.MagicProjectile;
+
+import java.util.UUID;
+
+/**
+ * Benchmark for giving things a uuid, comparing spawning {@link MagicProjectile} objects, making a random {@link UUID} string as things used to,
+ * and making a uuid with {@link UuidGenerator}. Also compares checking if a projectile hit its source with strings and with numbers
+ */
+public class UuidBenchmark{
+	
+	/** The number of projectiles spawned in one batch */
+	private static final int PROJECTILES = 100_000;
+	/** The number of batches used to warm up */
+	private static final int WARMUP_BATCHES = 5;
+	/** The number of batches measured */
+	private static final int BATCHES = 20;
+	/** The number of calls used to warm up each single call measurement */
+	private static final int WARMUP = 200_000;
+	/** The number of single calls measured */
+	private static final int ITERATIONS = 2_000_000;
+	
+	public static void main(String[] args){
+		var velocity = new ZVector3D(1, 0, 0);
+		var effects = new NotNullList<SpellEffect>();
+		long caster = UuidGenerator.next();
+		var spawned = new MagicProjectile[PROJECTILES];
+		Runnable spawn = () -> {
+			for(int i = 0; i < PROJECTILES; i++) spawned[i] = new MagicProjectile(i, 0, 0, caster, velocity, effects);
+		};
+		Benchmark.report("spawn " + PROJECTILES + " magic projectiles, time", Benchmark.timeMillis(WARMUP_BATCHES, BATCHES, spawn), "ms");
+		Benchmark.report("spawn one magic projectile, allocated", Benchmark.allocatedPerCall(WARMUP_BATCHES, BATCHES, spawn) / PROJECTILES, "bytes");
+		
+		long[] sink = new long[1];
+		Runnable randomUuid = () -> sink[0] += UUID.randomUUID().toString().length();
+		Runnable generated = () -> sink[0] += UuidGenerator.next();
+		report("random uuid string", randomUuid);
+		report("generated uuid", generated);
+		
+		// Checking if a projectile hit its caster, as done by a projectile for every thing it touches
+		var sourceString = UUID.randomUUID().toString();
+		var otherString = UUID.randomUUID().toString();
+		long sourceLong = UuidGenerator.next();
+		long otherLong = UuidGenerator.next();
+		Runnable stringCheck = () -> {
+			if(sourceString.equals(otherString)) sink[0]++;
+		};
+		Runnable longCheck = () -> {
+			if(sourceLong == otherLong) sink[0]++;
+		};
+		report("source check, strings", stringCheck);
+		report("source check, uuids", longCheck);
+		if(sink[0] == 0) System.out.println(sink[0]);
+	}
+	
+	/**
+	 * Measure and print the time and allocation of the given function
+	 *
+	 * @param name The name of the function for reporting
+	 * @param func The function to measure
+	 */
+	private static void report(String name, Runnable func){
+		Benchmark.report(name + ", time per call", Benchmark.timeMillis(WARMUP, ITERATIONS, func) * 1E6, "ns");
+		Benchmark.report(name + ", allocated per call", Benchmark.allocatedPerCall(WARMUP, ITERATIONS, func), "bytes");
+	}
+	
+}
@@ -0,0 +1,184 @@
+package zgametest.file;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import zgame.core.file.AutoSaver;
+import zgame.core.file.ZBinaryFile;
+import zgame.core.file.ZJsonFile;
+
+public class AutoSaverTest{
+	
+	@TempDir
+	public Path dir;
+	
+	/** The state of the fake game, only changed on the thread which ticks */
+	private List<Integer> values;
+	/** The number of ticks which have occurred */
+	private int ticks;
+	
+	private AutoSaver saver;
+	
+	/** Run one time before each test occurs, use for initialization of values that must be the same before each test */
+	@BeforeEach
+	public void setup(){
+		values = new ArrayList<>();
+		ticks = 0;
+		saver = new AutoSaver(this::save, 0);
+	}
+	
+	/** Run after each test runs, use to clean up resources */
+	@AfterEach
+	public void end(){
+		saver.destroy();
+	}
+	
+	/** Save the fake game in the same way a {@link zgame.core.file.Saveable} would */
+	private boolean save(JsonObject data){
+		data.addProperty("ticks", ticks);
+		var arr = new JsonArray();
+		for(var v : values) arr.add(v);
+		data.add("values", arr);
+		return true;
+	}
+	
+	/** Change the fake game for one tick, then let the saver capture it */
+	private void tick(){
+		ticks++;
+		values.add(ticks);
+		if(values.size() > 500) values.remove(0);
+		saver.tick(0.01);
+	}
+	
+	@Test
+	public void saveWhileTicking() throws InterruptedException{
+		for(var ext : new String[]{".json", ZBinaryFile.EXTENSION}){
+			var path = dir.resolve("auto" + ext).toString();
+			saver.setPath(path);
+			saver.setInterval(0.05);
+			
+			// Keep ticking on another thread, requesting extra saves from this thread while it runs
+			var tickThread = new Thread(() -> {
+				for(int i = 0; i < 2000; i++) tick();
+			});
+			tickThread.start();
+			while(tickThread.isAlive()){
+				saver.request();
+				Thread.sleep(1);
+			}
+			tickThread.join();
+			saver.request();
+			tick();
+			assertTrue(saver.await(10000), "Checking every save finishes writing, ext: " + ext);
+			
+			var loaded = ext.equals(".json") ? new ZJsonFile(path).load() : new ZBinaryFile(path).load();
+			assertNotNull(loaded, "Checking the autosave file loads, ext: " + ext);
+			assertEquals(ticks, loaded.get("ticks").getAsInt(), "Checking the file holds the last captured tick, ext: " + ext);
+			assertEquals(values.size(), loaded.getAsJsonArray("values").size(), "Checking the file holds every value, ext: " + ext);
+			assertEquals(ticks, loaded.getAsJsonArray("values").get(values.size() - 1).getAsInt(), "Checking the file holds the newest value, ext: " + ext);
+			assertFalse(new File(path + AutoSaver.TEMP_EXTENSION).exists(), "Checking no temporary file is left behind, ext: " + ext);
+		}
+		assertTrue(saver.getSaves() > 0, "Checking saves were written");
+		assertEquals(0, saver.getFailed(), "Checking no save failed");
+		assertTrue(saver.getLastBytes() > 0, "Checking the size of the last save is known");
+	}
+	
+	@Test
+	public void skipUnchanged(){
+		saver.setPath(dir.resolve("skip.json").toString());
+		tick();
+		assertTrue(saver.capture(), "Checking the first snapshot is captured");
+		assertTrue(saver.await(10000), "Checking the first snapshot is written");
+		assertEquals(1, saver.getSaves(), "Checking the first snapshot is saved");
+		
+		assertTrue(saver.capture(), "Checking an unchanged snapshot is captured");
+		assertTrue(saver.await(10000), "Checking the unchanged snapshot is handled");
+		assertEquals(1, saver.getSaves(), "Checking an unchanged snapshot is not saved");
+		assertEquals(1, saver.getSkipped(), "Checking an unchanged snapshot is skipped");
+		
+		tick();
+		assertTrue(saver.capture(), "Checking a changed snapshot is captured");
+		assertTrue(saver.await(10000), "Checking the changed snapshot is written");
+		assertEquals(2, saver.getSaves(), "Checking a changed snapshot is saved");
+	}
+	
+	@Test
+	public void interval(){
+		var path = dir.resolve("interval.json").toString();
+		saver.tick(100);
+		assertTrue(saver.await(10000), "Checking nothing is waiting to be written");
+		assertEquals(0, saver.getSaves(), "Checking nothing saves without a path");
+		
+		saver.setPath(path);
+		saver.setInterval(1);
+		for(int i = 0; i < 3; i++) saver.tick(0.25);
+		assertTrue(saver.await(10000), "Checking nothing is waiting to be written");
+		assertFalse(new File(path).exists(), "Checking nothing saves before the interval passes");
+		
+		saver.tick(0.25);
+		assertTrue(saver.await(10000), "Checking the save is written");
+		assertTrue(new File(path).exists(), "Checking the game saves when the interval passes");
+		
+		saver.request();
+		saver.destroy();
+		assertEquals(1, saver.getSkipped(), "Checking a requested save is handled when the saver is destroyed");
+	}
+	
+	@Test
+	public void changePath(){
+		var first = dir.resolve("first.json").toString();
+		var second = dir.resolve("second.json").toString();
+		saver.setPath(first);
+		tick();
+		saver.request();
+		assertTrue(saver.flush(), "Checking a requested snapshot is captured by flushing");
+		assertFalse(saver.flush(), "Checking flushing again captures nothing");
+		saver.setPath(null);
+		assertTrue(saver.await(10000), "Checking the flushed snapshot is written");
+		assertTrue(new File(first).exists(), "Checking the flushed snapshot is written to the old path");
+		
+		saver.setPath(first);
+		saver.request();
+		saver.setPath(null);
+		saver.setPath(second);
+		tick();
+		assertTrue(saver.await(10000), "Checking nothing is waiting to be written");
+		assertFalse(new File(second).exists(), "Checking a request made for the old path does not save to the new path");
+		assertEquals(1, saver.getSaves(), "Checking only the flushed snapshot was saved");
+	}
+	
+	@Test
+	public void saveAfterAutosave(){
+		for(var ext : new String[]{".json", ZBinaryFile.EXTENSION}){
+			var path = dir.resolve("explicit" + ext).toString();
+			saver.setPath(path);
+			
+			// An autosave of an older tick which may still be waiting to be written
+			tick();
+			assertTrue(saver.capture(), "Checking the autosave is captured, ext: " + ext);
+			tick();
+			int savedTick = ticks;
+			assertTrue(saver.save(path, false), "Checking the direct save is written, ext: " + ext);
+			
+			// Nothing written after the direct save may replace it
+			assertTrue(saver.await(10000), "Checking every save finishes writing, ext: " + ext);
+			var loaded = ext.equals(".json") ? new ZJsonFile(path).load() : new ZBinaryFile(path).load();
+			assertNotNull(loaded, "Checking the save file loads, ext: " + ext);
+			assertEquals(savedTick, loaded.get("ticks").getAsInt(), "Checking the direct save is not replaced by the older autosave, ext: " + ext);
+			assertFalse(new File(path + AutoSaver.TEMP_EXTENSION).exists(), "Checking the direct save uses a temporary file, ext: " + ext);
+		}
+		assertFalse(saver.save(null, false), "Checking nothing is saved without a path");
+		assertEquals(0, saver.getFailed(), "Checking no save failed");
+	}
+	
+}
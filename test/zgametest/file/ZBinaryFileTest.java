@@ -0,0 +1,130 @@
+package zgametest.file;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import zgame.core.file.BinarySaveCodec;
+import zgame.core.file.SaveMigration;
+import zgame.core.file.ZBinaryFile;
+import zgame.core.file.ZJsonFile;
+
+public class ZBinaryFileTest{
+	
+	@TempDir
+	public Path dir;
+	
+	private JsonObject data;
+	
+	/** Run one time before each test occurs, use for initialization of values that must be the same before each test */
+	@BeforeEach
+	public void setup(){
+		data = new JsonObject();
+		var general = new JsonObject();
+		general.addProperty("level", 12);
+		general.addProperty("big", 1L << 40);
+		general.addProperty("health", 3.25);
+		general.addProperty("alive", true);
+		general.addProperty("name", "Zusass \u00E9\u4E00");
+		general.add("nothing", JsonNull.INSTANCE);
+		data.add("general", general);
+		var arr = new JsonArray();
+		for(int i = 0; i < 300; i++){
+			var tile = new JsonObject();
+			tile.addProperty("x", i);
+			tile.addProperty("y", -i);
+			tile.addProperty("type", "tile" + (i % 5));
+			arr.add(tile);
+		}
+		data.add("tiles", arr);
+		data.addProperty("version", "1.0");
+	}
+	
+	@Test
+	public void codec(){
+		var codec = new BinarySaveCodec();
+		var encoded = codec.encode(data);
+		assertEquals(data, codec.decode(encoded), "Checking an encoded object decodes to the same object");
+		assertFalse(encoded.hasRemaining(), "Checking decoding reads every byte");
+		
+		var parsed = JsonParser.parseString("{\"a\": 1, \"b\": 2.5, \"c\": 123456789012345678901234567890, \"d\": -7}");
+		assertEquals(parsed, codec.decode(codec.encode(parsed)), "Checking numbers parsed from json text keep their values");
+		
+		var truncated = codec.encode(data);
+		truncated.limit(truncated.limit() / 2);
+		assertThrows(IllegalStateException.class, () -> codec.decode(truncated), "Checking data which ends early cannot be decoded");
+	}
+	
+	@Test
+	public void saveLoad(){
+		for(boolean compressed : new boolean[]{false, true}){
+			var path = dir.resolve("save" + compressed + ZBinaryFile.EXTENSION).toString();
+			var file = new ZBinaryFile(path, compressed);
+			file.setData(data);
+			assertTrue(file.save(), "Checking the file saves, compressed: " + compressed);
+			assertTrue(ZBinaryFile.isBinary(path), "Checking a saved file is found to be binary, compressed: " + compressed);
+			
+			var loaded = new ZBinaryFile(path);
+			assertEquals(data, loaded.load(), "Checking the loaded data matches the saved data, compressed: " + compressed);
+			assertEquals(compressed, loaded.isCompressed(), "Checking loading finds if the file is compressed");
+		}
+	}
+	
+	@Test
+	public void invalidFiles() throws IOException{
+		var path = dir.resolve("bad" + ZBinaryFile.EXTENSION);
+		Files.write(path, new byte[]{'Z', 'S', 'A', 'V', 0, 0, 0, 99, 0});
+		assertNull(new ZBinaryFile(path.toString()).load(), "Checking a file from a newer version does not load");
+		Files.write(path, new byte[]{'{', '}'});
+		assertNull(new ZBinaryFile(path.toString()).load(), "Checking a file without the header does not load");
+		assertFalse(ZBinaryFile.isBinary(path.toString()), "Checking a file without the header is not binary");
+		assertFalse(ZBinaryFile.isBinary(dir.resolve("missing").toString()), "Checking a missing file is not binary");
+	}
+	
+	@Test
+	public void corruptLengths() throws IOException{
+		var path = dir.resolve("corrupt" + ZBinaryFile.EXTENSION);
+		int[][] lengths = {{-5, 0}, {1, -1}, {1, Integer.MAX_VALUE}, {Integer.MAX_VALUE, 0}, {1, 100}};
+		for(var l : lengths){
+			var b = ByteBuffer.allocate(64);
+			b.put(ZBinaryFile.MAGIC).putInt(ZBinaryFile.VERSION).put((byte)0);
+			b.putInt(1).putInt(l[0]).put((byte)'a').putInt(l[1]).put((byte)0);
+			Files.write(path, Arrays.copyOf(b.array(), b.position()));
+			var file = new ZBinaryFile(path.toString());
+			assertNull(file.load(), "Checking a file with name length " + l[0] + " and section length " + l[1] + " does not load");
+		}
+	}
+	
+	@Test
+	public void migrate(){
+		var jsonPath = dir.resolve("game.json").toString();
+		var json = new ZJsonFile(jsonPath);
+		json.setData(data);
+		assertTrue(json.save(), "Checking the json file saves");
+		
+		// Json files do not keep null values, so compare with the data as it was loaded from json
+		var original = new ZJsonFile(jsonPath).load();
+		assertTrue(SaveMigration.migrate(jsonPath, null, true), "Checking json converts to binary");
+		var binaryPath = dir.resolve("game" + ZBinaryFile.EXTENSION).toString();
+		assertTrue(ZBinaryFile.isBinary(binaryPath), "Checking the converted file is binary");
+		assertEquals(original, new ZBinaryFile(binaryPath).load(), "Checking the binary file has the data of the json file");
+		
+		assertTrue(new File(jsonPath).delete(), "Checking the json file is removed");
+		assertTrue(SaveMigration.migrate(binaryPath, null, false), "Checking binary converts back to json");
+		assertEquals(original, new ZJsonFile(jsonPath).load(), "Checking the data survives converting both ways");
+	}
+	
+}
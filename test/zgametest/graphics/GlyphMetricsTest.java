@@ -0,0 +1,68 @@
+package zgametest.graphics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.*;
+
+import zgame.core.Game;
+import zgame.core.graphics.font.FontAsset;
+import zgame.core.graphics.font.GameFont;
+import zgametest.TestGame;
+
+public class GlyphMetricsTest{
+	
+	/** Widths are kept as floats, so they are only compared to float precision */
+	private static final double DELTA = 1E-4;
+	
+	private static Game game;
+	
+	private FontAsset asset;
+	private GameFont font;
+	
+	/** Run one time before all tests occur, use for initialization of static values */
+	@BeforeAll
+	public static void init(){
+		game = new TestGame();
+	}
+	
+	/** Run one time before each test occurs, use for initialization of values that must be the same before each test */
+	@BeforeEach
+	public void setup(){
+		asset = game.getFontAsset("zfont");
+		font = new GameFont(asset, 20, 0, 0);
+	}
+	
+	@Test
+	public void metrics(){
+		assertSame(asset.metrics(20), font.getMetrics(), "Checking a size only has its metrics made once");
+		assertNotSame(asset.metrics(21), font.getMetrics(), "Checking a different size has different metrics");
+		assertEquals(asset.getLoadChars(), font.getMetrics().getCharacters(), "Checking every loaded character has a width");
+		assertEquals(20, font.getMetrics().getSize(), "Checking the metrics know their size");
+	}
+	
+	@Test
+	public void charWidth(){
+		var expected = asset.getAdvance('W') * 20 * asset.getResolutionInverse();
+		assertTrue(expected > 0, "Checking a letter has an advance");
+		assertEquals(expected, font.charWidth('W'), DELTA, "Checking the width is the advance scaled to the size");
+		assertEquals(font.charWidth('W') * 2, font.size(40).charWidth('W'), DELTA, "Checking the width scales with the size");
+		assertEquals(asset.getCharWidth(20, 'W'), font.charWidth('W'), DELTA, "Checking the asset and font find the same width");
+		
+		assertEquals(font.charWidth(' '), font.charWidth('\t'), DELTA, "Checking a character before the loaded characters uses the first character");
+		assertEquals(font.charWidth(' '), font.charWidth('\u4E00'), DELTA, "Checking a character after the loaded characters uses the first character");
+	}
+	
+	@Test
+	public void stringWidth(){
+		var text = "Hello, world";
+		double sum = 0;
+		for(int i = 0; i < text.length(); i++) sum += font.charWidth(text.charAt(i));
+		assertEquals(sum, font.stringBounds(0, 0, text, 0, false)[text.length()].getWidth(), DELTA, "Checking the string width is the sum of the character widths");
+		assertEquals((asset.getAscent() - asset.getDescent()) * font.getMetrics().getPixelRatio(), font.getMaxHeight(), DELTA, "Checking the max height");
+	}
+	
+	@AfterAll
+	public static void done(){
+	}
+	
+}
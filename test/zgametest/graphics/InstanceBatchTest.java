@@ -0,0 +1,85 @@
+package zgametest.graphics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.joml.Matrix4f;
+import org.junit.jupiter.api.*;
+
+import zgame.core.graphics.InstanceBatch;
+import zgame.core.graphics.ZColor;
+
+public class InstanceBatchTest{
+	
+	/** The batch holds floats, so values are only compared to float precision */
+	private static final double DELTA = 1E-6;
+	
+	private InstanceBatch batch;
+	private ZColor color;
+	
+	/** Run one time before each test occurs, use for initialization of values that must be the same before each test */
+	@BeforeEach
+	public void setup(){
+		batch = new InstanceBatch();
+		color = new ZColor(.1, .2, .3, .4);
+	}
+	
+	@Test
+	public void add(){
+		assertTrue(batch.isEmpty(), "Checking a new batch is empty");
+		var m = new Matrix4f().translate(2, 3, 4).scale(5, 6, 7);
+		batch.add(m, color);
+		assertFalse(batch.isEmpty(), "Checking a batch with an instance is not empty");
+		assertEquals(1, batch.getInstanceCount(), "Checking the instance is counted");
+		
+		var t = batch.getTransforms();
+		var expected = new float[16];
+		m.get(expected);
+		for(int i = 0; i < expected.length; i++) assertEquals(expected[i], t[i], DELTA, "Checking transform value " + i);
+		assertEquals(5, t[0], DELTA, "Checking the x scale is in the first column");
+		assertEquals(2, t[12], DELTA, "Checking the x translation is in the last column");
+		
+		var c = batch.getColors();
+		assertEquals(.1, c[0], DELTA, "Checking red of the instance");
+		assertEquals(.2, c[1], DELTA, "Checking green of the instance");
+		assertEquals(.3, c[2], DELTA, "Checking blue of the instance");
+		assertEquals(.4, c[3], DELTA, "Checking alpha of the instance");
+	}
+	
+	@Test
+	public void copiesTransform(){
+		var m = new Matrix4f().translate(1, 0, 0);
+		batch.add(m, color);
+		m.translate(10, 0, 0);
+		batch.add(m, new ZColor(1, 0, 0));
+		var t = batch.getTransforms();
+		assertEquals(1, t[12], DELTA, "Checking changing the matrix does not change an added instance");
+		assertEquals(11, t[InstanceBatch.TRANSFORM_LENGTH + 12], DELTA, "Checking the second instance uses the changed matrix");
+		assertEquals(1, batch.getColors()[InstanceBatch.COLOR_LENGTH], DELTA, "Checking the second instance has its own color");
+	}
+	
+	@Test
+	public void grow(){
+		int capacity = batch.getCapacity();
+		var m = new Matrix4f();
+		for(int i = 0; i <= capacity; i++){
+			m.identity().translate(i, 0, 0);
+			batch.add(m, color);
+		}
+		assertEquals(capacity + 1, batch.getInstanceCount(), "Checking every instance is counted");
+		assertTrue(batch.getCapacity() > capacity, "Checking the batch grows when full");
+		var t = batch.getTransforms();
+		for(int i = 0; i <= capacity; i++) assertEquals(i, t[i * InstanceBatch.TRANSFORM_LENGTH + 12], DELTA, "Checking instance " + i + " is kept after growing");
+	}
+	
+	@Test
+	public void clear(){
+		var m = new Matrix4f();
+		for(int i = 0; i < 100; i++) batch.add(m, color);
+		int capacity = batch.getCapacity();
+		batch.clear();
+		assertTrue(batch.isEmpty(), "Checking a cleared batch is empty");
+		assertEquals(0, batch.getInstanceCount(), "Checking a cleared batch has no instances");
+		assertEquals(capacity, batch.getCapacity(), "Checking a cleared batch keeps its capacity");
+	}
+	
+}
@@ -0,0 +1,64 @@
+package zgametest.graphics;
+
+import org.joml.Matrix4f;
+import org.junit.jupiter.api.*;
+
+import zgame.core.graphics.MatrixStack;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MatrixStackTest{
+	
+	private MatrixStack stack;
+	
+	/** Run one time before each test occurs, use for initialization of values that must be the same before each test */
+	@BeforeEach
+	public void setup(){
+		stack = new MatrixStack();
+	}
+	
+	@Test
+	public void pushCopies(){
+		assertEquals(new Matrix4f(), stack.peek(), "Checking a new stack holds the identity matrix");
+		stack.peek().translate(1, 2, 3);
+		var bottom = stack.peek();
+		var top = stack.push();
+		assertNotSame(bottom, top, "Checking pushing makes the top a different matrix");
+		assertEquals(bottom, top, "Checking pushing copies the values of the top");
+		
+		top.scale(2);
+		assertEquals(new Matrix4f().translate(1, 2, 3), bottom, "Checking changing the top does not change the matrix below it");
+		stack.pop();
+		assertSame(bottom, stack.peek(), "Checking popping goes back to the matrix below");
+		assertEquals(new Matrix4f().translate(1, 2, 3), stack.peek(), "Checking the matrix below kept its values");
+	}
+	
+	@Test
+	public void reuse(){
+		var first = stack.push();
+		stack.pop();
+		assertSame(first, stack.push(), "Checking pushing again reuses the same matrix");
+		
+		for(int i = 0; i < 100; i++) stack.push().translate(1, 0, 0);
+		assertEquals(102, stack.size(), "Checking the stack grows past its initial depth");
+		assertEquals(new Matrix4f().translate(100, 0, 0), stack.peek(), "Checking every push copied the translation before it");
+		for(int i = 0; i < 200; i++) stack.pop();
+		assertEquals(1, stack.size(), "Checking the stack never has less than one matrix");
+	}
+	
+	@Test
+	public void replace(){
+		var top = stack.peek();
+		var replacement = new Matrix4f().scale(3);
+		assertSame(top, stack.replaceTop(replacement), "Checking replacing keeps the same top matrix");
+		assertEquals(replacement, stack.peek(), "Checking the values were copied into the top");
+		replacement.scale(2);
+		assertEquals(new Matrix4f().scale(3), stack.peek(), "Checking changing the given matrix afterwards does not change the top");
+		
+		assertNull(stack.pop(), "Checking the bottom cannot be popped");
+		assertEquals(new Matrix4f(), stack.peek(), "Checking popping the bottom resets it to the identity matrix");
+		assertNotSame(stack.getDefaultItem(), stack.peek(), "Checking the bottom is not the default matrix");
+		assertEquals(new Matrix4f(), stack.getDefaultItem(), "Checking changing the bottom did not change the default matrix");
+	}
+	
+}
@@ -0,0 +1,113 @@
+package zgametest.graphics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.joml.Matrix4f;
+import org.junit.jupiter.api.*;
+
+import zgame.core.graphics.AlphaMode;
+import zgame.core.graphics.QuadBatch;
+import zgame.core.graphics.ZColor;
+
+public class QuadBatchTest{
+	
+	/** The batch holds floats, so values are only compared to float precision */
+	private static final double DELTA = 1E-6;
+	
+	private QuadBatch batch;
+	private Matrix4f identity;
+	private ZColor color;
+	
+	/** Run one time before each test occurs, use for initialization of values that must be the same before each test */
+	@BeforeEach
+	public void setup(){
+		batch = new QuadBatch();
+		identity = new Matrix4f();
+		color = new ZColor(.1, .2, .3, .4);
+	}
+	
+	@Test
+	public void addQuad(){
+		assertTrue(batch.isEmpty(), "Checking a new batch is empty");
+		batch.addQuad(identity, -1, -2, 3, 4, 0, .25f, .5f, 1, color);
+		assertFalse(batch.isEmpty(), "Checking a batch with a quad is not empty");
+		assertEquals(4, batch.getVertexCount(), "Checking a quad adds 4 vertices");
+		assertEquals(6, batch.getIndexCount(), "Checking a quad adds 2 triangles");
+		
+		var p = batch.getPositions();
+		float[] expected = {-1, -2, 0, 1, 3, -2, 0, 1, 3, 4, 0, 1, -1, 4, 0, 1};
+		for(int i = 0; i < expected.length; i++) assertEquals(expected[i], p[i], DELTA, "Checking position value " + i);
+		var t = batch.getTexCoords();
+		float[] expectedTex = {0, .25f, .5f, .25f, .5f, 1, 0, 1};
+		for(int i = 0; i < expectedTex.length; i++) assertEquals(expectedTex[i], t[i], DELTA, "Checking texture coordinate value " + i);
+		var c = batch.getColors();
+		assertEquals(.1, c[12], DELTA, "Checking red of the last vertex");
+		assertEquals(.2, c[13], DELTA, "Checking green of the last vertex");
+		assertEquals(.3, c[14], DELTA, "Checking blue of the last vertex");
+		assertEquals(.4, c[15], DELTA, "Checking alpha of the last vertex");
+		
+		batch.addQuad(identity, 0, 0, 1, 1, 0, 0, 1, 1, color);
+		int[] expectedIndexes = {0, 1, 2, 0, 3, 2, 4, 5, 6, 4, 7, 6};
+		var indexes = batch.getIndexes();
+		for(int i = 0; i < expectedIndexes.length; i++) assertEquals(expectedIndexes[i], indexes[i], "Checking index " + i);
+	}
+	
+	@Test
+	public void transform(){
+		var m = new Matrix4f().translate(2, 3, 0).scale(4, 5, 1);
+		batch.addQuad(m, -1, -1, 1, 1, 0, 0, 1, 1, color);
+		var p = batch.getPositions();
+		assertEquals(-2, p[0], DELTA, "Checking the lower left x is scaled then translated");
+		assertEquals(-2, p[1], DELTA, "Checking the lower left y is scaled then translated");
+		assertEquals(6, p[8], DELTA, "Checking the upper right x is scaled then translated");
+		assertEquals(8, p[9], DELTA, "Checking the upper right y is scaled then translated");
+		assertEquals(1, p[11], DELTA, "Checking w is unchanged");
+	}
+	
+	@Test
+	public void addFan(){
+		batch.addFan(identity, new float[]{1, 0, 0, 1, -1, 0, 0, -1}, color);
+		assertEquals(4, batch.getVertexCount(), "Checking a fan adds one vertex per point");
+		assertEquals(6, batch.getIndexCount(), "Checking a fan of 4 points has 2 triangles");
+		int[] expected = {0, 1, 2, 0, 2, 3};
+		for(int i = 0; i < expected.length; i++) assertEquals(expected[i], batch.getIndexes()[i], "Checking fan index " + i);
+		
+		batch.addFan(identity, new float[]{1, 0, 0, 1}, color);
+		assertEquals(4, batch.getVertexCount(), "Checking a fan with less than 3 points adds nothing");
+	}
+	
+	@Test
+	public void begin(){
+		assertTrue(batch.begin(QuadBatch.Mode.TEXTURE, 5, AlphaMode.NORMAL), "Checking an empty batch takes any state");
+		assertTrue(batch.begin(QuadBatch.Mode.FONT, 6, AlphaMode.NONE), "Checking an empty batch can change its state");
+		assertEquals(QuadBatch.Mode.FONT, batch.getMode(), "Checking the mode of an empty batch is replaced");
+		
+		batch.addQuad(identity, 0, 0, 1, 1, 0, 0, 1, 1, color);
+		assertTrue(batch.begin(QuadBatch.Mode.FONT, 6, AlphaMode.NONE), "Checking the same state can be added to");
+		assertFalse(batch.begin(QuadBatch.Mode.FONT, 7, AlphaMode.NONE), "Checking a different texture must be flushed");
+		assertFalse(batch.begin(QuadBatch.Mode.FONT, 6, AlphaMode.NORMAL), "Checking a different alpha mode must be flushed");
+		assertFalse(batch.begin(QuadBatch.Mode.TEXTURE, 6, AlphaMode.NONE), "Checking a different mode must be flushed");
+		assertEquals(6, batch.getTexture(), "Checking a refused state does not change the batch");
+		
+		batch.clear();
+		assertTrue(batch.begin(QuadBatch.Mode.SHAPE, 8, AlphaMode.NORMAL), "Checking a cleared batch takes any state");
+		batch.addQuad(identity, 0, 0, 1, 1, 0, 0, 1, 1, color);
+		assertTrue(batch.begin(QuadBatch.Mode.SHAPE, 9, AlphaMode.NORMAL), "Checking shapes ignore the texture");
+	}
+	
+	@Test
+	public void grow(){
+		int quads = batch.getCapacity();
+		for(int i = 0; i < quads; i++) batch.addQuad(identity, i, 0, i + 1, 1, 0, 0, 1, 1, color);
+		assertEquals(quads * 4, batch.getVertexCount(), "Checking every quad is kept after growing");
+		assertTrue(batch.getCapacity() >= quads * 4, "Checking the batch grew");
+		assertEquals(quads - 1, batch.getPositions()[(quads - 1) * 16], DELTA, "Checking the last quad kept its position");
+		assertEquals(quads * 4 - 1, batch.getIndexes()[quads * 6 - 2], "Checking the last quad indexes its own vertices");
+		
+		int grown = batch.getCapacity();
+		batch.clear();
+		assertTrue(batch.isEmpty(), "Checking clearing empties the batch");
+		assertEquals(grown, batch.getCapacity(), "Checking clearing keeps the capacity");
+	}
+	
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.*;
 
 import zgame.core.Game;
 import zgame.core.graphics.Renderer;
+import zgame.core.utils.ZRect2D;
 import zgame.core.window.GameWindow;
 import zgametest.TestGame;
 
@@ -93,6 +94,42 @@ public class RendererTest{
 	public void testSetRenderOnlyInside(){
 	}
 	
+	@Test
+	public void testShouldDraw(){
+		renderer.setCamera(null);
+		renderer.identityMatrix();
+		int w = renderer.getWidth();
+		int h = renderer.getHeight();
+		assertTrue(renderer.shouldDraw(10, 10, 20, 20), "Checking bounds on the buffer are drawn");
+		assertTrue(renderer.shouldDraw(-10, -10, 20, 20), "Checking bounds partly on the buffer are drawn");
+		assertTrue(renderer.shouldDraw(10, 10, 0, 20), "Checking bounds with no width on the buffer are drawn");
+		assertFalse(renderer.shouldDraw(-30, 10, 20, 20), "Checking bounds left of the buffer are not drawn");
+		assertFalse(renderer.shouldDraw(w + 1, 10, 20, 20), "Checking bounds right of the buffer are not drawn");
+		assertFalse(renderer.shouldDraw(10, h + 1, 20, 20), "Checking bounds below the buffer are not drawn");
+		
+		// Move the camera so the left side of the buffer is at x = 1000
+		var camera = game.getCamera();
+		camera.setPos(-1000, 0);
+		renderer.setCamera(camera);
+		camera.transform(window);
+		assertFalse(renderer.shouldDraw(10, 10, 20, 20), "Checking bounds moved off the buffer by the camera are not drawn");
+		assertTrue(renderer.shouldDraw(1010, 10, 20, 20), "Checking bounds moved onto the buffer by the camera are drawn");
+		
+		renderer.pushLimitedBounds(new ZRect2D(1000, 0, 50, 50));
+		assertTrue(renderer.shouldDraw(1010, 10, 20, 20), "Checking bounds in the limited bounds are drawn");
+		assertFalse(renderer.shouldDraw(1100, 10, 20, 20), "Checking bounds outside the limited bounds are not drawn");
+		renderer.popLimitedBounds();
+		assertTrue(renderer.shouldDraw(1100, 10, 20, 20), "Checking bounds are drawn after removing the limited bounds");
+		
+		renderer.setRenderOnlyInside(false);
+		assertTrue(renderer.shouldDraw(10, 10, 20, 20), "Checking bounds off the buffer are drawn when not only rendering inside");
+		renderer.setRenderOnlyInside(true);
+		
+		camera.setPos(0, 0);
+		renderer.setCamera(null);
+		renderer.identityMatrix();
+	}
+	
 	@Test
 	public void testGetWidth(){
 	}
@@ -0,0 +1,103 @@
+package zgametest.graphics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static zgametest.Tester.DELTA;
+
+import org.junit.jupiter.api.*;
+
+import zgame.core.Game;
+import zgame.core.graphics.font.GameFont;
+import zgame.core.graphics.font.TextLayout;
+import zgame.core.graphics.font.TextLayoutCache;
+import zgametest.TestGame;
+
+public class TextLayoutCacheTest{
+	
+	private static Game game;
+	
+	private TextLayoutCache cache;
+	private GameFont font;
+	
+	/** Run one time before all tests occur, use for initialization of static values */
+	@BeforeAll
+	public static void init(){
+		game = new TestGame();
+	}
+	
+	/** Run one time before each test occurs, use for initialization of values that must be the same before each test */
+	@BeforeEach
+	public void setup(){
+		cache = new TextLayoutCache();
+		font = game.getDefaultFont().size(32);
+	}
+	
+	@Test
+	public void get(){
+		var layout = cache.get(font, "Score: 10");
+		assertEquals(0, cache.getHits(), "Checking a new layout is not a hit");
+		assertEquals(1, cache.getMisses(), "Checking a new layout is a miss");
+		assertSame(layout, cache.get(font, "Score: " + 10), "Checking equal text finds the same layout");
+		assertEquals(1, cache.getHits(), "Checking finding a layout is a hit");
+		
+		assertNotSame(layout, cache.get(font, "Score: 11"), "Checking different text has a different layout");
+		assertNotSame(layout, cache.get(font.size(33), "Score: 10"), "Checking a different size has a different layout");
+		assertNotSame(layout, cache.get(font.charSpace(1), "Score: 10"), "Checking a different character spacing has a different layout");
+		assertNotSame(layout, cache.get(font.lineSpace(1), "Score: 10"), "Checking a different line spacing has a different layout");
+		assertEquals(5, cache.size(), "Checking every layout is kept");
+		assertEquals(5, cache.getMisses(), "Checking every different layout is a miss");
+	}
+	
+	@Test
+	public void eviction(){
+		cache.setCapacity(2);
+		var a = cache.get(font, "a");
+		cache.get(font, "b");
+		cache.get(font, "a");
+		cache.get(font, "c");
+		assertEquals(2, cache.size(), "Checking the cache does not grow past its capacity");
+		assertSame(a, cache.get(font, "a"), "Checking the recently used layout is kept");
+		cache.get(font, "b");
+		assertEquals(4, cache.getMisses(), "Checking the least recently used layout was removed");
+		
+		cache.setCapacity(1);
+		assertEquals(1, cache.size(), "Checking lowering the capacity removes layouts");
+		cache.setCapacity(0);
+		cache.get(font, "d");
+		assertEquals(0, cache.size(), "Checking a cache with no capacity keeps nothing");
+		
+		cache.setCapacity(2);
+		cache.get(font, "e");
+		cache.clear();
+		assertEquals(0, cache.size(), "Checking clearing removes every layout");
+	}
+	
+	@Test
+	public void layout(){
+		var text = "ab\ncd";
+		TextLayout layout = cache.get(font, text);
+		assertEquals(text, layout.getText(), "Checking the layout keeps its text");
+		assertEquals(4, layout.getGlyphs(), "Checking new lines have no glyph");
+		assertEquals(0, layout.getCharacter(0), "Checking the first glyph is the first character");
+		assertEquals(3, layout.getCharacter(2), "Checking the glyph after a new line skips the new line");
+		
+		var p = layout.getPositions();
+		assertTrue(p[TextLayout.POSITION_LENGTH] > p[0], "Checking the second character is right of the first");
+		assertTrue(p[2 * TextLayout.POSITION_LENGTH + 1] > p[1], "Checking the character after a new line is below the first line");
+		
+		var expected = font.stringBounds(3, 4, text, 0, false)[text.length()];
+		var bounds = layout.bounds(3, 4, 0);
+		assertEquals(expected.getX(), bounds.getX(), DELTA, "Checking the x of the bounds");
+		assertEquals(expected.getY(), bounds.getY(), DELTA, "Checking the y of the bounds");
+		assertEquals(expected.getWidth(), bounds.getWidth(), DELTA, "Checking the width of the bounds");
+		assertEquals(expected.getHeight(), bounds.getHeight(), DELTA, "Checking the height of the bounds");
+		
+		var empty = cache.get(font, "");
+		assertEquals(0, empty.getGlyphs(), "Checking empty text has no glyphs");
+		assertEquals(0, empty.getWidth(), DELTA, "Checking empty text has no width");
+	}
+	
+	@AfterAll
+	public static void done(){
+	}
+	
+}
@@ -0,0 +1,120 @@
+package zgametest.graphics.camera;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.*;
+
+import zgame.core.graphics.camera.GameCamera3D;
+import zgame.core.graphics.camera.ViewFrustum;
+import zgame.core.utils.ZMath;
+
+public class ViewFrustumTest{
+	
+	private GameCamera3D camera;
+	
+	private ViewFrustum frustum;
+	
+	/** Run one time before each test occurs, use for initialization of values that must be the same before each test */
+	@BeforeEach
+	public void setup(){
+		camera = new GameCamera3D();
+		frustum = new ViewFrustum();
+	}
+	
+	/** @return true if a unit cube centered on the given point is in {@link #frustum}, false otherwise */
+	private boolean cube(double x, double y, double z){
+		return frustum.intersectsBox(x - 0.5, y - 0.5, z - 0.5, x + 0.5, y + 0.5, z + 0.5);
+	}
+	
+	@Test
+	public void inactive(){
+		assertFalse(frustum.isActive(), "Checking a new frustum is not active");
+		assertTrue(cube(0, 0, 50), "Checking an inactive frustum excludes nothing");
+		assertEquals(0, frustum.getTested(), "Checking an inactive frustum tests nothing");
+		
+		frustum.update(camera, 1);
+		assertTrue(frustum.isActive(), "Checking an updated frustum is active");
+		frustum.reset();
+		assertTrue(cube(0, 0, 50), "Checking a reset frustum excludes nothing");
+	}
+	
+	@Test
+	public void intersectsBox(){
+		frustum.update(camera, 1);
+		assertTrue(cube(0, 0, -5), "Checking a box in front of the camera is inside");
+		assertFalse(cube(0, 0, 5), "Checking a box behind the camera is outside");
+		assertFalse(cube(0, 0, -200), "Checking a box past the far plane is outside");
+		assertFalse(cube(0, 20, -5), "Checking a box above the camera is outside");
+		assertFalse(cube(-20, 0, -5), "Checking a box to the left of the camera is outside");
+		assertTrue(frustum.intersectsBox(-100, -100, -10, 100, 100, -6), "Checking a box larger than the view is inside");
+		assertTrue(frustum.intersectsBox(-1, -1, -1, 1, 1, 1), "Checking a box around the camera is inside");
+	}
+	
+	@Test
+	public void ratio(){
+		// The field of view is 1 radian vertically, so a point 5 units away at x = 4 is outside a square view, but inside a view twice as wide
+		frustum.update(camera, 1);
+		assertFalse(frustum.intersectsSphere(4, 0, -5, 0), "Checking a point to the side is outside a square view");
+		frustum.update(camera, 2);
+		assertTrue(frustum.intersectsSphere(4, 0, -5, 0), "Checking a point to the side is inside a wide view");
+		assertFalse(frustum.intersectsSphere(6, 0, -5, 0), "Checking a point further to the side is outside a wide view");
+	}
+	
+	@Test
+	public void cameraPosition(){
+		camera.setX(10);
+		camera.setY(3);
+		camera.setZ(-20);
+		frustum.update(camera, 1);
+		assertTrue(cube(10, 3, -25), "Checking a box in front of a moved camera is inside");
+		assertFalse(cube(0, 0, -5), "Checking a box behind a moved camera is outside");
+	}
+	
+	@Test
+	public void cameraRotation(){
+		camera.setYaw(ZMath.PI_BY_2);
+		frustum.update(camera, 1);
+		assertTrue(cube(5, 0, 0), "Checking a box in front of a turned camera is inside");
+		assertFalse(cube(0, 0, -5), "Checking a box in the old direction of a turned camera is outside");
+		assertFalse(cube(-5, 0, 0), "Checking a box behind a turned camera is outside");
+		
+		camera.setYaw(0);
+		camera.setPitch(ZMath.PI_BY_2);
+		frustum.update(camera, 1);
+		assertTrue(cube(0, -5, 0), "Checking a box below a camera looking down is inside");
+		assertFalse(cube(0, 0, -5), "Checking a box in front of a camera looking down is outside");
+	}
+	
+	@Test
+	public void intersectsSphere(){
+		frustum.update(camera, 1);
+		assertTrue(frustum.intersectsSphere(0, 0, -5, 1), "Checking a sphere in front of the camera is inside");
+		assertFalse(frustum.intersectsSphere(0, 0, 5, 1), "Checking a sphere behind the camera is outside");
+		assertTrue(frustum.intersectsSphere(0, 0, 0.5, 1), "Checking a sphere partly in front of the camera is inside");
+	}
+	
+	@Test
+	public void intersectsRect(){
+		frustum.update(camera, 1);
+		assertTrue(frustum.intersectsRect(0, -1, -5, 1, 2, 1), "Checking a prism in front of the camera is inside");
+		assertFalse(frustum.intersectsRect(0, 5, -5, 1, 2, 1), "Checking a prism starting above the view is outside");
+		assertTrue(frustum.intersectsRect(0, -20, -5, 1, 20, 1), "Checking a tall prism reaching into the view is inside");
+	}
+	
+	@Test
+	public void culledCount(){
+		frustum.update(camera, 1);
+		cube(0, 0, -5);
+		cube(0, 0, 5);
+		cube(0, 0, 10);
+		assertEquals(3, frustum.getTested(), "Checking every box is counted");
+		assertEquals(2, frustum.getCulled(), "Checking every box outside is counted");
+		
+		frustum.update(camera, 1);
+		assertEquals(0, frustum.getTested(), "Checking the count of tested boxes restarts each update");
+		assertEquals(0, frustum.getCulled(), "Checking the count of culled boxes restarts each update");
+		assertEquals(3, frustum.getLastTested(), "Checking the count of tested boxes from the last update is kept");
+		assertEquals(2, frustum.getLastCulled(), "Checking the count of culled boxes from the last update is kept");
+	}
+	
+}
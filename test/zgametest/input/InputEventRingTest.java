@@ -0,0 +1,109 @@
+package zgametest.input;
+
+import org.junit.jupiter.api.*;
+
+import zgame.core.input.InputEventRing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InputEventRingTest{
+	
+	private InputEventRing ring;
+	
+	/** Run one time before each test occurs, use for initialization of values that must be the same before each test */
+	@BeforeEach
+	public void setup(){
+		ring = new InputEventRing(8);
+	}
+	
+	@Test
+	public void testOrder(){
+		assertTrue(ring.isEmpty(), "Checking a new ring is empty");
+		for(int i = 0; i < 5; i++) assertTrue(ring.add(InputEventRing.PRESS, i, i * 2, i * 3), "Checking an event can be added");
+		ring.add(InputEventRing.CLEAR, 0, 0, 100);
+		assertFalse(ring.isEmpty(), "Checking the ring has events");
+		
+		var codes = new ArrayList<Integer>();
+		assertEquals(6, ring.drain((type, code, mods, time) -> {
+			if(type == InputEventRing.CLEAR){
+				assertEquals(100, time, "Checking the time of the clear event");
+				return;
+			}
+			assertEquals(InputEventRing.PRESS, type, "Checking the type of event " + code);
+			assertEquals(code * 2, mods, "Checking the mods of event " + code);
+			assertEquals(code * 3, time, "Checking the time of event " + code);
+			codes.add(code);
+		}), "Checking every event is taken");
+		assertEquals(List.of(0, 1, 2, 3, 4), codes, "Checking events are taken in the order they were added");
+		assertTrue(ring.isEmpty(), "Checking the ring is empty after taking everything");
+		assertEquals(0, ring.drain((type, code, mods, time) -> fail("Checking an empty ring has no events")), "Checking an empty ring takes nothing");
+	}
+	
+	@Test
+	public void testFull(){
+		assertEquals(8, ring.getCapacity(), "Checking capacity");
+		assertEquals(16, new InputEventRing(9).getCapacity(), "Checking capacity is rounded up to a power of 2");
+		for(int i = 0; i < 8; i++) assertTrue(ring.add(InputEventRing.RELEASE, i, 0, 0), "Checking events can be added until full");
+		assertFalse(ring.add(InputEventRing.RELEASE, 8, 0, 0), "Checking a full ring drops events");
+		assertEquals(1, ring.getDropped(), "Checking the dropped event is counted");
+		
+		assertEquals(8, ring.drain((type, code, mods, time) -> {}), "Checking every event is taken");
+		for(int i = 0; i < 8; i++) assertTrue(ring.add(InputEventRing.PRESS, i, 0, 0), "Checking events can be added after space is made");
+	}
+	
+	@Test
+	public void testFailedHandler(){
+		ring.add(InputEventRing.PRESS, 1, 0, 0);
+		ring.add(InputEventRing.PRESS, 2, 0, 0);
+		assertThrows(IllegalStateException.class, () -> ring.drain((type, code, mods, time) -> {
+			throw new IllegalStateException();
+		}), "Checking a failed handler stops draining");
+		var codes = new ArrayList<Integer>();
+		ring.drain((type, code, mods, time) -> codes.add(code));
+		assertEquals(List.of(2), codes, "Checking the failed event is not taken again");
+	}
+	
+	@Test
+	public void testStress() throws InterruptedException{
+		var stressRing = new InputEventRing(64);
+		int events = 1000000;
+		var error = new AtomicReference<String>();
+		
+		// The producer adds events where the code is the number of the event, retrying whenever the ring is full
+		var producer = new Thread(() -> {
+			for(int i = 0; i < events; i++){
+				int type = i % 2 == 0 ? InputEventRing.PRESS : InputEventRing.RELEASE;
+				while(!stressRing.add(type, i, i & 7, i * 10L)) Thread.yield();
+			}
+		});
+		
+		// The consumer checks that it sees every event exactly once, in order, with every value matching
+		int[] next = {0};
+		var consumer = new Thread(() -> {
+			while(next[0] < events && error.get() == null){
+				int drained = stressRing.drain((type, code, mods, time) -> {
+					int i = next[0];
+					if(code != i) error.set("Expected event " + i + " but got " + code);
+					else if(type != (i % 2 == 0 ? InputEventRing.PRESS : InputEventRing.RELEASE)) error.set("Wrong type for event " + i);
+					else if(mods != (i & 7) || time != i * 10L) error.set("Wrong values for event " + i);
+					next[0]++;
+				});
+				if(drained == 0) Thread.yield();
+			}
+		});
+		
+		consumer.start();
+		producer.start();
+		producer.join(20000);
+		consumer.join(20000);
+		assertFalse(consumer.isAlive(), "Checking the consumer took every event");
+		assertNull(error.get(), "Checking every event was seen once and in order");
+		assertEquals(events, next[0], "Checking every event was taken");
+		assertTrue(stressRing.isEmpty(), "Checking the ring is empty after the stress test");
+	}
+	
+}
@@ -0,0 +1,107 @@
+package zgametest.input;
+
+import org.junit.jupiter.api.*;
+
+import zgame.core.input.keyboard.GLFWKeyInput;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lwjgl.glfw.GLFW.*;
+
+public class ZButtonInputTest{
+	
+	private GLFWKeyInput keys;
+	
+	/** Run one time before each test occurs, use for initialization of values that must be the same before each test */
+	@BeforeEach
+	public void setup(){
+		keys = new GLFWKeyInput(null);
+	}
+	
+	@Test
+	public void testPoll(){
+		keys.buttonAction(GLFW_KEY_A, true, true, false, true);
+		assertFalse(keys.pressed(GLFW_KEY_A), "Checking an action is not applied before polling");
+		assertNull(keys.buttonEvent(GLFW_KEY_A), "Checking a key with no applied events has no event");
+		assertTrue(keys.shift(), "Checking modifiers are updated without polling");
+		
+		assertEquals(1, keys.poll(), "Checking the action is polled");
+		assertTrue(keys.pressed(GLFW_KEY_A), "Checking the key is pressed after polling");
+		assertTrue(keys.buttonPressed(GLFW_KEY_A), "Checking the press is seen");
+		assertFalse(keys.buttonReleased(GLFW_KEY_A), "Checking no release is seen");
+		assertTrue(keys.shift(), "Checking shift is held");
+		assertFalse(keys.alt(), "Checking alt is not held");
+		assertTrue(keys.ctrl(), "Checking ctrl is held");
+		assertTrue(keys.buttonTime(GLFW_KEY_A) > 0, "Checking the time of the event is kept");
+		var e = keys.buttonEvent(GLFW_KEY_A);
+		assertTrue(e.isPress() && e.isShiftDown() && e.isCtrlDown() && !e.isAltDown(), "Checking the event matches the action");
+		
+		assertEquals(0, keys.poll(), "Checking nothing is polled without actions");
+		assertTrue(keys.pressed(GLFW_KEY_A), "Checking the key stays pressed");
+		assertFalse(keys.buttonPressed(GLFW_KEY_A), "Checking the press is only seen for one poll");
+	}
+	
+	@Test
+	public void testTap(){
+		keys.buttonAction(GLFW_KEY_SPACE, true, false, false, false);
+		keys.buttonAction(GLFW_KEY_SPACE, false, false, false, false);
+		keys.poll();
+		assertFalse(keys.pressed(GLFW_KEY_SPACE), "Checking a tapped key ends released");
+		assertTrue(keys.buttonPressed(GLFW_KEY_SPACE), "Checking the press of a tapped key is seen");
+		assertTrue(keys.buttonReleased(GLFW_KEY_SPACE), "Checking the release of a tapped key is seen");
+		keys.poll();
+		assertFalse(keys.buttonPressed(GLFW_KEY_SPACE), "Checking the tap is only seen for one poll");
+		assertFalse(keys.buttonReleased(GLFW_KEY_SPACE), "Checking the tap is only seen for one poll");
+	}
+	
+	@Test
+	public void testClearAndInvalid(){
+		keys.buttonAction(GLFW_KEY_B, true, false, false, false);
+		keys.buttonAction(GLFW_KEY_UNKNOWN, true, false, false, false);
+		keys.buttonAction(GLFW_KEY_LAST + 1, true, false, false, false);
+		keys.poll();
+		assertTrue(keys.pressed(GLFW_KEY_B), "Checking a valid key is pressed");
+		assertFalse(keys.pressed(GLFW_KEY_UNKNOWN), "Checking an unknown key is ignored");
+		assertFalse(keys.pressed(GLFW_KEY_LAST + 1), "Checking a key out of range is ignored");
+		
+		keys.clear();
+		assertTrue(keys.pressed(GLFW_KEY_B), "Checking clearing waits for the next poll");
+		keys.poll();
+		assertFalse(keys.pressed(GLFW_KEY_B), "Checking clearing releases every key");
+	}
+	
+	@Test
+	public void testStress() throws InterruptedException{
+		int taps = 200000;
+		var error = new AtomicReference<String>();
+		
+		// The producer taps keys, waiting for the ring to empty after every few taps so that nothing is dropped
+		var ring = keys.getEvents();
+		var producer = new Thread(() -> {
+			for(int i = 0; i < taps; i++){
+				int key = GLFW_KEY_A + i % 26;
+				keys.buttonAction(key, true, false, false, false);
+				keys.buttonAction(key, false, false, false, false);
+				if(i % 64 == 63) while(!ring.isEmpty()) Thread.yield();
+			}
+		});
+		producer.start();
+		
+		// Poll like a tick loop. Every press is followed by a release, so a key can only be down if it was pressed in the same poll
+		long polled = 0;
+		while(producer.isAlive() || !ring.isEmpty()){
+			polled += keys.poll();
+			for(int k = GLFW_KEY_A; k <= GLFW_KEY_Z; k++){
+				if(keys.pressed(k) && !keys.buttonPressed(k)) error.set("Key " + k + " stayed pressed after being released");
+			}
+		}
+		producer.join(20000);
+		polled += keys.poll();
+		assertNull(error.get(), "Checking every press was followed by a release");
+		assertEquals(0, ring.getDropped(), "Checking no event was dropped");
+		assertEquals(taps * 2L, polled, "Checking every event was polled exactly once");
+		for(int k = GLFW_KEY_A; k <= GLFW_KEY_Z; k++) assertFalse(keys.pressed(k), "Checking key " + k + " ends released");
+	}
+	
+}
@@ -0,0 +1,120 @@
+package zgametest.physics;
+
+import org.junit.jupiter.api.*;
+
+import zgame.physics.ForceRegistry;
+import zgame.physics.ZVector3D;
+import zgame.things.entity.EntityThing;
+import zgametest.TestEntity3D;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EntityForceTest{
+	
+	/** A simple constant for testing if double precision floating point values are approximately equal */
+	public static double DELTA = 0.000000001;
+	
+	private TestEntity3D entity;
+	
+	/** Run one time before each test occurs, use for initialization of values that must be the same before each test */
+	@BeforeEach
+	public void setup(){
+		entity = new TestEntity3D(0, 0, 0, 0.5, 1);
+	}
+	
+	@Test
+	public void testRegistry(){
+		int id = ForceRegistry.id("testRegistry");
+		assertEquals(id, ForceRegistry.id("testRegistry"), "Checking the same name gives the same id");
+		assertEquals(id, ForceRegistry.find("testRegistry"), "Checking finding gives the registered id");
+		assertEquals("testRegistry", ForceRegistry.name(id), "Checking the name of the id");
+		assertEquals(-1, ForceRegistry.find("testRegistryNeverUsed"), "Checking finding an unused name does not register it");
+		assertEquals(ForceRegistry.id(EntityThing.FORCE_NAME_GRAVITY), EntityThing.FORCE_GRAVITY, "Checking the entity id constants are registered");
+	}
+	
+	@Test
+	public void testSetAndRemove(){
+		double gravity = entity.getForce().getY();
+		assertEquals(gravity, entity.getGravity().getY(), DELTA, "Checking the total force starts as only gravity");
+		
+		var set = entity.setForce("testPush", new ZVector3D(1, 2, 3));
+		assertTrue(entity.hasForce("testPush"), "Checking the force is added");
+		assertNotSame(set, entity.getForce("testPush"), "Checking the stored vector is not returned");
+		assertEquals(2, entity.getForce("testPush").getY(), DELTA, "Checking the returned vector has the values of the force");
+		assertEquals(1, entity.getForce().getX(), DELTA, "Checking total x after adding");
+		assertEquals(gravity + 2, entity.getForce().getY(), DELTA, "Checking total y after adding");
+		assertEquals(3, entity.getForce().getZ(), DELTA, "Checking total z after adding");
+		
+		int id = ForceRegistry.find("testPush");
+		var setAgain = entity.setForce(id, 4, 0, 0);
+		assertNotSame(set, setAgain, "Checking setting again gives a new vector");
+		assertEquals(1, set.getX(), DELTA, "Checking setting again does not change the vector returned before");
+		assertEquals(4, setAgain.getX(), DELTA, "Checking the returned vector has the new values of the force");
+		assertEquals(4, entity.getForce().getX(), DELTA, "Checking total x after replacing");
+		assertEquals(gravity, entity.getForce().getY(), DELTA, "Checking total y after replacing");
+		assertEquals(0, entity.getForce().getZ(), DELTA, "Checking total z after replacing");
+		
+		var removed = entity.removeForce(id);
+		assertEquals(4, removed.getX(), DELTA, "Checking the removed force is returned");
+		assertFalse(entity.hasForce(id), "Checking the force is removed");
+		assertNull(entity.getForce(id), "Checking a removed force is not found");
+		assertNull(entity.removeForce(id), "Checking removing again does nothing");
+		assertEquals(0, entity.getForce().getX(), DELTA, "Checking total x after removing");
+		assertEquals(gravity, entity.getForce().getY(), DELTA, "Checking total y after removing");
+		
+		assertNull(entity.getForce("testNeverSet"), "Checking an unknown force is not found");
+		assertFalse(entity.hasForce("testNeverSet"), "Checking an unknown force is not present");
+	}
+	
+	@Test
+	public void testCopied(){
+		var force = new ZVector3D(1, 0, 0);
+		entity.setForce("testCopied", force);
+		force.set(5, 5, 5);
+		assertEquals(1, entity.getForce("testCopied").getX(), DELTA, "Checking changing the given vector does not change the force");
+		assertEquals(1, entity.getForce().getX(), DELTA, "Checking changing the given vector does not change the total");
+		
+		entity.getForce("testCopied").set(5, 5, 5);
+		entity.getForce().set(5, 5, 5);
+		assertEquals(1, entity.getForce("testCopied").getX(), DELTA, "Checking changing a returned force does not change the force");
+		assertEquals(1, entity.getForce().getX(), DELTA, "Checking changing the returned total does not change the total");
+		
+		entity.setForce("testCopied", new ZVector3D(2, 0, 0)).set(5, 5, 5);
+		assertEquals(2, entity.getForce("testCopied").getX(), DELTA, "Checking changing a set force does not change the force");
+		assertEquals(2, entity.getForce().getX(), DELTA, "Checking changing a set force does not change the total");
+		
+		double gravity = entity.getGravity().getY();
+		entity.getGravity().set(5, 5, 5);
+		entity.getFriction().set(5, 5, 5);
+		entity.getGravityDragForce().set(5, 5, 5);
+		entity.getForces().forEach(f -> f.getValue().set(5, 5, 5));
+		assertEquals(gravity, entity.getGravity().getY(), DELTA, "Checking changing the returned gravity does not change gravity");
+		assertEquals(0, entity.getFriction().getMagnitude(), DELTA, "Checking changing the returned friction does not change friction");
+		assertEquals(0, entity.getGravityDragForce().getMagnitude(), DELTA, "Checking changing the returned drag does not change drag");
+		assertEquals(2, entity.getForce("testCopied").getX(), DELTA, "Checking changing a listed force does not change the force");
+		assertEquals(2, entity.getForce().getX(), DELTA, "Checking changing a listed force does not change the total");
+		assertEquals(gravity, entity.getForce().getY(), DELTA, "Checking changing the returned forces does not change the total");
+		
+		var removed = entity.removeForce("testCopied");
+		removed.set(5, 5, 5);
+		entity.setForce("testCopied", 3, 0, 0);
+		assertEquals(3, entity.getForce().getX(), DELTA, "Checking changing a removed force does not change the total");
+	}
+	
+	@Test
+	public void testGetForces(){
+		entity.setForce("testGetForces", new ZVector3D(1, 0, 0));
+		var names = entity.getForces().stream().map(f -> f.getKey()).toList();
+		assertTrue(names.contains("testGetForces"), "Checking a set force is listed");
+		assertTrue(names.contains(EntityThing.FORCE_NAME_GRAVITY), "Checking gravity is listed");
+		
+		entity.removeForce("testGetForces");
+		names = entity.getForces().stream().map(f -> f.getKey()).toList();
+		assertFalse(names.contains("testGetForces"), "Checking a removed force is not listed");
+		
+		entity.clearMotion();
+		assertEquals(0, entity.getForce().getX(), DELTA, "Checking clearing motion leaves no horizontal force");
+		assertEquals(entity.getGravity().getY(), entity.getForce().getY(), DELTA, "Checking clearing motion keeps gravity");
+	}
+	
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.*;
 
 import zgame.physics.ZVector;
 import zgame.physics.ZVector2D;
+import zgame.physics.ZVector3D;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -52,6 +53,72 @@ public class ZVectorTest{
 		assertEquals(315, vec.getAngleDeg(), DELTA);
 	}
 	
+	@Test
+	public void localOperationsTest(){
+		var v = new ZVector3D(1, 2, 3);
+		var other = new ZVector3D(4, 5, 6);
+		
+		assertSame(v, v.addLocal(other), "Checking addLocal returns the same vector");
+		assertEquals(5, v.getX(), DELTA, "Checking x after adding");
+		assertEquals(7, v.getY(), DELTA, "Checking y after adding");
+		assertEquals(9, v.getZ(), DELTA, "Checking z after adding");
+		assertEquals(4, other.getX(), DELTA, "Checking the added vector is not modified");
+		
+		v.subLocal(other).scaleLocal(2);
+		assertEquals(2, v.getX(), DELTA, "Checking x after subtracting and scaling");
+		assertEquals(4, v.getY(), DELTA, "Checking y after subtracting and scaling");
+		assertEquals(6, v.getZ(), DELTA, "Checking z after subtracting and scaling");
+		
+		v.addScaledLocal(other, 0.5).inverseLocal();
+		assertEquals(-4, v.getX(), DELTA, "Checking x after adding scaled and inverting");
+		assertEquals(-6.5, v.getY(), DELTA, "Checking y after adding scaled and inverting");
+		assertEquals(-9, v.getZ(), DELTA, "Checking z after adding scaled and inverting");
+		
+		var expected = v.modifyMagnitude(2);
+		v.modifyMagnitudeLocal(2);
+		assertEquals(2, v.getMagnitude(), DELTA, "Checking magnitude after modifying it");
+		assertEquals(expected.getX(), v.getX(), DELTA, "Checking modifying in place matches creating a new vector for x");
+		assertEquals(expected.getY(), v.getY(), DELTA, "Checking modifying in place matches creating a new vector for y");
+		assertEquals(expected.getZ(), v.getZ(), DELTA, "Checking modifying in place matches creating a new vector for z");
+		
+		v.set(other);
+		assertEquals(other.getYaw(), v.getYaw(), DELTA, "Checking yaw is copied");
+		assertEquals(other.getMagnitude(), v.getMagnitude(), DELTA, "Checking magnitude is copied");
+		v.setZero();
+		assertEquals(0, v.getMagnitude(), "Checking magnitude after setting to zero");
+		assertEquals(0, v.getYaw(), "Checking yaw after setting to zero");
+		assertEquals(0, v.getPitch(), "Checking pitch after setting to zero");
+		
+		vec.set(0, 1).scaleLocal(2);
+		assertEquals(90, vec.getAngleDeg(), DELTA, "Checking the 2D angle after modifying");
+		assertEquals(2, vec.getMagnitude(), DELTA, "Checking the 2D magnitude after modifying");
+	}
+	
+	@Test
+	public void lazyAngleMagnitudeTest(){
+		// The angles and magnitude must always match the current components, no matter when they are first used
+		var v = new ZVector3D(3, 0, 4);
+		assertEquals(5, v.getHorizontal(), DELTA, "Checking horizontal magnitude is found before any angle");
+		assertEquals(5, v.getMagnitude(), DELTA, "Checking magnitude");
+		
+		v.set(0, 1, 0);
+		assertEquals(Math.PI / 2, v.getPitch(), DELTA, "Checking pitch is found after the components change");
+		assertEquals(0, v.getHorizontal(), DELTA, "Checking horizontal magnitude after the pitch");
+		assertEquals(1, v.getMagnitude(), DELTA, "Checking magnitude after the pitch");
+		
+		v.set(-1, 0, 0);
+		assertEquals(Math.PI, v.getYaw(), DELTA, "Checking yaw is found after the components change again");
+		v.set(0, 0, 2);
+		assertEquals(2, v.getMagnitude(), DELTA, "Checking magnitude is found before the angles");
+		assertEquals(Math.PI / 2, v.getYaw(), DELTA, "Checking yaw is found after the magnitude");
+		
+		// Vectors made from angles keep the given angles
+		var angled = new ZVector3D(1, 0.5, 3, false);
+		assertEquals(1, angled.getYaw(), DELTA, "Checking yaw of a vector made from angles");
+		assertEquals(0.5, angled.getPitch(), DELTA, "Checking pitch of a vector made from angles");
+		assertEquals(3, angled.getMagnitude(), DELTA, "Checking magnitude of a vector made from angles");
+	}
+	
 	/** Run after each test runs, use to clean up resources */
 	@AfterEach
 	public void end(){
@@ -0,0 +1,82 @@
+package zgametest.sound;
+
+import org.junit.jupiter.api.*;
+
+import zgame.core.sound.AttachedSources;
+import zgame.core.sound.SoundSource;
+import zgame.core.sound.VoiceBackend;
+import zgame.things.type.Position3D;
+
+import java.lang.ref.WeakReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AttachedSourcesTest{
+	
+	/** A thing which only has a position */
+	private record Point(double getX, double getY, double getZ) implements Position3D{}
+	
+	private AttachedSources sources;
+	
+	/** Run one time before each test occurs, use for initialization of values that must be the same before each test */
+	@BeforeEach
+	public void setup(){
+		sources = new AttachedSources();
+	}
+	
+	@Test
+	public void attachDetach(){
+		var a = new SoundSource((VoiceBackend)null);
+		var b = new SoundSource((VoiceBackend)null);
+		var pointA = new Point(1, 2, 3);
+		var pointB = new Point(4, 5, 6);
+		sources.attach(a, pointA);
+		sources.attach(b, pointB);
+		assertEquals(2, sources.size(), "Checking both sources are attached");
+		sources.attach(a, pointB);
+		assertEquals(2, sources.size(), "Checking attaching again only changes what the source follows");
+		
+		sources.detach(a);
+		assertEquals(1, sources.size(), "Checking a detached source is removed");
+		sources.detach(b);
+		assertEquals(0, sources.size(), "Checking the source which was moved into the removed position can be detached");
+		sources.detach(a);
+		assertEquals(0, sources.size(), "Checking detaching twice does nothing");
+	}
+	
+	@Test
+	public void forgetThrownAwayThings(){
+		var kept = new SoundSource((VoiceBackend)null);
+		var thrownAway = new SoundSource((VoiceBackend)null);
+		var reference = new WeakReference<Position3D>(new Point(0, 0, 0));
+		sources.attach(thrownAway, reference);
+		sources.attach(kept, new Point(1, 1, 1));
+		
+		sources.gather(1);
+		assertEquals(2, sources.size(), "Checking a thing which has not been thrown away keeps its source");
+		
+		// Clearing the reference is what happens when the thing is garbage collected, so gathering then detaches its source
+		reference.clear();
+		sources.gather(1);
+		assertEquals(1, sources.size(), "Checking the source of a thrown away thing is detached");
+		sources.detach(kept);
+		assertEquals(0, sources.size(), "Checking the source of the kept thing was still attached");
+	}
+	
+	@Test
+	public void moveSourcesNotPlaying(){
+		var source = new SoundSource((VoiceBackend)null);
+		sources.attach(source, new Point(1, 2, 3));
+		sources.gather(2);
+		assertFalse(source.isPlaying(), "Checking the source is not playing");
+		assertEquals(1, sources.apply(), "Checking a source which is not playing is moved");
+		assertEquals(2, source.getX(), "Checking the source is at the scaled x of its thing");
+		assertEquals(4, source.getY(), "Checking the source is at the scaled y of its thing");
+		assertEquals(6, source.getZ(), "Checking the source is at the scaled z of its thing");
+		
+		assertEquals(0, sources.apply(), "Checking nothing is moved again when nothing was gathered");
+		sources.gather(2);
+		assertEquals(0, sources.apply(), "Checking a source which did not move is not moved again");
+	}
+	
+}
@@ -0,0 +1,69 @@
+package zgametest.sound;
+
+import org.junit.jupiter.api.*;
+
+import zgame.core.sound.OggStream;
+import zgame.core.utils.ZAssetUtils;
+import zgame.core.utils.ZFilePaths;
+
+import java.nio.ShortBuffer;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OggStreamTest{
+	
+	private OggStream stream;
+	
+	/** Run one time before each test occurs, use for initialization of values that must be the same before each test */
+	@BeforeEach
+	public void setup(){
+		stream = OggStream.open(ZAssetUtils.getJarBytes(ZFilePaths.MUSIC + "song short.ogg"), 8192, 4);
+		assertNotNull(stream, "Checking the music opens");
+	}
+	
+	@AfterEach
+	public void end(){
+		stream.destroy();
+	}
+	
+	@Test
+	public void testDecodeAll(){
+		assertTrue(stream.getSamples() > 0, "Checking the music has samples");
+		assertEquals(0, stream.getBufferSize() % stream.getChannels(), "Checking buffers hold whole samples");
+		
+		long values = 0;
+		var buffers = new HashSet<ShortBuffer>();
+		while(!stream.isFinished()){
+			var buff = stream.next();
+			assertTrue(buff.remaining() > 0, "Checking data is decoded before the end");
+			values += buff.remaining();
+			buffers.add(buff);
+		}
+		assertEquals((long)stream.getSamples() * stream.getChannels(), values, "Checking every sample is decoded");
+		assertEquals(0, stream.next().remaining(), "Checking nothing is decoded after the end");
+		assertEquals(stream.getNumBuffers(), buffers.size(), "Checking only the buffers of the ring are used");
+	}
+	
+	@Test
+	public void testRewind(){
+		var first = new short[stream.getBufferSize()];
+		stream.next().get(first);
+		stream.next();
+		stream.rewind();
+		assertEquals(0, stream.getDecoded(), "Checking rewinding goes back to the start");
+		
+		var again = new short[stream.getBufferSize()];
+		stream.next().get(again);
+		assertArrayEquals(first, again, "Checking the same data is decoded after rewinding");
+	}
+	
+	@Test
+	public void testClosed(){
+		stream.destroy();
+		assertTrue(stream.isClosed(), "Checking the stream is closed");
+		assertTrue(stream.isFinished(), "Checking a closed stream is finished");
+		assertEquals(0, stream.next().remaining(), "Checking a closed stream decodes nothing");
+	}
+	
+}
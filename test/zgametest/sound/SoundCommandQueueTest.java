@@ -0,0 +1,100 @@
+package zgametest.sound;
+
+import org.junit.jupiter.api.*;
+
+import zgame.core.sound.SoundCommand;
+import zgame.core.sound.SoundCommandQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SoundCommandQueueTest{
+	
+	private SoundCommandQueue queue;
+	
+	/** Run one time before each test occurs, use for initialization of values that must be the same before each test */
+	@BeforeEach
+	public void setup(){
+		queue = new SoundCommandQueue(8);
+	}
+	
+	@Test
+	public void testOrder(){
+		assertTrue(queue.isEmpty(), "Checking a new queue is empty");
+		for(int i = 0; i < 5; i++) assertTrue(queue.playerVolume(null, i), "Checking a command can be added");
+		queue.playerPaused(null, true);
+		assertFalse(queue.isEmpty(), "Checking the queue has commands");
+		
+		var values = new ArrayList<Double>();
+		assertEquals(3, queue.drain(3, c -> values.add(c.getValue())), "Checking only the maximum number of commands are taken");
+		assertEquals(3, queue.drain(10, c -> {
+			if(c.getType() == SoundCommand.Type.PLAYER_VOLUME) values.add(c.getValue());
+			else assertTrue(c.getFlag(), "Checking the pause command is paused");
+		}), "Checking the rest of the commands are taken");
+		assertEquals(List.of(0.0, 1.0, 2.0, 3.0, 4.0), values, "Checking commands are taken in the order they were added");
+		assertTrue(queue.isEmpty(), "Checking the queue is empty after taking everything");
+	}
+	
+	@Test
+	public void testFull(){
+		assertEquals(8, queue.getCapacity(), "Checking capacity");
+		for(int i = 0; i < 8; i++) assertTrue(queue.playerMuted(null, true), "Checking commands can be added until full");
+		assertFalse(queue.playerMuted(null, true), "Checking a full queue drops commands");
+		assertEquals(1, queue.getDropped(), "Checking the dropped command is counted");
+		
+		queue.drain(1, c -> {});
+		assertTrue(queue.playerMuted(null, true), "Checking a command can be added after space is made");
+		assertEquals(8, queue.drain(100, c -> {}), "Checking every remaining command is taken");
+	}
+	
+	@Test
+	public void testStress() throws InterruptedException{
+		var stressQueue = new SoundCommandQueue(1024);
+		int producers = 4;
+		int perProducer = 50000;
+		var error = new AtomicReference<String>();
+		
+		// Each producer adds volume commands where the value is its id and the number of the command, retrying whenever the queue is full
+		var threads = new ArrayList<Thread>();
+		for(int p = 0; p < producers; p++){
+			int id = p;
+			threads.add(new Thread(() -> {
+				for(int i = 0; i < perProducer; i++){
+					while(!stressQueue.playerVolume(null, id * (double)perProducer + i)) Thread.yield();
+				}
+			}));
+		}
+		
+		// The consumer checks that it sees every command of every producer exactly once, in the order each producer added them
+		var next = new int[producers];
+		var consumer = new Thread(() -> {
+			long taken = 0;
+			long total = (long)producers * perProducer;
+			while(taken < total && error.get() == null){
+				int drained = stressQueue.drain(256, c -> {
+					int value = (int)c.getValue();
+					int id = value / perProducer;
+					int i = value % perProducer;
+					if(c.getType() != SoundCommand.Type.PLAYER_VOLUME) error.set("Wrong command type " + c.getType());
+					else if(next[id] != i) error.set("Producer " + id + " expected command " + next[id] + " but got " + i);
+					next[id]++;
+				});
+				if(drained == 0) Thread.yield();
+				taken += drained;
+			}
+		});
+		
+		consumer.start();
+		for(var t : threads) t.start();
+		for(var t : threads) t.join(20000);
+		consumer.join(20000);
+		assertFalse(consumer.isAlive(), "Checking the consumer took every command");
+		assertNull(error.get(), "Checking every command was seen once and in order");
+		for(int p = 0; p < producers; p++) assertEquals(perProducer, next[p], "Checking every command of producer " + p + " was taken");
+		assertTrue(stressQueue.isEmpty(), "Checking the queue is empty after the stress test");
+	}
+	
+}
@@ -0,0 +1,303 @@
+package zgametest.sound;
+
+import org.junit.jupiter.api.*;
+
+import zgame.core.sound.Sound;
+import zgame.core.sound.SoundMap;
+import zgame.core.sound.SoundSource;
+import zgame.core.sound.VoiceBackend;
+import zgame.core.sound.VoicePool;
+import zgame.core.utils.ZPointerBuffer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VoicePoolTest{
+	
+	/** A {@link VoiceBackend} which only keeps track of the state of each voice, without playing anything */
+	private static class FakeBackend implements VoiceBackend{
+		
+		/** The state of one fake voice */
+		private static class Voice{
+			private int buffer;
+			private float offset;
+			private double gain;
+			private boolean playing;
+			private boolean stopped;
+		}
+		
+		/** The maximum number of voices which can exist at once */
+		private final int limit;
+		/** Every voice which exists, mapped by id */
+		private final Map<Integer, Voice> voices;
+		/** The id of the last created voice */
+		private int lastId;
+		
+		private FakeBackend(int limit){
+			this.limit = limit;
+			this.voices = new HashMap<>();
+			this.lastId = NO_VOICE;
+		}
+		
+		private Voice get(int voice){
+			var v = this.voices.get(voice);
+			assertNotNull(v, "Checking only existing voices are used");
+			return v;
+		}
+		
+		/** Make a voice act like it reached the end of its sound */
+		private void finish(int voice){
+			var v = this.get(voice);
+			v.playing = false;
+			v.stopped = true;
+		}
+		
+		@Override
+		public int create(){
+			if(this.voices.size() >= this.limit) return NO_VOICE;
+			this.voices.put(++this.lastId, new Voice());
+			return this.lastId;
+		}
+		
+		@Override
+		public void delete(int voice){
+			assertNotNull(this.voices.remove(voice), "Checking only existing voices are deleted");
+		}
+		
+		@Override
+		public void position(int voice, double x, double y, double z){
+			this.get(voice);
+		}
+		
+		@Override
+		public void direction(int voice, double x, double y, double z){
+			this.get(voice);
+		}
+		
+		@Override
+		public void gain(int voice, double gain){
+			this.get(voice).gain = gain;
+		}
+		
+		@Override
+		public void pitch(int voice, double pitch){
+			this.get(voice);
+		}
+		
+		@Override
+		public void buffer(int voice, int buffer){
+			this.get(voice).buffer = buffer;
+		}
+		
+		@Override
+		public void play(int voice){
+			var v = this.get(voice);
+			v.playing = true;
+			v.stopped = false;
+		}
+		
+		@Override
+		public void pause(int voice){
+			this.get(voice).playing = false;
+		}
+		
+		@Override
+		public void stop(int voice){
+			var v = this.get(voice);
+			v.playing = false;
+			v.stopped = true;
+		}
+		
+		@Override
+		public void rewind(int voice){
+			var v = this.get(voice);
+			v.playing = false;
+			v.stopped = false;
+			v.offset = 0;
+		}
+		
+		@Override
+		public float getSampleOffset(int voice){
+			return this.get(voice).offset;
+		}
+		
+		@Override
+		public void setSampleOffset(int voice, float offset){
+			this.get(voice).offset = offset;
+		}
+		
+		@Override
+		public boolean isStopped(int voice){
+			return this.get(voice).stopped;
+		}
+	}
+	
+	/** A sound which is never loaded, only used for its length and buffer id */
+	private static class TestSound extends Sound{
+		private TestSound(int sampleRate, int samples){
+			super("test");
+			this.setInfo(1, sampleRate, samples);
+		}
+		
+		@Override
+		protected void bufferData(ZPointerBuffer p){}
+		
+		@Override
+		public int[] getIds(){
+			return new int[]{7};
+		}
+	}
+	
+	private FakeBackend backend;
+	private VoicePool pool;
+	private SoundMap playing;
+	/** A sound 2 seconds long */
+	private Sound sound;
+	
+	/** Run one time before each test occurs, use for initialization of values that must be the same before each test */
+	@BeforeEach
+	public void setup(){
+		backend = new FakeBackend(100);
+		pool = new VoicePool(backend, 2);
+		playing = new SoundMap();
+		sound = new TestSound(100, 200);
+	}
+	
+	/**
+	 * Play the test sound at a new source
+	 *
+	 * @param x The x coordinate of the source
+	 * @param volume The base volume of the source
+	 * @return The source
+	 */
+	private SoundSource play(double x, double volume){
+		var s = new SoundSource(backend, x, 0, 0, volume);
+		s.setCurrent(sound);
+		playing.put(s);
+		pool.play(s);
+		return s;
+	}
+	
+	@Test
+	public void leaseAndRelease(){
+		var a = play(0, 1);
+		var b = play(0, 1);
+		var c = play(0, 1);
+		assertTrue(a.hasVoice(), "Checking the first source gets a voice");
+		assertTrue(b.hasVoice(), "Checking the second source gets a voice");
+		assertFalse(c.hasVoice(), "Checking a source past the capacity is virtual");
+		assertEquals(2, pool.getLeased(), "Checking both voices are leased");
+		assertEquals(1, pool.getVirtual(), "Checking one source is virtual");
+		assertTrue(backend.get(a.getId()).playing, "Checking a source with a voice is playing");
+		assertEquals(7, backend.get(a.getId()).buffer, "Checking the voice plays the buffer of the sound");
+		
+		int voice = a.getId();
+		backend.finish(voice);
+		assertTrue(playing.removeFinishedSounds(), "Checking the finished sound is removed");
+		assertFalse(playing.containsKey(a.getKey()), "Checking the finished source is no longer playing");
+		assertFalse(a.hasVoice(), "Checking the finished source gave back its voice");
+		assertEquals(1, pool.getLeased(), "Checking the voice is back in the pool");
+		
+		pool.update(0);
+		assertEquals(voice, c.getId(), "Checking the virtual source gets the returned voice");
+		assertEquals(2, pool.getCreated(), "Checking no more voices were created than the capacity");
+	}
+	
+	@Test
+	public void priority(){
+		pool = new VoicePool(backend, 1);
+		var far = play(100, 1);
+		assertTrue(far.hasVoice(), "Checking a far source gets a free voice");
+		backend.setSampleOffset(far.getId(), 50);
+		
+		var near = play(1, 1);
+		assertTrue(near.hasVoice(), "Checking a near source takes the voice of a far source");
+		assertFalse(far.hasVoice(), "Checking the far source lost its voice");
+		assertEquals(0.5, far.getElapsed(), 1E-9, "Checking the far source remembers how much of the sound played");
+		
+		var quiet = play(1, 0.1);
+		assertFalse(quiet.hasVoice(), "Checking a quieter source does not take a voice");
+		
+		// Move the listener next to the far source
+		pool.setListenerPosition(100, 0, 0);
+		pool.update(0.25);
+		assertTrue(far.hasVoice(), "Checking the source now close to the listener gets the voice");
+		assertFalse(near.hasVoice(), "Checking the source now far from the listener loses the voice");
+		assertEquals(75, backend.getSampleOffset(far.getId()), 1E-4, "Checking the sound continues from where it would be if it never stopped");
+	}
+	
+	@Test
+	public void virtualTime(){
+		var a = play(0, 1);
+		var b = play(0, 1);
+		var c = play(0, 0.5);
+		pool.update(1);
+		assertEquals(1, c.getElapsed(), 1E-9, "Checking time passes for a virtual sound");
+		assertFalse(c.isFinished(), "Checking the virtual sound is not finished before its length");
+		
+		c.pause();
+		pool.update(5);
+		assertEquals(1, c.getElapsed(), 1E-9, "Checking time does not pass for a paused virtual sound");
+		c.unpause();
+		pool.update(1.5);
+		assertTrue(c.isFinished(), "Checking the virtual sound finishes after its length");
+		
+		backend.finish(a.getId());
+		backend.finish(b.getId());
+		playing.removeFinishedSounds();
+		assertTrue(playing.isEmpty(), "Checking every finished sound is removed, including the virtual one");
+		assertEquals(0, pool.getActive(), "Checking the pool has no sources left");
+		pool.update(0);
+		assertFalse(c.hasVoice(), "Checking a finished sound is not given a voice");
+	}
+	
+	@Test
+	public void inaudible(){
+		var muted = new SoundSource(backend, 0, 0, 0, 1);
+		muted.mute();
+		muted.setCurrent(sound);
+		pool.play(muted);
+		assertFalse(muted.hasVoice(), "Checking a muted source does not get a voice");
+		var silent = play(0, 0);
+		assertFalse(silent.hasVoice(), "Checking a source with no volume does not get a voice");
+		assertEquals(0, pool.getCreated(), "Checking no voice is created for sounds which cannot be heard");
+		
+		muted.unmute();
+		pool.update(0);
+		assertTrue(muted.hasVoice(), "Checking an unmuted source gets a voice");
+		muted.mute();
+		pool.update(0);
+		assertFalse(muted.hasVoice(), "Checking a source loses its voice when muted");
+		assertEquals(0, pool.getLeased(), "Checking the voice went back to the pool");
+	}
+	
+	@Test
+	public void backendLimit(){
+		backend = new FakeBackend(1);
+		pool = new VoicePool(backend, 4);
+		var a = play(0, 1);
+		var b = play(0, 1);
+		assertTrue(a.hasVoice(), "Checking the first source gets the only voice");
+		assertFalse(b.hasVoice(), "Checking the second source is virtual when the backend cannot make more voices");
+		assertEquals(1, pool.getCreated(), "Checking only the voice the backend could make is counted");
+	}
+	
+	@Test
+	public void reserved(){
+		var music = new SoundSource(backend);
+		assertTrue(pool.reserve(music), "Checking a voice can be reserved");
+		int voice = music.getId();
+		music.release();
+		assertEquals(voice, music.getId(), "Checking a reserved voice is kept after releasing");
+		assertEquals(0, pool.getLeased(), "Checking a reserved voice is not leased from the pool");
+		
+		var a = play(0, 1);
+		pool.destroy();
+		assertFalse(a.hasVoice(), "Checking destroying the pool takes every voice");
+		assertFalse(music.hasVoice(), "Checking destroying the pool takes reserved voices");
+		assertTrue(backend.voices.isEmpty(), "Checking every voice was deleted");
+	}
+	
+}
@@ -0,0 +1,195 @@
+package zgametest.utils;
+
+import org.junit.jupiter.api.*;
+
+import zgame.core.utils.ClassMappedList;
+import zgame.core.utils.UuidGenerator;
+import zgame.core.utils.Uuidable;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClassMappedListTest{
+	
+	/** A sorted object with a priority, like a game thing */
+	private static class Item implements Comparable<Item>, Uuidable{
+		private final int priority;
+		private final long uuid;
+		
+		private Item(int priority){
+			this.priority = priority;
+			this.uuid = UuidGenerator.next();
+		}
+		
+		@Override
+		public int compareTo(Item o){
+			return Integer.compare(this.priority, o.priority);
+		}
+		
+		@Override
+		public long getUuid(){
+			return this.uuid;
+		}
+	}
+	
+	/** A kind of {@link Item} only stored in some lists */
+	private static class SpecialItem extends Item{
+		private SpecialItem(int priority){
+			super(priority);
+		}
+	}
+	
+	private ClassMappedList list;
+	
+	/** Run one time before each test occurs, use for initialization of values that must be the same before each test */
+	@BeforeEach
+	public void setup(){
+		list = new ClassMappedList();
+		list.addClass(Item.class);
+		list.addClass(SpecialItem.class);
+		list.addClass(Object.class);
+	}
+	
+	@Test
+	public void testMembership(){
+		var item = new Item(0);
+		var special = new SpecialItem(0);
+		assertTrue(list.add(item), "Checking an item is added");
+		assertTrue(list.add(special), "Checking a special item is added");
+		assertFalse(list.add(item), "Checking the same item is not added twice");
+		assertFalse(list.add(null), "Checking null is not added");
+		
+		assertEquals(2, list.get(Item.class).size(), "Checking both are items");
+		assertEquals(1, list.get(SpecialItem.class).size(), "Checking only one is special");
+		assertEquals(2, list.get(Object.class).size(), "Checking both are objects");
+		assertSame(special, list.getMap(SpecialItem.class).get(special.getUuid()), "Checking the special item is mapped by uuid");
+		assertNull(list.getMap(SpecialItem.class).get(item.getUuid()), "Checking the normal item is not in the special map");
+		
+		assertTrue(list.remove(special), "Checking the special item is removed");
+		assertFalse(list.remove(special), "Checking removing again does nothing");
+		assertTrue(list.get(SpecialItem.class).isEmpty(), "Checking the special list is empty");
+		assertNull(list.getMap(Item.class).get(special.getUuid()), "Checking the special item is no longer mapped");
+		assertEquals(1, list.get(Item.class).size(), "Checking the normal item is kept");
+	}
+	
+	@Test
+	public void testSortedChurn(){
+		var random = new Random(11);
+		var added = new ArrayList<Item>();
+		for(int i = 0; i < 5000; i++){
+			if(added.isEmpty() || random.nextInt(3) != 0){
+				var item = random.nextBoolean() ? new Item(random.nextInt(4) * 100 - 100) : new SpecialItem(random.nextInt(4) * 100 - 100);
+				list.add(item);
+				added.add(item);
+			}
+			else assertTrue(list.remove(added.remove(random.nextInt(added.size()))), "Checking an added item is removed");
+		}
+		
+		var items = list.get(Item.class);
+		assertEquals(added.size(), items.size(), "Checking every item which was not removed is in the list");
+		for(var item : added) assertTrue(items.contains(item), "Checking each remaining item is in the list");
+		for(int i = 1; i < items.size(); i++) assertTrue(items.get(i - 1).compareTo(items.get(i)) <= 0, "Checking the list is sorted at " + i);
+		
+		var specials = list.get(SpecialItem.class);
+		for(int i = 1; i < specials.size(); i++) assertTrue(specials.get(i - 1).compareTo(specials.get(i)) <= 0, "Checking the special list is sorted at " + i);
+		assertEquals(added.stream().filter(s -> s instanceof SpecialItem).count(), specials.size(), "Checking the special list has every special item");
+	}
+	
+	@Test
+	public void testUnsortedOrder(){
+		var strings = new ClassMappedList();
+		strings.addClass(StringBuilder.class);
+		var a = new StringBuilder("a");
+		var b = new StringBuilder("b");
+		var c = new StringBuilder("c");
+		strings.add(a);
+		strings.add(b);
+		strings.add(c);
+		strings.remove(a);
+		var d = new StringBuilder("d");
+		strings.add(d);
+		strings.remove(c);
+		var remaining = strings.get(StringBuilder.class);
+		assertEquals(2, remaining.size(), "Checking the size after removing");
+		assertSame(b, remaining.get(0), "Checking the last object is moved into the place of a removed object");
+		assertSame(d, remaining.get(1), "Checking an added object goes at the end");
+	}
+	
+	@Test
+	public void testSortedBuckets(){
+		var added = new ArrayList<Item>();
+		for(int i = 0; i < 30; i++){
+			var item = new Item((i * 7) % 3);
+			list.add(item);
+			added.add(item);
+		}
+		// Adding to and removing from the middle bucket moves objects of the buckets after it
+		var middle = new Item(1);
+		list.add(middle);
+		added.add(middle);
+		assertTrue(list.remove(added.remove(4)), "Checking an object in a bucket before the end is removed");
+		assertTrue(list.remove(middle), "Checking an object added to the middle bucket is removed");
+		added.remove(middle);
+		assertFalse(list.remove(middle), "Checking a removed object cannot be removed again");
+		var first = new Item(0);
+		list.add(first);
+		added.add(first);
+		
+		var items = list.get(Item.class);
+		assertEquals(added.size(), items.size(), "Checking every item which was not removed is in the list");
+		for(var item : added) assertTrue(items.contains(item), "Checking each remaining item is in the list");
+		for(int i = 1; i < items.size(); i++) assertTrue(items.get(i - 1).priority <= items.get(i).priority, "Checking the buckets are in order at " + i);
+		
+		// Every object must still be found where it was moved to
+		for(var item : added) assertTrue(list.remove(item), "Checking each moved item can still be removed");
+		assertTrue(items.isEmpty(), "Checking the list is empty after removing everything");
+	}
+	
+	@Test
+	public void testDeferredRemove(){
+		var added = new ArrayList<Item>();
+		for(int i = 0; i < 20; i++){
+			var item = new Item(i % 2);
+			list.add(item);
+			added.add(item);
+		}
+		list.deferCompaction();
+		assertTrue(list.remove(added.get(3)), "Checking a deferred remove removes the item");
+		assertFalse(list.remove(added.get(3)), "Checking a deferred remove cannot remove the item again");
+		assertTrue(list.remove(added.get(8)), "Checking a second deferred remove removes the item");
+		assertNull(list.getMap(Item.class).get(added.get(3).getUuid()), "Checking a deferred remove unmaps the item");
+		assertEquals(20, list.get(Item.class).size(), "Checking removed items stay in the list until compacting");
+		var expected = new ArrayList<>(list.get(Item.class));
+		expected.remove(added.get(8));
+		expected.remove(added.get(3));
+		list.compact();
+		added.remove(8);
+		added.remove(3);
+		
+		var items = list.get(Item.class);
+		assertEquals(18, items.size(), "Checking removed items are gone after compacting");
+		assertEquals(expected, items, "Checking the order of the remaining items is kept");
+		
+		list.deferCompaction();
+		list.remove(added.get(0));
+		var item = new Item(0);
+		list.add(item);
+		assertFalse(list.get(Item.class).contains(added.get(0)), "Checking adding compacts the removed items");
+		assertEquals(18, list.get(Item.class).size(), "Checking the size after adding while deferring");
+		list.compact();
+	}
+	
+	@Test
+	public void testRemoveAll(){
+		list.add(new Item(0));
+		var special = new SpecialItem(0);
+		list.add(special);
+		list.removeAll(SpecialItem.class);
+		assertTrue(list.get(SpecialItem.class).isEmpty(), "Checking the list is cleared");
+		assertTrue(list.add(new SpecialItem(0)), "Checking new objects can be added after clearing");
+		assertEquals(1, list.get(SpecialItem.class).size(), "Checking the new object is in the cleared list");
+	}
+	
+}
@@ -0,0 +1,54 @@
+package zgametest.utils;
+
+import org.junit.jupiter.api.*;
+
+import zgame.core.utils.LimitedStack;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LimitedStackTest{
+	
+	private LimitedStack<String> stack;
+	
+	/** Run one time before each test occurs, use for initialization of values that must be the same before each test */
+	@BeforeEach
+	public void setup(){
+		stack = new LimitedStack<>("base");
+	}
+	
+	@Test
+	public void pushPop(){
+		assertEquals(1, stack.size(), "Checking a new stack has one element");
+		assertEquals("base", stack.peek(), "Checking a new stack has the initial element");
+		for(int i = 0; i < 100; i++) assertEquals("v" + i, stack.push("v" + i), "Checking push returns the pushed element");
+		assertEquals(101, stack.size(), "Checking the stack grows past its initial capacity");
+		assertEquals("v99", stack.peek(), "Checking the top is the last pushed element");
+		assertEquals("v99", stack.pop(), "Checking pop returns the top element");
+		assertEquals("v98", stack.peek(), "Checking the top after popping");
+		
+		assertEquals("v98", stack.push(), "Checking pushing with no element copies the top");
+		assertEquals(101, stack.size(), "Checking the size after pushing the top");
+		for(int i = 0; i < 200; i++) stack.pop();
+		assertEquals(1, stack.size(), "Checking the stack never has less than one element");
+		assertEquals("base", stack.peek(), "Checking the default element is left at the bottom");
+		assertNull(stack.pop(), "Checking popping the last element returns null");
+	}
+	
+	@Test
+	public void replace(){
+		assertEquals("base", stack.replaceTop("a"), "Checking replacing the top returns the old top");
+		assertEquals("a", stack.peek(), "Checking the top was replaced");
+		assertNull(stack.pop(), "Checking the bottom cannot be popped");
+		assertEquals("base", stack.peek(), "Checking popping the bottom puts back the default element");
+		
+		var fixed = new LimitedStack<>("fixed", false);
+		assertNull(fixed.replaceTop("a"), "Checking the bottom cannot be replaced when replacing the first element is not allowed");
+		assertEquals("fixed", fixed.peek(), "Checking the bottom was not replaced");
+		fixed.push("b");
+		assertEquals("b", fixed.replaceTop("c"), "Checking an element above the bottom can be replaced");
+		assertEquals("c", fixed.pop(), "Checking the replaced element is popped");
+		assertNull(fixed.pop(), "Checking the bottom cannot be popped");
+		assertEquals("fixed", fixed.peek(), "Checking the bottom stays the same");
+	}
+	
+}
@@ -0,0 +1,92 @@
+package zgametest.utils;
+
+import org.junit.jupiter.api.*;
+
+import zgame.core.utils.LongMap;
+import zgame.core.utils.UuidGenerator;
+import zgame.core.utils.Uuidable;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongMapTest{
+	
+	private LongMap<String> map;
+	
+	/** Run one time before each test occurs, use for initialization of values that must be the same before each test */
+	@BeforeEach
+	public void setup(){
+		map = new LongMap<>();
+	}
+	
+	@Test
+	public void putGetRemove(){
+		assertTrue(map.isEmpty(), "Checking a new map is empty");
+		assertNull(map.put(5, "a"), "Checking putting a new key returns null");
+		assertNull(map.put(0, "zero"), "Checking the key 0 can be used");
+		assertNull(map.put(-3, "b"), "Checking negative keys can be used");
+		assertEquals("a", map.put(5, "c"), "Checking putting an existing key returns the old value");
+		assertEquals(3, map.size(), "Checking replacing a value does not change the size");
+		
+		assertEquals("c", map.get(5), "Checking the value was replaced");
+		assertEquals("zero", map.get(0), "Checking getting the key 0");
+		assertEquals("b", map.get(-3), "Checking getting a negative key");
+		assertNull(map.get(6), "Checking a missing key has no value");
+		assertTrue(map.containsKey(-3), "Checking a key is contained");
+		assertFalse(map.containsKey(6), "Checking a missing key is not contained");
+		
+		assertEquals("c", map.remove(5), "Checking remove returns the value");
+		assertNull(map.remove(5), "Checking removing again returns null");
+		assertEquals("zero", map.put(0, null), "Checking putting null removes the key and returns the old value");
+		assertFalse(map.containsKey(0), "Checking the key was removed by putting null");
+		assertEquals(1, map.size(), "Checking the size after removing");
+		
+		map.clear();
+		assertTrue(map.isEmpty(), "Checking clear empties the map");
+		assertNull(map.get(-3), "Checking clear removes values");
+	}
+	
+	@Test
+	public void matchesHashMap(){
+		var random = new Random(12);
+		var expected = new HashMap<Long, String>();
+		// Use a small range of keys so that keys collide and are removed often
+		for(int i = 0; i < 50000; i++){
+			long key = random.nextInt(2000) - 1000;
+			if(random.nextInt(3) == 0) assertEquals(expected.remove(key), map.remove(key), "Checking remove matches a HashMap");
+			else assertEquals(expected.put(key, "v" + i), map.put(key, "v" + i), "Checking put matches a HashMap");
+		}
+		assertEquals(expected.size(), map.size(), "Checking the size matches a HashMap");
+		for(var e : expected.entrySet()) assertEquals(e.getValue(), map.get(e.getKey()), "Checking every value matches a HashMap");
+		
+		var count = new int[1];
+		map.forEach((k, v) -> {
+			assertEquals(expected.get(k), v, "Checking forEach gives matching keys and values");
+			count[0]++;
+		});
+		assertEquals(expected.size(), count[0], "Checking forEach gives every entry");
+		
+		int values = 0;
+		for(var v : map.values()){
+			assertNotNull(v, "Checking values are never null");
+			values++;
+		}
+		assertEquals(expected.size(), values, "Checking values gives every value");
+	}
+	
+	@Test
+	public void uuids(){
+		long a = UuidGenerator.next();
+		long b = UuidGenerator.next();
+		assertTrue(a != Uuidable.NONE, "Checking a uuid is never none");
+		assertTrue(b > a, "Checking uuids count up");
+		
+		UuidGenerator.reserve(b + 100);
+		assertTrue(UuidGenerator.next() > b + 100, "Checking a reserved uuid is not given out");
+		UuidGenerator.reserve(a);
+		assertTrue(UuidGenerator.peek() > b + 100, "Checking reserving an old uuid does not go backwards");
+	}
+	
+}
@@ -0,0 +1,45 @@
+package zgametest.utils;
+
+import org.junit.jupiter.api.*;
+
+import zgame.core.utils.TripleBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TripleBufferTest{
+	
+	private TripleBuffer<int[]> buffer;
+	
+	/** Run one time before each test occurs, use for initialization of values that must be the same before each test */
+	@BeforeEach
+	public void setup(){
+		buffer = new TripleBuffer<>(() -> new int[1]);
+	}
+	
+	@Test
+	public void testPublishAndAcquire(){
+		assertFalse(buffer.hasNew(), "Checking nothing is new before publishing");
+		var first = buffer.acquire();
+		
+		buffer.getWriteBuffer()[0] = 1;
+		buffer.publish();
+		assertTrue(buffer.hasNew(), "Checking a published value is new");
+		var read = buffer.acquire();
+		assertEquals(1, read[0], "Checking the published value is read");
+		assertNotSame(first, read, "Checking a different object is read after publishing");
+		assertFalse(buffer.hasNew(), "Checking nothing is new after acquiring");
+		assertSame(read, buffer.acquire(), "Checking the same object is read again");
+		assertNotSame(read, buffer.getWriteBuffer(), "Checking the writer does not use the object being read");
+	}
+	
+	@Test
+	public void testOnlyNewest(){
+		for(int i = 1; i <= 5; i++){
+			buffer.getWriteBuffer()[0] = i;
+			buffer.publish();
+			assertNotSame(buffer.getReadBuffer(), buffer.getWriteBuffer(), "Checking the writer never gets the object being read");
+		}
+		assertEquals(5, buffer.acquire()[0], "Checking only the newest value is read");
+	}
+	
+}
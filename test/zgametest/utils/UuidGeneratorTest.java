@@ -0,0 +1,88 @@
+package zgametest.utils;
+
+import org.junit.jupiter.api.*;
+
+import com.google.gson.JsonObject;
+
+import zgame.core.utils.UuidGenerator;
+import zgame.core.utils.Uuidable;
+import zgame.things.entity.EntityThing;
+import zgametest.TestEntity3D;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UuidGeneratorTest{
+	
+	@Test
+	public void testReserve(){
+		long used = UuidGenerator.next();
+		assertFalse(UuidGenerator.reserve(used), "Checking a uuid which was given out cannot be reserved");
+		assertFalse(UuidGenerator.reserve(Uuidable.NONE), "Checking none cannot be reserved");
+		
+		long later = UuidGenerator.peek() + 50;
+		assertTrue(UuidGenerator.reserve(later), "Checking a uuid which was never given out can be reserved");
+		assertFalse(UuidGenerator.reserve(later), "Checking a uuid cannot be reserved twice");
+		assertTrue(UuidGenerator.next() > later, "Checking a reserved uuid is not given out");
+	}
+	
+	/** Run one time before each test occurs, use for initialization of values that must be the same before each test */
+	@BeforeEach
+	public void setup(){
+		UuidGenerator.clearLoaded();
+	}
+	
+	@Test
+	public void testSaveLoadCreate(){
+		// An entity saved in an earlier run, with a uuid this run has not reached yet
+		var saved = new JsonObject();
+		long savedUuid = UuidGenerator.peek() + 1000;
+		saved.addProperty(EntityThing.UUID_KEY, savedUuid);
+		
+		var loaded = new TestEntity3D(0, 0, 0, 0.5, 1);
+		loaded.load(saved);
+		assertEquals(savedUuid, loaded.getUuid(), "Checking a loaded entity keeps its saved uuid");
+		var resaved = new JsonObject();
+		loaded.save(resaved);
+		assertEquals(savedUuid, resaved.get(EntityThing.UUID_KEY).getAsLong(), "Checking a loaded entity saves the uuid it was loaded with");
+		assertEquals(savedUuid, UuidGenerator.load(savedUuid), "Checking a reference to the loaded entity keeps the saved uuid");
+		
+		var created = new TestEntity3D(0, 0, 0, 0.5, 1);
+		assertTrue(created.getUuid() > savedUuid, "Checking an entity made after loading does not get the loaded uuid");
+		
+		// Saving then loading while the original entity still exists must not make a second entity with the same uuid
+		var data = new JsonObject();
+		assertTrue(created.save(data), "Checking the entity saves");
+		assertEquals(created.getUuid(), data.get(EntityThing.UUID_KEY).getAsLong(), "Checking the uuid is saved");
+		var copy = new TestEntity3D(0, 0, 0, 0.5, 1);
+		copy.load(data);
+		assertNotEquals(created.getUuid(), copy.getUuid(), "Checking a loaded uuid which is already in use is not reused");
+		assertEquals(copy.getUuid(), UuidGenerator.load(created.getUuid()), "Checking a reference to the saved uuid is given the uuid of the loaded copy");
+		assertNotEquals(loaded.getUuid(), new TestEntity3D(0, 0, 0, 0.5, 1).getUuid(), "Checking a new entity does not collide with a loaded entity");
+	}
+	
+	@Test
+	public void testLoadReferences(){
+		assertEquals(Uuidable.NONE, UuidGenerator.load(Uuidable.NONE), "Checking none is loaded as none");
+		
+		// A reference, i.e. the source of a projectile, loaded before the entity it refers to, with a uuid already in use in this run
+		long used = UuidGenerator.next();
+		long reference = UuidGenerator.load(used);
+		assertNotEquals(used, reference, "Checking a saved uuid already in use is replaced");
+		assertEquals(reference, UuidGenerator.load(used), "Checking the same saved uuid is always given the same replacement");
+		
+		var data = new JsonObject();
+		data.addProperty(EntityThing.UUID_KEY, used);
+		var entity = new TestEntity3D(0, 0, 0, 0.5, 1);
+		entity.load(data);
+		assertEquals(reference, entity.getUuid(), "Checking the entity is given the uuid its references were given");
+		
+		var noUuid = new TestEntity3D(0, 0, 0, 0.5, 1);
+		long made = noUuid.getUuid();
+		noUuid.load(new JsonObject());
+		assertEquals(made, noUuid.getUuid(), "Checking an entity with no saved uuid keeps its own uuid");
+		
+		UuidGenerator.clearLoaded();
+		assertNotEquals(reference, UuidGenerator.load(used), "Checking a new load does not reuse the replacements of an old load");
+	}
+	
+}
@@ -0,0 +1,97 @@
+package zgametest.world;
+
+import org.junit.jupiter.api.*;
+
+import zgame.world.EntityGrid;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EntityGridTest{
+	
+	private EntityGrid<String> grid;
+	
+	/** Run one time before each test occurs, use for initialization of values that must be the same before each test */
+	@BeforeEach
+	public void setup(){
+		grid = new EntityGrid<>(1);
+	}
+	
+	@Test
+	public void testPairsFoundOnce(){
+		// Both things span many of the same cells, but should only be paired once
+		grid.update("a", 0.5, 0.5, 0.5, 3.5, 3.5, 3.5);
+		grid.update("b", 1.5, 1.5, 1.5, 4.5, 4.5, 4.5);
+		grid.update("c", 10, 10, 10, 10.5, 10.5, 10.5);
+		
+		var pairs = new ArrayList<String>();
+		grid.forEachPair((a, b) -> pairs.add(a.compareTo(b) < 0 ? a + b : b + a));
+		assertEquals(List.of("ab"), pairs, "Checking only overlapping things are paired, and only once");
+	}
+	
+	@Test
+	public void testNearby(){
+		grid.update("a", 0.5, 0.5, 0, 2.5, 2.5, 0);
+		grid.update("b", 2.1, 2.1, 0, 2.9, 2.9, 0);
+		grid.update("c", -3, -3, 0, -2.5, -2.5, 0);
+		
+		var nearby = new ArrayList<String>();
+		grid.forEachNearby("a", nearby::add);
+		assertEquals(List.of("b"), nearby, "Checking nearby things found once, and the thing itself is not included");
+		
+		nearby.clear();
+		grid.forEachNearby("c", nearby::add);
+		assertTrue(nearby.isEmpty(), "Checking negative cells do not overlap positive cells");
+	}
+	
+	@Test
+	public void testUpdateAndRemove(){
+		grid.update("a", 0, 0, 0, 0.5, 0.5, 0.5);
+		grid.update("b", 5, 5, 5, 5.5, 5.5, 5.5);
+		assertEquals(2, grid.cellCount(), "Checking each thing has its own cell");
+		
+		var pairs = new ArrayList<String>();
+		grid.forEachPair((a, b) -> pairs.add(a + b));
+		assertTrue(pairs.isEmpty(), "Checking no pairs before moving");
+		
+		grid.update("b", 0.2, 0.2, 0.2, 0.7, 0.7, 0.7);
+		assertEquals(1, grid.cellCount(), "Checking old cell is emptied after moving");
+		grid.forEachPair((a, b) -> pairs.add(a + b));
+		assertEquals(1, pairs.size(), "Checking pair found after moving");
+		
+		assertTrue(grid.remove("a"), "Checking thing removed");
+		assertFalse(grid.remove("a"), "Checking thing cannot be removed twice");
+		assertFalse(grid.contains("a"), "Checking thing no longer in grid");
+		assertEquals(1, grid.size(), "Checking only one thing remains");
+	}
+	
+	@Test
+	public void testDistantCellsWithSameKey(){
+		// These cells are exactly 2^21 apart, so their packed keys are the same
+		double far = 1 << 21;
+		grid.update("a", 0.2, 0.2, 0.2, 0.4, 0.4, 0.4);
+		grid.update("b", far + 0.2, 0.2, 0.2, far + 0.4, 0.4, 0.4);
+		grid.update("c", far + 0.5, 0.5, 0.5, far + 0.7, 0.7, 0.7);
+		assertEquals(2, grid.cellCount(), "Checking distant cells with the same key are separate cells");
+		
+		var pairs = new ArrayList<String>();
+		grid.forEachPair((a, b) -> pairs.add(a.compareTo(b) < 0 ? a + b : b + a));
+		assertEquals(List.of("bc"), pairs, "Checking only things in the same distant cell are paired");
+		
+		var nearby = new ArrayList<String>();
+		grid.forEachNearby("a", nearby::add);
+		assertTrue(nearby.isEmpty(), "Checking a thing is not near a thing in a distant cell with the same key");
+		
+		assertTrue(grid.remove("a"), "Checking the first cell of the chain can be removed");
+		assertEquals(1, grid.cellCount(), "Checking the distant cell is kept after removing the other cell");
+		nearby.clear();
+		grid.forEachNearby("b", nearby::add);
+		assertEquals(List.of("c"), nearby, "Checking the distant cell is still found after removing the other cell");
+		grid.remove("b");
+		grid.remove("c");
+		assertEquals(0, grid.cellCount(), "Checking every cell is removed");
+	}
+	
+}
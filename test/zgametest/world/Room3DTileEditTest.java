@@ -0,0 +1,114 @@
+package zgametest.world;
+
+import org.junit.jupiter.api.*;
+
+import zgame.things.still.tiles.BaseTiles3D;
+import zgame.things.still.tiles.TileType3D;
+import zgame.world.Room3D;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static zgame.world.Direction3D.*;
+
+public class Room3DTileEditTest{
+	
+	/** The types randomly placed in tests */
+	private static final TileType3D[] TYPES = {BaseTiles3D.AIR, BaseTiles3D.SOLID_DARK, BaseTiles3D.SOLID_LIGHT};
+	
+	private Room3D immediate;
+	private Room3D batched;
+	
+	/** Run one time before each test occurs, use for initialization of values that must be the same before each test */
+	@BeforeEach
+	public void setup(){
+		immediate = new Room3D(20, 20, 20);
+		batched = new Room3D(20, 20, 20);
+	}
+	
+	/**
+	 * Check that every tile of both rooms has the same type and faces
+	 *
+	 * @param message The message to use for failures
+	 */
+	private void assertSameTiles(String message){
+		for(int x = 0; x < 20; x++){
+			for(int y = 0; y < 20; y++){
+				for(int z = 0; z < 20; z++){
+					var storage = immediate.getTileStorage();
+					assertSame(storage.getType(x, y, z), batched.getTileStorage().getType(x, y, z), message);
+					// Air tiles have no faces to render or collide with, so only solid tiles need the same faces
+					if(storage.getType(x, y, z) == BaseTiles3D.AIR) continue;
+					assertEquals(immediate.getCollisionFaces(x, y, z), batched.getCollisionFaces(x, y, z), message);
+				}
+			}
+		}
+	}
+	
+	@Test
+	public void testBatchMatchesImmediate(){
+		var random = new Random(1234);
+		batched.beginTileEdit();
+		for(int i = 0; i < 5000; i++){
+			int x = random.nextInt(20);
+			int y = random.nextInt(20);
+			int z = random.nextInt(20);
+			var t = TYPES[random.nextInt(TYPES.length)];
+			immediate.setTile(x, y, z, t);
+			batched.setTile(x, y, z, t);
+		}
+		batched.commitTileEdit();
+		assertSameTiles("Checking batched edits give the same tiles as immediate edits");
+	}
+	
+	@Test
+	public void testFacesUpdatedOnCommit(){
+		batched.setTile(5, 5, 5, BaseTiles3D.SOLID_DARK);
+		assertEquals((1 << 6) - 1, batched.getCollisionFaces(5, 5, 5), "Checking lone tile has every face");
+		
+		batched.beginTileEdit();
+		assertTrue(batched.isEditingTiles(), "Checking edit in progress");
+		batched.setTile(6, 5, 5, BaseTiles3D.SOLID_DARK);
+		assertSame(BaseTiles3D.SOLID_DARK, batched.getTileStorage().getType(6, 5, 5), "Checking type changed before commit");
+		assertTrue((batched.getCollisionFaces(5, 5, 5) & (1 << WEST.i())) != 0, "Checking faces not updated before commit");
+		
+		// Nested batches only update on the outermost commit
+		batched.beginTileEdit();
+		batched.setTile(5, 6, 5, BaseTiles3D.SOLID_DARK);
+		batched.commitTileEdit();
+		assertTrue((batched.getCollisionFaces(5, 5, 5) & (1 << UP.i())) != 0, "Checking faces not updated on inner commit");
+		
+		batched.commitTileEdit();
+		assertFalse(batched.isEditingTiles(), "Checking edit finished");
+		int faces = batched.getCollisionFaces(5, 5, 5);
+		assertEquals(0, faces & (1 << WEST.i()), "Checking face touching new tile disabled");
+		assertEquals(0, faces & (1 << UP.i()), "Checking face touching new tile disabled");
+		assertNotEquals(0, faces & (1 << EAST.i()), "Checking other faces still enabled");
+		assertEquals(0, batched.getCollisionFaces(6, 5, 5) & (1 << EAST.i()), "Checking new tile has its touching face disabled");
+		
+		// Committing without a batch does nothing
+		batched.commitTileEdit();
+		assertFalse(batched.isEditingTiles(), "Checking extra commit ignored");
+	}
+	
+	@Test
+	public void testFilledInit(){
+		immediate.initTiles(-3, -2, -1, 20, 20, 20, BaseTiles3D.SOLID_DARK);
+		batched.initTiles(-3, -2, -1, 20, 20, 20, BaseTiles3D.AIR);
+		for(int x = -3; x < 17; x++){
+			for(int y = -2; y < 18; y++){
+				for(int z = -1; z < 19; z++) batched.setTile(x, y, z, BaseTiles3D.SOLID_DARK);
+			}
+		}
+		for(int x = -3; x < 17; x++){
+			for(int y = -2; y < 18; y++){
+				for(int z = -1; z < 19; z++){
+					assertEquals(batched.getCollisionFaces(x, y, z), immediate.getCollisionFaces(x, y, z), "Checking filled faces match faces of placed tiles");
+				}
+			}
+		}
+		assertEquals(1 << EAST.i() | 1 << DOWN.i() | 1 << SOUTH.i(), immediate.getCollisionFaces(-3, -2, -1), "Checking corner has its outside faces");
+		assertEquals(0, immediate.getCollisionFaces(5, 5, 5), "Checking inside tile has no faces");
+	}
+	
+}
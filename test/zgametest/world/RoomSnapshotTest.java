@@ -0,0 +1,159 @@
+package zgametest.world;
+
+import org.junit.jupiter.api.*;
+
+import zgame.world.Room3D;
+import zgame.world.RoomSnapshot;
+import zgametest.TestEntity3D;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RoomSnapshotTest{
+	
+	private Room3D room;
+	
+	/** Run one time before each test occurs, use for initialization of values that must be the same before each test */
+	@BeforeEach
+	public void setup(){
+		room = new Room3D(4, 4, 4);
+	}
+	
+	@Test
+	public void testCapture(){
+		var a = new TestEntity3D(1, 2, 3, 0.5, 1);
+		var b = new TestEntity3D(4, 5, 6, 0.5, 1);
+		room.addThing(a);
+		room.addThing(b);
+		
+		var snapshot = new RoomSnapshot();
+		assertEquals(0, snapshot.getTick(), "Checking an unfilled snapshot has no tick");
+		snapshot.capture(room, 7);
+		assertEquals(7, snapshot.getTick(), "Checking tick is stored");
+		assertEquals(2, snapshot.size(), "Checking both things are captured");
+		
+		// Moving an entity after the capture must not change the snapshot
+		a.setX(100);
+		int i = snapshot.getThing(0) == a ? 0 : 1;
+		assertEquals(1, snapshot.getState(i, 0), "Checking x is from the time of the capture");
+		assertEquals(2, snapshot.getState(i, 1), "Checking y is from the time of the capture");
+		assertEquals(3, snapshot.getState(i, 2), "Checking z is from the time of the capture");
+		
+		snapshot.apply(i);
+		assertEquals(1, a.getRenderX(), "Checking applying gives the captured render x");
+		assertEquals(100, a.getX(), "Checking applying does not move the entity");
+		assertEquals(1, a.getRenderWidth(), "Checking applying gives the captured render width");
+		assertEquals(1, a.getRenderHeight(), "Checking applying gives the captured render height");
+		assertEquals(1, a.getRenderLength(), "Checking applying gives the captured render length");
+		
+		// Capturing fewer things must not keep the old ones
+		var empty = new Room3D(4, 4, 4);
+		snapshot.capture(empty, 8);
+		assertEquals(0, snapshot.size(), "Checking an empty room gives an empty snapshot");
+	}
+	
+	@Test
+	public void testCustomState(){
+		// An entity which also draws a value that a tick can change, like the health of a mob
+		var value = new double[]{5};
+		var drawn = new double[]{0};
+		var a = new TestEntity3D(1, 2, 3, 0.5, 1){
+			@Override
+			public int getRenderStateSize(){
+				return super.getRenderStateSize() + 1;
+			}
+			
+			@Override
+			public void captureRenderState(double[] state, int offset){
+				super.captureRenderState(state, offset);
+				state[offset + super.getRenderStateSize()] = value[0];
+			}
+			
+			@Override
+			public void applyRenderState(double[] state, int offset){
+				super.applyRenderState(state, offset);
+				drawn[0] = state[offset + super.getRenderStateSize()];
+			}
+		};
+		var b = new TestEntity3D(4, 5, 6, 0.5, 1);
+		room.addThing(a);
+		room.addThing(b);
+		
+		var snapshot = new RoomSnapshot();
+		snapshot.capture(room, 1);
+		value[0] = 10;
+		for(int i = 0; i < snapshot.size(); i++) snapshot.apply(i);
+		assertEquals(5, drawn[0], "Checking the extra value is from the time of the capture");
+		assertEquals(1, a.getRenderX(), "Checking the values of the super class are still captured");
+		assertEquals(4, b.getRenderX(), "Checking the values of the next thing come after the extra value");
+		assertEquals(6, b.getRenderZ(), "Checking the values of the next thing come after the extra value");
+	}
+	
+	@Test
+	public void testPublish(){
+		room.addThing(new TestEntity3D(1, 1, 1, 0.5, 1));
+		assertEquals(0, room.acquireSnapshot().getTick(), "Checking no snapshot exists before publishing");
+		
+		room.publishSnapshot();
+		room.publishSnapshot();
+		var snapshot = room.acquireSnapshot();
+		assertEquals(2, snapshot.getTick(), "Checking the newest snapshot is acquired");
+		assertEquals(1, snapshot.size(), "Checking the entity is in the snapshot");
+		assertSame(snapshot, room.acquireSnapshot(), "Checking the same snapshot is kept when nothing new is published");
+	}
+	
+	@Test
+	public void testTwoThreads() throws InterruptedException{
+		int ticks = 20000;
+		int maxEntities = 50;
+		var error = new AtomicReference<String>();
+		
+		// The tick thread adds entities and moves every entity to the number of the tick, so every position in a snapshot must match its tick
+		var ticker = new Thread(() -> {
+			var entities = new ArrayList<TestEntity3D>();
+			for(int t = 1; t <= ticks; t++){
+				if(entities.size() < maxEntities){
+					var e = new TestEntity3D(0, 0, 0, 0.5, 1);
+					entities.add(e);
+					room.addThing(e);
+				}
+				for(var e : entities){
+					e.setX(t);
+					e.setY(t);
+					e.setZ(t);
+				}
+				room.publishSnapshot();
+			}
+		});
+		
+		// The render thread checks that it only ever sees whole snapshots, in order
+		var renderer = new Thread(() -> {
+			long lastTick = 0;
+			while(lastTick < ticks && error.get() == null){
+				var snapshot = room.acquireSnapshot();
+				long tick = snapshot.getTick();
+				if(tick < lastTick) error.set("Snapshot went backwards from " + lastTick + " to " + tick);
+				if(tick == 0) continue;
+				if(snapshot.size() != Math.min(tick, maxEntities)) error.set("Snapshot " + tick + " has " + snapshot.size() + " things");
+				for(int i = 0; i < snapshot.size(); i++){
+					var e = (TestEntity3D)snapshot.apply(i);
+					if(e.getRenderX() != tick || e.getRenderY() != tick || e.getRenderZ() != tick){
+						error.set("Snapshot " + tick + " has a thing at " + e.getRenderX());
+					}
+				}
+				lastTick = tick;
+			}
+		});
+		
+		renderer.start();
+		ticker.start();
+		ticker.join(10000);
+		renderer.join(10000);
+		assertFalse(ticker.isAlive(), "Checking the tick thread finished");
+		assertFalse(renderer.isAlive(), "Checking the render thread saw the last snapshot");
+		assertNull(error.get(), "Checking the render thread only saw consistent snapshots");
+	}
+	
+}
@@ -0,0 +1,149 @@
+package zgametest.world;
+
+import org.junit.jupiter.api.*;
+
+import zgame.core.graphics.ColorMesh3D;
+import zgame.physics.material.Materials;
+import zgame.things.still.tiles.BaseTiles3D;
+import zgame.things.still.tiles.CubeTexTile;
+import zgame.things.still.tiles.TileHitbox3D;
+import zgame.world.Room3D;
+import zgame.world.TileMesher3D;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TileMesher3DTest{
+	
+	private Room3D room;
+	private TileMesher3D mesher;
+	
+	/** Run one time before each test occurs, use for initialization of values that must be the same before each test */
+	@BeforeEach
+	public void setup(){
+		// Two chunks on the x axis
+		room = new Room3D(32, 16, 16);
+		mesher = room.getTileMesher();
+	}
+	
+	/** @return The number of chunks rebuilt, after the rebuilt meshes are taken the same as the rendering thread would */
+	private int update(){
+		int rebuilt = mesher.update();
+		mesher.upload();
+		return rebuilt;
+	}
+	
+	/** @return The index of the chunk holding the given tile */
+	private int chunk(int x, int y, int z){
+		return room.getTileStorage().chunkIndex(x, y, z);
+	}
+	
+	@Test
+	public void testSingleTile(){
+		room.setTile(2, 3, 4, BaseTiles3D.SOLID_DARK);
+		update();
+		var mesh = mesher.getMesh(chunk(2, 3, 4));
+		assertNotNull(mesh, "Checking mesh built for chunk with a tile");
+		assertEquals(6, mesh.getQuads(), "Checking every face of a lone tile is in the mesh");
+		assertEquals(6 * 4 * ColorMesh3D.POSITION_LENGTH, mesh.getPositions().length, "Checking positions sized exactly");
+		assertEquals(6 * 4 * ColorMesh3D.COLOR_LENGTH, mesh.getColors().length, "Checking colors sized exactly");
+		
+		var p = mesh.getPositions();
+		for(int i = 0; i < p.length; i += 3){
+			assertTrue(p[i] == 2 || p[i] == 3, "Checking x coordinate on the tile");
+			assertTrue(p[i + 1] == 3 || p[i + 1] == 4, "Checking y coordinate on the tile");
+			assertTrue(p[i + 2] == 4 || p[i + 2] == 5, "Checking z coordinate on the tile");
+		}
+		assertEquals((float)BaseTiles3D.SOLID_DARK.getBaseColor().red(), mesh.getColors()[0], "Checking color of the tile used");
+		assertNull(mesher.getMesh(chunk(20, 3, 4)), "Checking no mesh for chunk of only air");
+	}
+	
+	@Test
+	public void testHiddenFacesSkipped(){
+		room.setTile(2, 3, 4, BaseTiles3D.SOLID_DARK);
+		room.setTile(3, 3, 4, BaseTiles3D.SOLID_LIGHT);
+		update();
+		assertEquals(10, mesher.getFaceCount(), "Checking touching faces not in the mesh");
+		
+		// A solid block only has its outside faces
+		for(int x = 0; x < 4; x++){
+			for(int y = 0; y < 4; y++){
+				for(int z = 0; z < 4; z++) room.setTile(x + 8, y + 8, z + 8, BaseTiles3D.SOLID_DARK);
+			}
+		}
+		update();
+		assertEquals(10 + 6 * 16, mesher.getFaceCount(), "Checking only the surface of a block is in the mesh");
+	}
+	
+	@Test
+	public void testOnlyDirtyChunksRebuilt(){
+		room.setTile(2, 3, 4, BaseTiles3D.SOLID_DARK);
+		room.setTile(20, 3, 4, BaseTiles3D.SOLID_DARK);
+		update();
+		assertEquals(0, update(), "Checking nothing rebuilt when nothing changed");
+		
+		room.setTile(2, 4, 4, BaseTiles3D.SOLID_DARK);
+		assertTrue(mesher.isDirty(chunk(2, 3, 4)), "Checking changed chunk is dirty");
+		assertFalse(mesher.isDirty(chunk(20, 3, 4)), "Checking other chunk is not dirty");
+		assertEquals(1, update(), "Checking only one chunk rebuilt");
+		assertEquals(10 + 6, mesher.getFaceCount(), "Checking faces updated after rebuild");
+		
+		// The tile on the other side of the chunk border loses a face, so both chunks change
+		room.setTile(15, 3, 4, BaseTiles3D.SOLID_DARK);
+		room.setTile(16, 3, 4, BaseTiles3D.SOLID_DARK);
+		assertEquals(2, update(), "Checking both chunks rebuilt for a change on the border");
+		
+		// Setting the same tile again changes nothing
+		room.setTile(2, 4, 4, BaseTiles3D.SOLID_DARK);
+		assertEquals(0, update(), "Checking nothing rebuilt when a tile is set to the same type");
+		
+		room.setTile(20, 3, 4, BaseTiles3D.AIR);
+		update();
+		assertNotNull(mesher.getMesh(chunk(20, 3, 4)), "Checking mesh kept while the chunk has tiles");
+		room.setTile(16, 3, 4, BaseTiles3D.AIR);
+		update();
+		assertNull(mesher.getMesh(chunk(20, 3, 4)), "Checking mesh removed when the chunk is only air");
+	}
+	
+	@Test
+	public void testBuiltOnlyUsedAfterUpload(){
+		// Every chunk starts as dirty
+		update();
+		room.setTile(2, 3, 4, BaseTiles3D.SOLID_DARK);
+		assertEquals(1, mesher.update(), "Checking the changed chunk is built");
+		assertNull(mesher.getMesh(chunk(2, 3, 4)), "Checking a built mesh is not used before it is uploaded");
+		
+		// Building again before an upload replaces the old build
+		room.setTile(3, 3, 4, BaseTiles3D.SOLID_DARK);
+		mesher.update();
+		assertEquals(1, mesher.upload(), "Checking a chunk built twice is uploaded once");
+		assertEquals(10, mesher.getFaceCount(), "Checking the newest build is uploaded");
+		assertEquals(0, mesher.upload(), "Checking nothing is uploaded when nothing was built");
+		
+		// Changing tiles after building does not change the uploaded mesh
+		room.setTile(4, 3, 4, BaseTiles3D.SOLID_DARK);
+		mesher.upload();
+		assertEquals(10, mesher.getFaceCount(), "Checking tiles changed after a build do not change the mesh");
+		
+		// Publishing a snapshot at the end of a tick builds the meshes
+		room.publishSnapshot();
+		mesher.upload();
+		assertEquals(14, mesher.getFaceCount(), "Checking meshes are built when a snapshot is published");
+	}
+	
+	@Test
+	public void testUnmeshedTiles(){
+		var texTile = new CubeTexTile("tex", "test", "brick", TileHitbox3D.FULL, Materials.DEFAULT);
+		room.setTile(2, 3, 4, texTile);
+		room.setTile(3, 3, 4, BaseTiles3D.SOLID_DARK);
+		update();
+		int c = chunk(2, 3, 4);
+		var unmeshed = mesher.getUnmeshedTiles(c);
+		assertEquals(1, unmeshed.length, "Checking tile without a mesh color is rendered on its own");
+		assertEquals(2, unmeshed[0].getXIndex(), "Checking x index of the tile rendered on its own");
+		assertEquals(3, unmeshed[0].getYIndex(), "Checking y index of the tile rendered on its own");
+		assertEquals(4, unmeshed[0].getzIndex(), "Checking z index of the tile rendered on its own");
+		assertSame(texTile, unmeshed[0].getType(), "Checking type of the tile rendered on its own");
+		assertEquals(5, mesher.getMesh(c).getQuads(), "Checking the face touching the other tile is still hidden");
+	}
+	
+}
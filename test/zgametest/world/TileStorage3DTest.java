@@ -0,0 +1,74 @@
+package zgametest.world;
+
+import org.junit.jupiter.api.*;
+
+import zgame.things.still.tiles.BaseTiles3D;
+import zgame.world.Room3D;
+import zgame.world.TileStorage3D;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static zgame.world.Direction3D.*;
+
+public class TileStorage3DTest{
+	
+	private TileStorage3D storage;
+	
+	/** Run one time before each test occurs, use for initialization of values that must be the same before each test */
+	@BeforeEach
+	public void setup(){
+		storage = new TileStorage3D(-20, -5, -20, 40, 10, 40);
+	}
+	
+	@Test
+	public void testAirNotAllocated(){
+		assertEquals(0, storage.getAllocatedChunks(), "Checking no chunks allocated when empty");
+		assertSame(BaseTiles3D.AIR, storage.getType(-20, -5, -20), "Checking default type is air");
+		assertEquals(-1, storage.getFaces(0, 0, 0), "Checking faces are not stored for unallocated chunks");
+		
+		assertFalse(storage.setType(3, 2, 1, BaseTiles3D.AIR), "Checking setting air on air does nothing");
+		assertEquals(0, storage.getAllocatedChunks(), "Checking setting air does not allocate");
+	}
+	
+	@Test
+	public void testSetAndFree(){
+		assertTrue(storage.setType(-1, -1, -1, BaseTiles3D.SOLID_DARK), "Checking type changed");
+		assertTrue(storage.setType(-2, -1, -1, BaseTiles3D.SOLID_LIGHT), "Checking type changed");
+		assertEquals(1, storage.getAllocatedChunks(), "Checking both tiles in the same chunk");
+		assertSame(BaseTiles3D.SOLID_DARK, storage.getType(-1, -1, -1), "Checking negative index type");
+		assertSame(BaseTiles3D.SOLID_LIGHT, storage.getType(-2, -1, -1), "Checking negative index type");
+		assertSame(BaseTiles3D.AIR, storage.getType(-3, -1, -1), "Checking other tiles still air");
+		
+		storage.setType(-1, -1, -1, BaseTiles3D.AIR);
+		assertEquals(1, storage.getAllocatedChunks(), "Checking chunk still allocated");
+		storage.setType(-2, -1, -1, BaseTiles3D.AIR);
+		assertEquals(0, storage.getAllocatedChunks(), "Checking chunk freed when only air remains");
+	}
+	
+	@Test
+	public void testBounds(){
+		assertTrue(storage.inBounds(-20, -5, -20), "Checking min corner in bounds");
+		assertTrue(storage.inBounds(19, 4, 19), "Checking max corner in bounds");
+		assertFalse(storage.inBounds(-21, 0, 0), "Checking below min out of bounds");
+		assertFalse(storage.inBounds(0, 5, 0), "Checking above max out of bounds");
+	}
+	
+	@Test
+	public void testRoomFaces(){
+		var room = new Room3D(1, 1, 1);
+		room.initTiles(-4, -4, -4, 8, 8, 8, BaseTiles3D.AIR);
+		room.setTile(-1, -1, -1, BaseTiles3D.SOLID_DARK);
+		room.setTile(0, -1, -1, BaseTiles3D.SOLID_DARK);
+		
+		var faces = room.getTile(-1, -1, -1).getCollisionFaces();
+		assertFalse(faces[WEST.i()], "Checking face touching a solid tile has no collision");
+		assertTrue(faces[EAST.i()], "Checking face touching air has collision");
+		assertTrue(faces[UP.i()], "Checking face touching air has collision");
+		
+		room.setTile(0, -1, -1, BaseTiles3D.AIR);
+		faces = room.getTile(-1, -1, -1).getCollisionFaces();
+		assertTrue(faces[WEST.i()], "Checking face has collision after neighbor removed");
+		
+		assertNull(room.getTile(4, 0, 0), "Checking out of bounds tile is null");
+	}
+	
+}